@@ -88,6 +88,7 @@ import fll.db.Authentication;
 import fll.db.DumpDB;
 import fll.db.GlobalParameters;
 import fll.db.ImportDB;
+import fll.db.IncrementalBackup;
 import fll.scheduler.SchedulerUI;
 import fll.tomcat.TomcatLauncher;
 import fll.util.ConsoleExceptionHandler;
@@ -788,6 +789,9 @@ public class Launcher extends JFrame {
     // make sure sessions are persisted
     stopWebserver();
 
+    // backups created outside of the web server, such as before a migration
+    IncrementalBackup.awaitPendingBackups();
+
     // close
     this.dispose();
     System.exit(0);
@@ -9,24 +9,35 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNull;
 
 import fll.db.Queries;
 import fll.scores.DatabasePerformanceTeamScore;
+import fll.scores.DatabasePerformanceTeamScore.ScoreFilter;
 import fll.scores.DatabaseSubjectiveTeamScore;
 import fll.scores.PerformanceTeamScore;
 import fll.scores.SubjectiveTeamScore;
+import fll.scores.TeamScore;
 import fll.util.FLLInternalException;
 import fll.util.FLLRuntimeException;
 import fll.web.ApplicationAttributes;
 import fll.web.TournamentData;
+import fll.web.report.RankingIndex;
 import fll.xml.ChallengeDescription;
+import fll.xml.CompiledScoreCategory;
 import fll.xml.PerformanceScoreCategory;
 import fll.xml.SubjectiveGoalRef;
 import fll.xml.SubjectiveScoreCategory;
@@ -47,19 +58,29 @@ public final class ScoreStandardization {
   private static void summarizePerformanceScores(final Connection connection,
                                                  final int tournament,
                                                  final ChallengeDescription challengeDescription,
-                                                 final double maximumScore)
+                                                 final double maximumScore,
+                                                 final @Nullable Integer teamNumberFilter)
       throws SQLException {
 
     final PerformanceScoreCategory category = challengeDescription.getPerformance();
     final double categoryMaximumScore = category.getMaximumScore();
 
+    // same as performance_seeding_max, the view is computed for all tournaments
+    // before it's filtered, so read from Performance to use the indexes
     try (
-        PreparedStatement select = connection.prepareStatement("SELECT TeamNumber, Score FROM performance_seeding_max WHERE performance_seeding_max.tournament = ?");
+        PreparedStatement select = connection.prepareStatement("SELECT TeamNumber, MAX(ComputedTotal) FROM Performance" //
+            + " WHERE Tournament = ?" //
+            + (null == teamNumberFilter ? "" : " AND TeamNumber = ?") //
+            + " AND RunNumber IN (SELECT run_number FROM run_metadata WHERE run_type = 'REGULAR_MATCH_PLAY' AND tournament_id = Performance.Tournament)" //
+            + " GROUP BY TeamNumber");
         PreparedStatement insert = connection.prepareStatement("INSERT INTO final_scores (category, tournament, team_number, final_score) VALUES(?, ?, ?, ?)")) {
       insert.setString(1, PerformanceScoreCategory.CATEGORY_NAME);
       insert.setInt(2, tournament);
 
       select.setInt(1, tournament);
+      if (null != teamNumberFilter) {
+        select.setInt(2, teamNumberFilter);
+      }
       try (ResultSet perfScores = select.executeQuery()) {
         while (perfScores.next()) {
           final int teamNumber = perfScores.getInt(1);
@@ -86,7 +107,8 @@ public final class ScoreStandardization {
   private static void summarizeSubjectiveScores(final Connection connection,
                                                 final ChallengeDescription challengeDescription,
                                                 final double maximumScore,
-                                                final int tournament)
+                                                final int tournament,
+                                                final @Nullable Integer teamNumberFilter)
       throws SQLException {
     try (
         PreparedStatement updatePrep = connection.prepareStatement("INSERT INTO final_scores (category, tournament, team_number, final_score) VALUES(?, ?, ?, ?)");
@@ -94,9 +116,13 @@ public final class ScoreStandardization {
             + " WHERE computed_total IS NOT NULL" //
             + " AND tournament = ?" //
             + " AND category = ?" //
+            + (null == teamNumberFilter ? "" : " AND team_number = ?") //
             + " GROUP BY team_number")) {
       updatePrep.setInt(2, tournament);
       selectPrep.setInt(1, tournament);
+      if (null != teamNumberFilter) {
+        selectPrep.setInt(3, teamNumberFilter);
+      }
 
       for (final SubjectiveScoreCategory category : challengeDescription.getSubjectiveCategories()) {
         final double categoryMaximumScore = category.getMaximumScore();
@@ -177,13 +203,81 @@ public final class ScoreStandardization {
                                                      final Tournament tournament)
       throws SQLException {
     if (tournament.checkTournamentNeedsSummaryUpdate(connection)) {
-      ScoreStandardization.updateScoreTotals(challengeDescription, connection, tournament);
+      final @Nullable Set<Integer> modifiedTeams = ScoreSummaryTracker.takeModifiedTeams(connection,
+                                                                                        tournament.getTournamentID(),
+                                                                                        tournament.getScoreSummariesUpdated(connection));
+      final @Nullable Set<Integer> updatedTeams;
+      try {
+        if (null == modifiedTeams) {
+          updatedTeams = null;
+          updateScoreTotals(challengeDescription, connection, tournament, null);
+
+          ScoreStandardization.summarizeScores(connection, challengeDescription, tournament.getTournamentID());
+          ScoreStandardization.updateTeamTotalScores(connection, challengeDescription, tournament.getTournamentID());
+        } else {
+          updatedTeams = updateModifiedTeams(connection, challengeDescription, tournament, modifiedTeams);
+        }
+      } catch (final SQLException | RuntimeException e) {
+        ScoreSummaryTracker.allModified(connection, tournament.getTournamentID());
+        throw e;
+      }
 
-      ScoreStandardization.summarizeScores(connection, challengeDescription, tournament.getTournamentID());
-      ScoreStandardization.updateTeamTotalScores(connection, challengeDescription, tournament.getTournamentID());
+      final @Nullable Timestamp summaryComputed = tournament.getScoreSummariesUpdated(connection);
+      ScoreSummaryTracker.summaryComputed(connection, tournament.getTournamentID(), summaryComputed);
+      RankingIndex.summaryComputed(connection, tournament.getTournamentID(), updatedTeams, summaryComputed);
     }
   }
 
+  /**
+   * Recompute the summarized scores for only the specified teams and any teams
+   * that have been added to or removed from the tournament. This gives the same
+   * result as the full computation as long as all other teams are unchanged
+   * since the last computation.
+   *
+   * @return the teams whose summarized scores were recomputed
+   */
+  private static Set<Integer> updateModifiedTeams(final Connection connection,
+                                          final ChallengeDescription challengeDescription,
+                                          final Tournament tournament,
+                                          final Set<Integer> modifiedTeams)
+      throws SQLException {
+    final Set<Integer> tournamentTeams = Queries.getTournamentTeams(connection, tournament.getTournamentID())
+                                                .keySet();
+
+    final Set<Integer> teams = new HashSet<>(modifiedTeams);
+    final Set<Integer> summarizedTeams = new HashSet<>();
+    try (PreparedStatement prep = connection.prepareStatement("SELECT team_number FROM overall_scores WHERE tournament = ?")) {
+      prep.setInt(1, tournament.getTournamentID());
+      try (ResultSet rs = prep.executeQuery()) {
+        while (rs.next()) {
+          summarizedTeams.add(rs.getInt(1));
+        }
+      }
+    }
+    for (final int teamNumber : tournamentTeams) {
+      if (!summarizedTeams.contains(teamNumber)) {
+        teams.add(teamNumber);
+      }
+    }
+    for (final int teamNumber : summarizedTeams) {
+      if (!tournamentTeams.contains(teamNumber)) {
+        teams.add(teamNumber);
+      }
+    }
+
+    LOGGER.debug("Updating summarized scores for teams {}", teams);
+
+    for (final int teamNumber : teams) {
+      updateScoreTotals(challengeDescription, connection, tournament, teamNumber);
+      summarizeScores(connection, challengeDescription, tournament.getTournamentID(), teamNumber);
+      updateTeamTotalScores(connection, challengeDescription, tournament.getTournamentID(), tournamentTeams,
+                            teamNumber);
+    }
+
+    tournament.recordScoreSummariesUpdated(connection);
+    return teams;
+  }
+
   /**
    * Summarize the scores for the given tournament. This puts the standardized
    * scores in the final_scores table to be weighted and then summed.
@@ -198,18 +292,33 @@ public final class ScoreStandardization {
                                      final ChallengeDescription challengeDescription,
                                      final int tournament)
       throws SQLException {
+    summarizeScores(connection, challengeDescription, tournament, null);
+  }
+
+  /**
+   * @param teamNumberFilter if not null, only summarize scores for this team
+   */
+  private static void summarizeScores(final Connection connection,
+                                      final ChallengeDescription challengeDescription,
+                                      final int tournament,
+                                      final @Nullable Integer teamNumberFilter)
+      throws SQLException {
 
-    // delete all final scores for the tournament
-    try (PreparedStatement deletePrep = connection.prepareStatement("DELETE FROM final_scores WHERE tournament = ?")) {
+    // delete the final scores being recomputed
+    try (PreparedStatement deletePrep = connection.prepareStatement("DELETE FROM final_scores WHERE tournament = ?"
+        + (null == teamNumberFilter ? "" : " AND team_number = ?"))) {
       deletePrep.setInt(1, tournament);
+      if (null != teamNumberFilter) {
+        deletePrep.setInt(2, teamNumberFilter);
+      }
       deletePrep.executeUpdate();
     }
 
     final double maxScoreRangeSize = challengeDescription.getMaximumScore();
 
-    summarizePerformanceScores(connection, tournament, challengeDescription, maxScoreRangeSize);
+    summarizePerformanceScores(connection, tournament, challengeDescription, maxScoreRangeSize, teamNumberFilter);
 
-    summarizeSubjectiveScores(connection, challengeDescription, maxScoreRangeSize, tournament);
+    summarizeSubjectiveScores(connection, challengeDescription, maxScoreRangeSize, tournament, teamNumberFilter);
   }
 
   /**
@@ -226,7 +335,22 @@ public final class ScoreStandardization {
                                            final int tournament)
       throws SQLException {
     final Map<Integer, TournamentTeam> tournamentTeams = Queries.getTournamentTeams(connection, tournament);
+    updateTeamTotalScores(connection, description, tournament, tournamentTeams.keySet(), null);
+
+    final Tournament currentTournament = Tournament.findTournamentByID(connection, tournament);
+    currentTournament.recordScoreSummariesUpdated(connection);
+  }
 
+  /**
+   * @param tournamentTeams the teams in the tournament
+   * @param teamNumberFilter if not null, only update the total for this team
+   */
+  private static void updateTeamTotalScores(final Connection connection,
+                                            final ChallengeDescription description,
+                                            final int tournament,
+                                            final Set<Integer> tournamentTeams,
+                                            final @Nullable Integer teamNumberFilter)
+      throws SQLException {
     final Map<String, Double> categoryWeights = new HashMap<>();
     final PerformanceScoreCategory performanceCategory = description.getPerformance();
     categoryWeights.put(performanceCategory.getName(), performanceCategory.getWeight());
@@ -234,12 +358,13 @@ public final class ScoreStandardization {
     description.getSubjectiveCategories().forEach(cat -> categoryWeights.put(cat.getName(), cat.getWeight()));
     description.getVirtualSubjectiveCategories().forEach(cat -> categoryWeights.put(cat.getName(), cat.getWeight()));
 
-    final Tournament currentTournament = Tournament.findTournamentByID(connection, tournament);
-
     // delete old values
-    try (
-        PreparedStatement deletePrep = connection.prepareStatement("DELETE FROM overall_scores WHERE tournament = ?")) {
-      deletePrep.setInt(1, currentTournament.getTournamentID());
+    try (PreparedStatement deletePrep = connection.prepareStatement("DELETE FROM overall_scores WHERE tournament = ?"
+        + (null == teamNumberFilter ? "" : " AND team_number = ?"))) {
+      deletePrep.setInt(1, tournament);
+      if (null != teamNumberFilter) {
+        deletePrep.setInt(2, teamNumberFilter);
+      }
       deletePrep.executeUpdate();
     }
 
@@ -247,11 +372,16 @@ public final class ScoreStandardization {
     try (
         PreparedStatement selectPrep = connection.prepareStatement("SELECT category, final_score FROM final_scores WHERE tournament = ? AND team_number = ?");
         PreparedStatement insertPrep = connection.prepareStatement("INSERT INTO overall_scores (tournament, team_number, overall_score) VALUES (?, ?, ?)")) {
-      selectPrep.setInt(1, currentTournament.getTournamentID());
-      insertPrep.setInt(1, currentTournament.getTournamentID());
+      selectPrep.setInt(1, tournament);
+      insertPrep.setInt(1, tournament);
 
       // compute scores for all teams treating NULL as 0
-      for (final int teamNumber : tournamentTeams.keySet()) {
+      for (final int teamNumber : tournamentTeams) {
+        if (null != teamNumberFilter
+            && teamNumberFilter != teamNumber) {
+          continue;
+        }
+
         double overallScore = 0;
 
         selectPrep.setInt(2, teamNumber);
@@ -272,8 +402,6 @@ public final class ScoreStandardization {
         insertPrep.setDouble(3, overallScore);
         insertPrep.executeUpdate();
       } // foreach team
-
-      currentTournament.recordScoreSummariesUpdated(connection);
     } // PreparedStatements
   }
 
@@ -284,20 +412,35 @@ public final class ScoreStandardization {
    * @param connection connection to database, needs write privileges
    * @param tournament tournament to update score totals for
    * @throws SQLException if an error occurs
-   * @see #updatePerformanceScoreTotals(ChallengeDescription, Connection, int)
+   * @see #updatePerformanceScoreTotals(ChallengeDescription, Connection, int,
+   *      Integer)
    * @see #updateSubjectiveScoreTotals(ChallengeDescription, Connection,
-   *      Tournament)
+   *      Tournament, Integer)
    */
   public static void updateScoreTotals(final ChallengeDescription description,
                                        final Connection connection,
                                        final Tournament tournament)
       throws SQLException {
-    updatePerformanceScoreTotals(description, connection, tournament.getTournamentID());
+    updateScoreTotals(description, connection, tournament, null);
 
-    updateSubjectiveScoreTotals(description, connection, tournament);
+    // the summarized scores were not updated to match
+    ScoreSummaryTracker.allModified(connection, tournament.getTournamentID());
+  }
 
-    populateVirtualSubjectiveCategories(connection, description, tournament.getTournamentID());
-    summarizeVirtualSubjectiveCategories(connection, tournament.getTournamentID());
+  /**
+   * @param teamNumberFilter if not null, only update the totals for this team
+   */
+  private static void updateScoreTotals(final ChallengeDescription description,
+                                        final Connection connection,
+                                        final Tournament tournament,
+                                        final @Nullable Integer teamNumberFilter)
+      throws SQLException {
+    updatePerformanceScoreTotals(description, connection, tournament.getTournamentID(), teamNumberFilter);
+
+    updateSubjectiveScoreTotals(description, connection, tournament, teamNumberFilter);
+
+    populateVirtualSubjectiveCategories(connection, description, tournament.getTournamentID(), teamNumberFilter);
+    summarizeVirtualSubjectiveCategories(connection, tournament.getTournamentID(), teamNumberFilter);
   }
 
   /**
@@ -305,16 +448,22 @@ public final class ScoreStandardization {
    * This populates the table subjecive_computed_scores.
    *
    * @param connection
+   * @param teamNumberFilter if not null, only update the totals for this team
    * @throws SQLException
    */
   private static void updateSubjectiveScoreTotals(final ChallengeDescription description,
                                                   final Connection connection,
-                                                  final Tournament tournament)
+                                                  final Tournament tournament,
+                                                  final @Nullable Integer teamNumberFilter)
       throws SQLException {
 
     try (
-        PreparedStatement deletePrep = connection.prepareStatement("DELETE FROM subjective_computed_scores WHERE tournament = ?")) {
+        PreparedStatement deletePrep = connection.prepareStatement("DELETE FROM subjective_computed_scores WHERE tournament = ?"
+            + (null == teamNumberFilter ? "" : " AND team_number = ?"))) {
       deletePrep.setInt(1, tournament.getTournamentID());
+      if (null != teamNumberFilter) {
+        deletePrep.setInt(2, teamNumberFilter);
+      }
       deletePrep.executeUpdate();
     }
 
@@ -328,16 +477,20 @@ public final class ScoreStandardization {
 
         insertPrep.setString(1, categoryName);
 
-        for (final SubjectiveTeamScore teamScore : DatabaseSubjectiveTeamScore.getScoresForCategory(connection,
-                                                                                                    tournament,
-                                                                                                    subjectiveElement)) {
+        final CompiledScoreCategory<TeamScore> compiledElement = subjectiveElement.getCompiled();
+
+        final Collection<SubjectiveTeamScore> scores = null == teamNumberFilter
+            ? DatabaseSubjectiveTeamScore.getScoresForCategory(connection, tournament, subjectiveElement)
+            : DatabaseSubjectiveTeamScore.getScoresForTeam(connection, subjectiveElement, tournament,
+                                                           teamNumberFilter.intValue());
+        for (final SubjectiveTeamScore teamScore : scores) {
           insertPrep.setInt(3, teamScore.getTeamNumber());
 
           final double computedTotal;
           if (teamScore.isNoShow()) {
             computedTotal = Double.NaN;
           } else {
-            computedTotal = subjectiveElement.evaluate(teamScore);
+            computedTotal = compiledElement.evaluate(teamScore);
           }
 
           final String judge = teamScore.getJudge();
@@ -364,70 +517,77 @@ public final class ScoreStandardization {
    * @param description description of the challenge
    * @param connection connection to the database
    * @param tournament the tournament to update scores for.
+   * @param teamNumberFilter if not null, only update scores for this team
    * @throws SQLException on a database error
    */
   private static void updatePerformanceScoreTotals(final ChallengeDescription description,
                                                    final Connection connection,
-                                                   final int tournament)
+                                                   final int tournament,
+                                                   final @Nullable Integer teamNumberFilter)
       throws SQLException {
+    final List<PerformanceTeamScore> scores = null == teamNumberFilter
+        ? DatabasePerformanceTeamScore.fetchAllScores(tournament, ScoreFilter.ALL, connection)
+        : DatabasePerformanceTeamScore.fetchTeamScores(tournament, teamNumberFilter.intValue(), connection);
     try (
-        PreparedStatement updatePrep = connection.prepareStatement("UPDATE Performance SET ComputedTotal = ? WHERE TeamNumber = ? AND Tournament = ? AND RunNumber = ?");
-        PreparedStatement selectPrep = connection.prepareStatement("SELECT TeamNumber, RunNumber FROM Performance WHERE Tournament = ?")) {
+        PreparedStatement updatePrep = connection.prepareStatement("UPDATE Performance SET ComputedTotal = ? WHERE TeamNumber = ? AND Tournament = ? AND RunNumber = ?")) {
 
       updatePrep.setInt(3, tournament);
-      selectPrep.setInt(1, tournament);
 
       final PerformanceScoreCategory performanceElement = description.getPerformance();
+      final CompiledScoreCategory<PerformanceTeamScore> compiledElement = performanceElement.getCompiled();
       final double minimumPerformanceScore = performanceElement.getMinimumScore();
-      try (ResultSet rs = selectPrep.executeQuery()) {
-        while (rs.next()) {
-          final int teamNumber = rs.getInt(1);
-          final int runNumber = rs.getInt(2);
-          final double computedTotal;
+      boolean needsExecute = false;
+      for (final PerformanceTeamScore teamScore : scores) {
+        final int teamNumber = teamScore.getTeamNumber();
+        final int runNumber = teamScore.getRunNumber();
+        final double computedTotal;
 
-          final PerformanceTeamScore teamScore = DatabasePerformanceTeamScore.fetchTeamScore(tournament, teamNumber,
-                                                                                             runNumber, connection);
-          if (null == teamScore) {
-            throw new FLLInternalException(String.format("Unable to find score for tournament %d team %d run %d",
-                                                         tournament, teamNumber, runNumber));
+        if (!teamScore.isBye()) {
+          if (teamScore.isNoShow()) {
+            computedTotal = Double.NaN;
+          } else {
+            computedTotal = compiledElement.evaluate(teamScore);
           }
-          if (!teamScore.isBye()) {
-            if (teamScore.isNoShow()) {
-              computedTotal = Double.NaN;
-            } else {
-              computedTotal = performanceElement.evaluate(teamScore);
-            }
 
-            if (LOGGER.isTraceEnabled()) {
-              LOGGER.trace("Updating performance score for "
-                  + teamNumber
-                  + " run: "
-                  + runNumber
-                  + " total: "
-                  + computedTotal);
-            }
+          if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Updating performance score for "
+                + teamNumber
+                + " run: "
+                + runNumber
+                + " total: "
+                + computedTotal);
+          }
 
-            if (!Double.isNaN(computedTotal)) {
-              updatePrep.setDouble(1, Math.max(computedTotal, minimumPerformanceScore));
-            } else {
-              updatePrep.setNull(1, Types.DOUBLE);
-            }
-            updatePrep.setInt(2, teamNumber);
-            updatePrep.setInt(4, runNumber);
-            updatePrep.executeUpdate();
-          } // not bye
-        }
+          if (!Double.isNaN(computedTotal)) {
+            updatePrep.setDouble(1, Math.max(computedTotal, minimumPerformanceScore));
+          } else {
+            updatePrep.setNull(1, Types.DOUBLE);
+          }
+          updatePrep.setInt(2, teamNumber);
+          updatePrep.setInt(4, runNumber);
+          updatePrep.addBatch();
+          needsExecute = true;
+        } // not bye
+      }
+
+      if (needsExecute) {
+        updatePrep.executeBatch();
       }
     }
   }
 
   private static void populateVirtualSubjectiveCategories(final Connection connection,
                                                           final ChallengeDescription description,
-                                                          final int tournamentId)
+                                                          final int tournamentId,
+                                                          final @Nullable Integer teamNumberFilter)
       throws SQLException {
     try (
-        PreparedStatement delete = connection.prepareStatement("DELETE FROM virtual_subjective_category WHERE tournament_id = ?")) {
+        PreparedStatement delete = connection.prepareStatement("DELETE FROM virtual_subjective_category WHERE tournament_id = ?"
+            + (null == teamNumberFilter ? "" : " AND team_number = ?"))) {
       delete.setInt(1, tournamentId);
+      if (null != teamNumberFilter) {
+        delete.setInt(2, teamNumberFilter);
+      }
       delete.executeUpdate();
     }
 
@@ -446,6 +606,7 @@ public final class ScoreStandardization {
                   + "     AND subjective.category_name = subjective_goals.category_name" //
                   + "     AND subjective.team_number = subjective_goals.team_number" //
                   + "     AND subjective_goals.goal_name = ?"
+                  + (null == teamNumberFilter ? "" : "     AND subjective.team_number = ?")
                   + " GROUP BY subjective.team_number")) {
             insert.setInt(1, tournamentId);
             insert.setString(2, category.getName());
@@ -454,6 +615,9 @@ public final class ScoreStandardization {
             insert.setInt(5, tournamentId);
             insert.setString(6, ref.getCategory().getName());
             insert.setString(7, ref.getGoalName());
+            if (null != teamNumberFilter) {
+              insert.setInt(8, teamNumberFilter);
+            }
 
             insert.executeUpdate();
           }
@@ -463,15 +627,20 @@ public final class ScoreStandardization {
   }
 
   private static void summarizeVirtualSubjectiveCategories(final Connection connection,
-                                                           final int tournament)
+                                                           final int tournament,
+                                                           final @Nullable Integer teamNumberFilter)
       throws SQLException {
     try (
         PreparedStatement prep = connection.prepareStatement("INSERT INTO subjective_computed_scores (tournament, category, team_number, computed_total, judge)"
             + " SELECT tournament_id, category_name, team_number, sum(goal_score), 'virtual'"
             + "  FROM virtual_subjective_category"
             + "    WHERE tournament_id = ?"
+            + (null == teamNumberFilter ? "" : "      AND team_number = ?")
             + "  GROUP BY team_number, tournament, category_name")) {
       prep.setInt(1, tournament);
+      if (null != teamNumberFilter) {
+        prep.setInt(2, teamNumberFilter);
+      }
       prep.executeUpdate();
     }
   }
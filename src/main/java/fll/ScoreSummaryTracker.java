@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import fll.db.TournamentDataVersions;
+
+/**
+ * Keeps track of which teams have had scores modified since the summarized
+ * scores were last computed. This allows
+ * {@link ScoreStandardization#computeSummarizedScoresIfNeeded(Connection, fll.xml.ChallengeDescription, Tournament)}
+ * to only recompute the rows for the modified teams.
+ * The information is only kept in memory. If the summary in the database
+ * was not computed by this class, or something was modified without
+ * specifying the teams, the full computation is used.
+ * Each modification also changes the {@link TournamentDataVersions} of the
+ * tournament.
+ */
+public final class ScoreSummaryTracker {
+
+  private ScoreSummaryTracker() {
+  }
+
+  private record Key(String databaseUrl,
+                     int tournament) {
+  }
+
+  private static final class State {
+    private final Set<Integer> modifiedTeams = new HashSet<>();
+
+    private boolean allModified = true;
+
+    /**
+     * The summary timestamp written by the last computation that was tracked.
+     */
+    private @Nullable Timestamp summaryComputed = null;
+  }
+
+  private static final Map<Key, State> STATES = new HashMap<>();
+
+  private static final Object LOCK = new Object();
+
+  private static Key createKey(final Connection connection,
+                               final int tournament)
+      throws SQLException {
+    return new Key(String.valueOf(connection.getMetaData().getURL()), tournament);
+  }
+
+  /**
+   * Note that the scores for a team have been modified.
+   *
+   * @param connection the database that was modified
+   * @param tournament the tournament that was modified
+   * @param teamNumber the team that was modified
+   * @throws SQLException on a database error
+   */
+  public static void teamModified(final Connection connection,
+                                  final int tournament,
+                                  final int teamNumber)
+      throws SQLException {
+    final Key key = createKey(connection, tournament);
+    synchronized (LOCK) {
+      STATES.computeIfAbsent(key, k -> new State()).modifiedTeams.add(teamNumber);
+    }
+    TournamentDataVersions.modified(connection, tournament);
+  }
+
+  /**
+   * Note that the scores for some teams have been modified.
+   *
+   * @param connection the database that was modified
+   * @param tournament the tournament that was modified
+   * @param teamNumbers the teams that were modified
+   * @throws SQLException on a database error
+   */
+  public static void teamsModified(final Connection connection,
+                                   final int tournament,
+                                   final Collection<Integer> teamNumbers)
+      throws SQLException {
+    final Key key = createKey(connection, tournament);
+    synchronized (LOCK) {
+      STATES.computeIfAbsent(key, k -> new State()).modifiedTeams.addAll(teamNumbers);
+    }
+    TournamentDataVersions.modified(connection, tournament);
+  }
+
+  /**
+   * Note that scores were modified in a way that requires all summarized
+   * scores to be recomputed.
+   *
+   * @param connection the database that was modified
+   * @param tournament the tournament that was modified
+   * @throws SQLException on a database error
+   */
+  public static void allModified(final Connection connection,
+                                 final int tournament)
+      throws SQLException {
+    final Key key = createKey(connection, tournament);
+    synchronized (LOCK) {
+      STATES.computeIfAbsent(key, k -> new State()).allModified = true;
+    }
+    TournamentDataVersions.modified(connection, tournament);
+  }
+
+  /**
+   * Get the teams to recompute and clear them. If the summary fails, the caller
+   * must call {@link #allModified(Connection, int)}.
+   *
+   * @param connection the database
+   * @param tournament the tournament
+   * @param summaryComputed the summary timestamp currently in the database
+   * @return the modified teams or null if everything needs to be recomputed
+   * @throws SQLException on a database error
+   */
+  /* package */ static @Nullable Set<Integer> takeModifiedTeams(final Connection connection,
+                                                               final int tournament,
+                                                               final @Nullable Timestamp summaryComputed)
+      throws SQLException {
+    final Key key = createKey(connection, tournament);
+    synchronized (LOCK) {
+      final State state = STATES.computeIfAbsent(key, k -> new State());
+      final boolean full = state.allModified
+          || null == summaryComputed
+          || !summaryComputed.equals(state.summaryComputed);
+
+      final Set<Integer> teams = new HashSet<>(state.modifiedTeams);
+      state.modifiedTeams.clear();
+      state.allModified = false;
+      state.summaryComputed = null;
+      return full ? null : teams;
+    }
+  }
+
+  /**
+   * Note that the summary was computed.
+   *
+   * @param connection the database
+   * @param tournament the tournament
+   * @param summaryComputed the summary timestamp that was written to the
+   *          database
+   * @throws SQLException on a database error
+   */
+  /* package */ static void summaryComputed(final Connection connection,
+                                            final int tournament,
+                                            final @Nullable Timestamp summaryComputed)
+      throws SQLException {
+    final Key key = createKey(connection, tournament);
+    synchronized (LOCK) {
+      STATES.computeIfAbsent(key, k -> new State()).summaryComputed = summaryComputed;
+    }
+  }
+
+}
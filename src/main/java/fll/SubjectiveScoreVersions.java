@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Keeps track of which subjective scores have been modified so that the
+ * subjective judging application only needs to download the scores that
+ * changed since it last synchronized.
+ * Each modification gets the next number in a sequence. A version is the
+ * sequence number prefixed by an epoch that is chosen each time the tracking
+ * starts over. The information is only kept in memory, so after a restart or a
+ * modification that isn't tracked by judge and team, the epoch changes and
+ * clients download all scores.
+ * Non-numeric nominations are stored by judge and team, not by category, so
+ * modifications are tracked by judge and team as well.
+ */
+public final class SubjectiveScoreVersions {
+
+  private SubjectiveScoreVersions() {
+  }
+
+  private record Key(String databaseUrl,
+                     int tournament) {
+  }
+
+  /**
+   * A judge and the team that they scored.
+   *
+   * @param judge the judge
+   * @param teamNumber the team
+   */
+  public record JudgeTeam(String judge,
+                          int teamNumber) {
+  }
+
+  /**
+   * Result of {@link SubjectiveScoreVersions#getChanges(Connection, int, String)}.
+   *
+   * @param version the current version
+   * @param modified the judges and teams whose scores have been modified, null
+   *          if all scores need to be sent
+   */
+  public record Changes(String version,
+                        @Nullable Set<JudgeTeam> modified) {
+  }
+
+  private static final class State {
+    private final String epoch = UUID.randomUUID().toString();
+
+    private long sequence = 0;
+
+    private final Map<JudgeTeam, Long> modified = new HashMap<>();
+
+    private String getVersion() {
+      return epoch
+          + ":"
+          + sequence;
+    }
+  }
+
+  private static final Map<Key, State> STATES = new HashMap<>();
+
+  private static final Object LOCK = new Object();
+
+  private static Key createKey(final Connection connection,
+                               final int tournament)
+      throws SQLException {
+    return new Key(String.valueOf(connection.getMetaData().getURL()), tournament);
+  }
+
+  /**
+   * Note that the scores and nominations for some judges and teams have been
+   * modified. This must be called after the modifications are committed.
+   *
+   * @param connection the database that was modified
+   * @param tournament the tournament that was modified
+   * @param modified the judges and teams that were modified
+   * @throws SQLException on a database error
+   */
+  public static void scoresModified(final Connection connection,
+                                    final int tournament,
+                                    final Collection<JudgeTeam> modified)
+      throws SQLException {
+    if (modified.isEmpty()) {
+      return;
+    }
+
+    final Key key = createKey(connection, tournament);
+    synchronized (LOCK) {
+      final State state = STATES.computeIfAbsent(key, k -> new State());
+      ++state.sequence;
+      for (final JudgeTeam judgeTeam : modified) {
+        state.modified.put(judgeTeam, state.sequence);
+      }
+    }
+  }
+
+  /**
+   * Note that subjective scores in a tournament were modified without tracking
+   * the judges and teams. Clients will download all scores.
+   *
+   * @param connection the database that was modified
+   * @param tournament the tournament that was modified
+   * @throws SQLException on a database error
+   */
+  public static void allModified(final Connection connection,
+                                 final int tournament)
+      throws SQLException {
+    final Key key = createKey(connection, tournament);
+    synchronized (LOCK) {
+      STATES.remove(key);
+    }
+  }
+
+  /**
+   * Note that subjective scores in all tournaments of a database were modified,
+   * for instance when the database is replaced. Clients will download all
+   * scores.
+   *
+   * @param connection the database that was modified
+   * @throws SQLException on a database error
+   */
+  public static void allTournamentsModified(final Connection connection) throws SQLException {
+    final String databaseUrl = String.valueOf(connection.getMetaData().getURL());
+    synchronized (LOCK) {
+      STATES.keySet().removeIf(key -> key.databaseUrl().equals(databaseUrl));
+    }
+  }
+
+  /**
+   * Find the scores that have been modified since a version. This is called
+   * before reading the scores from the database so that a modification made
+   * while reading is sent again on the next synchronization.
+   *
+   * @param connection the database
+   * @param tournament the tournament
+   * @param since the version that the client has, null if the client doesn't
+   *          have any scores
+   * @return the changes
+   * @throws SQLException on a database error
+   */
+  public static Changes getChanges(final Connection connection,
+                                   final int tournament,
+                                   final @Nullable String since)
+      throws SQLException {
+    final Key key = createKey(connection, tournament);
+    synchronized (LOCK) {
+      final State state = STATES.computeIfAbsent(key, k -> new State());
+      final String version = state.getVersion();
+
+      final String prefix = state.epoch
+          + ":";
+      if (null == since
+          || !since.startsWith(prefix)) {
+        return new Changes(version, null);
+      }
+
+      final long sinceSequence;
+      try {
+        sinceSequence = Long.parseLong(since.substring(prefix.length()));
+      } catch (final NumberFormatException e) {
+        return new Changes(version, null);
+      }
+      if (sinceSequence > state.sequence) {
+        return new Changes(version, null);
+      }
+
+      final Set<JudgeTeam> modified = new HashSet<>();
+      for (final Map.Entry<JudgeTeam, Long> entry : state.modified.entrySet()) {
+        if (entry.getValue() > sinceSequence) {
+          modified.add(entry.getKey());
+        }
+      }
+      return new Changes(version, modified);
+    }
+  }
+
+}
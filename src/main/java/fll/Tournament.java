@@ -31,6 +31,7 @@ import fll.db.Queries;
 import fll.scores.DatabaseSubjectiveTeamScore;
 import fll.util.FLLInternalException;
 import fll.web.admin.Tournaments;
+import fll.web.report.RankingIndex;
 import fll.xml.ChallengeDescription;
 import fll.xml.SubjectiveScoreCategory;
 
@@ -452,6 +453,28 @@ public final class Tournament implements Serializable {
     }
   }
 
+  /**
+   * @param connection database connection
+   * @return when the summarized scores were last computed for this tournament,
+   *         null if never computed
+   * @throws SQLException on a database error
+   * @see #recordScoreSummariesUpdated(Connection)
+   */
+  public @Nullable Timestamp getScoreSummariesUpdated(final Connection connection) throws SQLException {
+    try (PreparedStatement prep = connection.prepareStatement("SELECT summary_computed" //
+        + " FROM Tournaments" //
+        + " WHERE tournament_id = ?")) {
+      prep.setInt(1, getTournamentID());
+      try (ResultSet rs = prep.executeQuery()) {
+        if (rs.next()) {
+          return rs.getTimestamp(1);
+        } else {
+          return null;
+        }
+      }
+    }
+  }
+
   /**
    * Check if there are scores in performance for this tournament
    * 
@@ -605,6 +628,8 @@ public final class Tournament implements Serializable {
       deleteTournament.setInt(1, tournamentID);
       deleteTournament.executeUpdate();
     }
+
+    RankingIndex.tournamentModified(connection, tournamentID);
   }
 
 }
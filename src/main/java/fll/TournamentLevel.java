@@ -23,6 +23,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNull;
 
 import fll.db.GenerateDB;
+import fll.db.TournamentDataVersions;
 import fll.util.FLLInternalException;
 import fll.util.FLLRuntimeException;
 
@@ -347,6 +348,7 @@ public final class TournamentLevel implements Serializable {
       connection.setAutoCommit(prevAutoCommit);
     }
 
+    TournamentDataVersions.allTournamentsModified(connection);
   }
 
   /**
@@ -429,6 +431,7 @@ public final class TournamentLevel implements Serializable {
       prep.setInt(3, levelId);
       prep.executeUpdate();
     }
+    TournamentDataVersions.allTournamentsModified(connection);
   }
 
   /**
@@ -602,6 +602,19 @@ public final class Utilities {
     ;
   }
 
+  private static final ObjectMapper JSON_MAPPER = createJsonMapper();
+
+  /**
+   * Get the shared standard JSON object mapper. This is safe to use from
+   * multiple threads, but must not be reconfigured. Use
+   * {@link #createJsonMapper()} when different settings are needed.
+   * 
+   * @return the shared instance
+   */
+  public static ObjectMapper getJsonMapper() {
+    return JSON_MAPPER;
+  }
+
   /**
    * Check if two doubles are exactly equal.
    * 
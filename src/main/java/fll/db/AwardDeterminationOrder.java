@@ -116,6 +116,7 @@ public final class AwardDeterminationOrder {
     } finally {
       connection.setAutoCommit(autoCommit);
     }
+    TournamentDataVersions.allTournamentsModified(connection);
   }
 
   /**
@@ -110,6 +110,9 @@ public final class CategoriesIgnored {
         insert.executeBatch();
       }
     }
+
+    // the level may be used by multiple tournaments
+    TournamentDataVersions.allTournamentsModified(connection);
   }
 
   /**
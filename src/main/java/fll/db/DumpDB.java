@@ -21,6 +21,8 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -170,9 +172,11 @@ public final class DumpDB extends BaseFLLServlet {
   }
 
   /**
-   * Create an automatic backup of the specified database. Create the file in the
-   * directory "database-backups" relative to the current directory. The file is
-   * named based on the current date and time and the specified label.
+   * Create an automatic backup of the specified database. Create the backup in
+   * the directory "database-backups" relative to the current directory. The
+   * backup is named based on the current date and time and the specified label.
+   * The backup is incremental, see {@link IncrementalBackup}, and is finished
+   * on a background thread.
    * <p>
    * All exceptions are caught and turned into logging errors.
    * </p>
@@ -205,15 +209,8 @@ public final class DumpDB extends BaseFLLServlet {
     }
 
     try {
-      final ChallengeDescription challengeDescription = GlobalParameters.getChallengeDescription(connection);
-
       final String dateStr = LocalDateTime.now().format(DATABASE_DUMP_DATETIME_FORMATTER);
-      final String dumpFilename = String.format("%s-%s.flldb", dateStr, label);
-      final Path outputFile = backupDirectory.resolve(dumpFilename);
-      try (ZipOutputStream zipOut = new ZipOutputStream(Files.newOutputStream(outputFile))) {
-        DumpDB.dumpDatabase(zipOut, connection, challengeDescription, null);
-      }
-
+      IncrementalBackup.create(backupDirectory, connection, String.format("%s-%s", dateStr, label), label);
     } catch (final SQLException e) {
       LOGGER.error("Error reading database to create automatic backup", e);
     } catch (final IOException e) {
@@ -238,31 +235,8 @@ public final class DumpDB extends BaseFLLServlet {
                                   final ChallengeDescription description,
                                   final @Nullable ServletContext application)
       throws SQLException, IOException {
-    try (Statement stmt = connection.createStatement();
-        OutputStreamWriter outputWriter = new OutputStreamWriter(output, Utilities.DEFAULT_CHARSET)) {
-
-      // output the challenge descriptor
-      output.putNextEntry(new ZipEntry("challenge.xml"));
-      XMLUtils.writeXML(description.toXml(), outputWriter, Utilities.DEFAULT_CHARSET.name());
-      outputWriter.flush();
-      output.closeEntry();
-
-      output.putNextEntry(new ZipEntry("dump_version.txt"));
-      outputWriter.write(String.format("%d%n", ImportDB.DUMP_VERSION));
-      outputWriter.flush();
-      output.closeEntry();
-
-      // can't use Queries.getTablesInDB because it lowercases names and we need
-      // all names to be the same as the database is expecting them
-      final DatabaseMetaData metadata = connection.getMetaData();
-      try (ResultSet rs = metadata.getTables(null, null, "%", new String[] { "TABLE" })) {
-        while (rs.next()) {
-          final String tableName = rs.getString("TABLE_NAME");
-          if (null != tableName) {
-            dumpTable(output, connection, metadata, outputWriter, tableName.toLowerCase());
-          }
-        }
-      } // ResultSet try
+    try (OutputStreamWriter outputWriter = new OutputStreamWriter(output, Utilities.DEFAULT_CHARSET)) {
+      dumpTables(output, outputWriter, connection, description);
 
       if (null != application) {
         GatherBugReport.addLogFiles(output);
@@ -273,45 +247,80 @@ public final class DumpDB extends BaseFLLServlet {
 
       addImages(output);
 
-    } // stmt & outputWriter
+    } // outputWriter
   }
 
-  private static void addImages(final ZipOutputStream output) throws IOException {
-    addSlideshowImages(output);
-    addCustomImages(output);
-    addUserImages(output);
-    addSponsorImages(output);
+  /**
+   * Write the challenge description, the dump version and the tables to a zip
+   * file. This is the part of {@link #dumpDatabase(ZipOutputStream, Connection,
+   * ChallengeDescription, ServletContext)} that comes from the database.
+   *
+   * @param output where to dump the database
+   * @param outputWriter writer on top of {@code output}
+   * @param connection the database connection to dump
+   * @param description the challenge to write out
+   * @throws SQLException on a database error
+   * @throws IOException on an error writing to the stream
+   */
+  /* package */ static void dumpTables(final ZipOutputStream output,
+                                       final OutputStreamWriter outputWriter,
+                                       final Connection connection,
+                                       final ChallengeDescription description)
+      throws SQLException, IOException {
+    // output the challenge descriptor
+    output.putNextEntry(new ZipEntry("challenge.xml"));
+    XMLUtils.writeXML(description.toXml(), outputWriter, Utilities.DEFAULT_CHARSET.name());
+    outputWriter.flush();
+    output.closeEntry();
+
+    output.putNextEntry(new ZipEntry("dump_version.txt"));
+    outputWriter.write(String.format("%d%n", ImportDB.DUMP_VERSION));
+    outputWriter.flush();
+    output.closeEntry();
+
+    // can't use Queries.getTablesInDB because it lowercases names and we need
+    // all names to be the same as the database is expecting them
+    final DatabaseMetaData metadata = connection.getMetaData();
+    try (ResultSet rs = metadata.getTables(null, null, "%", new String[] { "TABLE" })) {
+      while (rs.next()) {
+        final String tableName = rs.getString("TABLE_NAME");
+        if (null != tableName) {
+          dumpTable(output, connection, metadata, outputWriter, tableName.toLowerCase());
+        }
+      }
+    } // ResultSet try
   }
 
-  private static void addSlideshowImages(final ZipOutputStream output) throws IOException {
+  /**
+   * @return zip prefix to directory for the images that are stored in a dump
+   */
+  /* package */ static Map<String, Path> getImageDirectories() {
+    final Map<String, Path> directories = new LinkedHashMap<>();
+
     final @Nullable Path slideshowPath = Launcher.getSlideshowDirectory();
-    if (null == slideshowPath) {
-      return;
+    if (null != slideshowPath) {
+      directories.put(SLIDESHOW_IMAGES_DIRECTORY, slideshowPath);
     }
 
-    Utilities.addFilesToZip(output, SLIDESHOW_IMAGES_DIRECTORY, slideshowPath);
-  }
-
-  private static void addCustomImages(final ZipOutputStream output) throws IOException {
-    final @Nullable Path path = Launcher.getCustomDirectory();
-    if (null == path) {
-      return;
+    final @Nullable Path customPath = Launcher.getCustomDirectory();
+    if (null != customPath) {
+      directories.put(CUSTOM_IMAGES_DIRECTORY, customPath);
     }
 
-    Utilities.addFilesToZip(output, CUSTOM_IMAGES_DIRECTORY, path);
-  }
+    directories.put(USER_IMAGES_DIRECTORY, UserImages.getImagesPath());
 
-  private static void addUserImages(final ZipOutputStream output) throws IOException {
-    Utilities.addFilesToZip(output, USER_IMAGES_DIRECTORY, UserImages.getImagesPath());
+    final @Nullable Path sponsorPath = Launcher.getSponsorLogosDirectory();
+    if (null != sponsorPath) {
+      directories.put(SPONSOR_IMAGES_DIRECTORY, sponsorPath);
+    }
+
+    return directories;
   }
 
-  private static void addSponsorImages(final ZipOutputStream output) throws IOException {
-    final @Nullable Path path = Launcher.getSponsorLogosDirectory();
-    if (null == path) {
-      return;
+  private static void addImages(final ZipOutputStream output) throws IOException {
+    for (final Map.Entry<String, Path> entry : getImageDirectories().entrySet()) {
+      Utilities.addFilesToZip(output, entry.getKey(), entry.getValue());
     }
-
-    Utilities.addFilesToZip(output, SPONSOR_IMAGES_DIRECTORY, path);
   }
 
   /**
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.db;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import fll.Utilities;
+import fll.util.FLLInternalException;
+import fll.util.FLLRuntimeException;
+
+/**
+ * Loads the tables from the CSV files in a database dump.
+ * The rows are parsed on the calling thread and handed to a worker, with its
+ * own connection to the database, that inserts them with batches in large
+ * transactions. This allows the next table to be read from the dump while the
+ * previous ones are still being inserted. Only a few batches are queued for
+ * each table, so the memory used doesn't depend on the size of the dump.
+ * If a worker cannot open a connection to the database, the table is loaded on
+ * the calling thread and so are the tables after it.
+ */
+/* package */ final class DumpTableLoader implements AutoCloseable {
+
+  private static final org.apache.logging.log4j.Logger LOGGER = org.apache.logging.log4j.LogManager.getLogger();
+
+  private static final int BATCH_SIZE = 1000;
+
+  private static final int BATCHES_PER_TRANSACTION = 50;
+
+  private static final int QUEUED_BATCHES = 4;
+
+  private static final int NUM_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+  private static final List<String[]> END_OF_TABLE = Collections.emptyList();
+
+  private final Connection connection;
+
+  private final DataSource dataSource;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+
+  /**
+   * Cleared once a worker fails to open a connection.
+   */
+  private boolean useWorkers = true;
+
+  private final List<Future<?>> loads = new LinkedList<>();
+
+  /**
+   * @param connection the database to load the tables into
+   * @param dataSource used by the workers to open their own connections to the
+   *          same database as {@code connection}
+   */
+  /* package */ DumpTableLoader(final Connection connection,
+                                final DataSource dataSource) {
+    this.connection = connection;
+    this.dataSource = dataSource;
+  }
+
+  /**
+   * Create a table and load the data from a CSV file into it. This returns once
+   * all of the rows have been read from {@code reader}, the rows may still be
+   * being inserted.
+   *
+   * @param tablename the table to create
+   * @param types column name to type, columns without a type are longvarchar
+   * @param reader the CSV data, not closed
+   * @param dumpVersion the version of the dump, used to parse the data
+   * @throws IOException if there is an error reading the data
+   * @throws SQLException if there is an error creating the table or loading
+   *           the data on the calling thread
+   */
+  @SuppressFBWarnings(value = "SQL_NONCONSTANT_STRING_PASSED_TO_EXECUTE", justification = "Dynamic based upon tables in the dump")
+  /* package */ void load(final String tablename,
+                          final Map<String, String> types,
+                          final Reader reader,
+                          final int dumpVersion)
+      throws IOException, SQLException {
+    try {
+      // can't close the reader because that will close the zip file
+      final CSVReader csvreader = Utilities.createCSVReader(reader);
+
+      // read the header and create the table and the insert statement
+      final StringBuilder insertPrepSQL = new StringBuilder();
+      insertPrepSQL.append("INSERT INTO ");
+      insertPrepSQL.append(tablename);
+      insertPrepSQL.append(" ( ");
+      final StringBuilder valuesSQL = new StringBuilder();
+      valuesSQL.append(" VALUES (");
+
+      final StringBuilder createTable = new StringBuilder();
+      createTable.append("CREATE TABLE ");
+      createTable.append(tablename);
+      createTable.append(" (");
+      final String[] header = csvreader.readNext();
+      if (null == header) {
+        throw new RuntimeException("Cannot find the header line");
+      }
+
+      final String[] columnTypes = new String[header.length];
+      for (int columnIndex = 0; columnIndex < header.length; ++columnIndex) {
+        final String columnName = header[columnIndex].toLowerCase();
+        if (columnIndex > 0) {
+          createTable.append(", ");
+          insertPrepSQL.append(", ");
+          valuesSQL.append(", ");
+        }
+        String type = types.get(columnName);
+        if (null == type) {
+          type = "longvarchar";
+        }
+        // handle old dumps with no size
+        if (type.equalsIgnoreCase("varchar")) {
+          type = "varchar(255)";
+        }
+        // handle old dumps with no size
+        if (type.equalsIgnoreCase("char")) {
+          type = "char(255)";
+        }
+        columnTypes[columnIndex] = type;
+        createTable.append(columnName);
+        createTable.append(" "
+            + type);
+        insertPrepSQL.append(columnName);
+        valuesSQL.append("?");
+      }
+      createTable.append(")");
+      insertPrepSQL.append(")");
+      valuesSQL.append(")");
+      try (Statement stmt = connection.createStatement()) {
+        stmt.executeUpdate(createTable.toString());
+      }
+
+      final String insertSQL = insertPrepSQL.append(valuesSQL).toString();
+      if (!useWorkers
+          || !loadOnWorker(tablename, csvreader, insertSQL, columnTypes, dumpVersion)) {
+        useWorkers = false;
+        final RowSource rows = () -> readBatch(csvreader);
+        insertRows(connection, insertSQL, columnTypes, dumpVersion, rows);
+      }
+    } catch (final CsvValidationException e) {
+      throw new IOException("Error reading line of file", e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FLLRuntimeException("Interrupted loading table "
+          + tablename, e);
+    }
+  }
+
+  /**
+   * Read the rows and hand them to a worker to insert.
+   *
+   * @return false if the worker could not open a connection, in which case no
+   *         rows have been read
+   */
+  private boolean loadOnWorker(final String tablename,
+                               final CSVReader csvreader,
+                               final String insertSQL,
+                               final String[] columnTypes,
+                               final int dumpVersion)
+      throws IOException, SQLException, CsvValidationException, InterruptedException {
+    final BlockingQueue<List<String[]>> queue = new ArrayBlockingQueue<>(QUEUED_BATCHES);
+    final CompletableFuture<Boolean> connected = new CompletableFuture<>();
+    final Future<?> load = executor.submit(() -> {
+      Connection workerConnection = null;
+      try {
+        workerConnection = dataSource.getConnection();
+      } catch (final SQLException e) {
+        LOGGER.debug("Cannot open another connection to the database, loading tables on the calling thread", e);
+        return null;
+      } finally {
+        connected.complete(null != workerConnection);
+      }
+
+      try (Connection c = workerConnection) {
+        insertRows(c, insertSQL, columnTypes, dumpVersion, queue::take);
+      }
+      return null;
+    });
+
+    try {
+      if (!connected.get()) {
+        return false;
+      }
+    } catch (final ExecutionException e) {
+      throw new FLLInternalException("The connection result is never completed exceptionally", e);
+    }
+    loads.add(load);
+
+    List<String[]> batch;
+    do {
+      batch = readBatch(csvreader);
+      while (!queue.offer(batch, 1, TimeUnit.SECONDS)) {
+        if (load.isDone()) {
+          // the worker only stops early on an error
+          finish();
+          throw new FLLInternalException("Stopped loading table "
+              + tablename
+              + " before reading all rows");
+        }
+      }
+    } while (END_OF_TABLE != batch);
+    return true;
+  }
+
+  /**
+   * Wait for all tables to be loaded.
+   *
+   * @throws SQLException if there was an error loading a table
+   * @throws IOException if there was an error loading a table
+   */
+  /* package */ void finish() throws SQLException, IOException {
+    try {
+      for (final Future<?> load : loads) {
+        load.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FLLRuntimeException("Interrupted waiting for tables to load", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SQLException sqle) {
+        throw sqle;
+      } else if (cause instanceof IOException ioe) {
+        throw ioe;
+      } else if (cause instanceof RuntimeException re) {
+        throw re;
+      } else {
+        throw new FLLInternalException("Error loading table", cause);
+      }
+    } finally {
+      loads.clear();
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * @return the next rows, {@link #END_OF_TABLE} when there are no more
+   */
+  private static List<String[]> readBatch(final CSVReader csvreader) throws IOException, CsvValidationException {
+    final List<String[]> batch = new ArrayList<>(BATCH_SIZE);
+    String[] line;
+    while (batch.size() < BATCH_SIZE
+        && null != (line = csvreader.readNext())) {
+      batch.add(line);
+    }
+    return batch.isEmpty() ? END_OF_TABLE : batch;
+  }
+
+  @FunctionalInterface
+  private interface RowSource {
+    /**
+     * @return the next rows, {@link #END_OF_TABLE} when there are no more
+     */
+    List<String[]> next() throws IOException, CsvValidationException, InterruptedException;
+  }
+
+  private static void insertRows(final Connection connection,
+                                 final String insertSQL,
+                                 final String[] columnTypes,
+                                 final int dumpVersion,
+                                 final RowSource rows)
+      throws SQLException, IOException, CsvValidationException, InterruptedException {
+    final boolean autoCommit = connection.getAutoCommit();
+    try (PreparedStatement prep = connection.prepareStatement(insertSQL)) {
+      connection.setAutoCommit(false);
+
+      int batches = 0;
+      List<String[]> batch;
+      while (END_OF_TABLE != (batch = rows.next())) {
+        for (final String[] line : batch) {
+          for (int columnIndex = 0; columnIndex < line.length; ++columnIndex) {
+            ImportDB.coerceData(line[columnIndex], columnTypes[columnIndex], prep, columnIndex
+                + 1, dumpVersion);
+          }
+          prep.addBatch();
+        }
+        prep.executeBatch();
+
+        ++batches;
+        if (batches
+            % BATCHES_PER_TRANSACTION == 0) {
+          connection.commit();
+        }
+      }
+
+      connection.commit();
+    } catch (final SQLException | RuntimeException e) {
+      connection.rollback();
+      throw e;
+    } finally {
+      connection.setAutoCommit(autoCommit);
+    }
+  }
+
+}
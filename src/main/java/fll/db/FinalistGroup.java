@@ -161,6 +161,7 @@ public class FinalistGroup implements Serializable {
       }
     }
 
+    TournamentDataVersions.modified(connection, tournament.getTournamentID());
   }
 
 }
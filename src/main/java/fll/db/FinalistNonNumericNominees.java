@@ -105,6 +105,8 @@ public class FinalistNonNumericNominees {
       } // foreach nominee
 
     } // allocation of PreparedStatement
+
+    TournamentDataVersions.modified(connection, tournamentId);
   }
 
   /**
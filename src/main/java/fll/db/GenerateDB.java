@@ -21,12 +21,14 @@ import java.util.Formatter;
 import org.apache.commons.io.IOUtils;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import fll.SubjectiveScoreVersions;
 import fll.Team;
 import fll.Tournament;
 import fll.TournamentLevel;
 import fll.TournamentLevel.NoSuchTournamentLevelException;
 import fll.Utilities;
 import fll.util.FLLInternalException;
+import fll.web.report.RankingIndex;
 import fll.xml.AbstractGoal;
 import fll.xml.ChallengeDescription;
 import fll.xml.PerformanceScoreCategory;
@@ -40,7 +42,7 @@ public final class GenerateDB {
   /**
    * Version of the database that will be created.
    */
-  public static final int DATABASE_VERSION = 53;
+  public static final int DATABASE_VERSION = 54;
 
   private static final org.apache.logging.log4j.Logger LOGGER = org.apache.logging.log4j.LogManager.getLogger();
 
@@ -115,6 +117,9 @@ public final class GenerateDB {
 
       // make sure the database is empty
       stmt.executeUpdate("DROP SCHEMA PUBLIC CASCADE");
+      SubjectiveScoreVersions.allTournamentsModified(connection);
+      TournamentDataVersions.allTournamentsModified(connection);
+      RankingIndex.databaseModified(connection);
 
       createGlobalParameters(description, connection);
 
@@ -285,6 +290,8 @@ public final class GenerateDB {
 
       createRunMetadataTable(connection, true);
 
+      createIndexes(connection);
+
       // --------------- create views ---------------
 
       // max seeding round score for all tournaments
@@ -782,6 +789,7 @@ public final class GenerateDB {
       challengePrep.setAsciiStream(1, bais, bytes.length);
       challengePrep.executeUpdate();
     }
+    GlobalParameters.invalidateChallengeDescription(connection);
   }
 
   /* package */static void createGlobalParameters(final ChallengeDescription description,
@@ -1060,6 +1068,31 @@ public final class GenerateDB {
     }
   }
 
+  /**
+   * Create the secondary indexes. HSQLDB creates indexes for the primary and
+   * foreign keys, these cover the queries that filter on a tournament and a
+   * column that isn't at the start of a key. Indexes that already exist are
+   * left alone so that this can be used to upgrade a database.
+   *
+   * @param connection database connection
+   * @throws SQLException on a database error
+   */
+  /* package */ static void createIndexes(final Connection connection) throws SQLException {
+    try (Statement stmt = connection.createStatement()) {
+      // award group and judging group lists and membership
+      stmt.executeUpdate("CREATE INDEX IF NOT EXISTS tournament_teams_event_division_idx ON TournamentTeams (Tournament, event_division)");
+      stmt.executeUpdate("CREATE INDEX IF NOT EXISTS tournament_teams_judging_station_idx ON TournamentTeams (Tournament, judging_station)");
+
+      // playoff line lookups by team and performance run
+      stmt.executeUpdate("CREATE INDEX IF NOT EXISTS playoff_data_team_idx ON PlayoffData (Tournament, run_number, Team)");
+
+      // scores for a category
+      stmt.executeUpdate("CREATE INDEX IF NOT EXISTS subjective_category_idx ON subjective (tournament_id, category_name)");
+      stmt.executeUpdate("CREATE INDEX IF NOT EXISTS subjective_computed_scores_category_idx ON subjective_computed_scores (tournament, category)");
+      stmt.executeUpdate("CREATE INDEX IF NOT EXISTS final_scores_category_idx ON final_scores (tournament, category)");
+    }
+  }
+
   /**
    * Create tables for mapping schedule columns (schedule columns)
    * to subjective categories.
@@ -6,11 +6,16 @@
 
 package fll.db;
 
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.io.StringReader;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNull;
 
@@ -159,10 +164,21 @@ public final class GlobalParameters {
     }
   }
 
+  private record CachedChallengeDescription(String document,
+                                            ChallengeDescription description) {
+  }
+
+  /**
+   * Parsed challenge descriptions keyed by database URL.
+   */
+  private static final Map<String, CachedChallengeDescription> CHALLENGE_DESCRIPTIONS = new HashMap<>();
+
   /**
    * Get the challenge description out of the database. This method doesn't
    * validate the document, since it's assumed that the document was validated
    * before it was put in the database.
+   * The parsed description is cached as long as the document in the database
+   * doesn't change, so the returned object is shared and must not be modified.
    *
    * @param connection connection to the database
    * @return the description
@@ -173,18 +189,67 @@ public final class GlobalParameters {
    */
   public static ChallengeDescription getChallengeDescription(final Connection connection)
       throws SQLException, FLLInternalException {
+    final String document = getChallengeDocument(connection);
+
+    final String key = String.valueOf(connection.getMetaData().getURL());
+    synchronized (CHALLENGE_DESCRIPTIONS) {
+      final @Nullable CachedChallengeDescription cached = CHALLENGE_DESCRIPTIONS.get(key);
+      if (null != cached
+          && cached.document().equals(document)) {
+        return cached.description();
+      }
+    }
+
+    final ChallengeDescription description = ChallengeParser.parse(new StringReader(document));
+    synchronized (CHALLENGE_DESCRIPTIONS) {
+      CHALLENGE_DESCRIPTIONS.put(key, new CachedChallengeDescription(document, description));
+    }
+    return description;
+  }
+
+  /**
+   * Get a challenge description that isn't shared with other callers of
+   * {@link #getChallengeDescription(Connection)} so that it can be modified.
+   *
+   * @param connection connection to the database
+   * @return a new description object
+   * @throws SQLException on a database error
+   * @throws FLLInternalException if the challenge document is not in the
+   *           database
+   */
+  /* package */ static ChallengeDescription getChallengeDescriptionForUpdate(final Connection connection)
+      throws SQLException, FLLInternalException {
+    return ChallengeParser.parse(new StringReader(getChallengeDocument(connection)));
+  }
+
+  private static String getChallengeDocument(final Connection connection) throws SQLException, FLLInternalException {
     try (PreparedStatement prep = getGlobalParameterStmt(connection, CHALLENGE_DOCUMENT)) {
       try (ResultSet rs = prep.executeQuery()) {
         if (rs.next()) {
-          return ChallengeParser.parse(new InputStreamReader(castNonNull(rs.getAsciiStream(1)),
-                                                             Utilities.DEFAULT_CHARSET));
+          return new String(castNonNull(rs.getAsciiStream(1)).readAllBytes(), Utilities.DEFAULT_CHARSET);
         } else {
           throw new FLLInternalException("Could not find challenge document in database");
         }
+      } catch (final IOException e) {
+        throw new FLLRuntimeException("Error reading challenge document from the database", e);
       }
     }
   }
 
+  /**
+   * Drop the cached challenge description for a database. Called when the
+   * challenge document is replaced.
+   *
+   * @param connection the database
+   * @throws SQLException on a database error
+   */
+  /* package */ static void invalidateChallengeDescription(final Connection connection) throws SQLException {
+    final String key = String.valueOf(connection.getMetaData().getURL());
+    synchronized (CHALLENGE_DESCRIPTIONS) {
+      CHALLENGE_DESCRIPTIONS.remove(key);
+    }
+  }
+
   /**
    * @param connection database connection
    * @param paramName parameter name
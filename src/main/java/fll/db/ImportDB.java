@@ -9,8 +9,6 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -58,6 +56,7 @@ import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNul
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import fll.Launcher;
 import fll.ScoreStandardization;
+import fll.SubjectiveScoreVersions;
 import fll.Team;
 import fll.Tournament;
 import fll.TournamentLevel;
@@ -83,6 +82,7 @@ import fll.web.developer.importdb.awardsScript.SectionTextDifference;
 import fll.web.developer.importdb.awardsScript.SponsorsDifference;
 import fll.web.developer.importdb.awardsScript.SubjectiveCategoryPresenterDifference;
 import fll.web.developer.importdb.awardsScript.SubjectiveCategoryTextDifference;
+import fll.web.report.RankingIndex;
 import fll.web.report.awards.AwardCategory;
 import fll.xml.AbstractGoal;
 import fll.xml.ChallengeDescription;
@@ -122,7 +122,7 @@ public final class ImportDB {
    * @return the result of the import
    * @throws IOException if there is an error reading the dump file
    * @throws SQLException if there is an error importing the data
-   * @see ImportDB#loadDatabaseDump(ZipInputStream, Connection, boolean)
+   * @see ImportDB#loadDatabaseDump(ZipInputStream, Connection, DataSource, boolean)
    * @see ImportDB#importDatabase(Connection, Connection, String, boolean,
    *      boolean, boolean, boolean)
    */
@@ -136,7 +136,7 @@ public final class ImportDB {
     try (Connection sourceConnection = memSource.getConnection();
         Statement memStmt = sourceConnection.createStatement()) {
 
-      final ImportDB.ImportResult importResult = loadDatabaseDump(zipfile, sourceConnection, true);
+      final ImportDB.ImportResult importResult = loadDatabaseDump(zipfile, sourceConnection, memSource, true);
       final ChallengeDescription challengeDescription = GlobalParameters.getChallengeDescription(sourceConnection);
       GenerateDB.generateDB(challengeDescription, destConnection);
 
@@ -306,6 +306,8 @@ public final class ImportDB {
    *
    * @param zipfile the database dump
    * @param connection where to store the data
+   * @param dataSource the database that {@code connection} is to, used to open
+   *          more connections so that tables are loaded in parallel
    * @param loadImages if true, then load the images from the zip file, otherwise
    *          they are ignored
    * @return the challenge document
@@ -316,6 +318,7 @@ public final class ImportDB {
    */
   public static ImportResult loadDatabaseDump(final ZipInputStream zipfile,
                                               final Connection connection,
+                                              final DataSource dataSource,
                                               final boolean loadImages)
       throws IOException, SQLException {
     ChallengeDescription description = null;
@@ -325,122 +328,135 @@ public final class ImportDB {
     int dumpVersion = 1;
 
     final Map<String, Map<String, String>> typeInfo = new HashMap<>();
+    boolean haveDumpVersion = false;
     ZipEntry entry;
-    final Map<String, String> tableData = new HashMap<>();
-    while (null != (entry = zipfile.getNextEntry())) {
-      final String name = entry.getName();
-      if ("challenge.xml".equals(name)) {
-        final Reader reader = new InputStreamReader(zipfile, Utilities.DEFAULT_CHARSET);
-        description = ChallengeParser.parse(reader);
-      } else if ("dump_version.txt".equals(name)) {
-        final BufferedReader reader = new BufferedReader(new InputStreamReader(zipfile, Utilities.DEFAULT_CHARSET));
-        final String versionInfo = reader.readLine();
-        if (null != versionInfo) {
-          try {
-            dumpVersion = Integer.parseInt(versionInfo);
-          } catch (final NumberFormatException e) {
-            throw new FLLRuntimeException(String.format("Error reading dump version information from '%s': %s",
-                                                        versionInfo, e.getMessage()));
+    // tables that were read before their type information or dump version
+    final Map<String, Path> spooledTables = new HashMap<>();
+    try (DumpTableLoader tableLoader = new DumpTableLoader(connection, dataSource)) {
+      while (null != (entry = zipfile.getNextEntry())) {
+        final String name = entry.getName();
+        if ("challenge.xml".equals(name)) {
+          final Reader reader = new InputStreamReader(zipfile, Utilities.DEFAULT_CHARSET);
+          description = ChallengeParser.parse(reader);
+        } else if ("dump_version.txt".equals(name)) {
+          final BufferedReader reader = new BufferedReader(new InputStreamReader(zipfile, Utilities.DEFAULT_CHARSET));
+          final String versionInfo = reader.readLine();
+          if (null != versionInfo) {
+            try {
+              dumpVersion = Integer.parseInt(versionInfo);
+            } catch (final NumberFormatException e) {
+              throw new FLLRuntimeException(String.format("Error reading dump version information from '%s': %s",
+                                                          versionInfo, e.getMessage()));
+            }
+          } else {
+            throw new FLLRuntimeException("db_version.txt file is empty");
           }
-        } else {
-          throw new FLLRuntimeException("db_version.txt file is empty");
-        }
-      } else if (name.endsWith(".csv")) {
-        final String tablename = name.substring(0, name.indexOf(".csv")).toLowerCase();
-        final Reader reader = new InputStreamReader(zipfile, Utilities.DEFAULT_CHARSET);
-
-        final StringWriter writer = new StringWriter();
-        reader.transferTo(writer);
-        final String content = writer.toString();
-        tableData.put(tablename, content);
-      } else if (name.endsWith(".types")) {
-        final String tablename = name.substring(0, name.indexOf(".types")).toLowerCase();
-        final Reader reader = new InputStreamReader(zipfile, Utilities.DEFAULT_CHARSET);
-        final Map<String, String> columnTypes = loadTypeInfo(reader);
-        typeInfo.put(tablename, columnTypes);
-      } else if (name.startsWith(GatherBugReport.LOGS_DIRECTORY)
-          || name.startsWith(LOGS_DIRECTORY_WINDOWS)) {
-        if (!entry.isDirectory()) {
-          LOGGER.trace("Found log file "
-              + name);
-          writeFile(importDirectory, name, zipfile);
-        }
-      } else if (name.startsWith(DumpDB.BUGS_DIRECTORY)
-          || name.startsWith(BUGS_DIRECTORY_WINDOWS)) {
-        if (!entry.isDirectory()) {
-          LOGGER.warn("Found bug report "
-              + name);
-          hasBugs = true;
-
-          writeFile(importDirectory, name, zipfile);
-        }
-      } else if (name.startsWith(DumpDB.CUSTOM_IMAGES_DIRECTORY)) {
-        if (loadImages) {
+          haveDumpVersion = true;
+        } else if (name.endsWith(".csv")) {
+          final String tablename = name.substring(0, name.indexOf(".csv")).toLowerCase();
+          final @Nullable Map<String, String> tableTypes = typeInfo.get(tablename);
+          if (null != tableTypes
+              && haveDumpVersion) {
+            tableLoader.load(tablename, tableTypes, new InputStreamReader(zipfile, Utilities.DEFAULT_CHARSET),
+                             dumpVersion);
+          } else {
+            final Path spoolFile = Files.createTempFile("fll-import-"
+                + tablename, ".csv");
+            spooledTables.put(tablename, spoolFile);
+            Files.copy(zipfile, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+          }
+        } else if (name.endsWith(".types")) {
+          final String tablename = name.substring(0, name.indexOf(".types")).toLowerCase();
+          final Reader reader = new InputStreamReader(zipfile, Utilities.DEFAULT_CHARSET);
+          final Map<String, String> columnTypes = loadTypeInfo(reader);
+          typeInfo.put(tablename, columnTypes);
+        } else if (name.startsWith(GatherBugReport.LOGS_DIRECTORY)
+            || name.startsWith(LOGS_DIRECTORY_WINDOWS)) {
           if (!entry.isDirectory()) {
-            LOGGER.trace("Found custom image {}", name);
-
-            final @Nullable Path outputDirectory = Launcher.getCustomDirectory();
-            writeFile(outputDirectory, name, zipfile);
-            if (null != outputDirectory) {
-              final Path outputFileName = outputDirectory.resolve(name);
-              final Path outputParent = outputFileName.getParent();
-              if (null != outputParent) {
-                Files.createDirectories(outputParent);
+            LOGGER.trace("Found log file "
+                + name);
+            writeFile(importDirectory, name, zipfile);
+          }
+        } else if (name.startsWith(DumpDB.BUGS_DIRECTORY)
+            || name.startsWith(BUGS_DIRECTORY_WINDOWS)) {
+          if (!entry.isDirectory()) {
+            LOGGER.warn("Found bug report "
+                + name);
+            hasBugs = true;
+
+            writeFile(importDirectory, name, zipfile);
+          }
+        } else if (name.startsWith(DumpDB.CUSTOM_IMAGES_DIRECTORY)) {
+          if (loadImages) {
+            if (!entry.isDirectory()) {
+              LOGGER.trace("Found custom image {}", name);
+
+              final @Nullable Path outputDirectory = Launcher.getCustomDirectory();
+              writeFile(outputDirectory, name, zipfile);
+              if (null != outputDirectory) {
+                final Path outputFileName = outputDirectory.resolve(name);
+                final Path outputParent = outputFileName.getParent();
+                if (null != outputParent) {
+                  Files.createDirectories(outputParent);
+                }
+                Files.copy(zipfile, outputFileName, StandardCopyOption.REPLACE_EXISTING);
               }
-              Files.copy(zipfile, outputFileName, StandardCopyOption.REPLACE_EXISTING);
             }
           }
-        }
-      } else if (name.startsWith(DumpDB.SLIDESHOW_IMAGES_DIRECTORY)) {
-        if (loadImages) {
-          if (!entry.isDirectory()) {
-            LOGGER.trace("Found slideshow image {}", name);
+        } else if (name.startsWith(DumpDB.SLIDESHOW_IMAGES_DIRECTORY)) {
+          if (loadImages) {
+            if (!entry.isDirectory()) {
+              LOGGER.trace("Found slideshow image {}", name);
 
-            final @Nullable Path outputDirectory = Launcher.getSlideshowDirectory();
-            writeFile(outputDirectory, name, zipfile);
+              final @Nullable Path outputDirectory = Launcher.getSlideshowDirectory();
+              writeFile(outputDirectory, name, zipfile);
+            }
           }
-        }
-      } else if (name.startsWith(DumpDB.USER_IMAGES_DIRECTORY)) {
-        if (loadImages) {
-          if (!entry.isDirectory()) {
-            LOGGER.trace("Found user image {}", name);
+        } else if (name.startsWith(DumpDB.USER_IMAGES_DIRECTORY)) {
+          if (loadImages) {
+            if (!entry.isDirectory()) {
+              LOGGER.trace("Found user image {}", name);
 
-            final Path outputDirectory = UserImages.getImagesPath();
-            writeFile(outputDirectory, name, zipfile);
+              final Path outputDirectory = UserImages.getImagesPath();
+              writeFile(outputDirectory, name, zipfile);
+            }
           }
-        }
-      } else if (name.startsWith(DumpDB.SPONSOR_IMAGES_DIRECTORY)) {
-        if (loadImages) {
-          if (!entry.isDirectory()) {
-            LOGGER.trace("Found user image {}", name);
+        } else if (name.startsWith(DumpDB.SPONSOR_IMAGES_DIRECTORY)) {
+          if (loadImages) {
+            if (!entry.isDirectory()) {
+              LOGGER.trace("Found user image {}", name);
 
-            final @Nullable Path outputDirectory = Launcher.getSponsorLogosDirectory();
-            writeFile(outputDirectory, name, zipfile);
+              final @Nullable Path outputDirectory = Launcher.getSponsorLogosDirectory();
+              writeFile(outputDirectory, name, zipfile);
+            }
           }
+        } else {
+          LOGGER.warn("Unexpected file found in imported zip file, skipping: "
+              + name);
         }
-      } else {
-        LOGGER.warn("Unexpected file found in imported zip file, skipping: "
-            + name);
+        zipfile.closeEntry();
       }
-      zipfile.closeEntry();
-    }
 
-    if (null == description) {
-      throw new RuntimeException("Cannot find challenge document in the zipfile");
-    }
-
-    if (typeInfo.isEmpty()) {
-      // before types were added, assume version 0 types
-      createVersion0TypeInfo(typeInfo, description);
-    }
-    for (final Map.Entry<String, String> tableEntry : tableData.entrySet()) {
-      final String tablename = tableEntry.getKey();
+      if (null == description) {
+        throw new RuntimeException("Cannot find challenge document in the zipfile");
+      }
 
-      if (null != tablename) {
-        final String content = tableEntry.getValue();
+      if (typeInfo.isEmpty()) {
+        // before types were added, assume version 0 types
+        createVersion0TypeInfo(typeInfo, description);
+      }
+      for (final Map.Entry<String, Path> tableEntry : spooledTables.entrySet()) {
+        final String tablename = tableEntry.getKey();
         final Map<String, String> tableTypes = typeInfo.getOrDefault(tablename, Collections.emptyMap());
+        try (Reader reader = Files.newBufferedReader(tableEntry.getValue(), Utilities.DEFAULT_CHARSET)) {
+          tableLoader.load(tablename, tableTypes, reader, dumpVersion);
+        }
+      }
 
-        ImportDB.loadCSVFile(connection, tablename, tableTypes, new StringReader(content), dumpVersion);
+      tableLoader.finish();
+    } finally {
+      for (final Path spoolFile : spooledTables.values()) {
+        Files.deleteIfExists(spoolFile);
       }
     }
 
@@ -833,6 +849,10 @@ public final class ImportDB {
       upgrade52to53(connection);
     }
 
+    if (dbVersion < 54) {
+      upgrade53to54(connection);
+    }
+
     // NOTE: when adding new tournament parameters they need to be explicitly set in
     // importTournamentParameters
 
@@ -1177,7 +1197,7 @@ public final class ImportDB {
       }
     }
 
-    final ChallengeDescription description = GlobalParameters.getChallengeDescription(connection);
+    final ChallengeDescription description = GlobalParameters.getChallengeDescriptionForUpdate(connection);
     boolean modified = false;
 
     try (
@@ -2034,6 +2054,17 @@ public final class ImportDB {
     setDBVersion(connection, 53);
   }
 
+  /**
+   * Add the secondary indexes.
+   */
+  private static void upgrade53to54(final Connection connection) throws SQLException {
+    LOGGER.debug("Upgrading database from 53 to 54");
+
+    GenerateDB.createIndexes(connection);
+
+    setDBVersion(connection, 54);
+  }
+
   /**
    * Check for a column in a table. This checks table names both upper and lower
    * case.
@@ -2490,6 +2521,8 @@ public final class ImportDB {
 
     // update score totals
     ScoreStandardization.updateScoreTotals(description, destinationConnection, destTournament);
+
+    TournamentDataVersions.allTournamentsModified(destinationConnection);
   }
 
   private static void importGlobalData(final Connection sourceConnection,
@@ -2516,6 +2549,7 @@ public final class ImportDB {
     importAdvancingTeams(sourceConnection, destinationConnection, sourceTournamentID, destTournamentID);
     importAwardWinners(sourceConnection, destinationConnection, sourceTournamentID, destTournamentID);
     importAwardReportGroupSort(sourceConnection, destinationConnection, sourceTournamentID, destTournamentID);
+    SubjectiveScoreVersions.allModified(destinationConnection, destTournamentID);
   }
 
   private static void importPerformanceData(final Connection sourceConnection,
@@ -3199,6 +3233,8 @@ public final class ImportDB {
         }
       }
     }
+
+    RankingIndex.tournamentModified(destinationConnection, destTournamentID);
   }
 
   private static void importTournamentParameters(final Connection sourceConnection,
@@ -3982,100 +4018,6 @@ public final class ImportDB {
 
   }
 
-  /**
-   * Load a CSV file into an SQL table. Assumes that the first line in the CSV
-   * file specifies the column names. This method is meant as the inverse of
-   * {@link com.opencsv.CSVWriter#writeAll(ResultSet, boolean)} with
-   * includeColumnNames set to true. This method assumes that the table to be
-   * created does not exist, an error will be reported if it does.
-   *
-   * @param connection the database connection to create the table within
-   * @param tablename name of the table to create
-   * @param reader where to read the data from, a {@link CSVReader} will be
-   *          created from this
-   * @param types column name to sql type mapping
-   * @param dumpVersion the version of the CSV fiel dump
-   * @throws SQLException if there is an error putting data in the database
-   * @throws IOException if there is an error reading the data
-   * @throws RuntimeException if the first line cannot be read
-   */
-  @SuppressFBWarnings(value = { "SQL_NONCONSTANT_STRING_PASSED_TO_EXECUTE",
-                                "SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING" }, justification = "Generate columns based upon file loaded")
-  private static void loadCSVFile(final Connection connection,
-                                  final String tablename,
-                                  final Map<String, String> types,
-                                  final Reader reader,
-                                  final int dumpVersion)
-      throws IOException, SQLException {
-    try {
-      final CSVReader csvreader = Utilities.createCSVReader(reader);
-
-      // read the header and create the table and create the
-      final StringBuilder insertPrepSQL = new StringBuilder();
-      insertPrepSQL.append("INSERT INTO ");
-      insertPrepSQL.append(tablename);
-      insertPrepSQL.append(" ( ");
-      final StringBuilder valuesSQL = new StringBuilder();
-      valuesSQL.append(" VALUES (");
-
-      final StringBuilder createTable = new StringBuilder();
-      createTable.append("CREATE TABLE ");
-      createTable.append(tablename);
-      createTable.append(" (");
-      String[] line = csvreader.readNext();
-      if (null == line) {
-        throw new RuntimeException("Cannot find the header line");
-      }
-
-      final String[] columnTypes = new String[line.length];
-      try (Statement stmt = connection.createStatement()) {
-        for (int columnIndex = 0; columnIndex < line.length; ++columnIndex) {
-          final String columnName = line[columnIndex].toLowerCase();
-          if (columnIndex > 0) {
-            createTable.append(", ");
-            insertPrepSQL.append(", ");
-            valuesSQL.append(", ");
-          }
-          String type = types.get(columnName);
-          if (null == type) {
-            type = "longvarchar";
-          }
-          // handle old dumps with no size
-          if (type.equalsIgnoreCase("varchar")) {
-            type = "varchar(255)";
-          }
-          // handle old dumps with no size
-          if (type.equalsIgnoreCase("char")) {
-            type = "char(255)";
-          }
-          columnTypes[columnIndex] = type;
-          createTable.append(columnName);
-          createTable.append(" "
-              + type);
-          insertPrepSQL.append(columnName);
-          valuesSQL.append("?");
-        }
-        createTable.append(")");
-        insertPrepSQL.append(")");
-        valuesSQL.append(")");
-        stmt.executeUpdate(createTable.toString());
-      } // statement
-
-      // load each line into a row in the table
-      try (PreparedStatement prep = connection.prepareStatement(insertPrepSQL.append(valuesSQL).toString())) {
-        while (null != (line = csvreader.readNext())) {
-          for (int columnIndex = 0; columnIndex < line.length; ++columnIndex) {
-            ImportDB.coerceData(line[columnIndex], columnTypes[columnIndex], prep, columnIndex
-                + 1, dumpVersion);
-          }
-          prep.executeUpdate();
-        }
-      } // prepared statement
-    } catch (final CsvValidationException e) {
-      throw new IOException("Error reading line of file", e);
-    }
-  }
-
   /**
    * Convert data to type and put in prepared statement at index.
    *
@@ -4087,7 +4029,7 @@ public final class ImportDB {
    * @throws SQLException
    * @throws ParseException
    */
-  private static void coerceData(final String rawData,
+  /* package */ static void coerceData(final String rawData,
                                  final String type,
                                  final PreparedStatement prep,
                                  final int index,
@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.db;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import fll.Utilities;
+import fll.util.FLLInternalException;
+import fll.xml.ChallengeDescription;
+
+/**
+ * Incremental backups of the database. Each entry of a database dump is stored
+ * once in a blob directory, named by the SHA-256 of its content, and a backup
+ * is a manifest listing the entries of the dump and their blobs. So tables and
+ * images that haven't changed since the previous backup don't use any more
+ * disk space. {@link #writeDump(Path, ZipOutputStream)} reassembles a normal
+ * dump that can be loaded with
+ * {@link ImportDB#loadDatabaseDump(ZipInputStream, Connection, javax.sql.DataSource, boolean)}.
+ * <p>
+ * The database is read in a single transaction to get a consistent snapshot
+ * and images that changed are copied before {@link #create(Path, Connection,
+ * String)} returns, so the operation that the backup was made for can modify
+ * the database and images right away. Storing the blobs and writing the
+ * manifest is done on a background thread. {@link #awaitPendingBackups()}
+ * needs to be called before the application exits so that the backups are
+ * complete.
+ * </p>
+ */
+public final class IncrementalBackup {
+
+  private static final org.apache.logging.log4j.Logger LOGGER = org.apache.logging.log4j.LogManager.getLogger();
+
+  /**
+   * Suffix of the backup manifest files.
+   */
+  public static final String MANIFEST_SUFFIX = ".backup";
+
+  private static final String BLOBS_DIRECTORY = "blobs";
+
+  private static final String WORK_DIRECTORY_PREFIX = "tmp-";
+
+  private static final String DATABASE_SNAPSHOT = "database.zip";
+
+  private static final int FORMAT_VERSION = 1;
+
+  private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+    final Thread thread = new Thread(r, "database-backup");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /**
+   * How long {@link #awaitPendingBackups()} waits.
+   */
+  private static final long SHUTDOWN_TIMEOUT_MINUTES = 5;
+
+  /**
+   * Work directories of the backups that haven't been stored yet.
+   */
+  private static final Set<Path> ACTIVE_WORK_DIRECTORIES = ConcurrentHashMap.newKeySet();
+
+  private IncrementalBackup() {
+  }
+
+  /**
+   * An entry in a database dump.
+   *
+   * @param name name of the entry in the dump
+   * @param hash SHA-256 of the content, which is the name of the blob
+   * @param size size of the content
+   * @param lastModified modification time of the file the content was read
+   *          from in milliseconds, -1 for content from the database
+   */
+  /* package */ record Entry(String name,
+                             String hash,
+                             long size,
+                             long lastModified) {
+  }
+
+  /**
+   * Content of a backup file.
+   *
+   * @param formatVersion version of the manifest format
+   * @param label the label the backup was created with
+   * @param entries the entries of the dump in order
+   */
+  /* package */ record Manifest(int formatVersion,
+                                String label,
+                                List<Entry> entries) {
+  }
+
+  /**
+   * A file that changed since the last backup and was copied to the work
+   * directory.
+   */
+  private record CopiedFile(String name,
+                            Path copy,
+                            long size,
+                            long lastModified) {
+  }
+
+  /**
+   * Create a backup of the database and images.
+   *
+   * @param backupDirectory where backups are stored
+   * @param connection the database to backup
+   * @param baseName name of the manifest without {@link #MANIFEST_SUFFIX}
+   * @param label stored in the manifest
+   * @throws SQLException on an error reading the database
+   * @throws IOException on an error writing the snapshot
+   */
+  /* package */ static void create(final Path backupDirectory,
+                                   final Connection connection,
+                                   final String baseName,
+                                   final String label)
+      throws SQLException, IOException {
+    final Path workDirectory = Files.createTempDirectory(backupDirectory, WORK_DIRECTORY_PREFIX);
+    ACTIVE_WORK_DIRECTORIES.add(workDirectory.toAbsolutePath().normalize());
+    try {
+      snapshotDatabase(connection, workDirectory.resolve(DATABASE_SNAPSHOT));
+
+      final List<Entry> unchangedFiles = new LinkedList<>();
+      final List<CopiedFile> copiedFiles = new LinkedList<>();
+      snapshotImages(backupDirectory, workDirectory, unchangedFiles, copiedFiles);
+
+      EXECUTOR.execute(() -> {
+        try {
+          store(backupDirectory, workDirectory, baseName, label, unchangedFiles, copiedFiles);
+        } catch (final IOException | RuntimeException e) {
+          LOGGER.error("Error storing database backup {}", baseName, e);
+        } finally {
+          deleteWorkDirectory(workDirectory);
+        }
+      });
+    } catch (final SQLException | IOException | RuntimeException e) {
+      deleteWorkDirectory(workDirectory);
+      throw e;
+    }
+  }
+
+  /**
+   * Wait for the backups that have been started to be stored.
+   *
+   * @param timeout how long to wait
+   * @param unit unit of {@code timeout}
+   * @return true if the backups finished, false on timeout
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public static boolean waitForBackups(final long timeout,
+                                       final TimeUnit unit)
+      throws InterruptedException {
+    try {
+      EXECUTOR.submit(() -> {
+      }).get(timeout, unit);
+      return true;
+    } catch (final TimeoutException e) {
+      return false;
+    } catch (final ExecutionException e) {
+      throw new FLLInternalException("Error waiting for backups", e.getCause());
+    }
+  }
+
+  /**
+   * Wait for the backups that have been started to be stored. Called before
+   * the application exits, the background thread doesn't keep the JVM
+   * running. Logs a warning if the backups don't finish in time.
+   */
+  public static void awaitPendingBackups() {
+    try {
+      if (!waitForBackups(SHUTDOWN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+        LOGGER.warn("Timed out waiting for database backups to be stored, the latest backups may be incomplete");
+      }
+    } catch (final InterruptedException e) {
+      LOGGER.warn("Interrupted waiting for database backups to be stored", e);
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Delete the work directories left behind by backups that were not stored
+   * because the application exited. Called on startup.
+   *
+   * @param backupDirectory where backups are stored
+   */
+  public static void deleteStaleWorkDirectories(final Path backupDirectory) {
+    if (!Files.isDirectory(backupDirectory)) {
+      return;
+    }
+
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(backupDirectory, WORK_DIRECTORY_PREFIX
+        + "*")) {
+      for (final Path workDirectory : stream) {
+        if (Files.isDirectory(workDirectory)
+            && !ACTIVE_WORK_DIRECTORIES.contains(workDirectory.toAbsolutePath().normalize())) {
+          LOGGER.info("Deleting backup work directory {} from an incomplete backup", workDirectory);
+          deleteWorkDirectory(workDirectory);
+        }
+      }
+    } catch (final IOException e) {
+      LOGGER.warn("Unable to list backup work directories in {}", backupDirectory, e);
+    }
+  }
+
+  /**
+   * Write the database dump for a backup.
+   *
+   * @param manifestFile the backup
+   * @param output where to write the dump
+   * @throws IOException if the backup cannot be read or there is an error
+   *           writing
+   */
+  public static void writeDump(final Path manifestFile,
+                               final ZipOutputStream output)
+      throws IOException {
+    final @Nullable Path backupDirectory = manifestFile.toAbsolutePath().getParent();
+    if (null == backupDirectory) {
+      throw new IOException("Cannot find the directory of "
+          + manifestFile);
+    }
+
+    final Manifest manifest = readManifest(manifestFile);
+    for (final Entry entry : manifest.entries()) {
+      output.putNextEntry(new ZipEntry(entry.name()));
+      try (InputStream blob = new GZIPInputStream(Files.newInputStream(getBlobPath(backupDirectory,
+                                                                                    entry.hash())))) {
+        blob.transferTo(output);
+      }
+      output.closeEntry();
+    }
+  }
+
+  private static Manifest readManifest(final Path manifestFile) throws IOException {
+    try (InputStream stream = Files.newInputStream(manifestFile)) {
+      final Manifest manifest = Utilities.getJsonMapper().readValue(stream, Manifest.class);
+      if (manifest.formatVersion() > FORMAT_VERSION) {
+        throw new IOException("Backup "
+            + manifestFile
+            + " has unknown format version "
+            + manifest.formatVersion());
+      }
+      return manifest;
+    }
+  }
+
+  /**
+   * Dump the tables in a single transaction so that the dump is consistent.
+   */
+  private static void snapshotDatabase(final Connection connection,
+                                       final Path snapshotFile)
+      throws SQLException, IOException {
+    final ChallengeDescription description = GlobalParameters.getChallengeDescription(connection);
+
+    final boolean autoCommit = connection.getAutoCommit();
+    final int isolation = connection.getTransactionIsolation();
+    try {
+      connection.setAutoCommit(false);
+      connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+
+      try (ZipOutputStream zipOut = new ZipOutputStream(Files.newOutputStream(snapshotFile));
+          OutputStreamWriter outputWriter = new OutputStreamWriter(zipOut, Utilities.DEFAULT_CHARSET)) {
+        // the snapshot is only read once, so favor speed
+        zipOut.setLevel(Deflater.BEST_SPEED);
+        DumpDB.dumpTables(zipOut, outputWriter, connection, description);
+      }
+
+      connection.commit();
+    } finally {
+      connection.setAutoCommit(autoCommit);
+      connection.setTransactionIsolation(isolation);
+    }
+  }
+
+  /**
+   * Find the images that are unchanged since the last backup and copy the
+   * others to the work directory.
+   */
+  private static void snapshotImages(final Path backupDirectory,
+                                     final Path workDirectory,
+                                     final List<Entry> unchangedFiles,
+                                     final List<CopiedFile> copiedFiles)
+      throws IOException {
+    final Map<String, Entry> previousFiles = new HashMap<>();
+    final @Nullable Manifest previous = findLatestManifest(backupDirectory);
+    if (null != previous) {
+      for (final Entry entry : previous.entries()) {
+        if (entry.lastModified() >= 0) {
+          previousFiles.put(entry.name(), entry);
+        }
+      }
+    }
+
+    for (final Map.Entry<String, Path> directory : DumpDB.getImageDirectories().entrySet()) {
+      if (!Files.isDirectory(directory.getValue())) {
+        continue;
+      }
+
+      try (DirectoryStream<Path> files = Files.newDirectoryStream(directory.getValue())) {
+        for (final Path file : files) {
+          final @Nullable Path filename = file.getFileName();
+          if (null == filename
+              || !Files.isRegularFile(file)) {
+            continue;
+          }
+
+          final String name = directory.getKey()
+              + filename.toString();
+          final long size = Files.size(file);
+          final long lastModified = Files.getLastModifiedTime(file).toMillis();
+          final @Nullable Entry previousEntry = previousFiles.get(name);
+          if (null != previousEntry
+              && previousEntry.size() == size
+              && previousEntry.lastModified() == lastModified
+              && Files.exists(getBlobPath(backupDirectory, previousEntry.hash()))) {
+            unchangedFiles.add(previousEntry);
+          } else {
+            final Path copy = workDirectory.resolve(String.valueOf(copiedFiles.size()));
+            Files.copy(file, copy);
+            copiedFiles.add(new CopiedFile(name, copy, size, lastModified));
+          }
+        }
+      }
+    }
+  }
+
+  private static @Nullable Manifest findLatestManifest(final Path backupDirectory) {
+    final List<Path> manifests = new ArrayList<>();
+    try (Stream<Path> files = Files.list(backupDirectory)) {
+      files.filter(p -> String.valueOf(p.getFileName()).endsWith(MANIFEST_SUFFIX)).forEach(manifests::add);
+    } catch (final IOException e) {
+      LOGGER.warn("Unable to list the backups in {}, storing all images", backupDirectory, e);
+      return null;
+    }
+
+    // the names start with the date
+    Collections.sort(manifests);
+    Collections.reverse(manifests);
+    for (final Path manifestFile : manifests) {
+      try {
+        return readManifest(manifestFile);
+      } catch (final IOException e) {
+        LOGGER.warn("Unable to read backup {}, trying an older one", manifestFile, e);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Store the blobs for a snapshot and then write the manifest.
+   */
+  private static void store(final Path backupDirectory,
+                            final Path workDirectory,
+                            final String baseName,
+                            final String label,
+                            final List<Entry> unchangedFiles,
+                            final List<CopiedFile> copiedFiles)
+      throws IOException {
+    final List<Entry> entries = new LinkedList<>();
+
+    try (ZipInputStream snapshot = new ZipInputStream(Files.newInputStream(workDirectory.resolve(DATABASE_SNAPSHOT)))) {
+      ZipEntry zipEntry;
+      while (null != (zipEntry = snapshot.getNextEntry())) {
+        if (!zipEntry.isDirectory()) {
+          entries.add(storeBlob(backupDirectory, workDirectory, zipEntry.getName(), snapshot, -1));
+        }
+      }
+    }
+
+    entries.addAll(unchangedFiles);
+    for (final CopiedFile file : copiedFiles) {
+      try (InputStream stream = Files.newInputStream(file.copy())) {
+        entries.add(storeBlob(backupDirectory, workDirectory, file.name(), stream, file.lastModified()));
+      }
+    }
+
+    final Manifest manifest = new Manifest(FORMAT_VERSION, label, entries);
+    final Path tempManifest = workDirectory.resolve(baseName
+        + MANIFEST_SUFFIX);
+    try (OutputStream stream = Files.newOutputStream(tempManifest)) {
+      Utilities.getJsonMapper().writeValue(stream, manifest);
+    }
+    Files.move(tempManifest, backupDirectory.resolve(baseName
+        + MANIFEST_SUFFIX), StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Store content in the blob directory if it isn't already there.
+   */
+  private static Entry storeBlob(final Path backupDirectory,
+                                 final Path workDirectory,
+                                 final String name,
+                                 final InputStream content,
+                                 final long lastModified)
+      throws IOException {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new FLLInternalException("SHA-256 is not available", e);
+    }
+
+    final Path tempBlob = Files.createTempFile(workDirectory, "blob", null);
+    final long size;
+    try (OutputStream blob = new DigestOutputStream(new GZIPOutputStream(Files.newOutputStream(tempBlob)), digest)) {
+      size = content.transferTo(blob);
+    }
+
+    final String hash = HexFormat.of().formatHex(digest.digest());
+    final Path blobPath = getBlobPath(backupDirectory, hash);
+    if (Files.exists(blobPath)) {
+      Files.delete(tempBlob);
+    } else {
+      final @Nullable Path blobParent = blobPath.getParent();
+      if (null != blobParent) {
+        Files.createDirectories(blobParent);
+      }
+      Files.move(tempBlob, blobPath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    return new Entry(name, hash, size, lastModified);
+  }
+
+  private static Path getBlobPath(final Path backupDirectory,
+                                  final String hash) {
+    return backupDirectory.resolve(BLOBS_DIRECTORY).resolve(hash.substring(0, 2)).resolve(hash
+        + ".gz");
+  }
+
+  private static void deleteWorkDirectory(final Path workDirectory) {
+    try {
+      FileUtils.deleteDirectory(workDirectory.toFile());
+    } catch (final IOException e) {
+      LOGGER.warn("Unable to delete backup work directory {}", workDirectory, e);
+    } finally {
+      ACTIVE_WORK_DIRECTORIES.remove(workDirectory.toAbsolutePath().normalize());
+    }
+  }
+
+}
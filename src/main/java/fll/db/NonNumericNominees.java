@@ -6,6 +6,8 @@
 
 package fll.db;
 
+import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNull;
+
 import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -13,7 +15,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -22,6 +26,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import fll.SubjectiveScoreVersions;
 import fll.Tournament;
 import fll.xml.NonNumericCategory;
 
@@ -65,6 +70,7 @@ public class NonNumericNominees {
                     final int tournamentId)
       throws SQLException {
     storeNominees(connection, tournamentId, mCategoryName, nominees);
+    SubjectiveScoreVersions.allModified(connection, tournamentId);
   }
 
   private final Set<Nominee> nominees;
@@ -224,6 +230,41 @@ public class NonNumericNominees {
     return result;
   }
 
+  /**
+   * Get the nominations for all judges and teams in a tournament with a single
+   * query. This is equivalent to calling
+   * {@link #getNomineesByJudgeForTeam(Connection, Tournament, String, int)} for
+   * each judge and team.
+   * 
+   * @param connection database connection
+   * @param tournament the tournament
+   * @return judge -> team number -> categories that the team was nominated for
+   * @throws SQLException on a database error
+   */
+  public static Map<String, Map<Integer, Set<String>>> getNomineesByJudge(final Connection connection,
+                                                                         final Tournament tournament)
+      throws SQLException {
+    final Map<String, Map<Integer, Set<String>>> result = new HashMap<>();
+    try (PreparedStatement get = connection.prepareStatement("SELECT judge, team_number, category FROM non_numeric_nominees"
+        + " WHERE tournament = ?" //
+        + " AND judge IS NOT NULL")) {
+      get.setInt(1, tournament.getTournamentID());
+      try (ResultSet rs = get.executeQuery()) {
+        while (rs.next()) {
+          final String judge = castNonNull(rs.getString(1));
+          final int teamNumber = rs.getInt(2);
+          final @Nullable String category = rs.getString(3);
+          if (null != category) {
+            result.computeIfAbsent(judge, k -> new HashMap<>()).computeIfAbsent(teamNumber, k -> new HashSet<>())
+                  .add(category);
+          }
+        } // foreach result
+      } // allocate query
+    } // allocate prepared statement
+
+    return result;
+  }
+
   /**
    * Store operation for
    * {@link #getNomineesByJudgeForTeam(Connection, Tournament, String, int)}.
@@ -119,6 +119,7 @@ public class PlayoffSchedule implements Serializable {
       }
     }
 
+    TournamentDataVersions.modified(connection, tournament.getTournamentID());
   }
 
 }
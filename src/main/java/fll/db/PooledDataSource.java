@@ -0,0 +1,909 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.db;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * {@link DataSource} that keeps a bounded pool of connections to another
+ * {@link DataSource}.
+ * Closing a connection returns it to the pool. Any open transaction is rolled
+ * back and auto commit is turned back on before the connection is reused.
+ * Each pooled connection caches the prepared statements created on it, closing
+ * a prepared statement returns it to the cache.
+ * A thread that already holds a connection gets another one without waiting,
+ * even if the pool is at its limit. Otherwise threads that hold a connection
+ * while asking for a second one could wait on each other until they time out.
+ * Connections that are held longer than the leak threshold are logged. When
+ * debug logging is enabled the log includes the stack trace of where the
+ * connection was acquired.
+ */
+public final class PooledDataSource implements DataSource, AutoCloseable {
+
+  private static final org.apache.logging.log4j.Logger LOGGER = org.apache.logging.log4j.LogManager.getLogger();
+
+  /**
+   * Default maximum number of connections.
+   */
+  public static final int DEFAULT_MAX_CONNECTIONS = 20;
+
+  /**
+   * Default time to wait for a connection before giving up.
+   */
+  public static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(30);
+
+  /**
+   * Default time a connection can be held before it's reported as a possible
+   * leak.
+   */
+  public static final Duration DEFAULT_LEAK_THRESHOLD = Duration.ofMinutes(2);
+
+  /**
+   * Default number of idle prepared statements to cache per connection.
+   */
+  public static final int DEFAULT_STATEMENT_CACHE_SIZE = 100;
+
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+  /**
+   * SQL state class for connection exceptions.
+   */
+  private static final String CONNECTION_EXCEPTION_STATE_CLASS = "08";
+
+  private final DataSource delegate;
+
+  private final int maxConnections;
+
+  private final long connectionTimeoutNanos;
+
+  private final long leakThresholdNanos;
+
+  private final int statementCacheSize;
+
+  private final Semaphore permits;
+
+  /**
+   * Idle connections, the most recently used connection is first.
+   */
+  private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+
+  private final Set<PooledConnection> active = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Number of connections held by each thread.
+   */
+  private final ConcurrentHashMap<Thread, Integer> heldConnections = new ConcurrentHashMap<>();
+
+  private final @Nullable ScheduledExecutorService leakDetector;
+
+  private volatile boolean closed = false;
+
+  private final AtomicInteger waitingThreads = new AtomicInteger(0);
+
+  private final LongAdder connectionsCreated = new LongAdder();
+
+  private final LongAdder acquisitions = new LongAdder();
+
+  private final LongAdder timeouts = new LongAdder();
+
+  private final LongAdder totalWaitNanos = new LongAdder();
+
+  private final AtomicLong maxWaitNanos = new AtomicLong(0);
+
+  private final LongAdder statementCacheHits = new LongAdder();
+
+  private final LongAdder statementCacheMisses = new LongAdder();
+
+  /**
+   * Create a pool with the default settings.
+   *
+   * @param delegate where to get the physical connections from
+   */
+  public PooledDataSource(final DataSource delegate) {
+    this(delegate, DEFAULT_MAX_CONNECTIONS, DEFAULT_CONNECTION_TIMEOUT, DEFAULT_LEAK_THRESHOLD,
+         DEFAULT_STATEMENT_CACHE_SIZE);
+  }
+
+  /**
+   * @param delegate where to get the physical connections from
+   * @param maxConnections the maximum number of connections that can be in use
+   *          at once
+   * @param connectionTimeout how long {@link #getConnection()} waits for a
+   *          connection to become available
+   * @param leakThreshold how long a connection can be held before it's logged
+   *          as a possible leak, zero to disable leak detection
+   * @param statementCacheSize the maximum number of idle prepared statements to
+   *          keep per connection, zero to disable statement caching
+   */
+  public PooledDataSource(final DataSource delegate,
+                          final int maxConnections,
+                          final Duration connectionTimeout,
+                          final Duration leakThreshold,
+                          final int statementCacheSize) {
+    if (maxConnections < 1) {
+      throw new IllegalArgumentException("Must allow at least 1 connection, but got "
+          + maxConnections);
+    }
+    this.delegate = delegate;
+    this.maxConnections = maxConnections;
+    this.connectionTimeoutNanos = connectionTimeout.toNanos();
+    this.leakThresholdNanos = leakThreshold.toNanos();
+    this.statementCacheSize = Math.max(0, statementCacheSize);
+    this.permits = new Semaphore(maxConnections, true);
+
+    if (leakThresholdNanos > 0) {
+      final ScheduledExecutorService detector = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread thread = new Thread(r, "database-pool-leak-detector");
+        thread.setDaemon(true);
+        return thread;
+      });
+      final long period = Math.max(TimeUnit.SECONDS.toNanos(1), leakThresholdNanos
+          / 2);
+      detector.scheduleAtFixedRate(this::checkForLeaks, period, period, TimeUnit.NANOSECONDS);
+      this.leakDetector = detector;
+    } else {
+      this.leakDetector = null;
+    }
+  }
+
+  /**
+   * Snapshot of the pool usage.
+   *
+   * @param activeConnections connections currently handed out
+   * @param idleConnections connections waiting in the pool
+   * @param waitingThreads threads currently waiting for a connection
+   * @param connectionsCreated physical connections created over the life of
+   *          the pool
+   * @param acquisitions successful calls to {@link #getConnection()}
+   * @param timeouts calls to {@link #getConnection()} that timed out
+   * @param totalWaitTime total time spent waiting for a connection
+   * @param maxWaitTime longest time spent waiting for a connection
+   * @param statementCacheHits prepared statements served from a cache
+   * @param statementCacheMisses prepared statements that had to be created
+   */
+  public record Metrics(int activeConnections,
+                        int idleConnections,
+                        int waitingThreads,
+                        long connectionsCreated,
+                        long acquisitions,
+                        long timeouts,
+                        Duration totalWaitTime,
+                        Duration maxWaitTime,
+                        long statementCacheHits,
+                        long statementCacheMisses) {
+
+    /**
+     * @return average time spent waiting for a connection
+     */
+    public Duration averageWaitTime() {
+      if (0 == acquisitions) {
+        return Duration.ZERO;
+      } else {
+        return totalWaitTime.dividedBy(acquisitions);
+      }
+    }
+  }
+
+  /**
+   * @return current pool usage
+   */
+  public Metrics getMetrics() {
+    return new Metrics(active.size(), idle.size(), waitingThreads.get(), connectionsCreated.sum(), acquisitions.sum(),
+                       timeouts.sum(), Duration.ofNanos(totalWaitNanos.sum()), Duration.ofNanos(maxWaitNanos.get()),
+                       statementCacheHits.sum(), statementCacheMisses.sum());
+  }
+
+  /**
+   * @return the maximum number of connections that can be in use at once
+   */
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (closed) {
+      throw new SQLException("Connection pool is closed");
+    }
+
+    final Thread owner = Thread.currentThread();
+    // nested connections don't wait for a permit, see the class documentation
+    final boolean holdsPermit = !heldConnections.containsKey(owner);
+    if (holdsPermit) {
+      final long start = System.nanoTime();
+      waitingThreads.incrementAndGet();
+      try {
+        if (!permits.tryAcquire(connectionTimeoutNanos, TimeUnit.NANOSECONDS)) {
+          timeouts.increment();
+          throw new SQLTransientConnectionException(String.format("Timed out after %d ms waiting for a database connection: %s",
+                                                                  TimeUnit.NANOSECONDS.toMillis(connectionTimeoutNanos),
+                                                                  getMetrics()));
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SQLException("Interrupted waiting for a database connection", e);
+      } finally {
+        waitingThreads.decrementAndGet();
+      }
+
+      final long waited = System.nanoTime()
+          - start;
+      totalWaitNanos.add(waited);
+      maxWaitNanos.accumulateAndGet(waited, Math::max);
+    }
+
+    try {
+      PooledConnection pooled = takeIdleConnection();
+      if (null == pooled) {
+        pooled = new PooledConnection(delegate.getConnection());
+        connectionsCreated.increment();
+      }
+      final ConnectionHandler handler = new ConnectionHandler(pooled, owner, holdsPermit);
+      // capturing the stack trace is expensive, only do it when it will be logged
+      pooled.borrowed(leakThresholdNanos > 0
+          && LOGGER.isDebugEnabled() ? new Throwable("Connection acquired here") : null);
+      active.add(pooled);
+      heldConnections.merge(owner, 1, Integer::sum);
+      acquisitions.increment();
+      return handler.proxy;
+    } catch (final SQLException | RuntimeException e) {
+      if (holdsPermit) {
+        permits.release();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * @return a valid idle connection or null if there are none
+   */
+  private @Nullable PooledConnection takeIdleConnection() {
+    PooledConnection pooled;
+    while (null != (pooled = idle.pollFirst())) {
+      if (pooled.isValid()) {
+        return pooled;
+      } else {
+        LOGGER.debug("Discarding invalid pooled connection");
+        pooled.destroy();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Called when the connection handed out by {@link #getConnection()} is
+   * closed.
+   *
+   * @param owner the thread that acquired the connection
+   * @param holdsPermit if the connection was counted against the pool limit
+   */
+  private void release(final PooledConnection pooled,
+                       final Thread owner,
+                       final boolean holdsPermit) {
+    if (!active.remove(pooled)) {
+      return;
+    }
+    heldConnections.computeIfPresent(owner, (t,
+                                             count) -> 1 == count ? null : Integer.valueOf(count
+                                                 - 1));
+
+    try {
+      // nested connections can take the pool above its limit, don't keep those
+      if (!closed
+          && idle.size() < maxConnections
+          && pooled.reset()) {
+        idle.offerFirst(pooled);
+      } else {
+        pooled.destroy();
+      }
+    } finally {
+      if (holdsPermit) {
+        permits.release();
+      }
+    }
+  }
+
+  private void checkForLeaks() {
+    final long now = System.nanoTime();
+    for (final PooledConnection pooled : active) {
+      pooled.checkForLeak(now);
+    }
+  }
+
+  /**
+   * Close all idle connections and stop handing out connections. Connections
+   * that are in use are closed when they are returned.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    if (null != leakDetector) {
+      leakDetector.shutdownNow();
+    }
+
+    PooledConnection pooled;
+    while (null != (pooled = idle.pollFirst())) {
+      pooled.destroy();
+    }
+
+    LOGGER.info("Closed connection pool: {}", getMetrics());
+  }
+
+  @Override
+  public Connection getConnection(final String username,
+                                  final String password)
+      throws SQLException {
+    throw new SQLFeatureNotSupportedException("The connection pool uses the credentials of the underlying data source");
+  }
+
+  @Override
+  public @Nullable PrintWriter getLogWriter() throws SQLException {
+    return delegate.getLogWriter();
+  }
+
+  @Override
+  public void setLogWriter(final @Nullable PrintWriter out) throws SQLException {
+    delegate.setLogWriter(out);
+  }
+
+  @Override
+  public void setLoginTimeout(final int seconds) throws SQLException {
+    delegate.setLoginTimeout(seconds);
+  }
+
+  @Override
+  public int getLoginTimeout() throws SQLException {
+    return delegate.getLoginTimeout();
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    return delegate.getParentLogger();
+  }
+
+  @Override
+  public <T> T unwrap(final Class<T> iface) throws SQLException {
+    if (iface.isInstance(this)) {
+      return iface.cast(this);
+    } else {
+      return delegate.unwrap(iface);
+    }
+  }
+
+  @Override
+  public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+    return iface.isInstance(this)
+        || delegate.isWrapperFor(iface);
+  }
+
+  /**
+   * If the exception says the connection is broken, discard the connection
+   * when it's returned. The database may have been shutdown, so all idle
+   * connections are discarded as well.
+   */
+  private void checkConnectionError(final PooledConnection pooled,
+                                    final Throwable t) {
+    if (t instanceof SQLException) {
+      final String state = ((SQLException) t).getSQLState();
+      if (null != state
+          && state.startsWith(CONNECTION_EXCEPTION_STATE_CLASS)) {
+        LOGGER.debug("Connection error, discarding idle connections", t);
+        pooled.broken = true;
+
+        PooledConnection idleConnection;
+        while (null != (idleConnection = idle.pollFirst())) {
+          idleConnection.destroy();
+        }
+      }
+    }
+  }
+
+  /**
+   * Invoke a method on the physical object, unwrapping the exception thrown by
+   * reflection.
+   */
+  private static @Nullable Object invokeDelegate(final Object target,
+                                                 final Method method,
+                                                 final @Nullable Object @Nullable [] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (final InvocationTargetException e) {
+      final Throwable cause = e.getCause();
+      throw null == cause ? e : cause;
+    }
+  }
+
+  /**
+   * A physical connection and its statement cache.
+   * Only used by one thread at a time, except for the leak check.
+   */
+  private final class PooledConnection {
+
+    private final Connection physical;
+
+    /**
+     * key -> idle statements, least recently used first.
+     */
+    private final LinkedHashMap<List<Object>, Deque<PreparedStatement>> statementCache = new LinkedHashMap<>(16, 0.75f,
+                                                                                                            true);
+
+    private int numCachedStatements = 0;
+
+    private volatile long borrowedAt;
+
+    private volatile @Nullable Throwable acquiredAt;
+
+    private volatile boolean leakReported;
+
+    /**
+     * Set when a connection error has been seen.
+     */
+    private volatile boolean broken = false;
+
+    PooledConnection(final Connection physical) {
+      this.physical = physical;
+    }
+
+    void borrowed(final @Nullable Throwable acquiredAt) {
+      this.acquiredAt = acquiredAt;
+      this.leakReported = false;
+      this.borrowedAt = System.nanoTime();
+    }
+
+    void checkForLeak(final long now) {
+      final long held = now
+          - borrowedAt;
+      if (!leakReported
+          && held > leakThresholdNanos) {
+        leakReported = true;
+        final Throwable where = acquiredAt;
+        if (null == where) {
+          LOGGER.warn("Database connection has been in use for {} seconds, it may have been leaked. Enable debug logging for {} to see where it was acquired.",
+                      TimeUnit.NANOSECONDS.toSeconds(held), PooledDataSource.class.getName());
+        } else {
+          LOGGER.warn("Database connection has been in use for {} seconds, it may have been leaked",
+                      TimeUnit.NANOSECONDS.toSeconds(held), where);
+        }
+      }
+    }
+
+    boolean isValid() {
+      try {
+        return physical.isValid(VALIDATION_TIMEOUT_SECONDS);
+      } catch (final SQLException e) {
+        return false;
+      }
+    }
+
+    /**
+     * Get ready for the next user.
+     *
+     * @return false if the connection can't be reused
+     */
+    boolean reset() {
+      try {
+        if (broken
+            || physical.isClosed()) {
+          return false;
+        }
+        if (!physical.getAutoCommit()) {
+          LOGGER.debug("Connection returned to the pool inside a transaction, rolling back");
+          physical.rollback();
+          physical.setAutoCommit(true);
+        }
+        physical.clearWarnings();
+        return true;
+      } catch (final SQLException e) {
+        LOGGER.debug("Unable to reset pooled connection, discarding", e);
+        return false;
+      }
+    }
+
+    void destroy() {
+      synchronized (this) {
+        for (final Deque<PreparedStatement> statements : statementCache.values()) {
+          statements.forEach(PooledDataSource::closeQuietly);
+        }
+        statementCache.clear();
+        numCachedStatements = 0;
+      }
+      try {
+        physical.close();
+      } catch (final SQLException e) {
+        LOGGER.debug("Error closing pooled connection", e);
+      }
+    }
+
+    synchronized @Nullable PreparedStatement takeStatement(final List<Object> key) throws SQLException {
+      final Deque<PreparedStatement> statements = statementCache.get(key);
+      if (null != statements) {
+        PreparedStatement stmt;
+        while (null != (stmt = statements.pollFirst())) {
+          --numCachedStatements;
+          if (!stmt.isClosed()) {
+            if (statements.isEmpty()) {
+              statementCache.remove(key);
+            }
+            return stmt;
+          }
+        }
+        statementCache.remove(key);
+      }
+      return null;
+    }
+
+    synchronized void returnStatement(final List<Object> key,
+                                      final PreparedStatement stmt) {
+      try {
+        if (stmt.isClosed()) {
+          return;
+        }
+        stmt.clearParameters();
+        stmt.clearBatch();
+        stmt.clearWarnings();
+        stmt.setMaxRows(0);
+        stmt.setFetchSize(0);
+        stmt.setQueryTimeout(0);
+      } catch (final SQLException e) {
+        LOGGER.debug("Unable to reset cached statement, closing", e);
+        closeQuietly(stmt);
+        return;
+      }
+
+      statementCache.computeIfAbsent(key, k -> new ArrayDeque<>()).offerFirst(stmt);
+      ++numCachedStatements;
+
+      // evict the least recently used statements
+      final Iterator<Deque<PreparedStatement>> iter = statementCache.values().iterator();
+      while (numCachedStatements > statementCacheSize
+          && iter.hasNext()) {
+        final Deque<PreparedStatement> statements = iter.next();
+        while (numCachedStatements > statementCacheSize
+            && !statements.isEmpty()) {
+          closeQuietly(statements.pollLast());
+          --numCachedStatements;
+        }
+        if (statements.isEmpty()) {
+          iter.remove();
+        }
+      }
+    }
+  }
+
+  private static void closeQuietly(final @Nullable Statement stmt) {
+    if (null != stmt) {
+      try {
+        stmt.close();
+      } catch (final SQLException e) {
+        LOGGER.debug("Error closing statement", e);
+      }
+    }
+  }
+
+  /**
+   * The connection handed out by one call to {@link #getConnection()}.
+   */
+  private final class ConnectionHandler implements InvocationHandler {
+
+    private final PooledConnection pooled;
+
+    private final Thread owner;
+
+    private final boolean holdsPermit;
+
+    private final Connection proxy;
+
+    private boolean logicallyClosed = false;
+
+    /**
+     * Statements opened through this handle that are still open.
+     */
+    private final Set<Statement> openStatements = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    ConnectionHandler(final PooledConnection pooled,
+                      final Thread owner,
+                      final boolean holdsPermit) {
+      this.pooled = pooled;
+      this.owner = owner;
+      this.holdsPermit = holdsPermit;
+      this.proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                                                       new Class<?>[] { Connection.class }, this);
+    }
+
+    @Override
+    public @Nullable Object invoke(final Object unusedProxy,
+                                   final Method method,
+                                   final @Nullable Object @Nullable [] args)
+        throws Throwable {
+      final String name = method.getName();
+      switch (name) {
+      case "equals":
+        return null != args
+            && proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "Pooled "
+            + pooled.physical;
+      case "close":
+        closeLogical();
+        return null;
+      case "isClosed":
+        return logicallyClosed
+            || pooled.physical.isClosed();
+      case "isValid":
+        return !logicallyClosed
+            && pooled.physical.isValid(null == args ? 0 : (Integer) args[0]);
+      case "unwrap":
+      case "isWrapperFor":
+        return invokeDelegate(pooled.physical, method, args);
+      default:
+        break;
+      }
+
+      if (logicallyClosed) {
+        throw new SQLException("Connection is closed");
+      }
+
+      try {
+        if ("prepareStatement".equals(name)
+            && null != args) {
+          return prepareStatement(method, args);
+        }
+
+        final Object result = invokeDelegate(pooled.physical, method, args);
+        if (result instanceof Statement) {
+          // createStatement and prepareCall, these are not cached
+          final StatementHandler handler = new StatementHandler(this, null, (Statement) result,
+                                                                method.getReturnType());
+          trackStatement(handler.proxy);
+          return handler.proxy;
+        }
+        return result;
+      } catch (final Throwable t) {
+        checkConnectionError(pooled, t);
+        throw t;
+      }
+    }
+
+    private synchronized void trackStatement(final Statement stmt) {
+      openStatements.add(stmt);
+    }
+
+    private Object prepareStatement(final Method method,
+                                    final @Nullable Object[] args)
+        throws Throwable {
+      final List<Object> key = createStatementKey(args);
+      PreparedStatement stmt = 0 == statementCacheSize ? null : pooled.takeStatement(key);
+      if (null == stmt) {
+        statementCacheMisses.increment();
+        stmt = (PreparedStatement) invokeDelegate(pooled.physical, method, args);
+        if (null == stmt) {
+          throw new SQLException("Driver returned a null prepared statement");
+        }
+      } else {
+        statementCacheHits.increment();
+      }
+
+      final StatementHandler handler = new StatementHandler(this, key, stmt, PreparedStatement.class);
+      trackStatement(handler.proxy);
+      return handler.proxy;
+    }
+
+    synchronized void statementClosed(final Statement stmt) {
+      openStatements.remove(stmt);
+    }
+
+    private void closeLogical() {
+      synchronized (this) {
+        if (logicallyClosed) {
+          return;
+        }
+        logicallyClosed = true;
+
+        // closing a connection closes its statements
+        for (final Statement stmt : new ArrayList<>(openStatements)) {
+          closeQuietly(stmt);
+        }
+        openStatements.clear();
+      }
+
+      release(pooled, owner, holdsPermit);
+    }
+  }
+
+  /**
+   * Key for the statement cache, the arguments to
+   * {@link Connection#prepareStatement(String)} and its overloads.
+   */
+  private static List<Object> createStatementKey(final @Nullable Object[] args) {
+    final List<Object> key = new ArrayList<>(args.length);
+    for (final Object arg : args) {
+      if (arg instanceof int[]) {
+        key.add(Arrays.toString((int[]) arg));
+      } else if (arg instanceof Object[]) {
+        key.add(Arrays.asList((Object[]) arg));
+      } else if (null != arg) {
+        key.add(arg);
+      } else {
+        key.add("null");
+      }
+    }
+    return key;
+  }
+
+  /**
+   * A statement as seen by the user of a connection.
+   */
+  private final class StatementHandler implements InvocationHandler {
+
+    private final ConnectionHandler connection;
+
+    /**
+     * Key in the statement cache, null if the statement isn't cached.
+     */
+    private final @Nullable List<Object> key;
+
+    private final Statement physical;
+
+    private final Statement proxy;
+
+    private boolean logicallyClosed = false;
+
+    /**
+     * Result sets returned by the statement that may still be open.
+     */
+    private final List<ResultSet> resultSets = new ArrayList<>();
+
+    /**
+     * @param statementInterface the JDBC interface that the proxy implements
+     */
+    StatementHandler(final ConnectionHandler connection,
+                     final @Nullable List<Object> key,
+                     final Statement physical,
+                     final Class<?> statementInterface) {
+      this.connection = connection;
+      this.key = key;
+      this.physical = physical;
+      this.proxy = (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                                                      new Class<?>[] { statementInterface }, this);
+    }
+
+    @Override
+    public @Nullable Object invoke(final Object unusedProxy,
+                                   final Method method,
+                                   final @Nullable Object @Nullable [] args)
+        throws Throwable {
+      switch (method.getName()) {
+      case "equals":
+        return null != args
+            && proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "Pooled "
+            + physical;
+      case "close":
+        if (!logicallyClosed) {
+          logicallyClosed = true;
+          connection.statementClosed(proxy);
+          if (null == key
+              || 0 == statementCacheSize) {
+            physical.close();
+          } else if (closeResultSets()) {
+            connection.pooled.returnStatement(key, (PreparedStatement) physical);
+          } else {
+            closeQuietly(physical);
+          }
+        }
+        return null;
+      case "isClosed":
+        return logicallyClosed
+            || physical.isClosed();
+      case "getConnection":
+        return connection.proxy;
+      case "unwrap":
+      case "isWrapperFor":
+        return invokeDelegate(physical, method, args);
+      default:
+        break;
+      }
+
+      if (logicallyClosed) {
+        throw new SQLException("Statement is closed");
+      }
+      try {
+        final Object result = invokeDelegate(physical, method, args);
+        if (null != key
+            && result instanceof ResultSet) {
+          trackResultSet((ResultSet) result);
+        }
+        return result;
+      } catch (final Throwable t) {
+        checkConnectionError(connection.pooled, t);
+        throw t;
+      }
+    }
+
+    /**
+     * Remember a result set so that it can be closed when the statement goes
+     * back to the cache. Result sets that are already closed, for instance by
+     * executing the statement again, are forgotten.
+     */
+    private void trackResultSet(final ResultSet rs) throws SQLException {
+      final Iterator<ResultSet> iter = resultSets.iterator();
+      while (iter.hasNext()) {
+        if (iter.next().isClosed()) {
+          iter.remove();
+        }
+      }
+      resultSets.add(rs);
+    }
+
+    /**
+     * Closing a statement closes its result sets. The physical statement stays
+     * open when it's cached, so they need to be closed here.
+     *
+     * @return false if a result set could not be closed
+     */
+    private boolean closeResultSets() {
+      try {
+        for (final ResultSet rs : resultSets) {
+          rs.close();
+        }
+        final ResultSet current = physical.getResultSet();
+        if (null != current) {
+          current.close();
+        }
+        return true;
+      } catch (final SQLException e) {
+        LOGGER.debug("Unable to close result set of cached statement, closing the statement", e);
+        return false;
+      } finally {
+        resultSets.clear();
+      }
+    }
+  }
+
+}
@@ -32,6 +32,8 @@ import org.checkerframework.checker.nullness.qual.PolyNull;
 import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNull;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import fll.ScoreSummaryTracker;
+import fll.SubjectiveScoreVersions;
 import fll.Team;
 import fll.Tournament;
 import fll.TournamentTeam;
@@ -44,6 +46,7 @@ import fll.web.TournamentData;
 import fll.web.playoff.BracketUpdate;
 import fll.web.playoff.H2HUpdateWebSocket;
 import fll.web.playoff.Playoff;
+import fll.web.report.RankingIndex;
 import fll.web.scoreEntry.PerformanceRunsEndpoint;
 import fll.web.scoreboard.ScoreboardUpdates;
 import fll.xml.AbstractGoal;
@@ -359,7 +362,7 @@ public final class Queries {
     final PerformanceScoreCategory performanceElement = description.getPerformance();
     final List<TiebreakerTest> tiebreakerElement = performanceElement.getTiebreaker();
 
-    final double score = performanceElement.evaluate(teamScore);
+    final double score = performanceElement.getCompiled().evaluate(teamScore);
     final boolean autoCommit = connection.getAutoCommit();
 
     try (PreparedStatement insert = connection.prepareStatement("INSERT INTO Performance" //
@@ -458,6 +461,7 @@ public final class Queries {
       }
     }
 
+    ScoreSummaryTracker.teamModified(connection, tournament.getTournamentID(), teamScore.getTeamNumber());
     if (runMetadataFactory.getRunMetadata(teamScore.getRunNumber()).isRegularMatchPlay()) {
       tournament.recordPerformanceSeedingModified(connection);
     }
@@ -504,13 +508,13 @@ public final class Queries {
     }
 
     final boolean prevNoShow = prevTeamScore.isNoShow();
-    final double prevScore = performanceElement.evaluate(prevTeamScore);
+    final double prevScore = performanceElement.getCompiled().evaluate(prevTeamScore);
     final boolean prevVerified = prevTeamScore.isVerified();
 
     final int teamNumber = teamScore.getTeamNumber();
     final int runNumber = teamScore.getRunNumber();
 
-    final double score = performanceElement.evaluate(teamScore);
+    final double score = performanceElement.getCompiled().evaluate(teamScore);
 
     final boolean autoCommit = connection.getAutoCommit();
     int numRowsUpdated = 0;
@@ -639,6 +643,7 @@ public final class Queries {
         }
       }
 
+      ScoreSummaryTracker.teamModified(connection, tournament.getTournamentID(), teamNumber);
       if (runMetadataFactory.getRunMetadata(teamScore.getRunNumber()).isRegularMatchPlay()) {
         tournament.recordPerformanceSeedingModified(connection);
       }
@@ -752,6 +757,7 @@ public final class Queries {
       deletePrep.setInt(3, runNumber);
 
       deletePrep.executeUpdate();
+      ScoreSummaryTracker.teamModified(connection, currentTournament.getTournamentID(), teamNumber);
 
       if (runMetadata.isHeadToHead()) {
         final ChallengeDescription description = GlobalParameters.getChallengeDescription(connection);
@@ -1220,6 +1226,9 @@ public final class Queries {
         }
       }
     }
+    SubjectiveScoreVersions.allTournamentsModified(connection);
+    RankingIndex.databaseModified(connection);
+    TournamentDataVersions.allTournamentsModified(connection);
   }
 
   /**
@@ -1269,7 +1278,10 @@ public final class Queries {
       prep.setString(1, judgingStation);
       prep.setInt(2, teamNumber);
       prep.setInt(3, tournamentID);
-      return prep.executeUpdate() > 0;
+      final boolean updated = prep.executeUpdate() > 0;
+      RankingIndex.teamModified(connection, tournamentID, teamNumber);
+      TournamentDataVersions.modified(connection, tournamentID);
+      return updated;
     }
   }
 
@@ -1294,7 +1306,9 @@ public final class Queries {
       prep.setString(1, wave);
       prep.setInt(2, teamNumber);
       prep.setInt(3, tournamentID);
-      return prep.executeUpdate() > 0;
+      final boolean updated = prep.executeUpdate() > 0;
+      TournamentDataVersions.modified(connection, tournamentID);
+      return updated;
     }
   }
 
@@ -1390,6 +1404,9 @@ public final class Queries {
       prep.executeUpdate();
     }
 
+    SubjectiveScoreVersions.allModified(connection, currentTournament);
+    RankingIndex.teamModified(connection, currentTournament, teamNumber);
+    TournamentDataVersions.modified(connection, currentTournament);
   }
 
   /**
@@ -1505,6 +1522,8 @@ public final class Queries {
       prep.executeUpdate();
     }
 
+    RankingIndex.teamModified(connection, tournament, teamNumber);
+    TournamentDataVersions.modified(connection, tournament);
   }
 
   /**
@@ -1528,6 +1547,10 @@ public final class Queries {
       prep.setInt(3, number);
       prep.executeUpdate();
     }
+    TournamentDataVersions.allTournamentsModified(connection);
+
+    // the scoreboard shows team information
+    ScoreboardUpdates.invalidateSnapshot();
   }
 
   /**
@@ -1551,6 +1574,11 @@ public final class Queries {
       prep.setInt(3, tournamentID);
       prep.executeUpdate();
     }
+    RankingIndex.teamModified(connection, tournamentID, number);
+    TournamentDataVersions.modified(connection, tournamentID);
+
+    // the scoreboard shows team information
+    ScoreboardUpdates.invalidateSnapshot();
   }
 
   /**
@@ -1570,6 +1598,10 @@ public final class Queries {
       prep.setInt(2, number);
       prep.executeUpdate();
     }
+    TournamentDataVersions.allTournamentsModified(connection);
+
+    // the scoreboard shows team information
+    ScoreboardUpdates.invalidateSnapshot();
   }
 
   /**
@@ -1590,6 +1622,10 @@ public final class Queries {
       prep.setInt(2, number);
       prep.executeUpdate();
     }
+    TournamentDataVersions.allTournamentsModified(connection);
+
+    // the scoreboard shows team information
+    ScoreboardUpdates.invalidateSnapshot();
   }
 
   /**
@@ -2262,5 +2298,7 @@ public final class Queries {
       prep.setInt(3, teamNumber);
       prep.executeUpdate();
     }
+    ScoreSummaryTracker.teamModified(connection, tournamentID, teamNumber);
+    SubjectiveScoreVersions.allModified(connection, tournamentID);
   }
 }
@@ -16,9 +16,11 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNull;
 
+import fll.ScoreSummaryTracker;
 import fll.Tournament;
 import fll.scheduler.TournamentSchedule;
 import fll.util.FLLRuntimeException;
+import fll.web.scoreboard.ScoreboardUpdates;
 
 /**
  * Metadata for performance runs.
@@ -205,6 +207,10 @@ public class RunMetadata implements Serializable {
       prep.setString(5, metadata.getRunType().name());
       prep.executeUpdate();
     }
+
+    // the run type determines which scores are summarized
+    ScoreSummaryTracker.allModified(connection, tournament.getTournamentID());
+    ScoreboardUpdates.invalidateSnapshot();
   }
 
   /**
@@ -317,6 +323,9 @@ public class RunMetadata implements Serializable {
       }
 
       connection.commit();
+
+      ScoreSummaryTracker.allModified(connection, tournament.getTournamentID());
+      ScoreboardUpdates.invalidateSnapshot();
     } catch (final SQLException e) {
       connection.rollback();
       throw e;
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import fll.SubjectiveScoreVersions;
+
+/**
+ * Keeps a version number for the data of a tournament, such as the teams,
+ * award groups, playoff brackets, finalist schedules and scores. The version
+ * changes each time one of the methods that store this data is called, which
+ * allows a client to check if its copy is current without reading the data.
+ * Score modifications are counted through {@link fll.ScoreSummaryTracker}.
+ * A version is a sequence number prefixed by an epoch that is chosen each time
+ * the tracking starts over. The information is only kept in memory, so after a
+ * restart or a modification to all tournaments the epoch changes.
+ */
+public final class TournamentDataVersions {
+
+  private TournamentDataVersions() {
+  }
+
+  private record Key(String databaseUrl,
+                     int tournament) {
+  }
+
+  private static final class State {
+    private final String epoch = UUID.randomUUID().toString();
+
+    private long sequence = 0;
+
+    private String getVersion() {
+      return epoch
+          + ":"
+          + sequence;
+    }
+  }
+
+  private static final Map<Key, State> STATES = new HashMap<>();
+
+  private static final Object LOCK = new Object();
+
+  private static Key createKey(final Connection connection,
+                               final int tournament)
+      throws SQLException {
+    return new Key(String.valueOf(connection.getMetaData().getURL()), tournament);
+  }
+
+  /**
+   * Note that the data for a tournament was modified. This must be called
+   * after the modification is written.
+   *
+   * @param connection the database that was modified
+   * @param tournament the tournament that was modified
+   * @throws SQLException on a database error
+   */
+  public static void modified(final Connection connection,
+                              final int tournament)
+      throws SQLException {
+    final Key key = createKey(connection, tournament);
+    synchronized (LOCK) {
+      ++STATES.computeIfAbsent(key, k -> new State()).sequence;
+    }
+  }
+
+  /**
+   * Note that data shared by all tournaments in a database was modified, for
+   * instance a team name or the award determination order.
+   *
+   * @param connection the database that was modified
+   * @throws SQLException on a database error
+   */
+  public static void allTournamentsModified(final Connection connection) throws SQLException {
+    final String databaseUrl = String.valueOf(connection.getMetaData().getURL());
+    synchronized (LOCK) {
+      STATES.keySet().removeIf(key -> key.databaseUrl().equals(databaseUrl));
+    }
+  }
+
+  /**
+   * Get the current version. This is called before reading the data so that a
+   * modification made while reading gives a new version.
+   * The version also contains the tournament information and its score
+   * timestamps, which are cheap to read.
+   *
+   * @param connection the database
+   * @param tournament the tournament
+   * @return the current version of the data
+   * @throws SQLException on a database error
+   */
+  public static String getVersion(final Connection connection,
+                                  final int tournament)
+      throws SQLException {
+    final Key key = createKey(connection, tournament);
+    final StringBuilder version = new StringBuilder();
+    synchronized (LOCK) {
+      version.append(STATES.computeIfAbsent(key, k -> new State()).getVersion());
+    }
+    version.append('\n');
+    version.append(SubjectiveScoreVersions.getChanges(connection, tournament, null).version());
+
+    // name, date, level and the score timestamps
+    try (PreparedStatement prep = connection.prepareStatement("SELECT * FROM Tournaments WHERE tournament_id = ?")) {
+      prep.setInt(1, tournament);
+      try (ResultSet rs = prep.executeQuery()) {
+        final int columnCount = rs.getMetaData().getColumnCount();
+        while (rs.next()) {
+          for (int column = 1; column <= columnCount; ++column) {
+            version.append('\n');
+            version.append(rs.getString(column));
+          }
+        }
+      }
+    }
+    return version.toString();
+  }
+
+}
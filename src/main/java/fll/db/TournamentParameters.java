@@ -247,6 +247,21 @@ public final class TournamentParameters {
       prep.setString(2, paramName);
       prep.executeUpdate();
     }
+
+    TournamentDataVersions.modified(connection, tournament);
+  }
+
+  /**
+   * The default values apply to all tournaments that don't override them.
+   */
+  private static void parameterModified(final Connection connection,
+                                        final int tournament)
+      throws SQLException {
+    if (tournament == GenerateDB.INTERNAL_TOURNAMENT_ID) {
+      TournamentDataVersions.allTournamentsModified(connection);
+    } else {
+      TournamentDataVersions.modified(connection, tournament);
+    }
   }
 
   private static void setIntParameterDefault(final Connection connection,
@@ -281,6 +296,7 @@ public final class TournamentParameters {
     } else {
       updateIntParameter(connection, tournament, paramName, paramValue);
     }
+    parameterModified(connection, tournament);
   }
 
   private static void insertIntParameter(final Connection connection,
@@ -324,6 +340,7 @@ public final class TournamentParameters {
     } else {
       updateStringParameter(connection, tournament, paramName, paramValue);
     }
+    parameterModified(connection, tournament);
   }
 
   private static void insertStringParameter(final Connection connection,
@@ -367,6 +384,7 @@ public final class TournamentParameters {
     } else {
       updateBooleanParameter(connection, tournament, paramName, paramValue);
     }
+    parameterModified(connection, tournament);
   }
 
   private static void insertBooleanParameter(final Connection connection,
@@ -29,7 +29,6 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -568,9 +567,7 @@ public final class SubjectivePdfWriter {
       try {
         final Document document = writer.createDocumentForSchedule(schedule, null, pointSize, commentHeight);
 
-        final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-        FOPUtils.renderPdf(fopFactory, document, out);
+        FOPUtils.renderPdf(document, out);
       } catch (FOPException | TransformerException e) {
         throw new FLLInternalException("Error creating the subjective schedule PDF", e);
       }
@@ -654,8 +651,7 @@ public final class SubjectivePdfWriter {
 
     try {
       final Document document = writer.createDocumentForSchedule(schedule, schedulerColumn, pointSize, commentHeight);
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-      FOPUtils.renderPdf(fopFactory, document, stream);
+      FOPUtils.renderPdf(document, stream);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the subjective schedule PDF", e);
     }
@@ -728,8 +724,7 @@ public final class SubjectivePdfWriter {
 
     try {
       final Document document = writer.createDocumentForScores(connection, tournament, scores, pointSize);
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-      FOPUtils.renderPdf(fopFactory, document, stream);
+      FOPUtils.renderPdf(document, stream);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the subjective schedule PDF."
           + " category: "
@@ -18,6 +18,7 @@ import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -26,8 +27,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 import org.apache.commons.cli.CommandLine;
@@ -36,7 +36,6 @@ import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.help.HelpFormatter;
-import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.checkerframework.checker.initialization.qual.NotOnlyInitialized;
 import org.checkerframework.checker.initialization.qual.UnderInitialization;
 import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
@@ -46,10 +45,9 @@ import org.checkerframework.checker.nullness.qual.RequiresNonNull;
 import com.opencsv.ICSVWriter;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import fll.TournamentTeam;
 import fll.Utilities;
-import fll.db.CategoryColumnMapping;
 import fll.scheduler.SchedParams.InvalidParametersException;
-import fll.util.CellFileReader;
 import fll.util.CheckCanceled;
 import fll.util.FLLInternalException;
 import fll.util.FLLRuntimeException;
@@ -75,10 +73,15 @@ public class GreedySolver {
     return solverParameters;
   }
 
+  /*
+   * Occupancy is stored as bitsets indexed by timeslot so that checking if a
+   * window is free is a few word operations.
+   */
+
   /**
-   * group, team, station
+   * Start timeslot for group, team, station. -1 if not scheduled.
    */
-  private final boolean[][][] subjectiveScheduled;
+  private final int[][][] subjectiveStart;
 
   /**
    * group, team
@@ -86,24 +89,29 @@ public class GreedySolver {
   private final int[][] performanceScheduled;
 
   /**
-   * group, team, station, time
+   * Timeslots that a team is in any subjective station. Indexed by group, team.
+   */
+  private final BitSet[][] teamSubjectiveBusy;
+
+  /**
+   * Timeslots that a judging station is in use. Indexed by group, station.
    */
-  private final boolean[][][][] sy;
+  private final BitSet[][] stationBusy;
 
   /**
-   * group, team, station, time
+   * Performance start timeslots. Indexed by group, team, table, side.
    */
-  private final boolean[][][][] sz;
+  private final BitSet[][][][] performanceStarts;
 
   /**
-   * group, team, table, side, time
+   * Timeslots that a team is in any performance. Indexed by group, team.
    */
-  private final boolean[][][][][] py;
+  private final BitSet[][] teamPerformanceBusy;
 
   /**
-   * group, team, table, side, time
+   * Timeslots that a table side is in use. Indexed by table, side.
    */
-  private final boolean[][][][][] pz;
+  private final BitSet[][] tableBusy;
 
   /**
    * next available time for group, station
@@ -126,24 +134,46 @@ public class GreedySolver {
   private @Nullable File mBestSchedule = null;
 
   /**
-   * @return File that contains the best schedule found.
+   * @return File that contains the best schedule found, null until
+   *         {@link #solve(CheckCanceled)} has completed with a solution
    */
   public @Nullable File getBestSchedule() {
     return mBestSchedule;
   }
 
+  /**
+   * The best schedule found so far. This is kept in memory and only written to
+   * disk once the solver finishes.
+   */
+  private @Nullable TournamentSchedule bestSchedule = null;
+
+  /**
+   * The solution number of {@link #bestSchedule}, used for the output filename.
+   */
+  private int bestSolutionNumber = -1;
+
   private int solutionsFound = 0;
 
   private @Nullable ObjectiveValue bestObjective = null;
 
   private final boolean optimize;
 
-  private final @NotOnlyInitialized FewestAssignments fewestAssignments;
+  /**
+   * Used to order the teams when choosing which team to try next.
+   */
+  private final @NotOnlyInitialized Comparator<SchedTeam> teamOrdering;
+
+  /**
+   * Best objective shared with other solvers working on the same problem.
+   */
+  private final SharedObjectiveBound sharedBound;
 
   private static final String OPTIMIZE_OPTION = "o";
 
   private static final String DATA_FILE_OPTION = "d";
 
+  private static final String THREADS_OPTION = "t";
+
   private static Options buildOptions() {
     final Options options = new Options();
     Option option = new Option(DATA_FILE_OPTION, "datafile", true, "<file> the file ");
@@ -153,6 +183,10 @@ public class GreedySolver {
     option = new Option(OPTIMIZE_OPTION, "optimize", false, "Turn on optimization (default: false)");
     options.addOption(option);
 
+    option = new Option(THREADS_OPTION, "threads", true,
+                        "<num> number of solvers to run in parallel (default: 1)");
+    options.addOption(option);
+
     return options;
   }
 
@@ -174,6 +208,7 @@ public class GreedySolver {
     // parse options
     boolean optimize = false;
     File datafile = null;
+    int numThreads = 1;
     try {
       final CommandLineParser parser = new DefaultParser();
       final CommandLine cmd = parser.parse(options, args);
@@ -182,7 +217,19 @@ public class GreedySolver {
         optimize = true;
       }
 
+      if (cmd.hasOption(THREADS_OPTION)) {
+        numThreads = Integer.parseInt(cmd.getOptionValue(THREADS_OPTION));
+        if (numThreads < 1) {
+          throw new org.apache.commons.cli.ParseException("Number of threads must be at least 1");
+        }
+      }
+
       datafile = new File(cmd.getOptionValue(DATA_FILE_OPTION));
+    } catch (final NumberFormatException e) {
+      LOGGER.error("Number of threads must be an integer: "
+          + e.getMessage());
+      usage(options);
+      System.exit(1);
     } catch (final org.apache.commons.cli.ParseException pe) {
       LOGGER.error(pe.getMessage());
       usage(options);
@@ -196,9 +243,14 @@ public class GreedySolver {
         System.exit(4);
       }
 
-      final GreedySolver solver = new GreedySolver(datafile, optimize);
       final long start = System.currentTimeMillis();
-      solver.solve(null);
+      if (numThreads > 1) {
+        final ParallelGreedySolver solver = new ParallelGreedySolver(datafile, optimize, numThreads);
+        solver.solve(null);
+      } else {
+        final GreedySolver solver = new GreedySolver(datafile, optimize);
+        solver.solve(null);
+      }
       final long stop = System.currentTimeMillis();
       LOGGER.info("Solve took: "
           + (stop
@@ -229,8 +281,27 @@ public class GreedySolver {
   public GreedySolver(final File datafile,
                       final boolean optimize)
       throws IOException, ParseException, InvalidParametersException {
+    this(datafile, optimize, SearchVariant.DEFAULT, new SharedObjectiveBound());
+  }
+
+  /**
+   * @param datafile the datafile for the schedule to solve
+   * @param optimize if true, find an optimal solution
+   * @param variant how this solver should order its search
+   * @param sharedBound the best objective found by any solver working on this
+   *          problem, used to prune the search
+   * @throws ParseException if there is an error parsing the data file
+   * @throws InvalidParametersException if the parameters are not valid
+   * @throws IOException if there is an error reading the file
+   */
+  /* package */ GreedySolver(final File datafile,
+                             final boolean optimize,
+                             final SearchVariant variant,
+                             final SharedObjectiveBound sharedBound)
+      throws IOException, ParseException, InvalidParametersException {
     this.datafile = datafile;
     this.optimize = optimize;
+    this.sharedBound = sharedBound;
     if (this.optimize) {
       LOGGER.info("Optimization is turned on");
     }
@@ -250,7 +321,8 @@ public class GreedySolver {
       throw new InvalidParametersException(parameterErrors);
     }
 
-    subjectiveAttemptOffset = solverParameters.getSubjectiveAttemptOffsetMinutes();
+    subjectiveAttemptOffset = Math.max(1, solverParameters.getSubjectiveAttemptOffsetMinutes()
+        + variant.subjectiveAttemptOffsetAdjustment());
 
     numTimeslots = (solverParameters.getTMaxHours()
         * 60
@@ -262,11 +334,16 @@ public class GreedySolver {
 
     performanceChangetime = this.solverParameters.getPerformanceChangetimeMinutes();
 
-    sz = new boolean[solverParameters.getNumGroups()][][][];
-    sy = new boolean[solverParameters.getNumGroups()][][][];
-    pz = new boolean[solverParameters.getNumGroups()][][][][];
-    py = new boolean[solverParameters.getNumGroups()][][][][];
-    subjectiveScheduled = new boolean[solverParameters.getNumGroups()][][];
+    subjectiveStart = new int[solverParameters.getNumGroups()][][];
+    teamSubjectiveBusy = new BitSet[solverParameters.getNumGroups()][];
+    stationBusy = new BitSet[solverParameters.getNumGroups()][solverParameters.getNumSubjectiveStations()];
+    performanceStarts = new BitSet[solverParameters.getNumGroups()][][][];
+    teamPerformanceBusy = new BitSet[solverParameters.getNumGroups()][];
+    tableBusy = new BitSet[solverParameters.getNumTables()][2];
+    for (int table = 0; table < solverParameters.getNumTables(); ++table) {
+      tableBusy[table][0] = new BitSet(numTimeslots);
+      tableBusy[table][1] = new BitSet(numTimeslots);
+    }
     subjectiveStations = new int[solverParameters.getNumGroups()][solverParameters.getNumSubjectiveStations()];
     performanceScheduled = new int[solverParameters.getNumGroups()][];
 
@@ -319,26 +396,24 @@ public class GreedySolver {
       final int count = entry.getValue();
 
       groupNames[group] = entry.getKey();
-      sz[group] = new boolean[count][solverParameters.getNumSubjectiveStations()][numTimeslots];
-      sy[group] = new boolean[count][solverParameters.getNumSubjectiveStations()][numTimeslots];
-      pz[group] = new boolean[count][solverParameters.getNumTables()][2][numTimeslots];
-      py[group] = new boolean[count][solverParameters.getNumTables()][2][numTimeslots];
-      subjectiveScheduled[group] = new boolean[count][solverParameters.getNumSubjectiveStations()];
+      subjectiveStart[group] = new int[count][solverParameters.getNumSubjectiveStations()];
+      teamSubjectiveBusy[group] = new BitSet[count];
+      performanceStarts[group] = new BitSet[count][solverParameters.getNumTables()][2];
+      teamPerformanceBusy[group] = new BitSet[count];
+      for (int station = 0; station < solverParameters.getNumSubjectiveStations(); ++station) {
+        stationBusy[group][station] = new BitSet(numTimeslots);
+      }
       for (int team = 0; team < count; ++team) {
         teams.add(new SchedTeam(team, group));
 
-        for (int station = 0; station < solverParameters.getNumSubjectiveStations(); ++station) {
-          Arrays.fill(sz[group][team][station], false);
-          Arrays.fill(sy[group][team][station], false);
-        }
+        Arrays.fill(subjectiveStart[group][team], -1);
+        teamSubjectiveBusy[group][team] = new BitSet(numTimeslots);
+        teamPerformanceBusy[group][team] = new BitSet(numTimeslots);
 
         for (int table = 0; table < solverParameters.getNumTables(); ++table) {
-          Arrays.fill(pz[group][team][table][0], false);
-          Arrays.fill(pz[group][team][table][1], false);
-          Arrays.fill(py[group][team][table][0], false);
-          Arrays.fill(py[group][team][table][1], false);
+          performanceStarts[group][team][table][0] = new BitSet(numTimeslots);
+          performanceStarts[group][team][table][1] = new BitSet(numTimeslots);
         }
-        Arrays.fill(subjectiveScheduled[group][team], false);
         Arrays.fill(subjectiveStations[group], 0);
       } // foreach team in a judging group
 
@@ -350,12 +425,60 @@ public class GreedySolver {
 
     populatePerfEarliestTimes();
 
-    fewestAssignments = new FewestAssignments(this);
+    switch (variant.ordering()) {
+    case FEWEST_ASSIGNMENTS:
+      teamOrdering = new FewestAssignments(this);
+      break;
+    case LOWEST_TEAM_INDEX:
+      teamOrdering = LOWEST_TEAM_INDEX;
+      break;
+    default:
+      throw new FLLInternalException("Unknown team ordering: "
+          + variant.ordering());
+    }
 
     // object initialized
 
-    // sort list of teams to make sure that the scheduler is deterministic
-    Collections.sort(teams, LOWEST_TEAM_INDEX);
+    if (0 == variant.seed()) {
+      // sort list of teams to make sure that the scheduler is deterministic
+      Collections.sort(teams, LOWEST_TEAM_INDEX);
+    } else {
+      // teams with equal ordering are tried in a different order for each seed
+      Collections.shuffle(teams, new Random(variant.seed()));
+    }
+  }
+
+  /**
+   * How teams are ordered when choosing which team to try next.
+   */
+  /* package */ enum TeamOrdering {
+    /**
+     * Teams with the fewest assignments so far are tried first.
+     */
+    FEWEST_ASSIGNMENTS,
+    /**
+     * Teams are tried by group and then index.
+     */
+    LOWEST_TEAM_INDEX
+  }
+
+  /**
+   * Parameters that change the order that a solver explores the search space.
+   * Used to run multiple solvers on the same problem.
+   *
+   * @param ordering how to order the teams
+   * @param subjectiveAttemptOffsetAdjustment added to
+   *          {@link SolverParams#getSubjectiveAttemptOffsetMinutes()}
+   * @param seed used to shuffle the teams, 0 means keep the teams sorted by
+   *          index
+   */
+  /* package */ record SearchVariant(TeamOrdering ordering,
+                                     int subjectiveAttemptOffsetAdjustment,
+                                     long seed) {
+    /**
+     * The search done by a single solver.
+     */
+    static final SearchVariant DEFAULT = new SearchVariant(TeamOrdering.FEWEST_ASSIGNMENTS, 0, 0);
   }
 
   private boolean assignSubjective(final int group,
@@ -381,14 +504,11 @@ public class GreedySolver {
       return false;
     }
 
-    for (int otherCat = 0; otherCat < getNumSubjectiveStations(); ++otherCat) {
-      if (!checkSubjFree(group, team, otherCat, timeslot, getSubjectiveDuration(station))) {
-        if (LOGGER.isTraceEnabled()) {
-          LOGGER.trace("FAILED: overlap with other subjective category: "
-              + otherCat);
-        }
-        return false;
+    if (!checkSubjFree(group, team, timeslot, getSubjectiveDuration(station))) {
+      if (LOGGER.isTraceEnabled()) {
+        LOGGER.trace("FAILED: overlap with other subjective category");
       }
+      return false;
     }
     if (!checkPerfFree(group, team, timeslot, getSubjectiveDuration(station))) {
       if (LOGGER.isTraceEnabled()) {
@@ -404,12 +524,11 @@ public class GreedySolver {
       return false;
     }
 
-    subjectiveScheduled[group][team][station] = true;
-    sz[group][team][station][timeslot] = true;
-    for (int slot = timeslot; slot < timeslot
-        + getSubjectiveDuration(station); ++slot) {
-      sy[group][team][station][slot] = true;
-    }
+    subjectiveStart[group][team][station] = timeslot;
+    final int end = timeslot
+        + getSubjectiveDuration(station);
+    teamSubjectiveBusy[group][team].set(timeslot, end);
+    stationBusy[group][station].set(timeslot, end);
 
     if (LOGGER.isTraceEnabled()) {
       LOGGER.trace("    SUCCESS");
@@ -423,17 +542,8 @@ public class GreedySolver {
   private boolean checkSubjStationNoOverlap(final int group,
                                             final int station,
                                             final int timeslot) {
-    for (final SchedTeam team : getAllTeams()) {
-      if (team.getGroup() == group) {
-        for (int slot = timeslot; slot < Math.min(getNumTimeslots(), timeslot
-            + getSubjectiveDuration(station)); ++slot) {
-          if (sy[group][team.getIndex()][station][slot]) {
-            return false;
-          }
-        }
-      }
-    }
-    return true;
+    return isFree(stationBusy[group][station], timeslot, timeslot
+        + getSubjectiveDuration(station));
   }
 
   /**
@@ -442,15 +552,27 @@ public class GreedySolver {
   private boolean checkPerfNoOverlap(final int table,
                                      final int side,
                                      final int timeslot) {
-    for (final SchedTeam team : getAllTeams()) {
-      for (int slot = timeslot; slot < Math.min(getNumTimeslots(), timeslot
-          + getPerformanceDuration()); ++slot) {
-        if (py[team.getGroup()][team.getIndex()][table][side][slot]) {
-          return false;
-        }
-      }
-    }
-    return true;
+    return isFree(tableBusy[table][side], timeslot, timeslot
+        + getPerformanceDuration());
+  }
+
+  /**
+   * Check that no bits are set in [begin, end). The interval is limited to the
+   * current number of timeslots.
+   *
+   * @param slots the occupied timeslots
+   * @param begin first timeslot to check, values less than zero are treated as
+   *          zero
+   * @param end one past the last timeslot to check
+   * @return true if no timeslots in the interval are occupied
+   */
+  private boolean isFree(final BitSet slots,
+                         final int begin,
+                         final int end) {
+    final int limit = Math.min(getNumTimeslots(), end);
+    final int next = slots.nextSetBit(Math.max(0, begin));
+    return next < 0
+        || next >= limit;
   }
 
   /**
@@ -488,32 +610,25 @@ public class GreedySolver {
           + timeslot);
     }
 
-    subjectiveScheduled[group][team][station] = false;
-    sz[group][team][station][timeslot] = false;
-    for (int slot = timeslot; slot < timeslot
-        + getSubjectiveDuration(station); ++slot) {
-      sy[group][team][station][slot] = false;
-    }
+    subjectiveStart[group][team][station] = -1;
+    final int end = timeslot
+        + getSubjectiveDuration(station);
+    teamSubjectiveBusy[group][team].clear(timeslot, end);
+    stationBusy[group][station].clear(timeslot, end);
   }
 
   /**
-   * Make sure that the station for a given team is available and there is
+   * Make sure that the given team isn't in any subjective station and there is
    * enough changetime.
    */
   private boolean checkSubjFree(final int group,
                                 final int team,
-                                final int station,
                                 final int timeslot,
                                 final int duration) {
-    for (int slot = Math.max(0, timeslot
-        - getChangetime()); slot < Math.min(getNumTimeslots(), timeslot
+    return isFree(teamSubjectiveBusy[group][team], timeslot
+        - getChangetime(), timeslot
             + duration
-            + getChangetime()); ++slot) {
-      if (sy[group][team][station][slot]) {
-        return false;
-      }
-    }
-    return true;
+            + getChangetime());
   }
 
   private final int changetime;
@@ -534,20 +649,10 @@ public class GreedySolver {
                                 final int duration) {
     // check [timeslot - changetime, timeslot + duration + changetime) for
     // conflicts
-    for (int slot = Math.max(0, timeslot
-        - getChangetime()); slot < Math.min(getNumTimeslots(), timeslot
+    return isFree(teamPerformanceBusy[group][team], timeslot
+        - getChangetime(), timeslot
             + duration
-            + getChangetime()); ++slot) {
-      for (int table = 0; table < solverParameters.getNumTables(); ++table) {
-        if (py[group][team][table][0][slot]) {
-          return false;
-        }
-        if (py[group][team][table][1][slot]) {
-          return false;
-        }
-      }
-    }
-    return true;
+            + getChangetime());
   }
 
   private boolean assignPerformance(final int group,
@@ -601,14 +706,11 @@ public class GreedySolver {
       }
       return false;
     }
-    for (int station = 0; station < getNumSubjectiveStations(); ++station) {
-      if (!checkSubjFree(group, team, station, timeslot, getPerformanceDuration())) {
-        if (LOGGER.isTraceEnabled()) {
-          LOGGER.trace("FAILED: overlap with subjective station: "
-              + station);
-        }
-        return false;
+    if (!checkSubjFree(group, team, timeslot, getPerformanceDuration())) {
+      if (LOGGER.isTraceEnabled()) {
+        LOGGER.trace("FAILED: overlap with subjective station");
       }
+      return false;
     }
     if (!checkPerfFree(group, team, timeslot, getPerformanceDuration())) {
       if (LOGGER.isTraceEnabled()) {
@@ -645,11 +747,11 @@ public class GreedySolver {
       }
 
       ++performanceScheduled[group][team];
-      pz[group][team][table][side][timeslot] = true;
-      for (int slot = timeslot; slot < timeslot
-          + getPerformanceDuration(); ++slot) {
-        py[group][team][table][side][slot] = true;
-      }
+      performanceStarts[group][team][table][side].set(timeslot);
+      final int end = timeslot
+          + getPerformanceDuration();
+      teamPerformanceBusy[group][team].set(timeslot, end);
+      tableBusy[table][side].set(timeslot, end);
 
       if (LOGGER.isTraceEnabled()) {
         LOGGER.trace("SUCCESS");
@@ -662,20 +764,10 @@ public class GreedySolver {
   private boolean checkPerfChangetime(final int group,
                                       final int team,
                                       final int timeslot) {
-    for (int slot = Math.max(0, timeslot
-        - getPerformanceChangetime()); slot < Math.min(getNumTimeslots(), timeslot
+    return isFree(teamPerformanceBusy[group][team], timeslot
+        - getPerformanceChangetime(), timeslot
             + getPerformanceChangetime()
-            + getPerformanceDuration()); ++slot) {
-      for (int table = 0; table < solverParameters.getNumTables(); ++table) {
-        if (py[group][team][table][0][slot]) {
-          return false;
-        }
-        if (py[group][team][table][1][slot]) {
-          return false;
-        }
-      }
-    }
-    return true;
+            + getPerformanceDuration());
   }
 
   private final int performanceChangetime;
@@ -707,11 +799,11 @@ public class GreedySolver {
     }
 
     --performanceScheduled[group][team];
-    pz[group][team][table][side][timeslot] = false;
-    for (int slot = timeslot; slot < timeslot
-        + getPerformanceDuration(); ++slot) {
-      py[group][team][table][side][slot] = false;
-    }
+    performanceStarts[group][team][table][side].clear(timeslot);
+    final int end = timeslot
+        + getPerformanceDuration();
+    teamPerformanceBusy[group][team].clear(timeslot, end);
+    tableBusy[table][side].clear(timeslot, end);
   }
 
   private final int performanceDuration;
@@ -928,12 +1020,20 @@ public class GreedySolver {
   private @Nullable SchedTeam findPrevTeamOnTable(final int timeslot,
                                                   final int table,
                                                   final int side) {
-    for (int slot = timeslot
-        - 1; slot >= 0; --slot) {
-      for (final SchedTeam team : getAllTeams()) {
-        if (py[team.getGroup()][team.getIndex()][table][side][slot]) {
-          return team;
-        }
+    final int slot = tableBusy[table][side].previousSetBit(timeslot
+        - 1);
+    if (slot < 0) {
+      return null;
+    }
+
+    // only one team can be on a table side at a time, find the team whose
+    // performance covers the slot
+    for (final SchedTeam team : getAllTeams()) {
+      final int start = performanceStarts[team.getGroup()][team.getIndex()][table][side].previousSetBit(slot);
+      if (start >= 0
+          && slot < start
+              + getPerformanceDuration()) {
+        return team;
       }
     }
     return null;
@@ -948,11 +1048,11 @@ public class GreedySolver {
     final List<SchedTeam> possibles = new LinkedList<>();
     for (final SchedTeam team : getAllTeams()) {
       if (team.getGroup() == group
-          && !subjectiveScheduled[team.getGroup()][team.getIndex()][station]) {
+          && !isSubjectiveScheduled(team, station)) {
         possibles.add(team);
       }
     }
-    Collections.sort(possibles, fewestAssignments);
+    Collections.sort(possibles, teamOrdering);
 
     if (!possibles.isEmpty()) {
       // if this is the first assignment to any station in this group, then only
@@ -963,7 +1063,7 @@ public class GreedySolver {
           && firstAssignment; ++s) {
         for (final SchedTeam team : getAllTeams()) {
           if (team.getGroup() == group) {
-            if (subjectiveScheduled[group][team.getIndex()][s]) {
+            if (isSubjectiveScheduled(team, s)) {
               firstAssignment = false;
             }
           }
@@ -1014,7 +1114,7 @@ public class GreedySolver {
         }
       }
     }
-    Collections.sort(possibles, fewestAssignments);
+    Collections.sort(possibles, teamOrdering);
     return possibles;
   }
 
@@ -1045,10 +1145,15 @@ public class GreedySolver {
     return false;
   }
 
+  private boolean isSubjectiveScheduled(final SchedTeam team,
+                                        final int station) {
+    return subjectiveStart[team.getGroup()][team.getIndex()][station] >= 0;
+  }
+
   private boolean subjectiveFinished() {
     for (final SchedTeam team : getAllTeams()) {
       for (int station = 0; station < getNumSubjectiveStations(); ++station) {
-        if (!subjectiveScheduled[team.getGroup()][team.getIndex()][station]) {
+        if (!isSubjectiveScheduled(team, station)) {
           return false;
         }
       }
@@ -1059,7 +1164,7 @@ public class GreedySolver {
   private boolean scheduleFinished() {
     for (final SchedTeam team : getAllTeams()) {
       for (int station = 0; station < getNumSubjectiveStations(); ++station) {
-        if (!subjectiveScheduled[team.getGroup()][team.getIndex()][station]) {
+        if (!isSubjectiveScheduled(team, station)) {
           return false;
         }
       }
@@ -1093,14 +1198,9 @@ public class GreedySolver {
    * @return the number of solutions found
    */
   public int solve(final @Nullable CheckCanceled checkCanceled) {
-    this.checkCanceled = checkCanceled;
+    search(checkCanceled);
 
-    try {
-      LOGGER.info("Starting solve");
-      scheduleNextStation();
-    } catch (final InterruptedException e) {
-      LOGGER.debug("Solver interrupted");
-    }
+    outputBestSchedule();
 
     if (solutionsFound < 1) {
       if (null != checkCanceled
@@ -1117,51 +1217,65 @@ public class GreedySolver {
     return solutionsFound;
   }
 
+  /**
+   * Run the search without writing out the best schedule.
+   *
+   * @param checkCanceled if non-null, used to check if the search should be
+   *          interrupted
+   * @return the number of solutions found
+   * @see #outputBestSchedule()
+   */
+  /* package */ int search(final @Nullable CheckCanceled checkCanceled) {
+    this.checkCanceled = checkCanceled;
+
+    try {
+      LOGGER.info("Starting solve");
+      scheduleNextStation();
+    } catch (final InterruptedException e) {
+      LOGGER.debug("Solver interrupted");
+    }
+    return solutionsFound;
+  }
+
+  /**
+   * @return the best objective found by this solver, null if no solution has
+   *         been found
+   */
+  /* package */ @Nullable ObjectiveValue getBestObjective() {
+    return bestObjective;
+  }
+
   /**
    * Get the number of warnings.
    *
-   * @param scheduleFile
+   * @param schedule the schedule to check
    * @return the number of warnings or -1 if there are hard violations
    */
-  private int getNumWarnings(final File scheduleFile) {
-    try {
-      final TournamentSchedule schedule = new TournamentSchedule(datafile.getName(),
-                                                                 CellFileReader.createCellReader(scheduleFile, null),
-                                                                 createColumnInformation());
-      final ScheduleChecker checker = new ScheduleChecker(this.solverParameters, schedule);
-      final List<ConstraintViolation> violations = checker.verifySchedule();
-      for (final ConstraintViolation violation : violations) {
-        if (ConstraintViolation.Type.HARD == violation.getType()) {
-          LOGGER.debug("Found hard constraint violations from autosched: "
-              + violation.getMessage());
-          return -1;
-        }
+  private int getNumWarnings(final TournamentSchedule schedule) {
+    final ScheduleChecker checker = new ScheduleChecker(this.solverParameters, schedule);
+    final List<ConstraintViolation> violations = checker.verifySchedule();
+    for (final ConstraintViolation violation : violations) {
+      if (ConstraintViolation.Type.HARD == violation.getType()) {
+        LOGGER.debug("Found hard constraint violations from autosched: "
+            + violation.getMessage());
+        return -1;
       }
-      return violations.size();
-    } catch (final IOException e) {
-      throw new FLLRuntimeException("Should not have an IOException trying to get warnings from CSV file", e);
-    } catch (final ParseException e) {
-      throw new FLLRuntimeException("Should not have a ParseException trying to get warnings from CSV file", e);
-    } catch (final ScheduleParseException e) {
-      throw new FLLRuntimeException("Should not have a ScheduleParseException trying to get warnings from CSV file", e);
-    } catch (final InvalidFormatException e) {
-      throw new FLLRuntimeException("Should not have an InvalidFormatException trying to get warnings from CSV file",
-                                    e);
     }
+    return violations.size();
   }
 
   /**
-   * @param scheduleFile
+   * @param schedule the schedule to compute the objective for
    * @return the objective value, null on failure
    */
-  private @Nullable ObjectiveValue computeObjectiveValue(final File scheduleFile) {
+  private @Nullable ObjectiveValue computeObjectiveValue(final TournamentSchedule schedule) {
     final int[] numTeams = new int[solverParameters.getNumGroups()];
     final int[] latestSubjectiveTime = new int[solverParameters.getNumGroups()];
     for (int group = 0; group < numTeams.length; ++group) {
-      numTeams[group] = subjectiveScheduled[group].length;
+      numTeams[group] = subjectiveStart[group].length;
       latestSubjectiveTime[group] = findLatestSubjectiveTime(group);
     }
-    final int numWarnings = getNumWarnings(scheduleFile);
+    final int numWarnings = getNumWarnings(schedule);
     if (numWarnings == -1) {
       return null;
     }
@@ -1172,17 +1286,13 @@ public class GreedySolver {
    * The slot that has the latest subjective time for a group of teams.
    */
   private int findLatestSubjectiveTime(final int group) {
-    for (int slot = getNumTimeslots()
-        - 1; slot >= 0; --slot) {
-      for (int station = 0; station < getNumSubjectiveStations(); ++station) {
-        for (final SchedTeam team : getAllTeams()) {
-          if (team.getGroup() == group) {
-            if (sy[team.getGroup()][team.getIndex()][station][slot]) {
-              return slot;
-            }
-          }
-        }
-      }
+    int latest = -1;
+    for (int station = 0; station < getNumSubjectiveStations(); ++station) {
+      latest = Math.max(latest, stationBusy[group][station].previousSetBit(getNumTimeslots()
+          - 1));
+    }
+    if (latest >= 0) {
+      return latest;
     }
     LOGGER.warn("Got to end of findLatestSubjectiveTime("
         + group
@@ -1194,19 +1304,16 @@ public class GreedySolver {
    * The slot that has the last performance time.
    */
   private int findLatestPerformanceTime() {
-    for (int slot = getNumTimeslots()
-        - 1; slot >= 0; --slot) {
-      for (int table = 0; table < solverParameters.getNumTables(); ++table) {
-        for (final SchedTeam team : getAllTeams()) {
-          if (py[team.getGroup()][team.getIndex()][table][0][slot]) {
-            return slot;
-          }
-          if (py[team.getGroup()][team.getIndex()][table][1][slot]) {
-            return slot;
-          }
-        }
+    int latest = -1;
+    for (int table = 0; table < solverParameters.getNumTables(); ++table) {
+      for (int side = 0; side < 2; ++side) {
+        latest = Math.max(latest, tableBusy[table][side].previousSetBit(getNumTimeslots()
+            - 1));
       }
     }
+    if (latest >= 0) {
+      return latest;
+    }
     LOGGER.warn("Got to end of findLatestPerformanceTime, this implies that nothing was scheduled");
     return 0;
   }
@@ -1222,7 +1329,7 @@ public class GreedySolver {
     }
 
     if (scheduleFinished()) {
-      if (outputCurrentSolution()) {
+      if (evaluateCurrentSolution()) {
         ++solutionsFound;
         LOGGER.info("Schedule finished num solutions: "
             + solutionsFound);
@@ -1417,27 +1524,19 @@ public class GreedySolver {
     return nextAvailableSubjSlot;
   }
 
-  private boolean outputCurrentSolution() {
-    final File scheduleFile = new File(Utilities.extractAbsoluteBasename(datafile)
-        + "-"
-        + solutionsFound
-        + ".csv");
-
-    try {
-      outputSchedule(scheduleFile);
-    } catch (final IOException ioe) {
-      throw new FLLRuntimeException("Error writing schedule", ioe);
-    }
-
-    LOGGER.info("Solution output to "
-        + scheduleFile.getAbsolutePath());
+  /**
+   * Check the current assignments and keep them if they are better than the
+   * best solution found so far. The check is done against an in-memory
+   * schedule, nothing is written to disk here.
+   *
+   * @return true if the current assignments are a valid solution
+   */
+  private boolean evaluateCurrentSolution() {
+    final TournamentSchedule schedule = createCurrentSchedule();
 
-    final ObjectiveValue objective = computeObjectiveValue(scheduleFile);
+    final ObjectiveValue objective = computeObjectiveValue(schedule);
     if (null == objective) {
       LOGGER.info("Objective is null, solution is not valid");
-      if (!scheduleFile.delete()) {
-        scheduleFile.deleteOnExit();
-      }
       return false;
     }
 
@@ -1445,13 +1544,11 @@ public class GreedySolver {
         || objective.compareTo(bestObjective) < 0) {
       LOGGER.info("Schedule provides a better objective value");
       bestObjective = objective;
+      bestSchedule = schedule;
+      bestSolutionNumber = solutionsFound;
 
-      if (null != mBestSchedule) {
-        if (!mBestSchedule.delete()) {
-          mBestSchedule.deleteOnExit();
-        }
-      }
-      mBestSchedule = scheduleFile;
+      // let the other solvers prune against this solution
+      sharedBound.offer(objective);
 
       // tighten down the constraints so that we find a better solution
       final int newNumTimeslots = objective.getLatestPerformanceTime()
@@ -1463,15 +1560,38 @@ public class GreedySolver {
             + newNumTimeslots);
       }
       numTimeslots = newNumTimeslots;
-    } else {
-      if (!scheduleFile.delete()) {
-        scheduleFile.deleteOnExit();
-      }
     }
 
     return true;
   }
 
+  /**
+   * Write {@link #bestSchedule} to disk and store the file in
+   * {@link #mBestSchedule}. Does nothing if no solution has been found.
+   */
+  /* package */ void outputBestSchedule() {
+    final TournamentSchedule schedule = bestSchedule;
+    if (null == schedule) {
+      return;
+    }
+
+    final File scheduleFile = new File(Utilities.extractAbsoluteBasename(datafile)
+        + "-"
+        + bestSolutionNumber
+        + ".csv");
+
+    try {
+      outputSchedule(schedule, scheduleFile);
+    } catch (final IOException ioe) {
+      throw new FLLRuntimeException("Error writing schedule", ioe);
+    }
+
+    LOGGER.info("Solution output to "
+        + scheduleFile.getAbsolutePath());
+
+    mBestSchedule = scheduleFile;
+  }
+
   /**
    * @return the number of subjective judging stations
    */
@@ -1492,64 +1612,95 @@ public class GreedySolver {
   private int numTimeslots;
 
   /**
-   * The number of timeslots available to schedule in.
+   * The number of timeslots available to schedule in. This is further limited
+   * by the best solution found by any solver sharing {@link #sharedBound}.
    */
   private int getNumTimeslots() {
-    return numTimeslots;
-  }
-
-  private TournamentSchedule.ColumnInformation createColumnInformation() {
-    final int numRounds = solverParameters.getNumPerformanceRounds();
-    final String[] perfColumn = new String[numRounds];
-    final String[] perfTableColumn = new String[numRounds];
-    for (int round = 0; round < numRounds; ++round) {
-      perfColumn[round] = String.format(TournamentSchedule.PERF_HEADER_FORMAT, round
-          + 1);
-      perfTableColumn[round] = String.format(TournamentSchedule.TABLE_HEADER_FORMAT, round
-          + 1);
-    }
-
-    // TODO 12/27/2021 JPS - This assumes that the subjective category names match
-    // the
-    // columns. There is a good chance this isn't going to be true and something
-    // smarter should be done using a challenge description
-    final Collection<CategoryColumnMapping> subjectiveColumnMappings = solverParameters.getSubjectiveStations().stream() //
-                                                                                       .map(s -> new CategoryColumnMapping(s.getName(),
-                                                                                                                           s.getName())) //
-                                                                                       .collect(Collectors.toList());
-
-    return new TournamentSchedule.ColumnInformation(0, createHeaderRow(), TournamentSchedule.TEAM_NUMBER_HEADER,
-                                                    TournamentSchedule.ORGANIZATION_HEADER,
-                                                    TournamentSchedule.TEAM_NAME_HEADER, null,
-                                                    TournamentSchedule.JUDGE_GROUP_HEADER,
-                                                    /* solver doesn't handle wave */null, subjectiveColumnMappings,
-                                                    perfColumn, perfTableColumn);
+    return Math.min(numTimeslots, sharedBound.getNumTimeslots());
   }
 
-  private String[] createHeaderRow() {
+  /**
+   * Convert the current assignments into a {@link TournamentSchedule}.
+   */
+  private TournamentSchedule createCurrentSchedule() {
     final List<SubjectiveStation> subjectiveStations = solverParameters.getSubjectiveStations();
 
-    final List<String> line = new ArrayList<>();
-    line.add(TournamentSchedule.TEAM_NUMBER_HEADER);
-    line.add(TournamentSchedule.TEAM_NAME_HEADER);
-    line.add(TournamentSchedule.ORGANIZATION_HEADER);
-    line.add(TournamentSchedule.JUDGE_GROUP_HEADER);
-    for (final SubjectiveStation station : subjectiveStations) {
-      line.add(station.getName());
-    }
-    for (int round = 0; round < solverParameters.getNumPerformanceRounds(); ++round) {
-      line.add(String.format(TournamentSchedule.PERF_HEADER_FORMAT, round
-          + 1));
-      line.add(String.format(TournamentSchedule.TABLE_HEADER_FORMAT, round
-          + 1));
-    }
-    return line.toArray(new String[line.size()]);
+    // output in index order even if the search shuffled the teams
+    final List<SchedTeam> sortedTeams = new ArrayList<>(getAllTeams());
+    sortedTeams.sort(LOWEST_TEAM_INDEX);
+
+    final List<TeamScheduleInfo> teamSchedules = new ArrayList<>(sortedTeams.size());
+    for (final SchedTeam team : sortedTeams) {
+      final int teamNum = (team.getGroup()
+          + 1)
+          * 100
+          + team.getIndex();
+      final TournamentTeam tournamentTeam = new TournamentTeam(teamNum, "Org "
+          + teamNum, "Team "
+              + teamNum, "", groupNames[team.getGroup()], "");
+      final TeamScheduleInfo ti = new TeamScheduleInfo(tournamentTeam);
+
+      for (int subj = 0; subj < subjectiveStations.size(); ++subj) {
+        final SubjectiveStation station = subjectiveStations.get(subj);
+
+        final int start = subjectiveStart[team.getGroup()][team.getIndex()][subj];
+        if (start < 0) {
+          throw new RuntimeException("Could not find a subjective start for group: "
+              + groupNames[team.getGroup()]
+              + " team: "
+              + (team.getIndex()
+                  + 1)
+              + " subj: "
+              + station.getName());
+        }
+        final LocalTime time = solverParameters.getStartTime().plusMinutes(start);
+        ti.addSubjectiveTime(new SubjectiveTime(station.getName(), time));
+      }
+
+      for (int table = 0; table < solverParameters.getNumTables(); ++table) {
+        final String tableName = String.format("Table%d", (table
+            + 1));
+        for (int side = 0; side < 2; ++side) {
+          final BitSet starts = performanceStarts[team.getGroup()][team.getIndex()][table][side];
+          for (int slot = starts.nextSetBit(0); slot >= 0; slot = starts.nextSetBit(slot
+              + 1)) {
+            final LocalTime time = solverParameters.getStartTime().plusMinutes(slot);
+            final int displayedSide = side
+                + 1;
+            ti.addPerformance(new PerformanceTime(time, tableName, displayedSide));
+          }
+        }
+      }
+      if (ti.getNumRegularMatchPlayRounds() != solverParameters.getNumPerformanceRounds()) {
+        throw new FLLRuntimeException("Expecting "
+            + solverParameters.getNumPerformanceRounds()
+            + " performance times, but found "
+            + ti.getNumRegularMatchPlayRounds()
+            + " group: "
+            + (team.getGroup()
+                + 1)
+            + " team: "
+            + (team.getIndex()
+                + 1)
+            + " perfs: "
+            + ti.getAllPerformances());
+      }
+
+      teamSchedules.add(ti);
+    }
+
+    final List<String> stationNames = subjectiveStations.stream().map(SubjectiveStation::getName)
+                                                        .collect(Collectors.toList());
+    return new TournamentSchedule(datafile.getName(), stationNames, solverParameters.getNumPerformanceRounds(),
+                                  teamSchedules);
   }
 
-  private void outputSchedule(final File schedule) throws IOException {
+  private void outputSchedule(final TournamentSchedule schedule,
+                              final File scheduleFile)
+      throws IOException {
     final List<SubjectiveStation> subjectiveStations = solverParameters.getSubjectiveStations();
 
-    try (ICSVWriter csv = Utilities.createCSVWriter(new OutputStreamWriter(new FileOutputStream(schedule),
+    try (ICSVWriter csv = Utilities.createCSVWriter(new OutputStreamWriter(new FileOutputStream(scheduleFile),
                                                                            Utilities.DEFAULT_CHARSET))) {
       final List<String> line = new ArrayList<>();
       line.add(TournamentSchedule.TEAM_NUMBER_HEADER);
@@ -1568,66 +1719,17 @@ public class GreedySolver {
       csv.writeNext(line.toArray(new String[line.size()]));
       line.clear();
 
-      for (final SchedTeam team : getAllTeams()) {
-        final int teamNum = (team.getGroup()
-            + 1)
-            * 100
-            + team.getIndex();
-        final int judgingGroup = team.getGroup();
-        line.add(String.valueOf(teamNum));
-        line.add("Team "
-            + teamNum);
-        line.add("Org "
-            + teamNum);
-        line.add(groupNames[judgingGroup]); // judging group
-        for (int subj = 0; subj < subjectiveStations.size(); ++subj) {
-          final SubjectiveStation station = subjectiveStations.get(subj);
-
-          final LocalTime time = getTime(sz[team.getGroup()][team.getIndex()][subj], 1);
-          if (null == time) {
-            throw new RuntimeException("Could not find a subjective start for group: "
-                + groupNames[team.getGroup()]
-                + " team: "
-                + (team.getIndex()
-                    + 1)
-                + " subj: "
-                + station.getName());
-          }
-          line.add(TournamentSchedule.formatTime(time));
+      for (final TeamScheduleInfo ti : schedule.getSchedule()) {
+        line.add(String.valueOf(ti.getTeamNumber()));
+        line.add(ti.getTeamName());
+        line.add(Utilities.stringValueOrEmpty(ti.getOrganization()));
+        line.add(ti.getJudgingGroup());
+        for (final SubjectiveStation station : subjectiveStations) {
+          final SubjectiveTime time = ti.getSubjectiveTimeByName(station.getName());
+          line.add(TournamentSchedule.formatTime(null == time ? null : time.getTime()));
         }
 
-        // find all performances for a team and then sort by time
-        final SortedSet<PerformanceTime> perfTimes = new TreeSet<>();
-        for (int round = 0; round < solverParameters.getNumPerformanceRounds(); ++round) {
-          for (int table = 0; table < solverParameters.getNumTables(); ++table) {
-            for (int side = 0; side < 2; ++side) {
-              final LocalTime time = getTime(pz[team.getGroup()][team.getIndex()][table][side], round
-                  + 1);
-              if (null != time) {
-                final String tableName = String.format("Table%d", (table
-                    + 1));
-                final int displayedSide = side
-                    + 1;
-                perfTimes.add(new PerformanceTime(time, tableName, displayedSide));
-              }
-            }
-          }
-        }
-        if (perfTimes.size() != solverParameters.getNumPerformanceRounds()) {
-          throw new FLLRuntimeException("Expecting "
-              + solverParameters.getNumPerformanceRounds()
-              + " performance times, but found "
-              + perfTimes.size()
-              + " group: "
-              + (team.getGroup()
-                  + 1)
-              + " team: "
-              + (team.getIndex()
-                  + 1)
-              + " perfs: "
-              + perfTimes);
-        }
-        for (final PerformanceTime perfTime : perfTimes) {
+        for (final PerformanceTime perfTime : ti.getAllPerformances()) {
           line.add(TournamentSchedule.formatTime(perfTime.getTime()));
           line.add(perfTime.getTable()
               + " "
@@ -1640,28 +1742,6 @@ public class GreedySolver {
     }
   }
 
-  /**
-   * Get the nth time from slot that is true.
-   *
-   * @param slots the slots to look in
-   * @param count which time to find, 1 based count
-   * @return the time or null if the time slot cannot be found
-   */
-  private @Nullable LocalTime getTime(final boolean[] slots,
-                                      final int count) {
-    int n = 0;
-    for (int i = 0; i < slots.length; ++i) {
-      if (slots[i]) {
-        ++n;
-        if (n == count) {
-          final LocalTime slotTime = solverParameters.getStartTime().plusMinutes(i);
-          return slotTime;
-        }
-      }
-    }
-    return null;
-  }
-
   /**
    * Check if the specified timeslot will overlap the subjective breaks.
    */
@@ -1747,10 +1827,10 @@ public class GreedySolver {
         int twoAssignments = 0;
 
         for (int station = 0; station < solver.getNumSubjectiveStations(); ++station) {
-          if (solver.subjectiveScheduled[one.getGroup()][one.getIndex()][station]) {
+          if (solver.isSubjectiveScheduled(one, station)) {
             ++oneAssignments;
           }
-          if (solver.subjectiveScheduled[two.getGroup()][two.getIndex()][station]) {
+          if (solver.isSubjectiveScheduled(two, station)) {
             ++twoAssignments;
           }
         }
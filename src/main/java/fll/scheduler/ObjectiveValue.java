@@ -15,8 +15,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * The objective value from a schedule. It is assumed that ObectiveValue objects
- * from the same solver be compared. Comparing ObjectiveValue objects across
- * solvers is undefined.
+ * from solvers using the same parameters are compared, see
+ * {@link ParallelGreedySolver}. Comparing ObjectiveValue objects across
+ * problems is undefined.
  */
 /* package */class ObjectiveValue implements Comparable<ObjectiveValue> {
 
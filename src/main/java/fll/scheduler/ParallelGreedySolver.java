@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.scheduler;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import fll.scheduler.GreedySolver.SearchVariant;
+import fll.scheduler.GreedySolver.TeamOrdering;
+import fll.scheduler.SchedParams.InvalidParametersException;
+import fll.util.CheckCanceled;
+import fll.util.FLLRuntimeException;
+
+/**
+ * Runs multiple {@link GreedySolver} instances on the same problem in parallel.
+ * Each solver explores the search space in a different order and all of them
+ * prune against the best solution found by any of them.
+ * When not optimizing, the first solution found stops all solvers.
+ */
+public class ParallelGreedySolver {
+
+  private static final org.apache.logging.log4j.Logger LOGGER = org.apache.logging.log4j.LogManager.getLogger();
+
+  private final List<GreedySolver> solvers;
+
+  private final boolean optimize;
+
+  private @Nullable File mBestSchedule = null;
+
+  /**
+   * @return File that contains the best schedule found, null until
+   *         {@link #solve(CheckCanceled)} has completed with a solution
+   */
+  public @Nullable File getBestSchedule() {
+    return mBestSchedule;
+  }
+
+  /**
+   * @return the parameters used by the solvers
+   */
+  public SolverParams getParameters() {
+    return solvers.get(0).getParameters();
+  }
+
+  /**
+   * @return the number of solvers to run by default, one per processor
+   */
+  public static int getDefaultNumSolvers() {
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * @param datafile the datafile for the schedule to solve
+   * @param optimize if true, find an optimal solution
+   * @param numSolvers the number of solvers to run in parallel, must be at
+   *          least 1
+   * @throws ParseException if there is an error parsing the data file
+   * @throws InvalidParametersException if the parameters are not valid
+   * @throws IOException if there is an error reading the file
+   */
+  public ParallelGreedySolver(final File datafile,
+                              final boolean optimize,
+                              final int numSolvers)
+      throws IOException, ParseException, InvalidParametersException {
+    if (numSolvers < 1) {
+      throw new IllegalArgumentException("Must have at least 1 solver, but got "
+          + numSolvers);
+    }
+    this.optimize = optimize;
+
+    final SharedObjectiveBound sharedBound = new SharedObjectiveBound();
+    solvers = new ArrayList<>(numSolvers);
+    for (int i = 0; i < numSolvers; ++i) {
+      solvers.add(new GreedySolver(datafile, optimize, createVariant(i), sharedBound));
+    }
+  }
+
+  /**
+   * The first solver does the same search as a single {@link GreedySolver} and
+   * the second orders the teams by index. The rest order the teams by fewest
+   * assignments, break ties with a shuffle seeded by the index and vary the
+   * subjective attempt offset. Ordering by index doesn't leave any ties, so a
+   * seed would not change that search.
+   *
+   * @param index the index of the solver
+   * @return how the solver explores the search space
+   */
+  /* package */ static SearchVariant createVariant(final int index) {
+    if (0 == index) {
+      return SearchVariant.DEFAULT;
+    } else if (1 == index) {
+      return new SearchVariant(TeamOrdering.LOWEST_TEAM_INDEX, 0, 0);
+    } else {
+      return new SearchVariant(TeamOrdering.FEWEST_ASSIGNMENTS, index
+          % 3, index);
+    }
+  }
+
+  /**
+   * @return the best objective found by any solver, null if no solution has
+   *         been found
+   */
+  /* package */ @Nullable ObjectiveValue getBestObjective() {
+    ObjectiveValue bestObjective = null;
+    for (final GreedySolver solver : solvers) {
+      final ObjectiveValue objective = solver.getBestObjective();
+      if (null != objective
+          && (null == bestObjective
+              || objective.compareTo(bestObjective) < 0)) {
+        bestObjective = objective;
+      }
+    }
+    return bestObjective;
+  }
+
+  /**
+   * Solve the problem.
+   *
+   * @param checkCanceled if non-null, used to check if the schedule should be
+   *          interrupted
+   * @return the number of solutions found by all solvers
+   */
+  public int solve(final @Nullable CheckCanceled checkCanceled) {
+    final AtomicBoolean solutionFound = new AtomicBoolean(false);
+    final CheckCanceled solverCanceled = () -> (!optimize
+        && solutionFound.get())
+        || (null != checkCanceled
+            && checkCanceled.isCanceled());
+
+    final List<Callable<Integer>> tasks = new ArrayList<>(solvers.size());
+    for (final GreedySolver solver : solvers) {
+      tasks.add(() -> {
+        final int found = solver.search(solverCanceled);
+        if (found > 0) {
+          solutionFound.set(true);
+        }
+        return found;
+      });
+    }
+
+    LOGGER.info("Starting {} solvers", solvers.size());
+
+    int solutionsFound = 0;
+    final ForkJoinPool pool = new ForkJoinPool(solvers.size());
+    try {
+      for (final Future<Integer> result : pool.invokeAll(tasks)) {
+        solutionsFound += result.get();
+      }
+    } catch (final InterruptedException e) {
+      LOGGER.debug("Parallel solver interrupted");
+      Thread.currentThread().interrupt();
+    } catch (final ExecutionException e) {
+      throw new FLLRuntimeException("Error running solver", e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+
+    GreedySolver bestSolver = null;
+    ObjectiveValue bestObjective = null;
+    for (final GreedySolver solver : solvers) {
+      final ObjectiveValue objective = solver.getBestObjective();
+      if (null != objective
+          && (null == bestObjective
+              || objective.compareTo(bestObjective) < 0)) {
+        bestObjective = objective;
+        bestSolver = solver;
+      }
+    }
+
+    if (null == bestSolver) {
+      if (null != checkCanceled
+          && checkCanceled.isCanceled()) {
+        LOGGER.info("Solver canceled before a solution was found");
+      } else {
+        LOGGER.info("Infeasible problem, no solutions found");
+      }
+    } else {
+      LOGGER.info("Found "
+          + solutionsFound
+          + " solutions");
+      bestSolver.outputBestSchedule();
+      mBestSchedule = bestSolver.getBestSchedule();
+    }
+
+    return solutionsFound;
+  }
+
+}
@@ -9,13 +9,16 @@ package fll.scheduler;
 import java.time.Duration;
 import java.time.LocalTime;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.SortedSet;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
 import javax.annotation.Nonnull;
@@ -25,6 +28,12 @@ import fll.util.FLLRuntimeException;
 
 /**
  * Check for violations in a schedule.
+ * {@link #verifySchedule()} checks the whole schedule on each call.
+ * When the schedule is modified through {@link #reassignTable(TeamScheduleInfo,
+ * LocalTime, PerformanceTime)}, {@link #verifyScheduleIncremental()} and
+ * {@link #countViolations()} only re-check the teams, times and tables touched
+ * since the previous call.
+ * This class is not thread safe.
  */
 public class ScheduleChecker {
 
@@ -32,6 +41,49 @@ public class ScheduleChecker {
 
   private final SchedParams params;
 
+  /**
+   * True once the incremental index has been built.
+   */
+  private boolean indexed = false;
+
+  /**
+   * team number -> violations found by
+   * {@link #verifyTeam(Collection, TeamScheduleInfo)}.
+   */
+  private final Map<Integer, List<ConstraintViolation>> teamViolations = new HashMap<>();
+
+  /**
+   * time -> violations for too many teams performing at the time.
+   */
+  private final Map<LocalTime, List<ConstraintViolation>> performanceAtTimeViolations = new HashMap<>();
+
+  /**
+   * time -> violations for too many teams on a table at the time.
+   */
+  private final Map<LocalTime, List<ConstraintViolation>> teamsAtTableViolations = new HashMap<>();
+
+  /**
+   * table side -> performance start time -> number of teams starting at that
+   * time.
+   */
+  private final Map<String, SortedMap<LocalTime, Integer>> tableIndex = new HashMap<>();
+
+  /**
+   * table side -> overlap violations.
+   */
+  private final Map<String, List<ConstraintViolation>> tableOverlapViolations = new HashMap<>();
+
+  /**
+   * Subjective violations. These are not affected by table reassignments.
+   */
+  private final List<ConstraintViolation> subjectiveViolations = new LinkedList<>();
+
+  private final Set<Integer> dirtyTeams = new HashSet<>();
+
+  private final Set<LocalTime> dirtyTimes = new HashSet<>();
+
+  private final Set<String> dirtyTables = new HashSet<>();
+
   /**
    * Initialize a scheduler checker.
    *
@@ -46,19 +98,24 @@ public class ScheduleChecker {
 
   private void verifyNumTeamsAtTable(final Collection<ConstraintViolation> violations) {
     for (final Map.Entry<LocalTime, Map<String, List<TeamScheduleInfo>>> dateEntry : schedule.getMatches().entrySet()) {
-      for (final Map.Entry<String, List<TeamScheduleInfo>> timeEntry : dateEntry.getValue().entrySet()) {
-        final List<TeamScheduleInfo> tableMatches = timeEntry.getValue();
-        if (tableMatches.size() > 2) {
-          final List<Integer> teams = new LinkedList<>();
-          for (final TeamScheduleInfo team : tableMatches) {
-            teams.add(team.getTeamNumber());
-          }
-          final String message = String.format("Too many teams competing on table: %s at time: %s. Teams: %s",
-                                               timeEntry.getKey(), TournamentSchedule.formatTime(dateEntry.getKey()),
-                                               teams);
-          violations.add(new ConstraintViolation(ConstraintViolation.Type.HARD, Team.NULL_TEAM_NUMBER, null, null, null,
-                                                 message));
+      verifyNumTeamsAtTable(violations, dateEntry.getKey(), dateEntry.getValue());
+    }
+  }
+
+  private void verifyNumTeamsAtTable(final Collection<ConstraintViolation> violations,
+                                     final LocalTime time,
+                                     final Map<String, List<TeamScheduleInfo>> tables) {
+    for (final Map.Entry<String, List<TeamScheduleInfo>> timeEntry : tables.entrySet()) {
+      final List<TeamScheduleInfo> tableMatches = timeEntry.getValue();
+      if (tableMatches.size() > 2) {
+        final List<Integer> teams = new LinkedList<>();
+        for (final TeamScheduleInfo team : tableMatches) {
+          teams.add(team.getTeamNumber());
         }
+        final String message = String.format("Too many teams competing on table: %s at time: %s. Teams: %s",
+                                             timeEntry.getKey(), TournamentSchedule.formatTime(time), teams);
+        violations.add(new ConstraintViolation(ConstraintViolation.Type.HARD, Team.NULL_TEAM_NUMBER, null, null, null,
+                                               message));
       }
     }
   }
@@ -84,13 +141,19 @@ public class ScheduleChecker {
     }
 
     for (final Map.Entry<LocalTime, Set<TeamScheduleInfo>> entry : teamsAtTime.entrySet()) {
-      if (entry.getValue().size() > schedule.getTableColors().size()
-          * 2) {
-        final String message = String.format("There are too many teams in performance at %s",
-                                             TournamentSchedule.formatTime(entry.getKey()));
-        violations.add(new ConstraintViolation(ConstraintViolation.Type.HARD, Team.NULL_TEAM_NUMBER, null, null, null,
-                                               message));
-      }
+      verifyPerformanceAtTime(violations, entry.getKey(), entry.getValue().size());
+    }
+  }
+
+  private void verifyPerformanceAtTime(final Collection<ConstraintViolation> violations,
+                                       final LocalTime time,
+                                       final int numTeams) {
+    if (numTeams > schedule.getTableColors().size()
+        * 2) {
+      final String message = String.format("There are too many teams in performance at %s",
+                                           TournamentSchedule.formatTime(time));
+      violations.add(new ConstraintViolation(ConstraintViolation.Type.HARD, Team.NULL_TEAM_NUMBER, null, null, null,
+                                             message));
     }
   }
 
@@ -381,18 +444,199 @@ public class ScheduleChecker {
     verifyPerformanceAtTime(constraintViolations);
     verifyNumTeamsAtTable(constraintViolations);
     verifySubjectiveAtTime(constraintViolations);
-    verifyNoOverlap(constraintViolations);
+    verifyNoSubjectiveOverlap(constraintViolations);
+    verifyNoTableOverlap(constraintViolations);
 
     return constraintViolations;
   }
 
   /**
-   * Make sure that there are no overlaps in times at each scheduling location.
+   * Verify the schedule, only re-checking what has changed through
+   * {@link #reassignTable(TeamScheduleInfo, LocalTime, PerformanceTime)} since
+   * the last call. The first call checks the whole schedule and builds the
+   * index.
+   * The result contains the same violations as {@link #verifySchedule()}.
    *
-   * @param constraintViolations
+   * @return the constraint violations found, empty if no violations
    */
-  private void verifyNoOverlap(final List<ConstraintViolation> violations) {
-    final Map<String, SortedSet<LocalTime>> tableToTime = new HashMap<>();
+  public List<ConstraintViolation> verifyScheduleIncremental() {
+    updateIndex();
+
+    final List<ConstraintViolation> constraintViolations = new LinkedList<>();
+    for (final TeamScheduleInfo si : schedule.getSchedule()) {
+      constraintViolations.addAll(teamViolations.getOrDefault(si.getTeamNumber(), Collections.emptyList()));
+    }
+    performanceAtTimeViolations.values().forEach(constraintViolations::addAll);
+    teamsAtTableViolations.values().forEach(constraintViolations::addAll);
+    constraintViolations.addAll(subjectiveViolations);
+    tableOverlapViolations.values().forEach(constraintViolations::addAll);
+
+    return constraintViolations;
+  }
+
+  /**
+   * Same as the size of {@link #verifyScheduleIncremental()} without building
+   * the list of violations.
+   *
+   * @return the number of constraint violations in the schedule
+   */
+  public int countViolations() {
+    updateIndex();
+
+    int count = subjectiveViolations.size();
+    for (final List<ConstraintViolation> violations : teamViolations.values()) {
+      count += violations.size();
+    }
+    for (final List<ConstraintViolation> violations : performanceAtTimeViolations.values()) {
+      count += violations.size();
+    }
+    for (final List<ConstraintViolation> violations : teamsAtTableViolations.values()) {
+      count += violations.size();
+    }
+    for (final List<ConstraintViolation> violations : tableOverlapViolations.values()) {
+      count += violations.size();
+    }
+    return count;
+  }
+
+  /**
+   * Move a team to a different table and/or time, see
+   * {@link TournamentSchedule#reassignTable(TeamScheduleInfo, LocalTime, PerformanceTime)}.
+   * Schedule changes that need to be seen by
+   * {@link #verifyScheduleIncremental()} must be made through this method.
+   *
+   * @param si the team to rescheduled
+   * @param oldTime the old time that the team was scheduled at
+   * @param perfTime the new performance information
+   */
+  public void reassignTable(final TeamScheduleInfo si,
+                            final LocalTime oldTime,
+                            final PerformanceTime perfTime) {
+    if (!indexed) {
+      schedule.reassignTable(si, oldTime, perfTime);
+      return;
+    }
+
+    final PerformanceTime oldPerformance = si.getPerformanceAtTime(oldTime);
+    if (null == oldPerformance) {
+      throw new IllegalArgumentException("Team "
+          + si.getTeamNumber()
+          + " does not have a performance at "
+          + oldTime);
+    }
+
+    // the opponents of the teams at both times may change
+    markTimeDirty(oldTime);
+    markTimeDirty(perfTime.getTime());
+
+    schedule.reassignTable(si, oldTime, perfTime);
+
+    markTimeDirty(oldTime);
+    markTimeDirty(perfTime.getTime());
+
+    removeFromTableIndex(oldPerformance);
+    addToTableIndex(perfTime);
+  }
+
+  private void markTimeDirty(final LocalTime time) {
+    dirtyTimes.add(time);
+    final Map<String, List<TeamScheduleInfo>> tables = schedule.getMatches().get(time);
+    if (null != tables) {
+      for (final List<TeamScheduleInfo> tableMatches : tables.values()) {
+        for (final TeamScheduleInfo si : tableMatches) {
+          dirtyTeams.add(si.getTeamNumber());
+        }
+      }
+    }
+  }
+
+  private static String getTableKey(final PerformanceTime performance) {
+    return performance.getTable()
+        + " "
+        + performance.getSide();
+  }
+
+  private void addToTableIndex(final PerformanceTime performance) {
+    final String tableKey = getTableKey(performance);
+    tableIndex.computeIfAbsent(tableKey, k -> new TreeMap<>()).merge(performance.getTime(), 1, Integer::sum);
+    dirtyTables.add(tableKey);
+  }
+
+  private void removeFromTableIndex(final PerformanceTime performance) {
+    final String tableKey = getTableKey(performance);
+    final SortedMap<LocalTime, Integer> times = tableIndex.get(tableKey);
+    if (null != times) {
+      final int count = times.getOrDefault(performance.getTime(), 0);
+      if (count <= 1) {
+        times.remove(performance.getTime());
+      } else {
+        times.put(performance.getTime(), count
+            - 1);
+      }
+    }
+    dirtyTables.add(tableKey);
+  }
+
+  /**
+   * Build the index if needed and re-check everything that is dirty.
+   */
+  private void updateIndex() {
+    if (!indexed) {
+      for (final TeamScheduleInfo si : schedule.getSchedule()) {
+        dirtyTeams.add(si.getTeamNumber());
+        for (final PerformanceTime performance : si.getAllPerformances()) {
+          addToTableIndex(performance);
+        }
+      }
+      dirtyTimes.addAll(schedule.getMatches().keySet());
+
+      verifySubjectiveAtTime(subjectiveViolations);
+      verifyNoSubjectiveOverlap(subjectiveViolations);
+
+      indexed = true;
+    }
+
+    for (final int teamNumber : dirtyTeams) {
+      final TeamScheduleInfo si = schedule.getSchedInfoForTeam(teamNumber);
+      if (null == si) {
+        teamViolations.remove(teamNumber);
+      } else {
+        final List<ConstraintViolation> violations = new LinkedList<>();
+        verifyTeam(violations, si);
+        teamViolations.put(teamNumber, violations);
+      }
+    }
+    dirtyTeams.clear();
+
+    for (final LocalTime time : dirtyTimes) {
+      final Map<String, List<TeamScheduleInfo>> tables = schedule.getMatches().getOrDefault(time,
+                                                                                            Collections.emptyMap());
+      final Set<TeamScheduleInfo> teams = new HashSet<>();
+      tables.values().forEach(teams::addAll);
+
+      final List<ConstraintViolation> performanceViolations = new LinkedList<>();
+      verifyPerformanceAtTime(performanceViolations, time, teams.size());
+      performanceAtTimeViolations.put(time, performanceViolations);
+
+      final List<ConstraintViolation> tableViolations = new LinkedList<>();
+      verifyNumTeamsAtTable(tableViolations, time, tables);
+      teamsAtTableViolations.put(time, tableViolations);
+    }
+    dirtyTimes.clear();
+
+    for (final String tableKey : dirtyTables) {
+      final List<ConstraintViolation> violations = new LinkedList<>();
+      verifyNoTableOverlap(violations, tableKey,
+                           tableIndex.getOrDefault(tableKey, Collections.emptySortedMap()).keySet());
+      tableOverlapViolations.put(tableKey, violations);
+    }
+    dirtyTables.clear();
+  }
+
+  /**
+   * Make sure that there are no overlaps in times for each subjective judge.
+   */
+  private void verifyNoSubjectiveOverlap(final Collection<ConstraintViolation> violations) {
     // category -> judge -> times
     final Map<String, Map<String, SortedSet<LocalTime>>> subjectiveToTime = new HashMap<>();
     for (final TeamScheduleInfo si : schedule.getSchedule()) {
@@ -410,21 +654,6 @@ public class ScheduleChecker {
         }
         times.add(subj.getTime());
       }
-
-      for (final PerformanceTime performanceTime : si.getAllPerformances()) {
-
-        final String table = performanceTime.getTable();
-        final int side = performanceTime.getSide();
-        final String tableKey = table
-            + " "
-            + side;
-        SortedSet<LocalTime> performance = tableToTime.get(tableKey);
-        if (null == performance) {
-          performance = new TreeSet<>();
-          tableToTime.put(tableKey, performance);
-        }
-        performance.add(performanceTime.getTime());
-      }
     }
 
     // find violations
@@ -450,24 +679,52 @@ public class ScheduleChecker {
         }
       }
     }
+  }
 
-    for (final Map.Entry<String, SortedSet<LocalTime>> entry : tableToTime.entrySet()) {
-      LocalTime prev = null;
-      for (final LocalTime current : entry.getValue()) {
-        if (null != prev) {
-          if (prev.plus(getPerformanceDuration()).isAfter(current)) {
-            final String message = String.format("Overlap in performance for table %s between %s and %s",
-                                                 entry.getKey(), TournamentSchedule.formatTime(prev),
-                                                 TournamentSchedule.formatTime(current));
-            violations.add(new ConstraintViolation(ConstraintViolation.Type.HARD, Team.NULL_TEAM_NUMBER, null, null,
-                                                   prev, message));
-          }
+  /**
+   * Make sure that there are no overlaps in times at each table side.
+   */
+  private void verifyNoTableOverlap(final Collection<ConstraintViolation> violations) {
+    final Map<String, SortedSet<LocalTime>> tableToTime = new HashMap<>();
+    for (final TeamScheduleInfo si : schedule.getSchedule()) {
+      for (final PerformanceTime performanceTime : si.getAllPerformances()) {
+        final String tableKey = getTableKey(performanceTime);
+        SortedSet<LocalTime> performance = tableToTime.get(tableKey);
+        if (null == performance) {
+          performance = new TreeSet<>();
+          tableToTime.put(tableKey, performance);
         }
-
-        prev = current;
+        performance.add(performanceTime.getTime());
       }
     }
 
+    for (final Map.Entry<String, SortedSet<LocalTime>> entry : tableToTime.entrySet()) {
+      verifyNoTableOverlap(violations, entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * @param tableKey the table side being checked
+   * @param times the performance start times at the table side in ascending
+   *          order
+   */
+  private void verifyNoTableOverlap(final Collection<ConstraintViolation> violations,
+                                    final String tableKey,
+                                    final Collection<LocalTime> times) {
+    LocalTime prev = null;
+    for (final LocalTime current : times) {
+      if (null != prev) {
+        if (prev.plus(getPerformanceDuration()).isAfter(current)) {
+          final String message = String.format("Overlap in performance for table %s between %s and %s", tableKey,
+                                               TournamentSchedule.formatTime(prev),
+                                               TournamentSchedule.formatTime(current));
+          violations.add(new ConstraintViolation(ConstraintViolation.Type.HARD, Team.NULL_TEAM_NUMBER, null, null,
+                                                 prev, message));
+        }
+      }
+
+      prev = current;
+    }
   }
 
   /**
@@ -33,7 +33,6 @@ import javax.xml.transform.TransformerException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -80,9 +79,7 @@ public final class ScheduleWriter {
       throws IOException {
     try {
       final Document performanceDoc = createScheduleByTeam(runMetadataFactory, schedule);
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-      FOPUtils.renderPdf(fopFactory, performanceDoc, stream);
+      FOPUtils.renderPdf(performanceDoc, stream);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the overall team schedule PDF", e);
     }
@@ -101,9 +98,8 @@ public final class ScheduleWriter {
                                                  final OutputStream stream)
       throws IOException {
     final Document performanceDoc = createScheduleByWaveAndTeam(tournamentData, schedule);
-    final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
     try {
-      FOPUtils.renderPdf(fopFactory, performanceDoc, stream);
+      FOPUtils.renderPdf(performanceDoc, stream);
     } catch (FOPException | TransformerException e) {
       try (StringWriter writer = new StringWriter()) {
         XMLUtils.writeXML(performanceDoc, writer);
@@ -705,9 +701,7 @@ public final class ScheduleWriter {
                                                                                            tournamentData.getCurrentTournament());
       final Document performanceDoc = createPerformanceSchedule(tournamentData.getRunMetadataFactory(), tables,
                                                                 schedule);
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-      FOPUtils.renderPdf(fopFactory, performanceDoc, pdfFos);
+      FOPUtils.renderPdf(performanceDoc, pdfFos);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the performance schedule PDF", e);
     }
@@ -731,9 +725,7 @@ public final class ScheduleWriter {
     try {
       final Document performanceDoc = createPerformanceSchedulePerTable(connection, tournamentData, schedule, true,
                                                                         false);
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-      FOPUtils.renderPdf(fopFactory, performanceDoc, pdfFos);
+      FOPUtils.renderPdf(performanceDoc, pdfFos);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the performance schedule PDF", e);
     }
@@ -760,9 +752,7 @@ public final class ScheduleWriter {
     try {
       final Document performanceDoc = createPerformanceSchedulePerTable(connection, tournamentData, schedule, false,
                                                                         true);
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-      FOPUtils.renderPdf(fopFactory, performanceDoc, pdfFos);
+      FOPUtils.renderPdf(performanceDoc, pdfFos);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the performance schedule PDF", e);
     }
@@ -1145,9 +1135,7 @@ public final class ScheduleWriter {
     try {
       final Document document = createTeamSchedules(runMetadataFactory, schedule);
 
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-      FOPUtils.renderPdf(fopFactory, document, stream);
+      FOPUtils.renderPdf(document, stream);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the teamschedules PDF", e);
     }
@@ -1187,9 +1175,7 @@ public final class ScheduleWriter {
     try {
       final Document document = createTeamSchedule(runMetadataFactory, schedule, teamNumber);
 
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-      FOPUtils.renderPdf(fopFactory, document, stream);
+      FOPUtils.renderPdf(document, stream);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the team schedule PDF", e);
     }
@@ -1350,9 +1336,7 @@ public final class ScheduleWriter {
       throws IOException {
     try {
       final Document performanceDoc = createSubjectiveSchedulesByCategory(schedule);
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-      FOPUtils.renderPdf(fopFactory, performanceDoc, pdfFos);
+      FOPUtils.renderPdf(performanceDoc, pdfFos);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the performance schedule PDF", e);
     }
@@ -1511,9 +1495,7 @@ public final class ScheduleWriter {
       throws IOException {
     try {
       final Document performanceDoc = createSubjectiveSchedulesByTimeOnly(schedule);
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-      FOPUtils.renderPdf(fopFactory, performanceDoc, stream);
+      FOPUtils.renderPdf(performanceDoc, stream);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the subjective schedule by time PDF", e);
     }
@@ -1668,9 +1650,7 @@ public final class ScheduleWriter {
       throws IOException {
     try {
       final Document document = createSubjectiveSchedulesByJudgingStation(schedule);
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-      FOPUtils.renderPdf(fopFactory, document, pdfFos);
+      FOPUtils.renderPdf(document, pdfFos);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the subjective schedule by judging station PDF", e);
     }
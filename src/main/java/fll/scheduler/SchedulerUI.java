@@ -550,10 +550,10 @@ public class SchedulerUI extends JFrame {
   }
 
   private final class SchedulerWorker extends SwingWorker<Integer, Void> {
-    private final GreedySolver solver;
+    private final ParallelGreedySolver solver;
 
     SchedulerWorker(final File descriptionFile) throws IOException, ParseException, InvalidParametersException {
-      this.solver = new GreedySolver(descriptionFile, false);
+      this.solver = new ParallelGreedySolver(descriptionFile, false, ParallelGreedySolver.getDefaultNumSolvers());
     }
 
     @Override
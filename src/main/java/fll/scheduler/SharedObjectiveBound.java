@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.scheduler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The best objective found by any of the {@link GreedySolver} instances working
+ * on the same problem. Each solver limits its search to the number of
+ * timeslots needed to beat this value.
+ */
+/* package */ final class SharedObjectiveBound {
+
+  private final AtomicReference<@Nullable ObjectiveValue> best = new AtomicReference<>(null);
+
+  private final AtomicInteger numTimeslots = new AtomicInteger(Integer.MAX_VALUE);
+
+  /**
+   * Record a new solution if it is better than the current best.
+   *
+   * @param objective the objective value of a solution
+   * @return true if the objective is the new best
+   */
+  public boolean offer(final ObjectiveValue objective) {
+    while (true) {
+      final ObjectiveValue current = best.get();
+      if (null != current
+          && objective.compareTo(current) >= 0) {
+        return false;
+      }
+      if (best.compareAndSet(current, objective)) {
+        numTimeslots.accumulateAndGet(objective.getLatestPerformanceTime()
+            + 1, Math::min);
+        return true;
+      }
+    }
+  }
+
+  /**
+   * @return the best objective found so far, null if no solution has been found
+   */
+  public @Nullable ObjectiveValue getBest() {
+    return best.get();
+  }
+
+  /**
+   * @return the number of timeslots that a solution must fit in to be better
+   *         than the best solution, {@link Integer#MAX_VALUE} if no solution has
+   *         been found
+   */
+  public int getNumTimeslots() {
+    return numTimeslots.get();
+  }
+
+}
@@ -10,18 +10,27 @@ import java.io.File;
 import java.io.IOException;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNull;
+
 import fll.Utilities;
 import fll.util.CheckCanceled;
 import fll.util.FLLInternalException;
@@ -43,9 +52,12 @@ public class TableOptimizer {
 
   private @Nullable File mBestScheduleOutputFile = null;
 
-  private Map<PerformanceTime, TeamScheduleInfo> bestPermutation = Collections.emptyMap();
+  private final SchedParams params;
 
-  private int bestScore;
+  /**
+   * Number of threads used to search table orderings.
+   */
+  private final int numThreads;
 
   /**
    * List of table colors from the schedule. Each list inside the list is a
@@ -75,10 +87,11 @@ public class TableOptimizer {
    * Compute score for the current schedule. The lowest score is best.
    */
   private int computeScheduleScore() {
-    final int numWarnings = checker.verifySchedule().size();
-
-    final int tableUseScore = computeTableUseScore();
+    return computeScore(checker.countViolations(), computeTableUseScore());
+  }
 
+  private static int computeScore(final int numWarnings,
+                                  final int tableUseScore) {
     // warnings is most important, then table use
     return numWarnings
         * 1000
@@ -93,23 +106,34 @@ public class TableOptimizer {
    * @return score, lower is better
    */
   private int computeTableUseScore() {
+    return computeTableUseScore(computeTableUse(null));
+  }
+
+  /**
+   * Count the number of times each table is used.
+   *
+   * @param skipTime if not null, performances at this time are not counted
+   * @return key=table color, value=number of performances
+   */
+  private Map<String, Integer> computeTableUse(final @Nullable LocalTime skipTime) {
     final Map<String, Integer> tableUse = new HashMap<>();
 
     for (final TeamScheduleInfo ti : this.schedule.getSchedule()) {
 
-      ti.allPerformances().forEach(performance -> {
+      ti.allPerformances().filter(performance -> !performance.getTime().equals(skipTime)).forEach(performance -> {
         final String tableColor = performance.getTable();
-        int count;
-        if (tableUse.containsKey(tableColor)) {
-          count = tableUse.get(tableColor);
-        } else {
-          count = 0;
-        }
-        ++count;
-        tableUse.put(tableColor, count);
+        tableUse.merge(tableColor, 1, Integer::sum);
       });
     } // foreach team
 
+    return tableUse;
+  }
+
+  /**
+   * @param tableUse see {@link #computeTableUse(LocalTime)}
+   * @return see {@link #computeTableUseScore()}
+   */
+  private static int computeTableUseScore(final Map<String, Integer> tableUse) {
     int minUse = Integer.MAX_VALUE;
     int maxUse = 0;
     for (final Map.Entry<String, Integer> entry : tableUse.entrySet()) {
@@ -125,247 +149,323 @@ public class TableOptimizer {
     }
   }
 
-  /**
-   * Get the current table assignments for the specified time so that
-   * they can be re-applied if needed.
-   *
-   * @return key=table info, value=team number
-   */
-  private Map<PerformanceTime, TeamScheduleInfo> getCurrentTableAssignments(final LocalTime time) {
-    final Map<PerformanceTime, TeamScheduleInfo> assignments = new HashMap<>();
-
-    for (final TeamScheduleInfo si : this.schedule.getSchedule()) {
-      si.allPerformances().filter(pt -> pt.getTime().equals(time)).forEach(pt -> assignments.put(pt, si));
-    }
-
-    return assignments;
-  }
-
   /**
    * Compute the best table ordering for a set of teams at the
    * specified time.
+   * The possible orderings are generated lazily and split across multiple
+   * {@link SearchWorker}s, each working on its own copy of the schedule. If a
+   * better ordering is found it is applied to the schedule and written out.
    *
+   * @param teamsAtTime the teams performing at the specified time
+   * @param time the time to optimize
+   * @param tables the tables to assign the teams to
    * @param checkCanceled check if the optimization should finish
    *          early
    */
-  private void computeBestTableOrdering(final Map<TeamScheduleInfo, PerformanceTime> originalValues,
+  private void computeBestTableOrdering(final Collection<TeamScheduleInfo> teamsAtTime,
                                         final LocalTime time,
                                         final List<String> tables,
                                         final CheckCanceled checkCanceled) {
-    if (originalValues.isEmpty()) {
+    if (teamsAtTime.isEmpty()) {
       throw new IllegalArgumentException("Must have some teams to check");
     }
 
-    if (bestPermutation.isEmpty()) {
-      bestPermutation = getCurrentTableAssignments(time);
-      bestScore = computeScheduleScore();
-    }
+    // sort so that the search order doesn't depend on hashing
+    final List<TeamScheduleInfo> teams = new ArrayList<>(teamsAtTime);
+    teams.sort(Comparator.comparingInt(TeamScheduleInfo::getTeamNumber));
 
-    final List<Map<PerformanceTime, TeamScheduleInfo>> possibleValues = computePossibleValues(originalValues, time,
-                                                                                              tables);
-    for (final Map<PerformanceTime, TeamScheduleInfo> possibleValue : possibleValues) {
-      if (checkCanceled.isCanceled()) {
-        // user interrupt
-        break;
-      }
+    final int numSlots = tables.size()
+        * 2;
+    if (teams.size() > numSlots) {
+      LOGGER.warn("Skipping {}, there are {} teams and only {} table sides", TournamentSchedule.formatTime(time),
+                  teams.size(), numSlots);
+      return;
+    }
 
-      applyPerformanceOrdering(possibleValue);
+    final int currentScore = computeScheduleScore();
+    if (0 == currentScore) {
+      return;
+    }
 
-      // check for better value
-      final int score = computeScheduleScore();
-      if (score < bestScore) {
-        try {
-          final File outputFile = new File(basedir, String.format("%s-opt-%d.csv", schedule.getName(), numSolutions));
-          LOGGER.info(String.format("Found better schedule (%d -> %d), writing to: %s", bestScore, score,
-                                    outputFile.getAbsolutePath()));
-          schedule.writeToCSV(outputFile);
+    final Map<String, Integer> baseTableUse = computeTableUse(time);
+    final AtomicInteger nextBranch = new AtomicInteger(0);
+    final AtomicBoolean perfectFound = new AtomicBoolean(false);
+    final int numWorkers = Math.max(1, Math.min(numThreads, numSlots));
 
-          ++numSolutions;
+    final List<Callable<@Nullable Candidate>> tasks = new ArrayList<>(numWorkers);
+    for (int i = 0; i < numWorkers; ++i) {
+      final SearchWorker worker = new SearchWorker(teams, time, tables, baseTableUse);
+      tasks.add(() -> worker.search(nextBranch, perfectFound, checkCanceled));
+    }
 
-          if (null != mBestScheduleOutputFile) {
-            if (!mBestScheduleOutputFile.delete()) {
-              mBestScheduleOutputFile.deleteOnExit();
-            }
-          }
-          mBestScheduleOutputFile = outputFile;
-        } catch (final IOException e) {
-          throw new RuntimeException(e);
+    final List<@Nullable Candidate> results = new ArrayList<>(numWorkers);
+    if (1 == numWorkers) {
+      try {
+        results.add(tasks.get(0).call());
+      } catch (final Exception e) {
+        throw new FLLRuntimeException("Error computing table orderings", e);
+      }
+    } else {
+      final ForkJoinPool pool = new ForkJoinPool(numWorkers);
+      try {
+        for (final Future<@Nullable Candidate> result : pool.invokeAll(tasks)) {
+          results.add(result.get());
         }
+      } catch (final InterruptedException e) {
+        LOGGER.debug("Table optimizer interrupted");
+        Thread.currentThread().interrupt();
+        return;
+      } catch (final ExecutionException e) {
+        throw new FLLRuntimeException("Error computing table orderings", e.getCause());
+      } finally {
+        pool.shutdownNow();
+      }
+    }
+
+    Candidate best = null;
+    for (final Candidate candidate : results) {
+      if (null != candidate
+          && (null == best
+              || candidate.compareTo(best) < 0)) {
+        best = candidate;
+      }
+    }
+
+    if (null != best
+        && best.score() < currentScore) {
+      for (int i = 0; i < teams.size(); ++i) {
+        // go through the checker so that only the teams at this time are
+        // checked again
+        checker.reassignTable(teams.get(i), time, createPerformanceTime(time, tables, best.slots()[i]));
+      }
 
-        bestPermutation = possibleValue;
-        bestScore = score;
+      try {
+        final File outputFile = new File(basedir, String.format("%s-opt-%d.csv", schedule.getName(), numSolutions));
+        LOGGER.info(String.format("Found better schedule (%d -> %d), writing to: %s", currentScore, best.score(),
+                                  outputFile.getAbsolutePath()));
+        schedule.writeToCSV(outputFile);
 
-        if (bestScore == 0) {
-          break;
+        ++numSolutions;
+
+        if (null != mBestScheduleOutputFile) {
+          if (!mBestScheduleOutputFile.delete()) {
+            mBestScheduleOutputFile.deleteOnExit();
+          }
         }
+        mBestScheduleOutputFile = outputFile;
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
       }
     }
+  }
 
-    // assign the best value
-    applyPerformanceOrdering(bestPermutation);
+  /**
+   * Table sides are numbered so that slot / 2 is the index into the tables and
+   * slot % 2 is the side - 1. So slot ^ 1 is the other side of the same
+   * table.
+   */
+  private static PerformanceTime createPerformanceTime(final LocalTime time,
+                                                       final List<String> tables,
+                                                       final int slot) {
+    return new PerformanceTime(time, tables.get(slot
+        / 2), (slot
+            % 2)
+            + 1);
   }
 
   /**
-   * Compute all possible orderings of teams on the current set
-   * of tables.
+   * An assignment of teams to table sides found by a {@link SearchWorker}.
+   * Ordered by score and then by the order that the search visited it in.
    *
-   * @param teams
-   * @return list of possible orderings, key=table information, value=team
-   *         schedule information
+   * @param score see {@link TableOptimizer#computeScheduleScore()}
+   * @param branch the table side that the first team is assigned to
+   * @param sequence the order in which the assignment was visited within the
+   *          branch
+   * @param slots the table side assigned to each team
    */
-  private List<Map<PerformanceTime, TeamScheduleInfo>> computePossibleValues(final Map<TeamScheduleInfo, PerformanceTime> originalValues,
-                                                                             final LocalTime time,
-                                                                             final List<String> tables) {
-    final List<TeamScheduleInfo> teams = new LinkedList<>(originalValues.keySet());
-
-    final List<Map<PerformanceTime, TeamScheduleInfo>> possibleValues = new LinkedList<>();
-
-    final boolean oddNumberOfTeams = Utilities.isOdd(teams.size());
-
-    final List<List<Integer>> possibleTableOrderings = permutate(tables.size()
-        * 2);
-    for (final List<Integer> ordering : possibleTableOrderings) {
-      if (ordering.size() != tables.size()
-          * 2) {
-        throw new FLLInternalException(String.format("All possible orderings must be twice the number of tables. ordering.size: %d tableColors: %d",
-                                                     ordering.size(), tables.size()));
+  private record Candidate(int score,
+                           int branch,
+                           long sequence,
+                           int[] slots)
+      implements Comparable<Candidate> {
+    @Override
+    public int compareTo(final Candidate other) {
+      if (score != other.score) {
+        return Integer.compare(score, other.score);
+      } else if (branch != other.branch) {
+        return Integer.compare(branch, other.branch);
+      } else {
+        return Long.compare(sequence, other.sequence);
       }
+    }
+  }
 
-      boolean validToHaveNullTeam = oddNumberOfTeams;
-
-      // convert to valid ordering
-      final Map<PerformanceTime, TeamScheduleInfo> assignments = new HashMap<>();
-      for (int tableColorIndex = 0; tableColorIndex < tables.size(); ++tableColorIndex) {
-        final String tableColor = tables.get(tableColorIndex);
-
-        // check in pairs to make sure we have a valid table assignment
-        final int side1 = 1;
-        final int orderIndex1 = tableColorIndex
-            * 2;
-        final int teamIndex1 = ordering.get(orderIndex1);
-        final TeamScheduleInfo team1 = getTeam(teams, teamIndex1);
-
-        final int side2 = 2;
-        final int orderIndex2 = orderIndex1
-            + 1;
-        final int teamIndex2 = ordering.get(orderIndex2);
-        final TeamScheduleInfo team2 = getTeam(teams, teamIndex2);
-
-        // if the values are not null they are guaranteed to be keys for originalValues
-        if (null != team1
-            && null != team2) {
-          assignments.put(new PerformanceTime(time, tableColor, side1), team1);
-          assignments.put(new PerformanceTime(time, tableColor, side2), team2);
-        } else if (null != team1
-            && null == team2
-            && validToHaveNullTeam) {
-          assignments.put(new PerformanceTime(time, tableColor, side1), team1);
-
-          // can only have 1 uneven pairing at a time
-          validToHaveNullTeam = false;
-        } else if (null == team1
-            && null != team2
-            && validToHaveNullTeam) {
-          assignments.put(new PerformanceTime(time, tableColor, side2), team2);
-
-          // can only have 1 uneven pairing at a time
-          validToHaveNullTeam = false;
-        }
+  /**
+   * Enumerates the assignments of teams to table sides at a time using
+   * backtracking. Each branch of the search is the table side of the first
+   * team, branches are handed out to workers as they finish the previous one.
+   * Each assignment is scored on a copy of the schedule with an incremental
+   * {@link ScheduleChecker} and only the teams whose table changed since the
+   * previous assignment are moved.
+   * Only one table may have a single team and only when there is an odd
+   * number of teams, partial assignments that cannot meet this are pruned.
+   */
+  private final class SearchWorker {
 
-        if (!assignments.isEmpty()) {
-          possibleValues.add(assignments);
-        }
-      } // foreach table
+    private final ScheduleChecker workerChecker;
 
-    } // foreach possible ordering
+    /**
+     * The teams in the copy of the schedule, same order as the teams passed to
+     * the constructor.
+     */
+    private final List<TeamScheduleInfo> teams;
 
-    return possibleValues;
-  }
+    private final LocalTime time;
 
-  /**
-   * Get team from teams using teamIndex.
-   *
-   * @param teams list of teams
-   * @param teamIndex index into teams
-   * @return the team number or null if the index is
-   *         larger than the list of teams
-   */
-  private static @Nullable TeamScheduleInfo getTeam(final List<TeamScheduleInfo> teams,
-                                                    final int teamIndex) {
-    if (teamIndex < teams.size()) {
-      return teams.get(teamIndex);
-    } else {
-      return null;
-    }
-  }
+    private final List<String> tables;
 
-  private void applyPerformanceOrdering(final Map<PerformanceTime, TeamScheduleInfo> possibleValue) {
-    for (final Map.Entry<PerformanceTime, TeamScheduleInfo> entry : possibleValue.entrySet()) {
-      final TeamScheduleInfo team = entry.getValue();
-      final PerformanceTime perfTime = entry.getKey();
+    private final Map<String, Integer> baseTableUse;
 
-      // can use perfTime.getTime() as oldTime since we know that we're just
-      // moving teams across tables
-      schedule.reassignTable(team, perfTime.getTime(), perfTime);
-    }
+    private final int allowedHalfTables;
 
-  }
+    /**
+     * Which table sides are in use by the current partial assignment.
+     */
+    private final boolean[] slotUsed;
 
-  /**
-   * Compute permutations of the integers [0, numElements].
-   *
-   * @param numElements how many elements to be permuted
-   * @return all possible orderings
-   */
-  public static List<List<Integer>> permutate(final int numElements) {
-    final List<Integer> allElements = new ArrayList<>();
-    for (int i = 0; i < numElements; ++i) {
-      allElements.add(i);
+    /**
+     * team index -> table side in the current assignment.
+     */
+    private final int[] slots;
+
+    /**
+     * team index -> table side in the copy of the schedule, -1 if it hasn't
+     * been moved yet.
+     */
+    private final int[] applied;
+
+    private @Nullable Candidate best = null;
+
+    private int branch;
+
+    private long sequence;
+
+    private boolean stop = false;
+
+    private @Nullable AtomicBoolean perfectFound;
+
+    private @Nullable CheckCanceled checkCanceled;
+
+    SearchWorker(final List<TeamScheduleInfo> teams,
+                 final LocalTime time,
+                 final List<String> tables,
+                 final Map<String, Integer> baseTableUse) {
+      final TournamentSchedule copy = schedule.copy();
+      this.workerChecker = new ScheduleChecker(params, copy);
+      this.teams = new ArrayList<>(teams.size());
+      for (final TeamScheduleInfo team : teams) {
+        final TeamScheduleInfo copyTeam = copy.getSchedInfoForTeam(team.getTeamNumber());
+        if (null == copyTeam) {
+          throw new FLLInternalException("Copy of schedule is missing team "
+              + team.getTeamNumber());
+        }
+        this.teams.add(copyTeam);
+      }
+      this.time = time;
+      this.tables = tables;
+      this.baseTableUse = baseTableUse;
+      this.allowedHalfTables = Utilities.isOdd(teams.size()) ? 1 : 0;
+      this.slotUsed = new boolean[tables.size()
+          * 2];
+      this.slots = new int[teams.size()];
+      this.applied = new int[teams.size()];
+      Arrays.fill(this.applied, -1);
     }
 
-    final List<Integer> order = new ArrayList<>(numElements);
-    for (int i = 0; i < numElements; ++i) {
-      order.add(i);
+    /**
+     * Search branches until there are none left or the search should stop.
+     *
+     * @return the best assignment found by this worker, null if none were
+     *         checked
+     */
+    @Nullable
+    Candidate search(final AtomicInteger nextBranch,
+                     final AtomicBoolean perfectFound,
+                     final CheckCanceled checkCanceled) {
+      this.perfectFound = perfectFound;
+      this.checkCanceled = checkCanceled;
+
+      for (branch = nextBranch.getAndIncrement(); !stop
+          && branch < slotUsed.length; branch = nextBranch.getAndIncrement()) {
+        sequence = 0;
+        place(0, branch, 0);
+      }
+      return best;
     }
 
-    final List<List<Integer>> permutations = new LinkedList<>();
-    permutate(numElements, allElements, order, permutations);
-    return permutations;
-  }
+    /**
+     * Put a team on a table side and then place the rest of the teams.
+     *
+     * @param halfTables the number of tables with only 1 team before placing
+     *          this team
+     */
+    private void place(final int teamIndex,
+                       final int slot,
+                       final int halfTables) {
+      final int newHalfTables = slotUsed[slot
+          ^ 1] ? halfTables
+              - 1 : halfTables
+                  + 1;
+      final int remainingTeams = teams.size()
+          - teamIndex
+          - 1;
+      if (newHalfTables
+          - remainingTeams > allowedHalfTables) {
+        // not enough teams left to fill the tables that only have 1 team
+        return;
+      }
 
-  /**
-   * Recursive function that computes permutations. To
-   * be called from {@see #permutate(int)}.
-   *
-   * @param arrayCount
-   * @param elements the elements to compute permutations of
-   * @param order
-   * @param permutations the resulting permutations
-   */
-  private static void permutate(final int arrayCount,
-                                final List<Integer> elements,
-                                final List<Integer> order,
-                                final List<List<Integer>> permutations) {
-    if (elements.isEmpty()) {
-      throw new IllegalArgumentException("Cannot permutate 0 elements");
+      slotUsed[slot] = true;
+      slots[teamIndex] = slot;
+      if (0 == remainingTeams) {
+        evaluate();
+      } else {
+        for (int next = 0; !stop
+            && next < slotUsed.length; ++next) {
+          if (!slotUsed[next]) {
+            place(teamIndex
+                + 1, next, newHalfTables);
+          }
+        }
+      }
+      slotUsed[slot] = false;
     }
 
-    final int position = arrayCount
-        - elements.size();
+    private void evaluate() {
+      ++sequence;
 
-    if (elements.size() == 1) {
-      order.set(position, elements.get(0));
-      permutations.add(order);
-    } else {
-      for (int i = 0; i < elements.size(); ++i) {
-        final int element = elements.get(i);
-        final List<Integer> newOrder = new ArrayList<>(order);
-        newOrder.set(position, element);
-
-        final List<Integer> newElements = new ArrayList<>(elements);
-        newElements.remove(i);
-        permutate(arrayCount, newElements, newOrder, permutations);
+      final Map<String, Integer> tableUse = new HashMap<>(baseTableUse);
+      for (int i = 0; i < teams.size(); ++i) {
+        final PerformanceTime performance = createPerformanceTime(time, tables, slots[i]);
+        if (applied[i] != slots[i]) {
+          workerChecker.reassignTable(teams.get(i), time, performance);
+          applied[i] = slots[i];
+        }
+        tableUse.merge(performance.getTable(), 1, Integer::sum);
       }
+
+      final int score = computeScore(workerChecker.countViolations(), computeTableUseScore(tableUse));
+      if (null == best
+          || score < best.score()) {
+        best = new Candidate(score, branch, sequence, slots.clone());
+      }
+
+      final AtomicBoolean perfect = castNonNull(perfectFound);
+      if (0 == score) {
+        perfect.set(true);
+      }
+      stop = perfect.get()
+          || castNonNull(checkCanceled).isCanceled();
     }
   }
 
@@ -387,7 +487,7 @@ public class TableOptimizer {
    * Pick team with most violations and isn't in the set of optimizedTeams.
    */
   private List<ConstraintViolation> pickTeamWithMostViolations(final Set<Integer> optimizedTeams) {
-    final List<ConstraintViolation> violations = checker.verifySchedule();
+    final List<ConstraintViolation> violations = checker.verifyScheduleIncremental();
     // team->violations
     final Map<Integer, List<ConstraintViolation>> teamViolations = new HashMap<>();
     for (final ConstraintViolation violation : violations) {
@@ -550,6 +650,8 @@ public class TableOptimizer {
       throws IllegalArgumentException {
     this.schedule = schedule;
     this.basedir = basedir;
+    this.params = params;
+    this.numThreads = Runtime.getRuntime().availableProcessors();
     this.checker = new ScheduleChecker(params, schedule);
     this.tableGroups = tableGroups.isEmpty() ? determineTableGroups(schedule) : tableGroups;
 
@@ -719,7 +821,7 @@ public class TableOptimizer {
       if (null == tables) {
         throw new FLLRuntimeException("Cannot find any tables");
       } else {
-        computeBestTableOrdering(originalPerformances, time, tables, checkCanceled);
+        computeBestTableOrdering(originalPerformances.keySet(), time, tables, checkCanceled);
       }
 
     } // foreach time
@@ -94,6 +94,17 @@ public final class TeamScheduleInfo implements Serializable {
     this.team = team;
   }
 
+  /**
+   * Copy the performances and subjective times of another team schedule.
+   *
+   * @param other the team schedule to copy
+   */
+  /* package */ TeamScheduleInfo(final TeamScheduleInfo other) {
+    this.team = other.team;
+    this.performances.addAll(other.performances);
+    this.subjectiveTimes.putAll(other.subjectiveTimes);
+  }
+
   @Override
   public String toString() {
     return "[ScheduleInfo for "
@@ -37,6 +37,11 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -342,6 +347,11 @@ public class TournamentSchedule implements Serializable {
 
   private final LinkedList<TeamScheduleInfo> schedule = new LinkedList<>();
 
+  /**
+   * team number -> schedule info, same contents as {@link #schedule}.
+   */
+  private final HashMap<Integer, TeamScheduleInfo> scheduleByTeam = new HashMap<>();
+
   private final HashSet<String> subjectiveStations = new HashSet<>();
 
   private final String name;
@@ -374,12 +384,7 @@ public class TournamentSchedule implements Serializable {
    * @return null if cannot be found
    */
   public @Nullable TeamScheduleInfo getSchedInfoForTeam(final int teamNumber) {
-    for (final TeamScheduleInfo si : schedule) {
-      if (si.getTeamNumber() == teamNumber) {
-        return si;
-      }
-    }
-    return null;
+    return scheduleByTeam.get(teamNumber);
   }
 
   /**
@@ -405,6 +410,44 @@ public class TournamentSchedule implements Serializable {
     this.subjectiveStations.addAll(columnInfo.getSubjectiveStationNames());
   }
 
+  /**
+   * Create a schedule from {@link TeamScheduleInfo} objects that have already
+   * been built in memory. This is used by the {@link GreedySolver} to check
+   * candidate solutions without writing and re-parsing a file.
+   *
+   * @param name {@link #getName()}
+   * @param subjectiveStations {@link #getSubjectiveStations()}
+   * @param numRegularMatchPlayRounds number of regular match play rounds each
+   *          team has
+   * @param teams the team schedules, added in iteration order
+   */
+  /* package */ TournamentSchedule(final String name,
+                                   final Collection<String> subjectiveStations,
+                                   final int numRegularMatchPlayRounds,
+                                   final Collection<TeamScheduleInfo> teams) {
+    this.name = name;
+    this.numRegularMatchPlayRounds = numRegularMatchPlayRounds;
+    for (final TeamScheduleInfo ti : teams) {
+      cacheTeamScheduleInformation(ti);
+    }
+    this.subjectiveStations.addAll(subjectiveStations);
+  }
+
+  /**
+   * @return a copy of this schedule with copies of the team schedules, so that
+   *         tables can be reassigned in the copy without affecting this
+   *         schedule
+   */
+  /* package */ TournamentSchedule copy() {
+    final List<TeamScheduleInfo> teams = new ArrayList<>(schedule.size());
+    for (final TeamScheduleInfo si : schedule) {
+      teams.add(new TeamScheduleInfo(si));
+    }
+    final TournamentSchedule copy = new TournamentSchedule(name, subjectiveStations, numRegularMatchPlayRounds, teams);
+    copy.tableColors.addAll(tableColors);
+    return copy;
+  }
+
   /**
    * Empty tournament schedule.
    */
@@ -561,8 +604,9 @@ public class TournamentSchedule implements Serializable {
    */
   private void addToSchedule(@UnderInitialization(TournamentSchedule.class) TournamentSchedule this,
                              final TeamScheduleInfo ti) {
-    if (!schedule.contains(ti)) {
+    if (!scheduleByTeam.containsKey(ti.getTeamNumber())) {
       schedule.add(ti);
+      scheduleByTeam.put(ti.getTeamNumber(), ti);
     } else {
       throw new FLLRuntimeException("Attempting to add the same team to the schedule twice: "
           + ti.getTeamNumber());
@@ -589,6 +633,10 @@ public class TournamentSchedule implements Serializable {
   }
 
   /**
+   * The sheets for each category and schedule column are written to their own
+   * file and the files are rendered in parallel. Each file gets its own sorted
+   * copy of the schedule.
+   *
    * @param dir where to write the files
    * @param baseFileName the base name of the files
    * @param description the challenge description
@@ -605,8 +653,9 @@ public class TournamentSchedule implements Serializable {
                                      final Map<SubjectiveScoreCategory, Collection<String>> categoryToSchedule,
                                      final Map<SubjectiveScoreCategory, @Nullable String> filenameSuffixes)
       throws IOException {
+    final List<TeamScheduleInfo> unsortedSchedule = Collections.unmodifiableList(new ArrayList<>(schedule));
 
-    // setup the sheets from the sucked in xml
+    final List<Callable<@Nullable Void>> sheets = new LinkedList<>();
     for (final SubjectiveScoreCategory category : description.getSubjectiveCategories()) {
       final Collection<String> scheduleColumns = categoryToSchedule.get(category);
       final String suffix = filenameSuffixes.get(category);
@@ -619,9 +668,10 @@ public class TournamentSchedule implements Serializable {
             + (null != suffix ? "_"
                 + suffix : "")
             + ".pdf";
-        try (OutputStream stream = new FileOutputStream(filename)) {
-          SubjectivePdfWriter.createDocumentForSchedule(stream, description, tournamentName, category, null, schedule);
-        }
+        sheets.add(() -> {
+          writeSubjectiveSheets(filename, description, tournamentName, category, null, unsortedSchedule);
+          return null;
+        });
       } else {
         for (final String scheduleColumn : scheduleColumns) {
           final String filename = dir
@@ -635,18 +685,61 @@ public class TournamentSchedule implements Serializable {
               + (null != suffix ? "_"
                   + suffix : "")
               + ".pdf";
+
           // sort the schedule by the category we're working with
+          final List<TeamScheduleInfo> sortedSchedule;
           if (null != scheduleColumn) {
-            Collections.sort(schedule, new SubjectiveComparatorByAwardGroup(scheduleColumn));
+            final List<TeamScheduleInfo> sorted = new ArrayList<>(schedule);
+            sorted.sort(new SubjectiveComparatorByAwardGroup(scheduleColumn));
+            sortedSchedule = Collections.unmodifiableList(sorted);
+          } else {
+            sortedSchedule = unsortedSchedule;
           }
 
-          try (OutputStream stream = new FileOutputStream(filename)) {
-            SubjectivePdfWriter.createDocumentForSchedule(stream, description, tournamentName, category, scheduleColumn,
-                                                          schedule);
-          }
+          sheets.add(() -> {
+            writeSubjectiveSheets(filename, description, tournamentName, category, scheduleColumn, sortedSchedule);
+            return null;
+          });
         } // foreach schedule column
       } // mappings found
     } // foreach category
+
+    if (sheets.isEmpty()) {
+      return;
+    }
+
+    final ExecutorService pool = Executors.newFixedThreadPool(Math.min(sheets.size(), Runtime.getRuntime()
+                                                                                             .availableProcessors()));
+    try {
+      for (final Future<@Nullable Void> sheet : pool.invokeAll(sheets)) {
+        sheet.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FLLRuntimeException("Interrupted writing the subjective sheets", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof IOException ioe) {
+        throw ioe;
+      } else {
+        throw new FLLRuntimeException("Error writing the subjective sheets", cause);
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static void writeSubjectiveSheets(final String filename,
+                                            final ChallengeDescription description,
+                                            final String tournamentName,
+                                            final SubjectiveScoreCategory category,
+                                            final @Nullable String scheduleColumn,
+                                            final List<TeamScheduleInfo> sortedSchedule)
+      throws IOException {
+    try (OutputStream stream = new FileOutputStream(filename)) {
+      SubjectivePdfWriter.createDocumentForSchedule(stream, description, tournamentName, category, scheduleColumn,
+                                                    sortedSchedule);
+    }
   }
 
   /**
@@ -1489,12 +1582,7 @@ public class TournamentSchedule implements Serializable {
    * @return the schedule info or null if not found
    */
   public @Nullable TeamScheduleInfo findScheduleInfo(final int team) {
-    for (final TeamScheduleInfo si : schedule) {
-      if (si.getTeamNumber() == team) {
-        return si;
-      }
-    }
-    return null;
+    return scheduleByTeam.get(team);
   }
 
   /**
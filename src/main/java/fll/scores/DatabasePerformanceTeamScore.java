@@ -10,8 +10,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -30,35 +32,45 @@ public final class DatabasePerformanceTeamScore {
   private DatabasePerformanceTeamScore() {
   }
 
+  /**
+   * Which scores to load in {@link DatabasePerformanceTeamScore#fetchAllScores(int, ScoreFilter, Connection)}.
+   */
+  public enum ScoreFilter {
+    /**
+     * All scores.
+     */
+    ALL(""),
+    /**
+     * Only scores that have not been verified.
+     */
+    UNVERIFIED(" AND performance.Verified <> TRUE"),
+    /**
+     * Only scores that have been verified.
+     */
+    VERIFIED(" AND performance.Verified = TRUE");
+
+    private final String sqlCondition;
+
+    ScoreFilter(final String sqlCondition) {
+      this.sqlCondition = sqlCondition;
+    }
+  }
+
   /**
    * Find all unverified performance scores for a tournament.
    * 
    * @param tournament the tournament
    * @param connection database
-   * @return unverified performance scores
+   * @return unverified performance scores sorted by
+   *         {@link PerformanceTeamScore#getRunNumber()}
    * @throws SQLException on a database error
    */
   public static List<PerformanceTeamScore> fetchUnverifiedScores(final Tournament tournament,
                                                                  final Connection connection)
       throws SQLException {
-    final List<PerformanceTeamScore> scores = new LinkedList<>();
-
-    try (
-        PreparedStatement prep = connection.prepareStatement("SELECT NoShow, Bye, Verified, Tablename, TimeStamp, RunNumber, TeamNumber" //
-            + " FROM performance WHERE Tournament = ? AND Verified <> TRUE ORDER BY RunNumber ASC")) {
-
-      prep.setInt(1, tournament.getTournamentID());
-      try (ResultSet result = prep.executeQuery()) {
-        while (result.next()) {
-          final int runNumber = result.getInt(6);
-          final int teamNumber = result.getInt(7);
-
-          final PerformanceTeamScore score = fetchScore(tournament.getTournamentID(), teamNumber, runNumber, connection,
-                                                        result);
-          scores.add(score);
-        }
-      }
-    }
+    final List<PerformanceTeamScore> scores = fetchAllScores(tournament.getTournamentID(), ScoreFilter.UNVERIFIED,
+                                                              connection);
+    scores.sort(Comparator.comparingInt(PerformanceTeamScore::getRunNumber));
     return scores;
   }
 
@@ -76,27 +88,131 @@ public final class DatabasePerformanceTeamScore {
                                                            final Team team,
                                                            final Connection connection)
       throws SQLException {
-    final List<PerformanceTeamScore> scores = new LinkedList<>();
+    return fetchTeamScores(tournament.getTournamentID(), team.getTeamNumber(), connection);
+  }
 
-    try (
-        PreparedStatement prep = connection.prepareStatement("SELECT NoShow, Bye, Verified, Tablename, TimeStamp, RunNumber" //
-            + " FROM performance WHERE TeamNumber = ? AND Tournament = ? ORDER BY RunNumber ASC")) {
+  /**
+   * Fetch all performance scores for a team.
+   * 
+   * @param tournament the tournament id
+   * @param teamNumber the team number
+   * @param connection database
+   * @return the scores sorted by {@link PerformanceTeamScore#getRunNumber()},
+   *         this may be an empty list
+   * @throws SQLException on a database error
+   */
+  public static List<PerformanceTeamScore> fetchTeamScores(final int tournament,
+                                                           final int teamNumber,
+                                                           final Connection connection)
+      throws SQLException {
+    final List<PerformanceTeamScore> scores = fetchScores(tournament, teamNumber, ScoreFilter.ALL, connection);
+    scores.sort(Comparator.comparingInt(PerformanceTeamScore::getRunNumber));
+    return scores;
+  }
 
-      prep.setInt(1, team.getTeamNumber());
-      prep.setInt(2, tournament.getTournamentID());
+  /**
+   * Fetch the performance scores for all teams in a tournament. This uses a
+   * fixed number of queries no matter how many scores there are.
+   * 
+   * @param tournament the tournament id
+   * @param filter which scores to fetch
+   * @param connection database
+   * @return the scores sorted by the time they were last edited, then team
+   *         number, then run number
+   * @throws SQLException on a database error
+   */
+  public static List<PerformanceTeamScore> fetchAllScores(final int tournament,
+                                                          final ScoreFilter filter,
+                                                          final Connection connection)
+      throws SQLException {
+    return fetchScores(tournament, null, filter, connection);
+  }
+
+  /**
+   * Load the performance rows and then all of the goals for those rows and
+   * put them together.
+   *
+   * @param teamNumber if not null, only fetch scores for this team
+   */
+  private static List<PerformanceTeamScore> fetchScores(final int tournament,
+                                                        final @Nullable Integer teamNumber,
+                                                        final ScoreFilter filter,
+                                                        final Connection connection)
+      throws SQLException {
+    final String condition = " WHERE performance.Tournament = ?"
+        + (null == teamNumber ? "" : " AND performance.TeamNumber = ?")
+        + filter.sqlCondition;
+
+    // key is team number and run number
+    final Map<List<Integer>, Map<String, Double>> simpleGoals = new HashMap<>();
+    try (PreparedStatement prep = connection.prepareStatement("SELECT performance_goals.team_number, performance_goals.run_number," //
+        + " performance_goals.goal_name, performance_goals.goal_value" //
+        + " FROM performance_goals, performance" //
+        + condition //
+        + " AND performance_goals.tournament_id = performance.Tournament" //
+        + " AND performance_goals.team_number = performance.TeamNumber" //
+        + " AND performance_goals.run_number = performance.RunNumber")) {
+      setScoreParameters(prep, tournament, teamNumber);
+      try (ResultSet rs = prep.executeQuery()) {
+        while (rs.next()) {
+          final List<Integer> key = List.of(rs.getInt(1), rs.getInt(2));
+          final String name = castNonNull(rs.getString(3));
+          final double value = rs.getDouble(4);
+          simpleGoals.computeIfAbsent(key, k -> new HashMap<>()).put(name, value);
+        }
+      }
+    }
+
+    final Map<List<Integer>, Map<String, String>> enumGoals = new HashMap<>();
+    try (PreparedStatement prep = connection.prepareStatement("SELECT performance_enum_goals.team_number, performance_enum_goals.run_number," //
+        + " performance_enum_goals.goal_name, performance_enum_goals.goal_value" //
+        + " FROM performance_enum_goals, performance" //
+        + condition //
+        + " AND performance_enum_goals.tournament_id = performance.Tournament" //
+        + " AND performance_enum_goals.team_number = performance.TeamNumber" //
+        + " AND performance_enum_goals.run_number = performance.RunNumber")) {
+      setScoreParameters(prep, tournament, teamNumber);
+      try (ResultSet rs = prep.executeQuery()) {
+        while (rs.next()) {
+          final List<Integer> key = List.of(rs.getInt(1), rs.getInt(2));
+          final String name = castNonNull(rs.getString(3));
+          final String value = castNonNull(rs.getString(4));
+          enumGoals.computeIfAbsent(key, k -> new HashMap<>()).put(name, value);
+        }
+      }
+    }
+
+    final List<PerformanceTeamScore> scores = new ArrayList<>();
+    try (PreparedStatement prep = connection.prepareStatement("SELECT NoShow, Bye, Verified, Tablename, TimeStamp, RunNumber, TeamNumber" //
+        + " FROM performance" //
+        + condition //
+        + " ORDER BY TimeStamp ASC, TeamNumber ASC, RunNumber ASC")) {
+      setScoreParameters(prep, tournament, teamNumber);
       try (ResultSet result = prep.executeQuery()) {
         while (result.next()) {
           final int runNumber = result.getInt(6);
+          final int scoreTeamNumber = result.getInt(7);
+          final List<Integer> key = List.of(scoreTeamNumber, runNumber);
 
-          final PerformanceTeamScore score = fetchScore(tournament.getTournamentID(), team.getTeamNumber(), runNumber,
-                                                        connection, result);
-          scores.add(score);
+          scores.add(createScore(scoreTeamNumber, runNumber, result,
+                                 simpleGoals.getOrDefault(key, Collections.emptyMap()),
+                                 enumGoals.getOrDefault(key, Collections.emptyMap())));
         }
       }
     }
     return scores;
   }
 
+  private static void setScoreParameters(final PreparedStatement prep,
+                                         final int tournament,
+                                         final @Nullable Integer teamNumber)
+      throws SQLException {
+    prep.setInt(1, tournament);
+    if (null != teamNumber) {
+      prep.setInt(2, teamNumber);
+    }
+  }
+
   /**
    * Create a database team score object for a performance score.
    * 
@@ -142,6 +258,22 @@ public final class DatabasePerformanceTeamScore {
                                                         final Connection connection,
                                                         final ResultSet result)
       throws SQLException {
+    final Map<String, Double> simpleGoals = fetchSimpleGoals(tournament, teamNumber, runNumber, connection);
+    final Map<String, String> enumGoals = fetchEnumGoals(tournament, teamNumber, runNumber, connection);
+
+    return createScore(teamNumber, runNumber, result, simpleGoals, enumGoals);
+  }
+
+  /**
+   * Same column requirements as
+   * {@link #fetchScore(int, int, int, Connection, ResultSet)}.
+   */
+  private static DefaultPerformanceTeamScore createScore(final int teamNumber,
+                                                         final int runNumber,
+                                                         final ResultSet result,
+                                                         final Map<String, Double> simpleGoals,
+                                                         final Map<String, String> enumGoals)
+      throws SQLException {
     final boolean noShow = result.getBoolean(1);
     final boolean bye = result.getBoolean(2);
     final boolean verified = result.getBoolean(3);
@@ -149,9 +281,6 @@ public final class DatabasePerformanceTeamScore {
     final Timestamp ts = (Timestamp) castNonNull(result.getTimestamp(5));
     final LocalDateTime timestamp = ts.toLocalDateTime();
 
-    final Map<String, Double> simpleGoals = fetchSimpleGoals(tournament, teamNumber, runNumber, connection);
-    final Map<String, String> enumGoals = fetchEnumGoals(tournament, teamNumber, runNumber, connection);
-
     return new DefaultPerformanceTeamScore(teamNumber, runNumber, simpleGoals, enumGoals, tablename, noShow, bye,
                                            verified, timestamp);
   }
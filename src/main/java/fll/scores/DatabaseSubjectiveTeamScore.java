@@ -259,6 +259,22 @@ public final class DatabaseSubjectiveTeamScore {
                                                                  final Tournament tournament,
                                                                  final Team team)
       throws SQLException {
+    return getScoresForTeam(connection, category, tournament, team.getTeamNumber());
+  }
+
+  /**
+   * @param connection database
+   * @param category category to get scores for
+   * @param tournament the tournament to get scores for
+   * @param teamNumber the team to get scores for
+   * @return scores
+   * @throws SQLException on a database error
+   */
+  public static Collection<SubjectiveTeamScore> getScoresForTeam(final Connection connection,
+                                                                 final SubjectiveScoreCategory category,
+                                                                 final Tournament tournament,
+                                                                 final int teamNumber)
+      throws SQLException {
     final Collection<SubjectiveTeamScore> scores = new LinkedList<>();
 
     try (PreparedStatement prep = connection.prepareStatement("SELECT "
@@ -270,7 +286,7 @@ public final class DatabaseSubjectiveTeamScore {
     )) {
       prep.setInt(1, tournament.getTournamentID());
       prep.setString(2, category.getName());
-      prep.setInt(3, team.getTeamNumber());
+      prep.setInt(3, teamNumber);
 
       try (ResultSet rs = prep.executeQuery()) {
         while (rs.next()) {
@@ -39,7 +39,7 @@ public class CheckAuthServlet extends BaseFLLServlet {
     final boolean authenticated = auth.isJudge();
     final AuthResult result = new AuthResult(authenticated);
 
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+    final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
     response.reset();
     response.setContentType("application/json");
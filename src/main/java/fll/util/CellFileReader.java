@@ -72,12 +72,14 @@ public abstract class CellFileReader implements Closeable {
                                                 final @Nullable String sheetName)
       throws InvalidFormatException, IOException {
     if (ExcelCellReader.isExcelFile(file)) {
+      if (null == sheetName) {
+        throw new IllegalArgumentException("Sheet name cannot be null when reading an Excel file");
+      } else if (XlsxCellReader.isXlsxFile(file)) {
+        return new XlsxCellReader(file, sheetName);
+      }
+
       try (InputStream fis = Files.newInputStream(file)) {
-        if (null == sheetName) {
-          throw new IllegalArgumentException("Sheet name cannot be null when reading an Excel file");
-        } else {
-          return new ExcelCellReader(fis, sheetName);
-        }
+        return new ExcelCellReader(fis, sheetName);
       }
     } else {
       // determine if the file is tab separated or comma separated, check the
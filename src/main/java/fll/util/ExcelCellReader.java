@@ -111,6 +111,10 @@ public class ExcelCellReader extends CellFileReader {
    * @throws IOException see {@link #getAllSheetNames(InputStream)}
    */
   public static List<String> getAllSheetNames(final File file) throws IOException {
+    if (XlsxCellReader.isXlsxFile(file.toPath())) {
+      return XlsxCellReader.getAllSheetNames(file.toPath());
+    }
+
     FileInputStream fis = null;
     try {
       fis = new FileInputStream(file);
@@ -15,6 +15,7 @@ import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.concurrent.Semaphore;
 
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
@@ -704,33 +705,50 @@ public final class FOPUtils {
   }
 
   /**
-   * Create a factory that looks in the current directory to resolve relative
-   * URLs.
-   * 
-   * @return factory
+   * Factory that looks in the current directory to resolve relative URLs. The
+   * factory is thread-safe and holds the font and image caches, so it is shared
+   * by all renders.
    */
-  public static FopFactory createSimpleFopFactory() {
-    return FopFactory.newInstance(Paths.get(".").toUri());
+  private static final class FopFactoryHolder {
+    private static final FopFactory FOP_FACTORY = FopFactory.newInstance(Paths.get(".").toUri());
   }
 
+  private static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance();
+
+  /**
+   * Limits the number of documents rendered at once as rendering uses a lot of
+   * memory and CPU.
+   */
+  private static final Semaphore RENDER_PERMITS = new Semaphore(Math.max(1, Runtime.getRuntime()
+                                                                                   .availableProcessors()),
+                                                                true);
+
   /**
-   * @param fopFactory the factory to use
    * @param xslfo the document to render
    * @param out where to render the document
    * @throws IOException if there is an error writing
    * @throws FOPException if there is an error configuring FOP
    * @throws TransformerException if there is an error in the input document
+   * @see PdfCache#renderPdf(Document, OutputStream)
    */
-  public static void renderPdf(final FopFactory fopFactory,
-                               final Document xslfo,
+  public static void renderPdf(final Document xslfo,
                                final OutputStream out)
       throws IOException, FOPException, TransformerException {
     try {
-      final Fop fop = fopFactory.newFop(MimeConstants.MIME_PDF, out);
+      RENDER_PERMITS.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FLLRuntimeException("Interrupted waiting to render PDF", e);
+    }
+    try {
+      final Fop fop = FopFactoryHolder.FOP_FACTORY.newFop(MimeConstants.MIME_PDF, out);
 
-      // Setup JAXP using identity transformer
-      final TransformerFactory factory = TransformerFactory.newInstance();
-      final Transformer transformer = factory.newTransformer(); // identity transformer
+      // Setup JAXP using identity transformer, the factory isn't guaranteed to be
+      // thread-safe
+      final Transformer transformer;
+      synchronized (TRANSFORMER_FACTORY) {
+        transformer = TRANSFORMER_FACTORY.newTransformer();
+      }
 
       // Setup input and output for XSLT transformation
       final Source src = new DOMSource(xslfo);
@@ -748,6 +766,8 @@ public final class FOPUtils {
         LOGGER.debug("Got error trying to log invalid XML document", e2);
       }
       throw e;
+    } finally {
+      RENDER_PERMITS.release();
     }
   }
 
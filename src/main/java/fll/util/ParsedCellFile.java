@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.util;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * The contents of a file read with {@link CellFileReader} kept in memory so
+ * that the file can be read multiple times without parsing it again.
+ * The cells are stored by column and equal values share a single string, which
+ * keeps spreadsheets with many repeated values small.
+ */
+public final class ParsedCellFile implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String path;
+
+  private final @Nullable String sheetName;
+
+  private final long size;
+
+  private final long lastModified;
+
+  /**
+   * Number of cells in each row.
+   */
+  private final int[] rowLengths;
+
+  /**
+   * Indexed by column and then row.
+   */
+  private final @Nullable String[][] columns;
+
+  private ParsedCellFile(final Path file,
+                         final @Nullable String sheetName,
+                         final long size,
+                         final long lastModified,
+                         final int[] rowLengths,
+                         final @Nullable String[][] columns) {
+    this.path = file.toAbsolutePath().toString();
+    this.sheetName = sheetName;
+    this.size = size;
+    this.lastModified = lastModified;
+    this.rowLengths = rowLengths;
+    this.columns = columns;
+  }
+
+  /**
+   * Read all of the rows of a file.
+   *
+   * @param file the file to read
+   * @param sheetName see {@link CellFileReader#createCellReader(Path, String)}
+   * @return the contents of the file
+   * @throws IOException if there is an error reading the file
+   * @throws InvalidFormatException if there is an error parsing the
+   *           spreadsheet
+   */
+  public static ParsedCellFile parse(final Path file,
+                                     final @Nullable String sheetName)
+      throws IOException, InvalidFormatException {
+    final long size = Files.size(file);
+    final long lastModified = Files.getLastModifiedTime(file).toMillis();
+
+    final List<@Nullable String[]> rows = new ArrayList<>();
+    int numColumns = 0;
+    try (CellFileReader reader = CellFileReader.createCellReader(file, sheetName)) {
+      @Nullable
+      String @Nullable [] row;
+      while (null != (row = reader.readNext())) {
+        rows.add(row);
+        numColumns = Math.max(numColumns, row.length);
+      }
+    }
+
+    final Map<String, String> values = new HashMap<>();
+    final int[] rowLengths = new int[rows.size()];
+    final @Nullable String[][] columns = new String[numColumns][rows.size()];
+    for (int rowIdx = 0; rowIdx < rowLengths.length; ++rowIdx) {
+      final @Nullable String[] row = rows.get(rowIdx);
+      rowLengths[rowIdx] = row.length;
+      for (int column = 0; column < row.length; ++column) {
+        final @Nullable String value = row[column];
+        if (null != value) {
+          columns[column][rowIdx] = values.computeIfAbsent(value, v -> v);
+        }
+      }
+    }
+
+    return new ParsedCellFile(file, sheetName, size, lastModified, rowLengths, columns);
+  }
+
+  /**
+   * @param file the file to check
+   * @param sheetName the sheet to check
+   * @return true if this object contains the specified sheet of the file and
+   *         the file hasn't changed since it was parsed
+   */
+  public boolean isContentsOf(final Path file,
+                              final @Nullable String sheetName) {
+    if (!path.equals(file.toAbsolutePath().toString())
+        || !Objects.equals(this.sheetName, sheetName)) {
+      return false;
+    }
+
+    try {
+      return size == Files.size(file)
+          && lastModified == Files.getLastModifiedTime(file).toMillis();
+    } catch (final IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * @return a reader for the rows, the reader does not need to be closed
+   */
+  public CellFileReader createReader() {
+    return new Reader();
+  }
+
+  private final class Reader extends CellFileReader {
+    private int lineNumber = -1;
+
+    @Override
+    public long getLineNumber() {
+      return lineNumber;
+    }
+
+    @Override
+    @SuppressFBWarnings(value = "PZLA_PREFER_ZERO_LENGTH_ARRAYS", justification = "Return null rather than zero length array so that we know when we hit EFO")
+    public @Nullable String @Nullable [] readNext() {
+      if (lineNumber
+          + 1 >= rowLengths.length) {
+        return null;
+      }
+
+      ++lineNumber;
+      final @Nullable String[] row = new String[rowLengths[lineNumber]];
+      for (int column = 0; column < row.length; ++column) {
+        row[column] = columns[column][lineNumber];
+      }
+      return row;
+    }
+
+    @Override
+    public void close() {
+      // nop
+    }
+  }
+
+}
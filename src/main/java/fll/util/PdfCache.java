@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import javax.xml.transform.TransformerException;
+
+import org.apache.commons.io.output.NullOutputStream;
+import org.apache.fop.apps.FOPException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.w3c.dom.Document;
+
+import fll.Utilities;
+import net.mtu.eggplant.xml.XMLUtils;
+
+/**
+ * Cache of rendered PDF reports. The key is either a digest of the XSL-FO
+ * document, which contains the report type, the parameters and all of the data
+ * in the report, or a key built by the report from the same information
+ * without building the document. A report is only rendered again when
+ * something in it changed.
+ * When the same document is requested while it is being rendered, the
+ * requests wait for the one render instead of rendering it again.
+ * The cache is kept in memory and is limited in size, the least recently used
+ * reports are dropped first.
+ */
+public final class PdfCache {
+
+  private static final org.apache.logging.log4j.Logger LOGGER = org.apache.logging.log4j.LogManager.getLogger();
+
+  /**
+   * Larger reports are rendered, but not cached.
+   */
+  private static final int MAX_ENTRY_SIZE = 16
+      * 1024
+      * 1024;
+
+  private static final long MAX_CACHE_SIZE = 64
+      * 1024
+      * 1024;
+
+  private static final Object LOCK = new Object();
+
+  /**
+   * Access ordered so that the first entry is the least recently used.
+   */
+  private static final LinkedHashMap<String, byte[]> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+
+  private static long cacheSize = 0;
+
+  private static final Map<String, CompletableFuture<byte[]>> IN_PROGRESS = new HashMap<>();
+
+  private PdfCache() {
+  }
+
+  /**
+   * Builds the document for a report.
+   */
+  @FunctionalInterface
+  public interface DocumentBuilder {
+    /**
+     * @return the document to render
+     * @throws SQLException if there is an error reading the report data
+     * @throws IOException if there is an error creating the document
+     */
+    Document build() throws SQLException, IOException;
+  }
+
+  /**
+   * Render a PDF using the cache.
+   *
+   * @param xslfo the document to render
+   * @param out where to write the PDF
+   * @throws IOException if there is an error writing
+   * @throws FOPException if there is an error configuring FOP
+   * @throws TransformerException if there is an error in the input document
+   * @see FOPUtils#renderPdf(Document, OutputStream)
+   */
+  public static void renderPdf(final Document xslfo,
+                               final OutputStream out)
+      throws IOException, FOPException, TransformerException {
+    try {
+      renderPdf("document:"
+          + computeKey(xslfo), () -> xslfo, out);
+    } catch (final SQLException e) {
+      throw new FLLInternalException("Unexpected database error rendering a document", e);
+    }
+  }
+
+  /**
+   * Render a PDF using the cache, the document is only built when the report
+   * isn't in the cache. Use this for reports whose document contains something
+   * that changes on every request, such as the time that it was created.
+   *
+   * @param key identifies the report, must contain the report type, the
+   *          parameters and the version of the data, such as
+   *          {@link fll.db.TournamentDataVersions#getVersion(java.sql.Connection, int)}
+   * @param builder creates the document to render
+   * @param out where to write the PDF
+   * @throws SQLException if there is an error building the document
+   * @throws IOException if there is an error writing
+   * @throws FOPException if there is an error configuring FOP
+   * @throws TransformerException if there is an error in the input document
+   */
+  public static void renderPdf(final String key,
+                               final DocumentBuilder builder,
+                               final OutputStream out)
+      throws SQLException, IOException, FOPException, TransformerException {
+    final CompletableFuture<byte[]> render = new CompletableFuture<>();
+    final byte @Nullable [] cached;
+    final @Nullable CompletableFuture<byte[]> waitFor;
+    synchronized (LOCK) {
+      cached = CACHE.get(key);
+      waitFor = IN_PROGRESS.get(key);
+      if (null == cached
+          && null == waitFor) {
+        IN_PROGRESS.put(key, render);
+      }
+    }
+
+    if (null != cached) {
+      LOGGER.trace("Using cached PDF {}", key);
+      out.write(cached);
+      return;
+    } else if (null != waitFor) {
+      LOGGER.trace("Waiting for PDF {}", key);
+      out.write(waitForRender(waitFor));
+      return;
+    }
+
+    try {
+      final ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+      FOPUtils.renderPdf(builder.build(), pdf);
+      final byte[] data = pdf.toByteArray();
+
+      synchronized (LOCK) {
+        IN_PROGRESS.remove(key);
+        store(key, data);
+      }
+      render.complete(data);
+
+      out.write(data);
+    } catch (SQLException | IOException | FOPException | TransformerException | RuntimeException e) {
+      synchronized (LOCK) {
+        IN_PROGRESS.remove(key);
+      }
+      render.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Remove all reports from the cache.
+   */
+  public static void clear() {
+    synchronized (LOCK) {
+      CACHE.clear();
+      cacheSize = 0;
+    }
+  }
+
+  private static byte[] waitForRender(final CompletableFuture<byte[]> render)
+      throws SQLException, IOException, FOPException, TransformerException {
+    try {
+      return render.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FLLRuntimeException("Interrupted waiting for PDF to render", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SQLException se) {
+        throw se;
+      } else if (cause instanceof FOPException fe) {
+        throw fe;
+      } else if (cause instanceof TransformerException te) {
+        throw te;
+      } else if (cause instanceof IOException ioe) {
+        throw ioe;
+      } else if (cause instanceof RuntimeException re) {
+        throw re;
+      } else {
+        throw new FLLInternalException("Error rendering PDF", cause);
+      }
+    }
+  }
+
+  /**
+   * Must be called with {@link #LOCK} held.
+   */
+  private static void store(final String key,
+                            final byte[] data) {
+    if (data.length > MAX_ENTRY_SIZE) {
+      return;
+    }
+
+    final byte @Nullable [] previous = CACHE.put(key, data);
+    if (null != previous) {
+      cacheSize -= previous.length;
+    }
+    cacheSize += data.length;
+
+    final Iterator<byte[]> iter = CACHE.values().iterator();
+    while (cacheSize > MAX_CACHE_SIZE
+        && iter.hasNext()) {
+      cacheSize -= iter.next().length;
+      iter.remove();
+    }
+  }
+
+  private static String computeKey(final Document xslfo) {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new FLLInternalException("SHA-256 is not available", e);
+    }
+
+    try (Writer writer = new OutputStreamWriter(new DigestOutputStream(NullOutputStream.INSTANCE, digest),
+                                                Utilities.DEFAULT_CHARSET)) {
+      XMLUtils.writeXML(xslfo, writer);
+    } catch (final IOException e) {
+      throw new FLLInternalException("Error computing the digest of a document", e);
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+}
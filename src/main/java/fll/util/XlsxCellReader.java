@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import fll.scheduler.TournamentSchedule;
+
+/**
+ * Read Excel 2007+ (xlsx) files. The sheet is parsed with SAX rather than
+ * loading the workbook into the POI object model, so only the cell values are
+ * kept in memory. Cells are formatted the same way as {@link ExcelCellReader}.
+ */
+public class XlsxCellReader extends CellFileReader {
+
+  private final List<@Nullable String[]> rows;
+
+  private int lineNumber = -1;
+
+  /**
+   * If a number and it's rounded value are equal to this precision, then the
+   * number is an integer.
+   */
+  private static final double INTEGER_FP_CHECK = 1E-10;
+
+  /**
+   * @param path the file to check
+   * @return true if the file is an Excel 2007+ file
+   * @throws IOException if there is an error reading the file
+   */
+  public static boolean isXlsxFile(final Path path) throws IOException {
+    return FileMagic.OOXML == FileMagic.valueOf(path.toFile());
+  }
+
+  /**
+   * Get the names of all sheets in the file without parsing the sheets.
+   *
+   * @param path the file to read
+   * @return the names of the sheets in the workbook
+   * @throws IOException if there is an error reading the file
+   */
+  public static List<String> getAllSheetNames(final Path path) throws IOException {
+    final OPCPackage pkg = openPackage(path);
+    try {
+      final XSSFReader.SheetIterator iter = new XSSFReader(pkg).getSheetIterator();
+      final List<String> sheetNames = new ArrayList<>();
+      while (iter.hasNext()) {
+        // only the name is needed
+        iter.next().close();
+        sheetNames.add(iter.getSheetName());
+      }
+      return sheetNames;
+    } catch (final OpenXML4JException e) {
+      throw new IOException("Error reading the workbook", e);
+    } finally {
+      pkg.revert();
+    }
+  }
+
+  /**
+   * Read the specified sheet from a file.
+   *
+   * @param path the file to read, it is not needed after the constructor
+   *          finishes
+   * @param sheetName the sheet to read
+   * @throws IOException if there is an error reading the file
+   * @throws IllegalArgumentException if the sheet does not exist
+   */
+  public XlsxCellReader(final Path path,
+                        final String sheetName)
+      throws IOException {
+    Objects.requireNonNull(sheetName, "Sheet name cannot be null");
+
+    final OPCPackage pkg = openPackage(path);
+    try {
+      final XSSFReader reader = new XSSFReader(pkg);
+      final RowCollector collector = new RowCollector();
+      final XSSFReader.SheetIterator iter = reader.getSheetIterator();
+      boolean found = false;
+      while (!found
+          && iter.hasNext()) {
+        try (InputStream sheet = iter.next()) {
+          if (sheetName.equals(iter.getSheetName())) {
+            found = true;
+            final XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), reader.getSharedStringsTable(),
+                                                             collector, new Formatter(), false));
+            parser.parse(new InputSource(sheet));
+          }
+        }
+      }
+      if (!found) {
+        throw new IllegalArgumentException(String.format("Sheet '%s' not found in %s", sheetName, path));
+      }
+      rows = collector.rows;
+    } catch (final OpenXML4JException | SAXException | ParserConfigurationException e) {
+      throw new IOException("Error reading sheet "
+          + sheetName, e);
+    } finally {
+      pkg.revert();
+    }
+  }
+
+  private static OPCPackage openPackage(final Path path) throws IOException {
+    try {
+      return OPCPackage.open(path.toFile(), PackageAccess.READ);
+    } catch (final InvalidFormatException e) {
+      throw new IOException("Not an Excel file: "
+          + path, e);
+    }
+  }
+
+  @Override
+  public long getLineNumber() {
+    return lineNumber;
+  }
+
+  @Override
+  @SuppressFBWarnings(value = "PZLA_PREFER_ZERO_LENGTH_ARRAYS", justification = "Return null rather than zero length array so that we know when we hit EFO")
+  public @Nullable String @Nullable [] readNext() {
+    if (lineNumber
+        + 1 >= rows.size()) {
+      return null;
+    }
+
+    ++lineNumber;
+    return rows.get(lineNumber);
+  }
+
+  @Override
+  public void close() {
+    // nop
+  }
+
+  /**
+   * Builds the rows as arrays. Rows that aren't in the file are empty and cells
+   * that aren't in the file are null, the same as {@link ExcelCellReader}.
+   */
+  private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+    private final List<@Nullable String[]> rows = new ArrayList<>();
+
+    private @Nullable String[] current = new String[0];
+
+    private int numCells = 0;
+
+    @Override
+    public void startRow(final int rowNum) {
+      while (rows.size() < rowNum) {
+        rows.add(new String[0]);
+      }
+      current = new String[16];
+      numCells = 0;
+    }
+
+    @Override
+    public void endRow(final int rowNum) {
+      rows.add(Arrays.copyOf(current, numCells));
+    }
+
+    @Override
+    public void cell(final @Nullable String cellReference,
+                     final @Nullable String formattedValue,
+                     final @Nullable XSSFComment comment) {
+      final int column = null == cellReference ? numCells : new CellReference(cellReference).getCol();
+      if (column >= current.length) {
+        current = Arrays.copyOf(current, Math.max(column
+            + 1, current.length
+                * 2));
+      }
+      current[column] = formattedValue;
+      numCells = Math.max(numCells, column
+          + 1);
+    }
+  }
+
+  /**
+   * Formats dates as times and integers without a decimal point.
+   */
+  private static final class Formatter extends DataFormatter {
+    @Override
+    public String formatRawCellContents(final double value,
+                                        final int formatIndex,
+                                        final String formatString) {
+      if (DateUtil.isADateFormat(formatIndex, formatString)
+          && DateUtil.isValidExcelDate(value)) {
+        // make sure to format times like we expect them in schedules
+        final LocalDateTime date = DateUtil.getLocalDateTime(value);
+        return TournamentSchedule.humanFormatTime(date.toLocalTime());
+      } else if (FP.equals(value, Math.round(value), INTEGER_FP_CHECK)) {
+        return String.valueOf((int) value);
+      } else {
+        return super.formatRawCellContents(value, formatIndex, formatString);
+      }
+    }
+  }
+
+}
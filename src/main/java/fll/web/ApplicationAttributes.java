@@ -56,6 +56,15 @@ public final class ApplicationAttributes {
     return getNonNullAttribute(application, CHALLENGE_DESCRIPTION, ChallengeDescription.class);
   }
 
+  /**
+   * {@link Boolean} that is true once the database has been found to be
+   * initialized. Setup clears this with
+   * {@link #clearDatabaseAttributes(ServletContext)} before replacing the
+   * database, so requests don't need to check the database each time.
+   */
+  public static final String DATABASE_INITIALIZED = PREFIX
+      + "databaseInitialized";
+
   /**
    * {@link String} that keeps track of the division of the brackets being
    * displayed.
@@ -119,6 +128,10 @@ public final class ApplicationAttributes {
   }
 
   /**
+   * Connections from the web application's datasource come from a
+   * {@link fll.db.PooledDataSource}, so they must be closed promptly to return
+   * them to the pool.
+   *
    * @param application application variable store
    * @return the database connection
    */
@@ -202,6 +215,7 @@ public final class ApplicationAttributes {
   public static void clearDatabaseAttributes(final ServletContext application) {
     // don't remove the datasource as that breaks things
     application.removeAttribute(CHALLENGE_DESCRIPTION);
+    application.removeAttribute(DATABASE_INITIALIZED);
     application.removeAttribute(DISPLAY_PAGE);
     application.removeAttribute(PLAYOFF_DIVISION);
     application.removeAttribute(PLAYOFF_RUN_NUMBER);
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Wrapper for a response that adds content after the start of the body and
+ * before the end of the body of HTML pages. The page is streamed to the client
+ * as it is written, only the characters that may be part of a body tag are held
+ * back. Content written with {@link #getOutputStream()} and content that isn't
+ * HTML is written directly.
+ */
+/* package */ final class DecoratingResponseWrapper extends HttpServletResponseWrapper {
+
+  /**
+   * Writes the content that is added to the page.
+   */
+  /* package */ interface Decorator {
+    /**
+     * @param writer where to write the content that goes after the body start
+     *          tag
+     * @throws IOException if there is an error writing
+     */
+    void afterBodyStart(Writer writer) throws IOException;
+
+    /**
+     * @param writer where to write the content that goes before the body end
+     *          tag
+     * @throws IOException if there is an error writing
+     */
+    void beforeBodyEnd(Writer writer) throws IOException;
+  }
+
+  private final Decorator decorator;
+
+  private @Nullable DecoratingWriter decoratingWriter = null;
+
+  private @Nullable PrintWriter writer = null;
+
+  /**
+   * @param response the response to write to
+   * @param decorator writes the content that is added to the page
+   */
+  /* package */ DecoratingResponseWrapper(final HttpServletResponse response,
+                                          final Decorator decorator) {
+    super(response);
+    this.decorator = decorator;
+  }
+
+  private boolean isHtml() {
+    final @Nullable String contentType = getContentType();
+    return null != contentType
+        && contentType.startsWith("text/html");
+  }
+
+  @Override
+  public PrintWriter getWriter() throws IOException {
+    if (null == writer) {
+      if (isHtml()) {
+        final DecoratingWriter w = new DecoratingWriter(super.getWriter(), decorator);
+        decoratingWriter = w;
+        writer = new PrintWriter(w);
+      } else {
+        writer = super.getWriter();
+      }
+    }
+    return writer;
+  }
+
+  @Override
+  public void setContentLength(final int len) {
+    // the length of HTML pages changes
+    if (!isHtml()) {
+      super.setContentLength(len);
+    }
+  }
+
+  @Override
+  public void setContentLengthLong(final long len) {
+    if (!isHtml()) {
+      super.setContentLengthLong(len);
+    }
+  }
+
+  @Override
+  public void resetBuffer() {
+    super.resetBuffer();
+    if (null != decoratingWriter) {
+      decoratingWriter.reset();
+    }
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    if (null != decoratingWriter) {
+      decoratingWriter.reset();
+    }
+  }
+
+  /**
+   * Looks for the body start and end tags in the characters written and calls
+   * the decorator when they are found.
+   */
+  private static final class DecoratingWriter extends Writer {
+
+    private static final String BODY_START = "<body>";
+
+    private static final String BODY_END = "</body>";
+
+    private final Writer delegate;
+
+    private final Decorator decorator;
+
+    /**
+     * The tag being looked for, null once both tags have been found.
+     */
+    private @Nullable String tag = BODY_START;
+
+    /**
+     * Number of characters of {@link #tag} that have been written and not yet
+     * passed on to {@link #delegate}.
+     */
+    private int matched = 0;
+
+    DecoratingWriter(final Writer delegate,
+                     final Decorator decorator) {
+      this.delegate = delegate;
+      this.decorator = decorator;
+    }
+
+    /**
+     * Start looking for the body start tag again, called when the response
+     * buffer is reset.
+     */
+    void reset() {
+      tag = BODY_START;
+      matched = 0;
+    }
+
+    @Override
+    public void write(final char[] cbuf,
+                      final int off,
+                      final int len)
+        throws IOException {
+      final int end = off
+          + len;
+      int runStart = off;
+      for (int i = off; i < end
+          && null != tag; ++i) {
+        final char c = cbuf[i];
+        if (c == tag.charAt(matched)) {
+          delegate.write(cbuf, runStart, i
+              - runStart);
+          runStart = i
+              + 1;
+
+          ++matched;
+          if (matched == tag.length()) {
+            tagFound(tag);
+          }
+        } else if (matched > 0) {
+          // the held back characters weren't a tag, the start of a tag is only
+          // at the first character
+          delegate.write(tag, 0, matched);
+          matched = 0;
+          if (c == tag.charAt(0)) {
+            delegate.write(cbuf, runStart, i
+                - runStart);
+            runStart = i
+                + 1;
+            matched = 1;
+          }
+        }
+      }
+      delegate.write(cbuf, runStart, end
+          - runStart);
+    }
+
+    private void tagFound(final String found) throws IOException {
+      matched = 0;
+      if (BODY_START.equals(found)) {
+        delegate.write(found);
+        decorator.afterBodyStart(delegate);
+        tag = BODY_END;
+      } else {
+        decorator.beforeBodyEnd(delegate);
+        delegate.write(found);
+        tag = null;
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      delegate.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (null != tag
+          && matched > 0) {
+        delegate.write(tag, 0, matched);
+        matched = 0;
+      }
+      delegate.close();
+    }
+  }
+
+}
@@ -17,6 +17,8 @@ import fll.db.DumpDB;
 import fll.db.GenerateDB;
 import fll.db.GlobalParameters;
 import fll.db.ImportDB;
+import fll.db.IncrementalBackup;
+import fll.db.PooledDataSource;
 import fll.db.Queries;
 import fll.util.FLLInternalException;
 import fll.xml.ChallengeDescription;
@@ -51,6 +53,8 @@ public class FLLContextListener implements ServletContextListener {
     application.setRequestCharacterEncoding(Utilities.DEFAULT_CHARSET);
     application.setResponseCharacterEncoding(Utilities.DEFAULT_CHARSET);
 
+    IncrementalBackup.deleteStaleWorkDirectories(DumpDB.getDatabaseBackupPath());
+
     initDataSource(application);
 
     // set some default text
@@ -61,6 +65,10 @@ public class FLLContextListener implements ServletContextListener {
   public void contextDestroyed(final ServletContextEvent event) {
     final ServletContext application = event.getServletContext();
 
+    // backups read the database before they are queued, but need to finish
+    // writing before the application exits
+    IncrementalBackup.awaitPendingBackups();
+
     // shutdown the database
     final DataSource datasource = ApplicationAttributes.getDataSource(application);
     try (Connection connection = datasource.getConnection()) {
@@ -72,6 +80,10 @@ public class FLLContextListener implements ServletContextListener {
     } catch (final SQLException e) {
       LOGGER.error("Error getting connection to shutdown the database", e);
     }
+
+    if (datasource instanceof PooledDataSource) {
+      ((PooledDataSource) datasource).close();
+    }
   }
 
   // use lock object so that we know for sure what we are locking on
@@ -85,7 +97,7 @@ public class FLLContextListener implements ServletContextListener {
       if (null == ApplicationAttributes.getAttribute(application, ApplicationAttributes.DATASOURCE, DataSource.class)) {
         LOGGER.trace("Datasource not available, creating");
 
-        final DataSource datasource = Utilities.createFileDataSource(database);
+        final DataSource datasource = new PooledDataSource(Utilities.createFileDataSource(database));
         application.setAttribute(ApplicationAttributes.DATASOURCE, datasource);
 
         try (Connection connection = datasource.getConnection()) {
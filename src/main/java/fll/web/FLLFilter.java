@@ -6,9 +6,8 @@
 
 package fll.web;
 
-import java.io.CharArrayWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
@@ -108,12 +107,16 @@ public class FLLFilter implements Filter {
             possiblyInstallSetupAuthentication(application, session);
           }
 
-          // keep browser from caching any content
-          // TODO consider allowing some caching
-          // https://github.com/jpschewe/fll-sw/issues/1316
-          httpResponse.setHeader("Cache-Control", "no-store"); // HTTP 1.1
-          httpResponse.setHeader("Pragma", "no-cache"); // HTTP 1.0
-          httpResponse.setDateHeader("Expires", 0); // proxy server cache
+          if (isStaticAsset(path)) {
+            // the default servlet sends ETag and Last-Modified, so the browser
+            // can keep the file and only needs to check that it hasn't changed
+            httpResponse.setHeader("Cache-Control", "no-cache");
+          } else {
+            // keep browser from caching any generated content
+            httpResponse.setHeader("Cache-Control", "no-store"); // HTTP 1.1
+            httpResponse.setHeader("Pragma", "no-cache"); // HTTP 1.0
+            httpResponse.setDateHeader("Expires", 0); // proxy server cache
+          }
 
           if (!noFooter(path)
               || httpRequest.isAsyncStarted()) {
@@ -140,80 +143,72 @@ public class FLLFilter implements Filter {
                                      final FilterChain chain,
                                      final HttpSession session)
       throws IOException, ServletException {
-    final ByteResponseWrapper wrapper = new ByteResponseWrapper(httpResponse);
-
     LOGGER.debug("Initial response character encoding: {}", httpResponse.getCharacterEncoding());
 
+    final DecoratingResponseWrapper wrapper = new DecoratingResponseWrapper(httpResponse,
+                                                                            new PageDecorator(path, httpRequest,
+                                                                                              session));
+
     chain.doFilter(httpRequest, wrapper);
 
-    final String responseContentType = wrapper.getContentType();
     LOGGER.debug("response content type: {} character encoding: {}", wrapper.getContentType(),
                  wrapper.getCharacterEncoding());
+  }
 
-    if (wrapper.isStringUsed()) {
-      if (null != responseContentType
-          && responseContentType.startsWith("text/html")) {
-
-        final String origStr = wrapper.getString();
-
-        try (PrintWriter writer = httpResponse.getWriter()) {
-
-          final CharArrayWriter caw = new CharArrayWriter();
-          final String bodyTag = "<body>";
-          final int bodyIndex = origStr.indexOf(bodyTag);
-          final int bodyEndIndex = origStr.indexOf("</body>");
-          LOGGER.trace("Body index {} body end index {}", bodyIndex, bodyEndIndex);
-
-          if (-1 != bodyIndex
-              && -1 != bodyEndIndex) {
-
-            final int endOfBodyTagIndex = bodyIndex
-                + bodyTag.length();
-            caw.write(origStr.substring(0, endOfBodyTagIndex));
-
-            if (!noNavbar(path)) {
-              addNavbar(caw, session, httpRequest);
-            } else {
-              LOGGER.debug("Skipping navbar");
-            }
-
-            caw.write(origStr.substring(endOfBodyTagIndex, bodyEndIndex
-                - 1));
-
-            if (path.startsWith(httpRequest.getContextPath()
-                + "/public")) {
-              addPublicFooter(caw);
-            } else {
-              addFooter(caw, httpRequest);
-            }
+  /**
+   * Adds the navbar and footer to HTML pages.
+   */
+  private static final class PageDecorator implements DecoratingResponseWrapper.Decorator {
+    private final String path;
 
-            caw.write(origStr.substring(bodyEndIndex, origStr.length()));
+    private final HttpServletRequest request;
 
-            final String modified = caw.toString();
-            httpResponse.setContentLength(modified.getBytes(Utilities.DEFAULT_CHARSET).length);
-            writer.print(modified);
-          } else {
-            LOGGER.debug("No navbar/footer");
+    private final HttpSession session;
 
-            writer.print(origStr);
-          }
+    PageDecorator(final String path,
+                  final HttpServletRequest request,
+                  final HttpSession session) {
+      this.path = path;
+      this.request = request;
+      this.session = session;
+    }
 
-        } // writer allocation
+    @Override
+    public void afterBodyStart(final Writer writer) throws IOException {
+      if (!noNavbar(path)) {
+        addNavbar(writer, session, request);
       } else {
-        LOGGER.debug("non-html text content type: {}", responseContentType);
+        LOGGER.debug("Skipping navbar");
+      }
+    }
 
-        final String origStr = wrapper.getString();
-        try (PrintWriter writer = httpResponse.getWriter()) {
-          writer.print(origStr);
-        }
+    @Override
+    public void beforeBodyEnd(final Writer writer) throws IOException {
+      if (path.startsWith(request.getContextPath()
+          + "/public")) {
+        addPublicFooter(writer);
+      } else {
+        addFooter(writer, request);
       }
-    } else if (wrapper.isBinaryUsed()) {
-      LOGGER.debug("binary content type: {}. Data written directly.", responseContentType);
-    } else {
-      LOGGER.debug("No output stream used?");
     }
   }
 
+  /**
+   * @param path the path to check
+   * @return true if the path is a file that is served as is
+   */
+  private static boolean isStaticAsset(final String path) {
+    // HTML pages get the navbar and footer, which depend on the user
+    return path.endsWith(".js")
+        || path.endsWith(".css")
+        || path.endsWith(".jpg")
+        || path.endsWith(".jpeg")
+        || path.endsWith(".gif")
+        || path.endsWith(".png")
+        || path.endsWith(".svg")
+        || path.endsWith(".ico");
+  }
+
   // CHECKSTYLE:OFF don't want conditional logic simplified
   /**
    * @param url the url to check
@@ -284,15 +279,15 @@ public class FLLFilter implements Filter {
   // CHECKSTYLE:ON
 
   /**
-   * Writer the footer to the char array writer.
+   * Write the footer to the writer.
    */
-  private static void addFooter(final CharArrayWriter caw,
+  private static void addFooter(final Writer writer,
                                 final HttpServletRequest request)
       throws IOException {
     final HttpSession session = request.getSession();
     final AuthenticationContext auth = SessionAttributes.getAuthentication(session);
 
-    final Formatter formatter = new Formatter(caw);
+    final Formatter formatter = new Formatter(writer);
     formatter.format("<hr />%n");
     formatter.format("<table style='border-spacing: 5px'>%n");
 
@@ -308,16 +303,16 @@ public class FLLFilter implements Filter {
   }
 
   /**
-   * Writer the navbar to the char array writer.
+   * Write the navbar to the writer.
    */
-  private static void addNavbar(final CharArrayWriter caw,
+  private static void addNavbar(final Writer writer,
                                 final HttpSession session,
                                 final HttpServletRequest request)
       throws IOException {
     final AuthenticationContext auth = SessionAttributes.getAuthentication(session);
 
     final String contextPath = request.getContextPath();
-    final Formatter formatter = new Formatter(caw);
+    final Formatter formatter = new Formatter(writer);
 
     formatter.format("<div class='navbar'>%n");
     formatter.format("  <ul>%n");
@@ -370,10 +365,10 @@ public class FLLFilter implements Filter {
   }
 
   /**
-   * Writer the footer for public pages to the char array writer.
+   * Write the footer for public pages to the writer.
    */
-  private static void addPublicFooter(final CharArrayWriter caw) throws IOException {
-    final Formatter formatter = new Formatter(caw);
+  private static void addPublicFooter(final Writer writer) throws IOException {
+    final Formatter formatter = new Formatter(writer);
     formatter.format("<hr />%n");
     formatter.format("<table>%n");
     formatter.format("  <tr><td>Software version: %s</td></tr>%n", Version.getVersion());
@@ -416,12 +411,18 @@ public class FLLFilter implements Filter {
 
   private static void possiblyInstallSetupAuthentication(final ServletContext application,
                                                          final HttpSession session) {
+    if (isDatabaseInitializedCached(application)) {
+      return;
+    }
+
     final DataSource datasource = ApplicationAttributes.getDataSource(application);
     try (Connection connection = datasource.getConnection()) {
 
       // check if the database is initialized
       final boolean dbinitialized = Utilities.testDatabaseInitialized(connection);
-      if (!dbinitialized) {
+      if (dbinitialized) {
+        application.setAttribute(ApplicationAttributes.DATABASE_INITIALIZED, Boolean.TRUE);
+      } else {
         // setup special authentication for setup
         LOGGER.info("No database, setting inSetup authentication");
         AuthenticationContext auth = AuthenticationContext.inSetup();
@@ -433,6 +434,18 @@ public class FLLFilter implements Filter {
 
   }
 
+  /**
+   * Only a positive result is cached, setup clears it before replacing the
+   * database.
+   *
+   * @return true if the database is known to be initialized
+   */
+  private static boolean isDatabaseInitializedCached(final ServletContext application) {
+    return Boolean.TRUE.equals(ApplicationAttributes.getAttribute(application,
+                                                                  ApplicationAttributes.DATABASE_INITIALIZED,
+                                                                  Boolean.class));
+  }
+
   /**
    * @return true if everything is OK, false if a redirect happened
    */
@@ -466,11 +479,19 @@ public class FLLFilter implements Filter {
       return false;
     }
 
+    if (isDatabaseInitializedCached(application)
+        && null != ApplicationAttributes.getAttribute(application, ApplicationAttributes.CHALLENGE_DESCRIPTION,
+                                                      ChallengeDescription.class)) {
+      LOGGER.trace("Database initialized and challenge loaded, nothing to do");
+      return true;
+    }
+
     final DataSource datasource = ApplicationAttributes.getDataSource(application);
     try (Connection connection = datasource.getConnection()) {
 
       // check if the database is initialized
-      final boolean dbinitialized = Utilities.testDatabaseInitialized(connection);
+      final boolean dbinitialized = isDatabaseInitializedCached(application)
+          || Utilities.testDatabaseInitialized(connection);
       if (!dbinitialized) {
         LOGGER.warn("Database not initialized, redirecting to setup");
         SessionAttributes.appendToMessage(session,
@@ -486,6 +507,8 @@ public class FLLFilter implements Filter {
         return false;
       }
 
+      application.setAttribute(ApplicationAttributes.DATABASE_INITIALIZED, Boolean.TRUE);
+
       if (null == ApplicationAttributes.getAttribute(application, ApplicationAttributes.CHALLENGE_DESCRIPTION,
                                                      ChallengeDescription.class)) {
         LOGGER.debug("Loading challenge descriptor from database");
@@ -47,7 +47,7 @@ public final class SelectHeaderRow {
       final Path file = Paths.get(fileName);
       final String sheetName = SessionAttributes.getAttribute(session, UploadSpreadsheet.SHEET_NAME_KEY, String.class);
 
-      final CellFileReader reader = CellFileReader.createCellReader(file, sheetName);
+      final CellFileReader reader = UploadSpreadsheet.createCellReader(session, file, sheetName);
 
       final int numRowsToLoad = WebUtils.getIntRequestParameter(request, "numRowsToLoad", DEFAULT_NUM_ROWS_TO_LOAD);
       pageContext.setAttribute("numRowsToLoad", numRowsToLoad);
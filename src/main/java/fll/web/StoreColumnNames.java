@@ -62,7 +62,9 @@ public class StoreColumnNames extends BaseFLLServlet {
     final String sheetName = SessionAttributes.getAttribute(session, UploadSpreadsheet.SHEET_NAME_KEY, String.class);
 
     try {
-      final Collection<String> headerNames = extractHeaderNames(file, sheetName, headerRowIndex);
+      final Collection<String> headerNames = extractHeaderNames(UploadSpreadsheet.createCellReader(session, file,
+                                                                                                   sheetName),
+                                                                headerRowIndex);
 
       session.setAttribute(HEADER_NAMES_KEY, headerNames);
 
@@ -90,7 +92,22 @@ public class StoreColumnNames extends BaseFLLServlet {
                                                       final @Nullable String sheetName,
                                                       final int headerRowIndex)
       throws InvalidFormatException, IOException {
-    final CellFileReader reader = CellFileReader.createCellReader(file, sheetName);
+    try (CellFileReader reader = CellFileReader.createCellReader(file, sheetName)) {
+      return extractHeaderNames(reader, headerRowIndex);
+    }
+  }
+
+  /**
+   * Get the names of the headers. Empty headers are removed.
+   *
+   * @param reader the reader positioned at the start of the file
+   * @param headerRowIndex the index of the header row
+   * @return the header names
+   * @throws IOException if there is an error reading the file
+   */
+  public static Collection<String> extractHeaderNames(final CellFileReader reader,
+                                                      final int headerRowIndex)
+      throws IOException {
     reader.skipRows(headerRowIndex);
     final @Nullable String @Nullable [] headerRow = reader.readNext();
 
@@ -7,14 +7,19 @@ package fll.web;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.tomcat.util.http.fileupload.FileUploadException;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import fll.Utilities;
+import fll.util.CellFileReader;
 import fll.util.ExcelCellReader;
 import fll.util.FLLRuntimeException;
+import fll.util.ParsedCellFile;
 import fll.web.schedule.UploadScheduleData;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletException;
@@ -63,6 +68,7 @@ public final class UploadSpreadsheet extends BaseFLLServlet {
     session.removeAttribute(UploadSpreadsheet.SHEET_NAME_KEY);
     session.removeAttribute(StoreColumnNames.HEADER_NAMES_KEY);
     session.removeAttribute(StoreColumnNames.HEADER_ROW_INDEX_KEY);
+    session.removeAttribute(PARSED_SPREADSHEET_KEY);
   }
 
   /**
@@ -72,6 +78,40 @@ public final class UploadSpreadsheet extends BaseFLLServlet {
    */
   public static final String SHEET_NAME_KEY = "sheetName";
 
+  /**
+   * Session key for the parsed contents of the uploaded file, so that the steps
+   * of the workflow don't parse the file again.
+   * The data type is {@link ParsedCellFile}.
+   */
+  public static final String PARSED_SPREADSHEET_KEY = "parsedSpreadsheet";
+
+  /**
+   * Read the uploaded file. The file is parsed the first time that it's read
+   * and the contents are stored in the session for later reads.
+   *
+   * @param session where to store the parsed file
+   * @param file the file to read
+   * @param sheetName the sheet to read, null for a CSV file
+   * @return a reader for the contents of the file
+   * @throws IOException if there is an error reading the file
+   * @throws InvalidFormatException if there is an error parsing the spreadsheet
+   */
+  public static CellFileReader createCellReader(final HttpSession session,
+                                                final Path file,
+                                                final @Nullable String sheetName)
+      throws IOException, InvalidFormatException {
+    final @Nullable ParsedCellFile cached = SessionAttributes.getAttribute(session, PARSED_SPREADSHEET_KEY,
+                                                                           ParsedCellFile.class);
+    if (null != cached
+        && cached.isContentsOf(file, sheetName)) {
+      return cached.createReader();
+    }
+
+    final ParsedCellFile parsed = ParsedCellFile.parse(file, sheetName);
+    session.setAttribute(PARSED_SPREADSHEET_KEY, parsed);
+    return parsed.createReader();
+  }
+
   @Override
   protected void processRequest(final HttpServletRequest request,
                                 final HttpServletResponse response,
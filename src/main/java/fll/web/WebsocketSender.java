@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import jakarta.websocket.Session;
+
+/**
+ * Sends text messages to websockets using a shared thread pool of fixed size.
+ * Each session has a queue of pending messages that is written by at most one
+ * thread at a time, so a slow client only delays its own messages. A message
+ * with a coalesce key replaces a pending message for the same session with the
+ * same key. A session that gets too far behind is dropped.
+ */
+public final class WebsocketSender {
+
+  private static final org.apache.logging.log4j.Logger LOGGER = org.apache.logging.log4j.LogManager.getLogger();
+
+  /**
+   * Maximum number of messages waiting for a session before the session is
+   * dropped.
+   */
+  /* package */ static final int MAX_PENDING_MESSAGES = 500;
+
+  private static final int NUM_THREADS = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger(0);
+
+  // platform threads as sending a message synchronizes on the session, which
+  // would pin a virtual thread to its carrier
+  private static final ExecutorService THREAD_POOL = Executors.newFixedThreadPool(NUM_THREADS, r -> {
+    final Thread thread = new Thread(r, "websocket-sender-"
+        + THREAD_COUNT.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private static final Map<Session, Deque<PendingMessage>> QUEUES = new HashMap<>();
+
+  private static final Object LOCK = new Object();
+
+  private static final AtomicLong COALESCED_MESSAGES = new AtomicLong(0);
+
+  private static final AtomicLong DROPPED_SESSIONS = new AtomicLong(0);
+
+  private static int maxPendingMessages = 0;
+
+  private WebsocketSender() {
+  }
+
+  private record PendingMessage(String text,
+                                @Nullable String coalesceKey,
+                                Runnable onError) {
+  }
+
+  /**
+   * Queue a message to be sent to a session.
+   *
+   * @param session where to send the message
+   * @param text the message
+   * @param coalesceKey if not null, a message waiting to be sent to the session
+   *          with the same key is replaced by this message
+   * @param onError executed if the message cannot be sent or the session is
+   *          dropped for being too far behind, typically removes the session
+   *          from the caller's list of clients
+   */
+  public static void send(final Session session,
+                          final String text,
+                          final @Nullable String coalesceKey,
+                          final Runnable onError) {
+    final PendingMessage message = new PendingMessage(text, coalesceKey, onError);
+    synchronized (LOCK) {
+      Deque<PendingMessage> queue = QUEUES.get(session);
+      if (null == queue) {
+        queue = new ArrayDeque<>();
+        QUEUES.put(session, queue);
+        queue.add(message);
+        final Deque<PendingMessage> toDrain = queue;
+        THREAD_POOL.execute(() -> drain(session, toDrain));
+        return;
+      }
+
+      if (null != coalesceKey) {
+        final Iterator<PendingMessage> iter = queue.iterator();
+        while (iter.hasNext()) {
+          if (coalesceKey.equals(iter.next().coalesceKey())) {
+            iter.remove();
+            COALESCED_MESSAGES.incrementAndGet();
+          }
+        }
+      }
+
+      if (queue.size() >= MAX_PENDING_MESSAGES) {
+        LOGGER.warn("Session {} has {} messages waiting to be sent, dropping the session", session.getId(),
+                    queue.size());
+        queue.clear();
+        QUEUES.remove(session);
+        DROPPED_SESSIONS.incrementAndGet();
+        THREAD_POOL.execute(onError);
+        return;
+      }
+
+      queue.add(message);
+      maxPendingMessages = Math.max(maxPendingMessages, queue.size());
+    }
+  }
+
+  /**
+   * Send the messages for a session until its queue is empty.
+   */
+  private static void drain(final Session session,
+                            final Deque<PendingMessage> queue) {
+    while (true) {
+      final PendingMessage message;
+      synchronized (LOCK) {
+        final @Nullable PendingMessage next = queue.poll();
+        if (null == next) {
+          // a queue that was dropped may already have been replaced
+          QUEUES.remove(session, queue);
+          return;
+        }
+        message = next;
+      }
+
+      if (!WebUtils.sendWebsocketTextMessage(session, message.text())) {
+        synchronized (LOCK) {
+          queue.clear();
+          QUEUES.remove(session, queue);
+        }
+        try {
+          message.onError().run();
+        } catch (final RuntimeException e) {
+          LOGGER.error("Error cleaning up after failing to send to session {}", session.getId(), e);
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * @return number of messages waiting to be sent to all sessions
+   */
+  public static int getPendingMessages() {
+    synchronized (LOCK) {
+      return QUEUES.values().stream().mapToInt(Deque::size).sum();
+    }
+  }
+
+  /**
+   * @return number of sessions that have messages waiting to be sent
+   */
+  public static int getBusySessions() {
+    synchronized (LOCK) {
+      return QUEUES.size();
+    }
+  }
+
+  /**
+   * @return the largest number of messages that have been waiting for a single
+   *         session
+   */
+  public static int getMaxPendingMessages() {
+    synchronized (LOCK) {
+      return maxPendingMessages;
+    }
+  }
+
+  /**
+   * @return number of messages that were replaced by a newer message before
+   *         being sent
+   */
+  public static long getCoalescedMessages() {
+    return COALESCED_MESSAGES.get();
+  }
+
+  /**
+   * @return number of sessions dropped for being too far behind
+   */
+  public static long getDroppedSessions() {
+    return DROPPED_SESSIONS.get();
+  }
+
+}
@@ -17,6 +17,8 @@ import java.util.Set;
 import javax.sql.DataSource;
 
 import fll.JudgeInformation;
+import fll.ScoreSummaryTracker;
+import fll.SubjectiveScoreVersions;
 import fll.db.Queries;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
@@ -133,5 +135,9 @@ public class CommitJudges extends BaseFLLServlet {
         deleteScores.executeUpdate();
       }
     }
+    if (!oldJudgeInfo.isEmpty()) {
+      ScoreSummaryTracker.allModified(connection, tournament);
+      SubjectiveScoreVersions.allModified(connection, tournament);
+    }
   }
 }
@@ -15,6 +15,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import fll.db.DumpDB;
+import fll.db.IncrementalBackup;
 import jakarta.servlet.jsp.PageContext;
 
 /**
@@ -35,18 +36,25 @@ public final class DatabaseBackupsIndex {
     page.setAttribute("BASE_URL", baseWeb);
 
     final List<String> backups = new LinkedList<>();
+    final List<String> incrementalBackups = new LinkedList<>();
     try (DirectoryStream<Path> directories = Files.newDirectoryStream(DumpDB.getDatabaseBackupPath())) {
       for (final Path p : directories) {
         if (Files.isRegularFile(p)) {
           final String name = String.valueOf(p.getFileName());
-          backups.add(name);
+          if (name.endsWith(IncrementalBackup.MANIFEST_SUFFIX)) {
+            incrementalBackups.add(name);
+          } else {
+            backups.add(name);
+          }
         }
       }
     } catch (final IOException e) {
       LOGGER.error("Got error getting list of backups", e);
     }
     Collections.sort(backups);
+    Collections.sort(incrementalBackups);
     page.setAttribute("backups", backups);
+    page.setAttribute("incrementalBackups", incrementalBackups);
   }
 
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web.admin;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.zip.ZipOutputStream;
+
+import fll.db.DumpDB;
+import fll.db.IncrementalBackup;
+import fll.web.AuthenticationContext;
+import fll.web.BaseFLLServlet;
+import fll.web.SessionAttributes;
+import fll.web.UserRole;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Download an automatic database backup as a database dump.
+ * Parameter "backup" is the name of the backup file.
+ */
+@WebServlet("/admin/DownloadDatabaseBackup")
+public class DownloadDatabaseBackup extends BaseFLLServlet {
+
+  @Override
+  protected void processRequest(final HttpServletRequest request,
+                                final HttpServletResponse response,
+                                final ServletContext application,
+                                final HttpSession session)
+      throws IOException, ServletException {
+    final AuthenticationContext auth = SessionAttributes.getAuthentication(session);
+
+    if (!auth.requireRoles(request, response, session, Set.of(UserRole.ADMIN), true)) {
+      return;
+    }
+
+    final String backup = request.getParameter("backup");
+    if (null == backup
+        || !backup.endsWith(IncrementalBackup.MANIFEST_SUFFIX)
+        || backup.contains("/")
+        || backup.contains("\\")) {
+      response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+      return;
+    }
+
+    final Path manifestFile = DumpDB.getDatabaseBackupPath().resolve(backup);
+    if (!Files.isRegularFile(manifestFile)) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    final String filename = backup.substring(0, backup.length()
+        - IncrementalBackup.MANIFEST_SUFFIX.length())
+        + ".flldb";
+    response.reset();
+    response.setContentType("application/zip");
+    response.setHeader("Content-Disposition", "attachment; filename=\""
+        + filename
+        + "\"");
+
+    try (ZipOutputStream zipOut = new ZipOutputStream(response.getOutputStream())) {
+      IncrementalBackup.writeDump(manifestFile, zipOut);
+    }
+  }
+
+}
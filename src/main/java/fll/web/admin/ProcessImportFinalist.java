@@ -87,7 +87,7 @@ public class ProcessImportFinalist extends BaseFLLServlet {
             throw new MissingRequiredParameterException("finalistFile");
           }
           try (ZipInputStream zipfile = new ZipInputStream(dumpFileItem.getInputStream())) {
-            ImportDB.loadDatabaseDump(zipfile, memConnection, false);
+            ImportDB.loadDatabaseDump(zipfile, memConnection, importDataSource, false);
 
             final String sourceTournamentName = Tournament.getCurrentTournament(memConnection).getName();
 
@@ -79,7 +79,7 @@ public class SubjectiveOffline extends BaseFLLServlet {
       try (Connection connection = datasource.getConnection(); InputStream fileStream = fileItem.getInputStream()) {
         final Tournament currentTournament = Tournament.getCurrentTournament(connection);
 
-        final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+        final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
         final OfflineData offlineData = jsonMapper.readValue(fileStream, OfflineData.class);
 
@@ -107,6 +107,7 @@ public final class UploadTeams extends BaseFLLServlet {
           file.deleteOnExit();
         }
       }
+      session.removeAttribute(UploadSpreadsheet.PARSED_SPREADSHEET_KEY);
     }
     SessionAttributes.appendToMessage(session, message.toString());
     response.sendRedirect(response.encodeRedirectURL("teamColumnSelection.jsp"));
@@ -133,7 +134,7 @@ public final class UploadTeams extends BaseFLLServlet {
                                final Connection connection,
                                final HttpSession session)
       throws SQLException, IOException, InvalidFormatException {
-    final CellFileReader reader = CellFileReader.createCellReader(file, sheetName);
+    final CellFileReader reader = UploadSpreadsheet.createCellReader(session, file.toPath(), sheetName);
 
     final int headerRowIndex = SessionAttributes.getNonNullAttribute(session, StoreColumnNames.HEADER_ROW_INDEX_KEY,
                                                                      Integer.class)
@@ -35,6 +35,7 @@ import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNul
 
 import fll.Utilities;
 import fll.db.Queries;
+import fll.db.TournamentDataVersions;
 import fll.util.FLLRuntimeException;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
@@ -68,7 +69,7 @@ public class AwardsReportSortedGroupsServlet extends HttpServlet {
     try (Connection connection = datasource.getConnection()) {
       final int tournamentId = Queries.getCurrentTournament(connection);
 
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
       response.reset();
       response.setContentType("application/json");
@@ -102,7 +103,7 @@ public class AwardsReportSortedGroupsServlet extends HttpServlet {
       return;
     }
 
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+    final ObjectMapper jsonMapper = Utilities.getJsonMapper();
     response.reset();
     response.setContentType("application/json");
 
@@ -209,6 +210,8 @@ public class AwardsReportSortedGroupsServlet extends HttpServlet {
         ++index;
       }
     }
+
+    TournamentDataVersions.modified(connection, tournamentId);
   }
 
 }
@@ -56,7 +56,7 @@ public class CategoryScheduleMappingServlet extends HttpServlet {
     final DataSource datasource = ApplicationAttributes.getDataSource(application);
     try (Connection connection = datasource.getConnection()) {
 
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
       response.reset();
       response.setContentType("application/json");
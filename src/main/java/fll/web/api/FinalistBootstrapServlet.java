@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.HexFormat;
+
+import javax.sql.DataSource;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import fll.Tournament;
+import fll.Utilities;
+import fll.db.CategoriesIgnored;
+import fll.db.FinalistGroup;
+import fll.db.FinalistNonNumericNominees;
+import fll.db.PlayoffSchedule;
+import fll.db.Queries;
+import fll.db.TournamentDataVersions;
+import fll.db.TournamentParameters;
+import fll.util.FLLInternalException;
+import fll.util.FLLRuntimeException;
+import fll.web.ApplicationAttributes;
+import fll.web.AuthenticationContext;
+import fll.web.SessionAttributes;
+import fll.web.playoff.Playoff;
+import fll.web.report.finalist.FinalistSchedule;
+import fll.web.report.finalist.FinalistScheduleParameters;
+import fll.xml.ChallengeDescription;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Everything that the finalist and deliberation pages load from the server in
+ * a single object. The properties have the same values as the individual
+ * servlets, for example "tournamentTeams" is the same as
+ * {@link TournamentTeamsServlet}. The data is read in a single transaction so
+ * that all properties are consistent with each other.
+ * A client that polls with If-None-Match gets a 304 response when nothing has
+ * changed, without the server reading the data. Otherwise the data is written
+ * to the response as it is read.
+ */
+@WebServlet("/api/FinalistBootstrap")
+public class FinalistBootstrapServlet extends HttpServlet {
+
+  @Override
+  protected final void doGet(final HttpServletRequest request,
+                             final HttpServletResponse response)
+      throws IOException, ServletException {
+    final ServletContext application = getServletContext();
+    final HttpSession session = request.getSession();
+    final AuthenticationContext auth = SessionAttributes.getAuthentication(session);
+
+    if (!auth.isJudge()
+        && !auth.isReportGenerator()) {
+      response.sendError(HttpServletResponse.SC_FORBIDDEN);
+      return;
+    }
+
+    final ChallengeDescription description = ApplicationAttributes.getChallengeDescription(application);
+    final DataSource datasource = ApplicationAttributes.getDataSource(application);
+
+    try (Connection connection = datasource.getConnection()) {
+      // checked before reading the data so that a poll without changes is cheap
+      final String etag = computeETag(connection, auth.isReportGenerator());
+
+      response.reset();
+      // the browser must check with the server each time, it can use the cached
+      // copy when the server returns 304
+      response.setHeader("Cache-Control", "private, no-cache");
+      response.setHeader("ETag", etag);
+
+      if (matches(request.getHeader("If-None-Match"), etag)) {
+        response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        return;
+      }
+
+      response.setContentType("application/json");
+      response.setCharacterEncoding(Utilities.DEFAULT_CHARSET.name());
+      writeSnapshot(connection, description, auth.isReportGenerator(), response.getOutputStream());
+    } catch (final SQLException e) {
+      throw new FLLRuntimeException(e);
+    }
+  }
+
+  /**
+   * The ETag is computed from {@link TournamentDataVersions} without reading
+   * the data. The version is read before the data, so a modification made
+   * while the data is read gives a new ETag on the next request.
+   *
+   * @param connection database connection
+   * @param includeScheduleParameters see
+   *          {@link #writeSnapshot(Connection, ChallengeDescription, boolean, OutputStream)}
+   * @return the ETag for the current data, including the quotes
+   * @throws SQLException on a database error
+   */
+  /* package */ static String computeETag(final Connection connection,
+                                          final boolean includeScheduleParameters)
+      throws SQLException {
+    final int tournamentID = Queries.getCurrentTournament(connection);
+    final String version = tournamentID
+        + "\n"
+        + includeScheduleParameters
+        + "\n"
+        + TournamentDataVersions.getVersion(connection, tournamentID);
+
+    final byte[] digest = createDigest().digest(version.getBytes(Utilities.DEFAULT_CHARSET));
+    return String.format("\"%s\"", HexFormat.of().formatHex(digest, 0, 16));
+  }
+
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new FLLInternalException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * @param ifNoneMatch value of the If-None-Match header
+   * @param etag the current ETag
+   * @return true if the client has the current data
+   */
+  /* package */ static boolean matches(final @Nullable String ifNoneMatch,
+                                       final String etag) {
+    if (null == ifNoneMatch) {
+      return false;
+    }
+    for (final String candidate : ifNoneMatch.split(",")) {
+      final String trimmed = candidate.trim();
+      if ("*".equals(trimmed)
+          || etag.equals(trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Write the data for the current tournament as a JSON object. Each property
+   * is written as soon as it is read from the database.
+   *
+   * @param connection database connection, the transaction settings are
+   *          restored before returning
+   * @param description challenge description
+   * @param includeScheduleParameters if the finalist schedule parameters should
+   *          be included, these are only visible to head judges
+   * @param output where to write the JSON
+   * @throws SQLException on a database error
+   * @throws IOException on an error writing the JSON
+   */
+  /* package */ static void writeSnapshot(final Connection connection,
+                                          final ChallengeDescription description,
+                                          final boolean includeScheduleParameters,
+                                          final OutputStream output)
+      throws SQLException, IOException {
+    final boolean autoCommit = connection.getAutoCommit();
+    final int isolation = connection.getTransactionIsolation();
+    try {
+      // all reads see the same snapshot of the database
+      connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+      connection.setAutoCommit(false);
+
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
+      try (JsonGenerator generator = jsonMapper.getFactory().createGenerator(output)) {
+        final Tournament tournament = Tournament.getCurrentTournament(connection);
+        final int tournamentID = tournament.getTournamentID();
+
+        generator.writeStartObject();
+
+        generator.writePOJOField("tournament", tournament);
+        generator.writePOJOField("subjectiveCategories", description.getSubjectiveCategories());
+        generator.writePOJOField("virtualSubjectiveCategories", description.getVirtualSubjectiveCategories());
+        generator.writePOJOField("nonNumericCategories",
+                                 CategoriesIgnored.getNonNumericCategories(description, connection, tournament));
+        generator.writePOJOField("tournamentTeams", Queries.getTournamentTeams(connection, tournamentID).values());
+        generator.writePOJOField("awardGroups", Queries.getAwardGroups(connection, tournamentID));
+        generator.writePOJOField("playoffBrackets", Playoff.getPlayoffBrackets(connection, tournamentID));
+        generator.writePOJOField("tournamentParameters",
+                                 new TournamentParametersServlet.TournamentParametersData(TournamentParameters.getRunningHeadToHead(connection,
+                                                                                                                                    tournamentID)));
+
+        generator.writePOJOField("overallScores",
+                                 OverallScoresServlet.getOverallScores(connection, description, tournament));
+        generator.writePOJOField("numericCategoryRanks",
+                                 NumericCategoryRanksServlet.getCategoryRanks(connection, description, tournament));
+        generator.writePOJOField("playoffBracketTeams",
+                                 PlayoffBracketTeamsServlet.getPlayoffBracketTeams(connection, tournamentID));
+
+        generator.writePOJOField("playoffSchedules", PlayoffSchedule.loadPlayoffSchedules(connection, tournament));
+        generator.writePOJOField("finalistGroups", FinalistGroup.loadFinalistGroups(connection, tournament));
+        if (includeScheduleParameters) {
+          generator.writePOJOField("finalistScheduleParameters",
+                                   FinalistScheduleParameters.loadScheduleParameters(connection, tournament));
+        }
+        generator.writePOJOField("finalistSchedules", FinalistSchedule.loadSchedules(connection, tournament));
+        // sorted so that the same nominees are always written the same way
+        generator.writePOJOField("finalistNonNumericNominees",
+                                 FinalistNonNumericNomineesServlet.getAllNominees(connection, tournament).stream()
+                                                                  .sorted(Comparator.comparing(FinalistNonNumericNominees::getCategoryName))
+                                                                  .toList());
+
+        generator.writeEndObject();
+      }
+
+      connection.commit();
+    } catch (final SQLException | IOException | RuntimeException e) {
+      connection.rollback();
+      throw e;
+    } finally {
+      connection.setAutoCommit(autoCommit);
+      connection.setTransactionIsolation(isolation);
+    }
+  }
+
+}
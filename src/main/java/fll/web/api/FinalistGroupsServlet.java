@@ -63,7 +63,7 @@ public class FinalistGroupsServlet extends HttpServlet {
     final DataSource datasource = ApplicationAttributes.getDataSource(application);
     try (Connection connection = datasource.getConnection()) {
 
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
       response.reset();
       response.setContentType("application/json");
@@ -93,7 +93,7 @@ public class FinalistGroupsServlet extends HttpServlet {
       return;
     }
 
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+    final ObjectMapper jsonMapper = Utilities.getJsonMapper();
     response.reset();
     response.setContentType("application/json");
 
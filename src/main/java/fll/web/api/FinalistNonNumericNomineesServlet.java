@@ -64,7 +64,7 @@ public class FinalistNonNumericNomineesServlet extends HttpServlet {
     final DataSource datasource = ApplicationAttributes.getDataSource(application);
     try (Connection connection = datasource.getConnection()) {
 
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
       response.reset();
       response.setContentType("application/json");
@@ -72,13 +72,7 @@ public class FinalistNonNumericNomineesServlet extends HttpServlet {
 
       final Tournament tournament = Tournament.getCurrentTournament(connection);
 
-      final Set<FinalistNonNumericNominees> allNominees = new HashSet<>();
-      for (final String category : FinalistNonNumericNominees.getCategories(connection, tournament.getTournamentID())) {
-        final Set<Integer> nominees = FinalistNonNumericNominees.getNominees(connection, tournament.getTournamentID(),
-                                                                             category);
-        final FinalistNonNumericNominees categoryNominees = new FinalistNonNumericNominees(category, nominees);
-        allNominees.add(categoryNominees);
-      }
+      final Set<FinalistNonNumericNominees> allNominees = getAllNominees(connection, tournament);
 
       jsonMapper.writeValue(writer, allNominees);
     } catch (final SQLException e) {
@@ -86,6 +80,25 @@ public class FinalistNonNumericNomineesServlet extends HttpServlet {
     }
   }
 
+  /**
+   * @param connection database connection
+   * @param tournament the tournament to get the nominees for
+   * @return the nominees for each category
+   * @throws SQLException on a database error
+   */
+  public static Set<FinalistNonNumericNominees> getAllNominees(final Connection connection,
+                                                               final Tournament tournament)
+      throws SQLException {
+    final Set<FinalistNonNumericNominees> allNominees = new HashSet<>();
+    for (final String category : FinalistNonNumericNominees.getCategories(connection, tournament.getTournamentID())) {
+      final Set<Integer> nominees = FinalistNonNumericNominees.getNominees(connection, tournament.getTournamentID(),
+                                                                           category);
+      final FinalistNonNumericNominees categoryNominees = new FinalistNonNumericNominees(category, nominees);
+      allNominees.add(categoryNominees);
+    }
+    return allNominees;
+  }
+
   @Override
   protected final void doPost(final HttpServletRequest request,
                               final HttpServletResponse response)
@@ -99,7 +112,7 @@ public class FinalistNonNumericNomineesServlet extends HttpServlet {
       return;
     }
 
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+    final ObjectMapper jsonMapper = Utilities.getJsonMapper();
     response.reset();
     response.setContentType("application/json");
 
@@ -62,7 +62,7 @@ public class FinalistScheduleParametersServlet extends HttpServlet {
     final DataSource datasource = ApplicationAttributes.getDataSource(application);
     try (Connection connection = datasource.getConnection()) {
 
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
       response.reset();
       response.setContentType("application/json");
@@ -92,7 +92,7 @@ public class FinalistScheduleParametersServlet extends HttpServlet {
       return;
     }
 
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+    final ObjectMapper jsonMapper = Utilities.getJsonMapper();
     response.reset();
     response.setContentType("application/json");
 
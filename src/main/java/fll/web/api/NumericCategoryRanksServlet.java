@@ -68,43 +68,9 @@ public class NumericCategoryRanksServlet extends HttpServlet {
 
       final Tournament tournament = Tournament.getCurrentTournament(connection);
 
-      final Map<String, Map<Integer, Double>> scores = new HashMap<>();
+      final Map<String, Map<Integer, Double>> scores = getCategoryRanks(connection, description, tournament);
 
-      final WinnerType winnerCriteria = description.getWinner();
-      final List<String> judgingStations = Queries.getJudgingStations(connection, tournament.getTournamentID());
-      for (final SubjectiveScoreCategory category : description.getSubjectiveCategories()) {
-        final String categoryTitle = category.getTitle();
-
-        final Map<Integer, Double> categoryScores = scores.computeIfAbsent(categoryTitle, k -> new HashMap<>());
-
-        for (final String judgingStation : judgingStations) {
-          FinalComputedScores.iterateOverSubjectiveScores(connection, category.getName(), winnerCriteria, tournament,
-                                                          judgingStation, (teamNumber,
-                                                                           score,
-                                                                           rank) -> {
-
-                                                            categoryScores.put(teamNumber, Double.valueOf(rank));
-                                                          });
-        } // judging station
-      } // category
-
-      for (final VirtualSubjectiveScoreCategory category : description.getVirtualSubjectiveCategories()) {
-        final String categoryTitle = category.getTitle();
-
-        final Map<Integer, Double> categoryScores = scores.computeIfAbsent(categoryTitle, k -> new HashMap<>());
-
-        for (final String judgingStation : judgingStations) {
-          FinalComputedScores.iterateOverSubjectiveScores(connection, category.getName(), winnerCriteria, tournament,
-                                                          judgingStation, (teamNumber,
-                                                                           score,
-                                                                           rank) -> {
-
-                                                            categoryScores.put(teamNumber, Double.valueOf(rank));
-                                                          });
-        } // judging station
-      } // category
-
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
       jsonMapper.writeValue(writer, scores);
     } catch (final SQLException e) {
       throw new RuntimeException(e);
@@ -112,4 +78,53 @@ public class NumericCategoryRanksServlet extends HttpServlet {
 
   }
 
+  /**
+   * @param connection database connection
+   * @param description challenge description
+   * @param tournament the tournament to get ranks for
+   * @return category title to team number to rank in the judging group
+   * @throws SQLException on a database error
+   */
+  public static Map<String, Map<Integer, Double>> getCategoryRanks(final Connection connection,
+                                                                   final ChallengeDescription description,
+                                                                   final Tournament tournament)
+      throws SQLException {
+    final Map<String, Map<Integer, Double>> scores = new HashMap<>();
+
+    final WinnerType winnerCriteria = description.getWinner();
+    final List<String> judgingStations = Queries.getJudgingStations(connection, tournament.getTournamentID());
+    for (final SubjectiveScoreCategory category : description.getSubjectiveCategories()) {
+      final String categoryTitle = category.getTitle();
+
+      final Map<Integer, Double> categoryScores = scores.computeIfAbsent(categoryTitle, k -> new HashMap<>());
+
+      for (final String judgingStation : judgingStations) {
+        FinalComputedScores.iterateOverSubjectiveScores(connection, category.getName(), winnerCriteria, tournament,
+                                                        judgingStation, (teamNumber,
+                                                                         score,
+                                                                         rank) -> {
+
+                                                          categoryScores.put(teamNumber, Double.valueOf(rank));
+                                                        });
+      } // judging station
+    } // category
+
+    for (final VirtualSubjectiveScoreCategory category : description.getVirtualSubjectiveCategories()) {
+      final String categoryTitle = category.getTitle();
+
+      final Map<Integer, Double> categoryScores = scores.computeIfAbsent(categoryTitle, k -> new HashMap<>());
+
+      for (final String judgingStation : judgingStations) {
+        FinalComputedScores.iterateOverSubjectiveScores(connection, category.getName(), winnerCriteria, tournament,
+                                                        judgingStation, (teamNumber,
+                                                                         score,
+                                                                         rank) -> {
+
+                                                          categoryScores.put(teamNumber, Double.valueOf(rank));
+                                                        });
+      } // judging station
+    } // category
+    return scores;
+  }
+
 }
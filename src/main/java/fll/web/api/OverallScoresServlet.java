@@ -65,36 +65,14 @@ public class OverallScoresServlet extends HttpServlet {
     final DataSource datasource = ApplicationAttributes.getDataSource(application);
     try (Connection connection = datasource.getConnection()) {
 
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
       response.reset();
       response.setContentType("application/json");
       final PrintWriter writer = response.getWriter();
 
       final Tournament tournament = tournamentData.getCurrentTournament();
-      final Collection<String> groups = AwardsScriptReport.getJudgingStationOrder(connection, tournament);
-      final List<AwardCategory> awardOrder = Collections.unmodifiableList(AwardDeterminationOrder.get(connection,
-                                                                                                      description));
-
-      final Map<Integer, Data> scores = new HashMap<>();
-
-      for (final String groupName : groups) {
-        final List<FinalComputedScores.TeamScoreData> groupScoreData = FinalComputedScores.gatherReportData(connection,
-                                                                                                            awardOrder,
-                                                                                                            description,
-                                                                                                            groupName,
-                                                                                                            // compute
-                                                                                                            // ranks
-                                                                                                            // by
-                                                                                                            // judging
-                                                                                                            // group
-                                                                                                            FinalComputedScores.ReportSelector.JUDGING_STATION,
-                                                                                                            tournament);
-        for (final FinalComputedScores.TeamScoreData teamScoreData : groupScoreData) {
-          final Data data = new Data(teamScoreData.overallScore(), teamScoreData.weightedRank());
-          scores.put(teamScoreData.teamNumber(), data);
-        }
-      }
+      final Map<Integer, Data> scores = getOverallScores(connection, description, tournament);
 
       jsonMapper.writeValue(writer, scores);
     } catch (final SQLException e) {
@@ -103,6 +81,43 @@ public class OverallScoresServlet extends HttpServlet {
 
   }
 
+  /**
+   * @param connection database connection
+   * @param description challenge description
+   * @param tournament the tournament to get scores for
+   * @return team number to overall score data
+   * @throws SQLException on a database error
+   */
+  public static Map<Integer, Data> getOverallScores(final Connection connection,
+                                                    final ChallengeDescription description,
+                                                    final Tournament tournament)
+      throws SQLException {
+    final Collection<String> groups = AwardsScriptReport.getJudgingStationOrder(connection, tournament);
+    final List<AwardCategory> awardOrder = Collections.unmodifiableList(AwardDeterminationOrder.get(connection,
+                                                                                                    description));
+
+    final Map<Integer, Data> scores = new HashMap<>();
+
+    for (final String groupName : groups) {
+      final List<FinalComputedScores.TeamScoreData> groupScoreData = FinalComputedScores.gatherReportData(connection,
+                                                                                                          awardOrder,
+                                                                                                          description,
+                                                                                                          groupName,
+                                                                                                          // compute
+                                                                                                          // ranks
+                                                                                                          // by
+                                                                                                          // judging
+                                                                                                          // group
+                                                                                                          FinalComputedScores.ReportSelector.JUDGING_STATION,
+                                                                                                          tournament);
+      for (final FinalComputedScores.TeamScoreData teamScoreData : groupScoreData) {
+        final Data data = new Data(teamScoreData.overallScore(), teamScoreData.weightedRank());
+        scores.put(teamScoreData.teamNumber(), data);
+      }
+    }
+    return scores;
+  }
+
   /**
    * @param overallScore the overall team score
    * @param weightedRank the team's overall weighted rank
@@ -56,7 +56,7 @@ public class PlayoffBracketTeamsServlet extends HttpServlet {
     final DataSource datasource = ApplicationAttributes.getDataSource(application);
     try (Connection connection = datasource.getConnection()) {
 
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
       response.reset();
       response.setContentType("application/json");
@@ -64,13 +64,7 @@ public class PlayoffBracketTeamsServlet extends HttpServlet {
 
       final int tournament = Queries.getCurrentTournament(connection);
 
-      final Collection<String> playoffBrackets = Playoff.getPlayoffBrackets(connection, tournament);
-      final Map<String, Collection<Integer>> playoffBracketTeams = new HashMap<>();
-      for (final String playoffBracket : playoffBrackets) {
-        final Collection<Integer> teams = Playoff.getTeamNumbersForPlayoffBracket(connection, tournament,
-                                                                                  playoffBracket);
-        playoffBracketTeams.put(playoffBracket, teams);
-      }
+      final Map<String, Collection<Integer>> playoffBracketTeams = getPlayoffBracketTeams(connection, tournament);
 
       jsonMapper.writeValue(writer, playoffBracketTeams);
     } catch (final SQLException e) {
@@ -79,4 +73,23 @@ public class PlayoffBracketTeamsServlet extends HttpServlet {
 
   }
 
+  /**
+   * @param connection database connection
+   * @param tournament the tournament to get the brackets for
+   * @return bracket name to team numbers
+   * @throws SQLException on a database error
+   */
+  public static Map<String, Collection<Integer>> getPlayoffBracketTeams(final Connection connection,
+                                                                        final int tournament)
+      throws SQLException {
+    final Collection<String> playoffBrackets = Playoff.getPlayoffBrackets(connection, tournament);
+    final Map<String, Collection<Integer>> playoffBracketTeams = new HashMap<>();
+    for (final String playoffBracket : playoffBrackets) {
+      final Collection<Integer> teams = Playoff.getTeamNumbersForPlayoffBracket(connection, tournament,
+                                                                                playoffBracket);
+      playoffBracketTeams.put(playoffBracket, teams);
+    }
+    return playoffBracketTeams;
+  }
+
 }
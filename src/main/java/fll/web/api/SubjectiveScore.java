@@ -54,6 +54,21 @@ public final class SubjectiveScore {
     commentThinkAbout = null;
   }
 
+  /**
+   * @param judge {@link #getJudge()}
+   * @param teamNumber {@link #getTeamNumber()}
+   * @return a score telling a client that the score no longer exists on the
+   *         server
+   */
+  /* package */ static SubjectiveScore createDeleted(final String judge,
+                                                     final int teamNumber) {
+    final SubjectiveScore score = new SubjectiveScore();
+    score.setJudge(judge);
+    score.setTeamNumber(teamNumber);
+    score.setDeleted(true);
+    return score;
+  }
+
   private boolean scoreOnServer;
 
   /**
@@ -291,6 +306,24 @@ public final class SubjectiveScore {
                                                               final SubjectiveScoreCategory category,
                                                               final Tournament tournament)
       throws SQLException {
+    return getCategoryScores(connection, category, tournament,
+                             NonNumericNominees.getNomineesByJudge(connection, tournament));
+  }
+
+  /**
+   * @param connection database
+   * @param category the category to get scores for
+   * @param tournament the tournament to get scores for
+   * @param nominees the result of
+   *          {@link NonNumericNominees#getNomineesByJudge(Connection, Tournament)}
+   * @return the scores
+   * @throws SQLException on a database error
+   */
+  public static Collection<SubjectiveScore> getCategoryScores(final Connection connection,
+                                                              final SubjectiveScoreCategory category,
+                                                              final Tournament tournament,
+                                                              final Map<String, Map<Integer, Set<String>>> nominees)
+      throws SQLException {
     final Collection<SubjectiveScore> scores = new LinkedList<>();
 
     for (final SubjectiveTeamScore dbScore : DatabaseSubjectiveTeamScore.getScoresForCategory(connection, tournament,
@@ -331,9 +364,8 @@ public final class SubjectiveScore {
       score.setEnumSubScores(enumSubScores);
       score.setGoalComments(goalComments);
 
-      final Set<String> nominatedCategories = NonNumericNominees.getNomineesByJudgeForTeam(connection, tournament,
-                                                                                           score.getJudge(),
-                                                                                           score.getTeamNumber());
+      final Set<String> nominatedCategories = nominees.getOrDefault(score.getJudge(), Collections.emptyMap())
+                                                      .getOrDefault(score.getTeamNumber(), Collections.emptySet());
       score.setNonNumericNominations(nominatedCategories);
 
       scores.add(score);
@@ -8,23 +8,32 @@ package fll.web.api;
 
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.io.Reader;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
 import javax.sql.DataSource;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import org.apache.commons.lang3.StringUtils;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import fll.ScoreSummaryTracker;
+import fll.SubjectiveScoreVersions;
+import fll.SubjectiveScoreVersions.JudgeTeam;
 import fll.Tournament;
 import fll.Utilities;
 import fll.db.NonNumericNominees;
@@ -46,7 +55,10 @@ import jakarta.servlet.http.HttpSession;
 /**
  * API access to subjective scores.
  * GET: {category, {judge, {teamNumber, SubjectiveScore}}}
- * POST: expects the data from GET and returns UploadResult
+ * GET with parameter since: {@link ScoresDelta} with the scores modified since
+ * the version, an empty version gets all scores
+ * POST: expects the data from GET and returns UploadResult, only scores that
+ * are marked as modified are stored
  */
 @WebServlet("/api/SubjectiveScores/*")
 public class SubjectiveScoresServlet extends HttpServlet {
@@ -71,31 +83,30 @@ public class SubjectiveScoresServlet extends HttpServlet {
     try (Connection connection = datasource.getConnection()) {
 
       final Tournament currentTournament = Tournament.getCurrentTournament(connection);
-
-      // category->judge->teamNumber->score
-      final Map<String, Map<String, Map<Integer, SubjectiveScore>>> allScores = new HashMap<String, Map<String, Map<Integer, SubjectiveScore>>>();
-
       final ChallengeDescription challengeDescription = ApplicationAttributes.getChallengeDescription(application);
-      for (final SubjectiveScoreCategory sc : challengeDescription.getSubjectiveCategories()) {
-        // judge->teamNumber->score
-        final Map<String, Map<Integer, SubjectiveScore>> categoryScores = new HashMap<String, Map<Integer, SubjectiveScore>>();
-
-        for (final SubjectiveScore score : SubjectiveScore.getCategoryScores(connection, sc, currentTournament)) {
-          final Map<Integer, SubjectiveScore> judgeScores = categoryScores.computeIfAbsent(score.getJudge(),
-                                                                                           k -> new HashMap<>());
-          judgeScores.put(score.getTeamNumber(), score);
-
-        } // foreach result
 
-        allScores.put(sc.getName(), categoryScores);
-      } // foreach category
+      final @Nullable String since = request.getParameter("since");
+
+      final Object result;
+      if (null == since) {
+        result = getScores(connection, challengeDescription, currentTournament, null);
+      } else {
+        // get the changes before reading the database so that anything modified
+        // while reading is sent again next time
+        final SubjectiveScoreVersions.Changes changes = SubjectiveScoreVersions.getChanges(connection,
+                                                                                           currentTournament.getTournamentID(),
+                                                                                           since);
+        final @Nullable Set<JudgeTeam> modified = changes.modified();
+        result = new ScoresDelta(changes.version(), null == modified,
+                                 getScores(connection, challengeDescription, currentTournament, modified));
+      }
 
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
       response.reset();
       response.setContentType("application/json");
       final PrintWriter writer = response.getWriter();
-      jsonMapper.writeValue(writer, allScores);
+      jsonMapper.writeValue(writer, result);
 
     } catch (final SQLException e) {
       throw new RuntimeException(e);
@@ -103,6 +114,51 @@ public class SubjectiveScoresServlet extends HttpServlet {
 
   }
 
+  /**
+   * @param modified if not null, only get the scores for these judges and teams
+   *          and include deleted scores for those that are not in the database
+   * @return category -> judge -> teamNumber -> score
+   */
+  private static Map<String, Map<String, Map<Integer, SubjectiveScore>>> getScores(final Connection connection,
+                                                                                   final ChallengeDescription challengeDescription,
+                                                                                   final Tournament tournament,
+                                                                                   final @Nullable Set<JudgeTeam> modified)
+      throws SQLException {
+    final Map<String, Map<String, Map<Integer, SubjectiveScore>>> allScores = new HashMap<>();
+    if (null != modified
+        && modified.isEmpty()) {
+      return allScores;
+    }
+
+    final Map<String, Map<Integer, Set<String>>> nominees = NonNumericNominees.getNomineesByJudge(connection,
+                                                                                                  tournament);
+    for (final SubjectiveScoreCategory sc : challengeDescription.getSubjectiveCategories()) {
+      // judge->teamNumber->score
+      final Map<String, Map<Integer, SubjectiveScore>> categoryScores = new HashMap<>();
+
+      for (final SubjectiveScore score : SubjectiveScore.getCategoryScores(connection, sc, tournament, nominees)) {
+        if (null == modified
+            || modified.contains(new JudgeTeam(score.getJudge(), score.getTeamNumber()))) {
+          final Map<Integer, SubjectiveScore> judgeScores = categoryScores.computeIfAbsent(score.getJudge(),
+                                                                                           k -> new HashMap<>());
+          judgeScores.put(score.getTeamNumber(), score);
+        }
+      } // foreach result
+
+      if (null != modified) {
+        for (final JudgeTeam judgeTeam : modified) {
+          categoryScores.computeIfAbsent(judgeTeam.judge(), k -> new HashMap<>())
+                        .computeIfAbsent(judgeTeam.teamNumber(),
+                                         k -> SubjectiveScore.createDeleted(judgeTeam.judge(),
+                                                                            judgeTeam.teamNumber()));
+        }
+      }
+
+      allScores.put(sc.getName(), categoryScores);
+    } // foreach category
+    return allScores;
+  }
+
   @Override
   protected final void doPost(final HttpServletRequest request,
                               final HttpServletResponse response)
@@ -115,7 +171,7 @@ public class SubjectiveScoresServlet extends HttpServlet {
       return;
     }
 
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+    final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
     final ServletContext application = getServletContext();
 
@@ -125,21 +181,31 @@ public class SubjectiveScoresServlet extends HttpServlet {
     try (Connection connection = datasource.getConnection()) {
       final Tournament currentTournament = Tournament.getCurrentTournament(connection);
 
-      final StringWriter debugWriter = new StringWriter();
-      request.getReader().transferTo(debugWriter);
-
-      if (LOGGER.isTraceEnabled()) {
-        LOGGER.trace("Read data: "
-            + debugWriter.toString());
+      final ScoreUpload upload = new ScoreUpload(challengeDescription);
+
+      // category -> judge -> team -> score, bind one score at a time so that
+      // the scores that aren't modified can be dropped right away
+      try (JsonParser parser = jsonMapper.createParser(request.getReader())) {
+        expectToken(parser, JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          final String category = parser.currentName();
+          expectToken(parser, JsonToken.START_OBJECT);
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String judge = parser.currentName();
+            expectToken(parser, JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+              final int teamNumber = Integer.parseInt(parser.currentName());
+              expectToken(parser, JsonToken.START_OBJECT);
+              final SubjectiveScore score = jsonMapper.readValue(parser, SubjectiveScore.class);
+              upload.add(category, judge, teamNumber, score);
+            }
+          }
+        }
+      } catch (final NumberFormatException e) {
+        throw new FLLRuntimeException("Invalid team number in uploaded scores", e);
       }
 
-      final Reader reader = new StringReader(debugWriter.toString());
-
-      // category -> judge -> team -> score
-      final Map<String, Map<String, Map<Integer, SubjectiveScore>>> allScores = jsonMapper.readValue(reader,
-                                                                                                     ScoresTypeInfo.INSTANCE);
-
-      final int numModified = processScores(connection, challengeDescription, currentTournament, allScores);
+      final int numModified = upload.store(connection, currentTournament);
 
       final UploadResult result = new UploadResult(true, Optional.of("Successfully uploaded scores"), numModified);
       response.reset();
@@ -158,6 +224,18 @@ public class SubjectiveScoresServlet extends HttpServlet {
     }
   }
 
+  private static void expectToken(final JsonParser parser,
+                                  final JsonToken expected)
+      throws IOException {
+    final @Nullable JsonToken token = parser.nextToken();
+    if (token != expected) {
+      throw new JsonParseException(parser, "Expected "
+          + expected
+          + " found "
+          + token);
+    }
+  }
+
   /**
    * Process uploaded scores.
    * 
@@ -165,7 +243,7 @@ public class SubjectiveScoresServlet extends HttpServlet {
    * @param challengeDescription description for the tournament
    * @param currentTournament the tournament to process scores for
    * @param allScores the scores to process
-   * @return the number of modified scores
+   * @return the number of modified scores that differed from the database
    * @throws SQLException on a database error
    */
   public static int processScores(final Connection connection,
@@ -173,10 +251,37 @@ public class SubjectiveScoresServlet extends HttpServlet {
                                   final Tournament currentTournament,
                                   final Map<String, Map<String, Map<Integer, SubjectiveScore>>> allScores)
       throws SQLException {
-
-    int numModified = 0;
+    final ScoreUpload upload = new ScoreUpload(challengeDescription);
     for (final Map.Entry<String, Map<String, Map<Integer, SubjectiveScore>>> catEntry : allScores.entrySet()) {
-      final String category = catEntry.getKey();
+      for (final Map.Entry<String, Map<Integer, SubjectiveScore>> judgeEntry : catEntry.getValue().entrySet()) {
+        for (final Map.Entry<Integer, SubjectiveScore> teamEntry : judgeEntry.getValue().entrySet()) {
+          upload.add(catEntry.getKey(), judgeEntry.getKey(), teamEntry.getKey(), teamEntry.getValue());
+        }
+      }
+    }
+    return upload.store(connection, currentTournament);
+  }
+
+  /**
+   * Scores that were uploaded with the modified flag set. Scores that match the
+   * database are skipped and the rest are written with batched statements in a
+   * single transaction.
+   */
+  private static final class ScoreUpload {
+    private final ChallengeDescription challengeDescription;
+
+    private final Map<SubjectiveScoreCategory, List<SubjectiveScore>> scores = new HashMap<>();
+
+    private final Set<JudgeTeam> modified = new HashSet<>();
+
+    ScoreUpload(final ChallengeDescription challengeDescription) {
+      this.challengeDescription = challengeDescription;
+    }
+
+    void add(final String category,
+             final String judge,
+             final int teamNumber,
+             final SubjectiveScore score) {
       final SubjectiveScoreCategory categoryDescription = challengeDescription.getSubjectiveCategoryByName(category);
       if (null == categoryDescription) {
         throw new FLLRuntimeException("Category with name '"
@@ -184,6 +289,169 @@ public class SubjectiveScoresServlet extends HttpServlet {
             + "' is not known");
       }
 
+      if (score.getModified()) {
+        score.setJudge(judge);
+        score.setTeamNumber(teamNumber);
+        scores.computeIfAbsent(categoryDescription, k -> new LinkedList<>()).add(score);
+        modified.add(new JudgeTeam(judge, teamNumber));
+      }
+    }
+
+    /**
+     * @return the number of scores that differed from the database
+     */
+    int store(final Connection connection,
+              final Tournament currentTournament)
+        throws SQLException {
+      if (scores.isEmpty()) {
+        return 0;
+      }
+
+      final Map<String, Map<Integer, Set<String>>> existingNominees = NonNumericNominees.getNomineesByJudge(connection,
+                                                                                                           currentTournament);
+
+      final Map<SubjectiveScoreCategory, List<SubjectiveScore>> changedScores = new HashMap<>();
+      final Set<JudgeTeam> changed = new HashSet<>();
+      final Map<JudgeTeam, Set<String>> nominations = new HashMap<>();
+      for (final Map.Entry<SubjectiveScoreCategory, List<SubjectiveScore>> entry : scores.entrySet()) {
+        final SubjectiveScoreCategory category = entry.getKey();
+
+        final Map<JudgeTeam, SubjectiveScore> existingScores = new HashMap<>();
+        for (final SubjectiveScore existing : SubjectiveScore.getCategoryScores(connection, category,
+                                                                                currentTournament,
+                                                                                existingNominees)) {
+          existingScores.put(new JudgeTeam(existing.getJudge(), existing.getTeamNumber()), existing);
+        }
+
+        for (final SubjectiveScore score : entry.getValue()) {
+          final JudgeTeam judgeTeam = new JudgeTeam(score.getJudge(), score.getTeamNumber());
+          if (!matchesDatabase(category, existingScores.get(judgeTeam), score)) {
+            changedScores.computeIfAbsent(category, k -> new LinkedList<>()).add(score);
+            changed.add(judgeTeam);
+          }
+
+          if (score.getDeleted()
+              || score.getNoShow()) {
+            nominations.put(judgeTeam, Collections.emptySet());
+          } else {
+            nominations.put(judgeTeam, score.getNonNumericNominations());
+          }
+        }
+      }
+
+      writeScores(connection, currentTournament, changedScores);
+
+      for (final Map.Entry<JudgeTeam, Set<String>> entry : nominations.entrySet()) {
+        final JudgeTeam judgeTeam = entry.getKey();
+        final Set<String> existing = existingNominees.getOrDefault(judgeTeam.judge(), Collections.emptyMap())
+                                                     .getOrDefault(judgeTeam.teamNumber(), Collections.emptySet());
+        if (!existing.equals(entry.getValue())) {
+          NonNumericNominees.storeNomineesByJudgeForTeam(connection, currentTournament, judgeTeam.judge(),
+                                                         judgeTeam.teamNumber(), entry.getValue());
+          changed.add(judgeTeam);
+        }
+      }
+
+      if (!changedScores.isEmpty()) {
+        final Tournament tournament = Tournament.findTournamentByID(connection, currentTournament.getTournamentID());
+        ScoreSummaryTracker.teamsModified(connection, tournament.getTournamentID(),
+                                          changedScores.values().stream().flatMap(List::stream)
+                                                       .map(SubjectiveScore::getTeamNumber).toList());
+        tournament.recordSubjectiveModified(connection);
+      }
+
+      // unchanged scores are included so that the client gets the unmodified
+      // copy from the server
+      SubjectiveScoreVersions.scoresModified(connection, currentTournament.getTournamentID(), modified);
+
+      return changed.size();
+    }
+
+  }
+
+  /**
+   * @return true if storing {@code score} would not change the database
+   */
+  private static boolean matchesDatabase(final SubjectiveScoreCategory category,
+                                         final @Nullable SubjectiveScore existing,
+                                         final SubjectiveScore score) {
+    if (score.getDeleted()) {
+      return null == existing;
+    } else if (null == existing) {
+      return !score.getNoShow()
+          && !hasGoalValue(category, score);
+    } else if (score.getNoShow()) {
+      return existing.getNoShow()
+          && null == existing.getNote()
+          && null == existing.getCommentGreatJob()
+          && null == existing.getCommentThinkAbout();
+    } else if (existing.getNoShow()
+        || !Objects.equals(existing.getNote(), score.getNote())
+        || !Objects.equals(existing.getCommentGreatJob(), score.getCommentGreatJob())
+        || !Objects.equals(existing.getCommentThinkAbout(), score.getCommentThinkAbout())) {
+      return false;
+    }
+
+    for (final AbstractGoal goal : category.getAllGoals()) {
+      if (goal.isComputed()) {
+        continue;
+      }
+
+      final String goalName = goal.getName();
+      if (goal.isEnumerated()) {
+        final @Nullable String value = score.getEnumSubScores().get(goalName);
+        if (null == value
+            || !value.equals(existing.getEnumSubScores().get(goalName))) {
+          return false;
+        }
+      } else {
+        final @Nullable Double value = score.getStandardSubScores().get(goalName);
+        final @Nullable Double existingValue = existing.getStandardSubScores().get(goalName);
+        if (null == value
+            || null == existingValue
+            || Double.compare(value, existingValue) != 0) {
+          return false;
+        }
+      }
+
+      // blank comments are not sent to the client
+      if (!Objects.equals(StringUtils.trimToNull(existing.getGoalComments().get(goalName)),
+                          StringUtils.trimToNull(score.getGoalComments().get(goalName)))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean hasGoalValue(final SubjectiveScoreCategory category,
+                                      final SubjectiveScore score) {
+    for (final AbstractGoal goal : category.getAllGoals()) {
+      if (!goal.isComputed()) {
+        if (goal.isEnumerated()) {
+          if (null != score.getEnumSubScores().get(goal.getName())) {
+            return true;
+          }
+        } else if (null != score.getStandardSubScores().get(goal.getName())) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static void writeScores(final Connection connection,
+                                  final Tournament currentTournament,
+                                  final Map<SubjectiveScoreCategory, List<SubjectiveScore>> changedScores)
+      throws SQLException {
+    if (changedScores.isEmpty()) {
+      return;
+    }
+
+    final boolean autoCommit = connection.getAutoCommit();
+    try {
+      connection.setAutoCommit(false);
+
       try (PreparedStatement deletePrep = connection.prepareStatement("DELETE FROM subjective "
           + " WHERE tournament_id = ?" //
           + " AND category_name = ?" //
@@ -205,148 +473,173 @@ public class SubjectiveScoresServlet extends HttpServlet {
               + " VALUES(?, ?, ?, ?, ?, ?, ?)" //
           )) {
         deletePrep.setInt(1, currentTournament.getTournamentID());
-        deletePrep.setString(2, category);
-
         insert.setInt(1, currentTournament.getTournamentID());
-        insert.setString(2, category);
-
         insertSimpleGoal.setInt(1, currentTournament.getTournamentID());
-        insertSimpleGoal.setString(2, category);
-
         insertEnumGoal.setInt(1, currentTournament.getTournamentID());
-        insertEnumGoal.setString(2, category);
 
-        for (final Map.Entry<String, Map<Integer, SubjectiveScore>> judgeEntry : catEntry.getValue().entrySet()) {
-          final String judgeId = judgeEntry.getKey();
-          deletePrep.setString(3, judgeId);
+        boolean haveInsert = false;
+        boolean haveSimpleGoal = false;
+        boolean haveEnumGoal = false;
+        for (final Map.Entry<SubjectiveScoreCategory, List<SubjectiveScore>> entry : changedScores.entrySet()) {
+          final SubjectiveScoreCategory categoryDescription = entry.getKey();
+          final String category = categoryDescription.getName();
+          deletePrep.setString(2, category);
+          insert.setString(2, category);
+          insertSimpleGoal.setString(2, category);
+          insertEnumGoal.setString(2, category);
+
+          for (final SubjectiveScore score : entry.getValue()) {
+            final String judgeId = score.getJudge();
+            final int teamNumber = score.getTeamNumber();
+            if (LOGGER.isTraceEnabled()) {
+              LOGGER.trace("Storing team: "
+                  + teamNumber
+                  + " judge: "
+                  + judgeId
+                  + " category: "
+                  + category
+                  + " deleted: "
+                  + score.getDeleted()
+                  + " noShow: "
+                  + score.getNoShow());
+            }
+
+            deletePrep.setString(3, judgeId);
+            deletePrep.setInt(4, teamNumber);
+            deletePrep.addBatch();
 
-          insert.setString(3, judgeId);
-          insertSimpleGoal.setString(3, judgeId);
-          insertEnumGoal.setString(3, judgeId);
+            if (score.getDeleted()) {
+              continue;
+            }
 
-          for (final Map.Entry<Integer, SubjectiveScore> teamEntry : judgeEntry.getValue().entrySet()) {
-            final int teamNumber = teamEntry.getKey();
-            deletePrep.setInt(4, teamNumber);
+            insert.setString(3, judgeId);
             insert.setInt(4, teamNumber);
-            insertSimpleGoal.setInt(4, teamNumber);
-            insertEnumGoal.setInt(4, teamNumber);
-
-            final SubjectiveScore score = teamEntry.getValue();
-
-            if (score.getModified()) {
-              ++numModified;
-              if (score.getDeleted()) {
-                if (LOGGER.isTraceEnabled()) {
-                  LOGGER.trace("Deleting team: "
-                      + teamNumber
-                      + " judge: "
-                      + judgeId
-                      + " category: "
-                      + category);
-                }
-
-                deletePrep.executeUpdate();
-              } else if (score.getNoShow()) {
-                if (LOGGER.isTraceEnabled()) {
-                  LOGGER.trace("NoShow team: "
-                      + teamNumber
-                      + " judge: "
-                      + judgeId
-                      + " category: "
-                      + category);
-                }
-
-                deletePrep.executeUpdate();
-
-                insert.setBoolean(5, true);
-                insert.setString(6, null);
-                insert.setString(7, null);
-                insert.setString(8, null);
-                insert.executeUpdate();
-              } else {
-                // update score
-                if (LOGGER.isTraceEnabled()) {
-                  LOGGER.trace("scores for team: "
-                      + teamNumber
-                      + " judge: "
-                      + judgeId
-                      + " category: "
-                      + category);
-                }
-
-                deletePrep.executeUpdate();
-
-                insert.setBoolean(5, false);
-                insert.setString(6, score.getNote());
-                insert.setString(7, score.getCommentGreatJob());
-                insert.setString(8, score.getCommentThinkAbout());
-                insert.executeUpdate();
-
-                // insert goals and goal comments
-                boolean insertedGoalValue = false;
-                final Map<String, Double> standardSubScores = score.getStandardSubScores();
-                final Map<String, String> enumSubScores = score.getEnumSubScores();
-                final Map<String, String> goalComments = score.getGoalComments();
-                for (final AbstractGoal goalDescription : categoryDescription.getAllGoals()) {
-                  if (!goalDescription.isComputed()) {
-
-                    final String goalName = goalDescription.getName();
-                    insertSimpleGoal.setString(5, goalName);
-                    insertEnumGoal.setString(5, goalName);
-
-                    final String goalComment = goalComments.get(goalName);
-                    insertSimpleGoal.setString(7, goalComment);
-                    insertEnumGoal.setString(7, goalComment);
-
-                    if (goalDescription.isEnumerated()) {
-                      final String value = enumSubScores.get(goalName);
-                      if (null != value) {
-                        insertEnumGoal.setString(6, value);
-                        insertEnumGoal.executeUpdate();
-                        insertedGoalValue = true;
-                      }
-
-                    } else {
-                      final Double value = standardSubScores.get(goalName);
-                      if (null != value) {
-                        insertSimpleGoal.setDouble(6, value.doubleValue());
-                        insertSimpleGoal.executeUpdate();
-                        insertedGoalValue = true;
-                      }
+            if (score.getNoShow()) {
+              insert.setBoolean(5, true);
+              insert.setString(6, null);
+              insert.setString(7, null);
+              insert.setString(8, null);
+              insert.addBatch();
+              haveInsert = true;
+            } else if (hasGoalValue(categoryDescription, score)) {
+              // if no goal values are stored, then there is no record of the
+              // score
+              insert.setBoolean(5, false);
+              insert.setString(6, score.getNote());
+              insert.setString(7, score.getCommentGreatJob());
+              insert.setString(8, score.getCommentThinkAbout());
+              insert.addBatch();
+              haveInsert = true;
+
+              insertSimpleGoal.setString(3, judgeId);
+              insertSimpleGoal.setInt(4, teamNumber);
+              insertEnumGoal.setString(3, judgeId);
+              insertEnumGoal.setInt(4, teamNumber);
+
+              // insert goals and goal comments
+              final Map<String, Double> standardSubScores = score.getStandardSubScores();
+              final Map<String, String> enumSubScores = score.getEnumSubScores();
+              final Map<String, String> goalComments = score.getGoalComments();
+              for (final AbstractGoal goalDescription : categoryDescription.getAllGoals()) {
+                if (!goalDescription.isComputed()) {
+
+                  final String goalName = goalDescription.getName();
+                  final String goalComment = goalComments.get(goalName);
+
+                  if (goalDescription.isEnumerated()) {
+                    final String value = enumSubScores.get(goalName);
+                    if (null != value) {
+                      insertEnumGoal.setString(5, goalName);
+                      insertEnumGoal.setString(6, value);
+                      insertEnumGoal.setString(7, goalComment);
+                      insertEnumGoal.addBatch();
+                      haveEnumGoal = true;
                     }
-                  } // not computed
-                } // end foreach goal
-
-                if (!insertedGoalValue) {
-                  // if no goal values were stored, then delete any record of the score
-                  deletePrep.executeUpdate();
-                }
-
-              } // update score
-
-              final Set<String> nominations;
-              if (score.getDeleted()) {
-                nominations = Collections.emptySet();
-              } else if (score.getNoShow()) {
-                nominations = Collections.emptySet();
-              } else {
-                nominations = score.getNonNumericNominations();
-              }
-              NonNumericNominees.storeNomineesByJudgeForTeam(connection, currentTournament, judgeId, teamNumber,
-                                                             nominations);
-
-            } // is modified
-          } // foreach team score
-        } // foreach judge
-
+                  } else {
+                    final Double value = standardSubScores.get(goalName);
+                    if (null != value) {
+                      insertSimpleGoal.setString(5, goalName);
+                      insertSimpleGoal.setDouble(6, value.doubleValue());
+                      insertSimpleGoal.setString(7, goalComment);
+                      insertSimpleGoal.addBatch();
+                      haveSimpleGoal = true;
+                    }
+                  }
+                } // not computed
+              } // end foreach goal
+            } // update score
+          } // foreach score
+        } // foreach category
+
+        // the goals are removed by the foreign key when the score is deleted
+        deletePrep.executeBatch();
+        if (haveInsert) {
+          insert.executeBatch();
+        }
+        if (haveSimpleGoal) {
+          insertSimpleGoal.executeBatch();
+        }
+        if (haveEnumGoal) {
+          insertEnumGoal.executeBatch();
+        }
       } // allocate statements
 
-    } // foreach category
+      connection.commit();
+    } catch (final SQLException e) {
+      connection.rollback();
+      throw e;
+    } finally {
+      connection.setAutoCommit(autoCommit);
+    }
+  }
 
-    final Tournament tournament = Tournament.findTournamentByID(connection, currentTournament.getTournamentID());
-    tournament.recordSubjectiveModified(connection);
+  /**
+   * Result of a GET with a since parameter.
+   */
+  public static final class ScoresDelta {
 
-    return numModified;
+    /**
+     * @param version {@link #getVersion()}
+     * @param full {@link #getFull()}
+     * @param scores {@link #getScores()}
+     */
+    public ScoresDelta(final String version,
+                       final boolean full,
+                       final Map<String, Map<String, Map<Integer, SubjectiveScore>>> scores) {
+      this.version = version;
+      this.full = full;
+      this.scores = scores;
+    }
+
+    private final String version;
+
+    /**
+     * @return the version to send as the since parameter next time
+     */
+    public String getVersion() {
+      return version;
+    }
+
+    private final boolean full;
+
+    /**
+     * @return true if {@link #getScores()} contains all scores and replaces what
+     *         the client has
+     */
+    public boolean getFull() {
+      return full;
+    }
+
+    private final Map<String, Map<String, Map<Integer, SubjectiveScore>>> scores;
+
+    /**
+     * @return category -> judge -> teamNumber -> score, when not
+     *         {@link #getFull()} scores that are deleted have
+     *         {@link SubjectiveScore#getDeleted()} set
+     */
+    public Map<String, Map<String, Map<Integer, SubjectiveScore>>> getScores() {
+      return scores;
+    }
   }
 
   /**
@@ -376,9 +669,4 @@ public class SubjectiveScoresServlet extends HttpServlet {
     }
 
   }
-
-  private static final class ScoresTypeInfo
-      extends TypeReference<Map<String, Map<String, Map<Integer, SubjectiveScore>>>> {
-    public static final ScoresTypeInfo INSTANCE = new ScoresTypeInfo();
-  }
 }
@@ -57,7 +57,7 @@ public class TournamentTeamsServlet extends HttpServlet {
     try (Connection connection = datasource.getConnection()) {
 
       final Map<Integer, TournamentTeam> teamMap = Queries.getTournamentTeams(connection);
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
       response.reset();
       response.setContentType("application/json");
@@ -41,7 +41,7 @@ public class VersionServlet extends HttpServlet {
       return;
     }
 
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+    final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
     response.reset();
     response.setContentType("application/json");
@@ -62,7 +62,7 @@ public class NonNumericOverallAwardWinners extends HttpServlet {
     final DataSource datasource = ApplicationAttributes.getDataSource(application);
     try (Connection connection = datasource.getConnection()) {
 
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
       response.reset();
       response.setContentType("application/json");
@@ -104,7 +104,7 @@ public class NonNumericOverallAwardWinners extends HttpServlet {
       return;
     }
 
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+    final ObjectMapper jsonMapper = Utilities.getJsonMapper();
     final PutData data = jsonMapper.readValue(request.getReader(), PutData.class);
 
     final DataSource datasource = ApplicationAttributes.getDataSource(application);
@@ -168,7 +168,7 @@ public class NonNumericOverallAwardWinners extends HttpServlet {
                                                       putPathInfo.get().getCategoryName(),
                                                       putPathInfo.get().getTeamNumber());
 
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
       jsonMapper.writeValue(response.getWriter(), new ApiResult(true, Optional.empty()));
     } catch (final SQLException e) {
       throw new FLLRuntimeException("Error talking to the database", e);
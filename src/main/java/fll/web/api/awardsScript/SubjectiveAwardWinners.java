@@ -67,7 +67,7 @@ public class SubjectiveAwardWinners extends HttpServlet {
     final DataSource datasource = ApplicationAttributes.getDataSource(application);
     try (Connection connection = datasource.getConnection()) {
 
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
       response.reset();
       response.setContentType("application/json");
@@ -112,7 +112,7 @@ public class SubjectiveAwardWinners extends HttpServlet {
       return;
     }
 
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+    final ObjectMapper jsonMapper = Utilities.getJsonMapper();
     final PutData data = jsonMapper.readValue(request.getReader(), PutData.class);
 
     final String awardGroup = data.awardGroup;
@@ -197,7 +197,7 @@ public class SubjectiveAwardWinners extends HttpServlet {
       AwardWinners.deleteSubjectiveAwardWinner(connection, tournament.getTournamentID(),
                                                putPathInfo.get().getCategoryName(), putPathInfo.get().getTeamNumber());
 
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
       jsonMapper.writeValue(response.getWriter(), new ApiResult(true, Optional.empty()));
     } catch (final SQLException e) {
       throw new FLLRuntimeException("Error talking to the database", e);
@@ -52,7 +52,7 @@ public class SubjectiveCategories extends HttpServlet {
     response.setContentType("application/json");
     final PrintWriter writer = response.getWriter();
 
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+    final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
     final ChallengeDescription challengeDescription = ApplicationAttributes.getChallengeDescription(application);
     final List<SubjectiveScoreCategory> categories = challengeDescription.getSubjectiveCategories();
@@ -51,7 +51,7 @@ public class VirtualSubjectiveCategories extends HttpServlet {
     response.setContentType("application/json");
     final PrintWriter writer = response.getWriter();
 
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+    final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
     final ChallengeDescription challengeDescription = ApplicationAttributes.getChallengeDescription(application);
     final List<VirtualSubjectiveScoreCategory> categories = challengeDescription.getVirtualSubjectiveCategories();
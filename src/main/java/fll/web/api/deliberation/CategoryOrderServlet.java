@@ -93,7 +93,7 @@ public class CategoryOrderServlet extends HttpServlet {
       final List<String> categoryOrder = getCategoryOrder(connection, description, tournament, awardGroup.get(),
                                                           scheduledCategoryNames);
 
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
       response.reset();
       response.setContentType("application/json");
@@ -134,7 +134,7 @@ public class CategoryOrderServlet extends HttpServlet {
     response.setContentType("application/json");
     final PrintWriter writer = response.getWriter();
 
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+    final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
     final DataSource datasource = ApplicationAttributes.getDataSource(application);
     try (Connection connection = datasource.getConnection()) {
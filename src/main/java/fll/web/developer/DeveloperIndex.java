@@ -6,9 +6,14 @@
 
 package fll.web.developer;
 
+import javax.sql.DataSource;
+
 import jakarta.servlet.jsp.PageContext;
 
 import fll.Version;
+import fll.db.PooledDataSource;
+import fll.web.ApplicationAttributes;
+import fll.web.WebsocketSender;
 
 /**
  * Data needed for developer/index.jsp.
@@ -23,6 +28,28 @@ public final class DeveloperIndex {
    */
   public static void populateContext(final PageContext pageContext) {
     pageContext.setAttribute("versionInfo", Version.getAllVersionInformation());
+
+    pageContext.setAttribute("websocketBusySessions", WebsocketSender.getBusySessions());
+    pageContext.setAttribute("websocketPendingMessages", WebsocketSender.getPendingMessages());
+    pageContext.setAttribute("websocketMaxPendingMessages", WebsocketSender.getMaxPendingMessages());
+    pageContext.setAttribute("websocketCoalescedMessages", WebsocketSender.getCoalescedMessages());
+    pageContext.setAttribute("websocketDroppedSessions", WebsocketSender.getDroppedSessions());
+
+    final DataSource datasource = ApplicationAttributes.getDataSource(pageContext.getServletContext());
+    if (datasource instanceof PooledDataSource pool) {
+      final PooledDataSource.Metrics metrics = pool.getMetrics();
+      pageContext.setAttribute("poolMaxConnections", pool.getMaxConnections());
+      pageContext.setAttribute("poolActiveConnections", metrics.activeConnections());
+      pageContext.setAttribute("poolIdleConnections", metrics.idleConnections());
+      pageContext.setAttribute("poolWaitingThreads", metrics.waitingThreads());
+      pageContext.setAttribute("poolConnectionsCreated", metrics.connectionsCreated());
+      pageContext.setAttribute("poolAcquisitions", metrics.acquisitions());
+      pageContext.setAttribute("poolTimeouts", metrics.timeouts());
+      pageContext.setAttribute("poolAverageWaitMillis", metrics.averageWaitTime().toMillis());
+      pageContext.setAttribute("poolMaxWaitMillis", metrics.maxWaitTime().toMillis());
+      pageContext.setAttribute("poolStatementCacheHits", metrics.statementCacheHits());
+      pageContext.setAttribute("poolStatementCacheMisses", metrics.statementCacheMisses());
+    }
   }
 
 }
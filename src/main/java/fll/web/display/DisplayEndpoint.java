@@ -38,7 +38,7 @@ public class DisplayEndpoint {
   private final ObjectMapper mapper;
 
   public DisplayEndpoint() {
-    mapper = Utilities.createJsonMapper();
+    mapper = Utilities.getJsonMapper();
   }
 
   @OnOpen
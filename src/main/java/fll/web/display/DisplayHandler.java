@@ -12,8 +12,6 @@ import java.util.List;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -22,6 +20,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
+import fll.Utilities;
 import fll.util.FLLInternalException;
 import fll.util.FLLRuntimeException;
 import jakarta.websocket.Session;
@@ -47,7 +46,10 @@ public final class DisplayHandler {
    */
   public static final String DISPLAY_UUID_PARAMETER_NAME = "display_uuid";
 
-  private static final ExecutorService THREAD_POOL = Executors.newCachedThreadPool();
+  /**
+   * A newer URL makes a URL that hasn't been sent yet obsolete.
+   */
+  private static final String DISPLAY_URL_KEY = "displayUrl";
 
   static {
     final DisplayInfo defaultDisplay = new DisplayInfo(DEFAULT_DISPLAY_UUID, DisplayInfo.DEFAULT_DISPLAY_NAME, true);
@@ -193,7 +195,7 @@ public final class DisplayHandler {
       }
     }
 
-    send(uuid, data.getSocket(), new AssignUuidMessage(uuid));
+    send(uuid, data.getSocket(), new AssignUuidMessage(uuid), null);
     sendDisplayUrl(data);
 
     return data;
@@ -208,9 +210,7 @@ public final class DisplayHandler {
       data = new LinkedList<>(DISPLAYS.values());
     }
     for (final DisplayData d : data) {
-      THREAD_POOL.execute(() -> {
-        sendDisplayUrl(d);
-      });
+      sendDisplayUrl(d);
     }
   }
 
@@ -224,23 +224,21 @@ public final class DisplayHandler {
   public static void sendDisplayUrl(final DisplayInfo display) {
     try {
       if (display.isDefaultDisplay()) {
-        // notify all displays that are following default
+        // notify all displays that are following default, they all get the same
+        // message
+        final String msg = toJson(new DisplayUrlMessage(getDefaultDisplay().getUrl()));
         final List<DisplayData> data;
         synchronized (LOCK) {
           data = new LinkedList<>(DISPLAYS.values());
         }
         for (final DisplayData d : data) {
           if (d.getInfo().isFollowDefault()) {
-            THREAD_POOL.execute(() -> {
-              sendDisplayUrl(d);
-            });
+            send(d.getInfo().getUuid(), d.getSocket(), msg, DISPLAY_URL_KEY);
           }
         }
       } else {
         final DisplayData data = getDisplayData(display.getUuid());
-        THREAD_POOL.execute(() -> {
-          sendDisplayUrl(data);
-        });
+        sendDisplayUrl(data);
       }
     } catch (final UnknownDisplayException e) {
       LOGGER.warn("Unable to find display with UUID: {} while sending update URL", display.getUuid());
@@ -252,22 +250,40 @@ public final class DisplayHandler {
     try {
       final DisplayInfo resolved = resolveDisplay(data.getInfo().getUuid());
       final String url = resolved.getUrl();
-      send(data.getInfo().getUuid(), data.getSocket(), new DisplayUrlMessage(url));
+      send(data.getInfo().getUuid(), data.getSocket(), new DisplayUrlMessage(url), DISPLAY_URL_KEY);
     } catch (final UnknownDisplayException e) {
       LOGGER.warn("Unable to find display with UUID: {}. Not sending URL.", data.getInfo().getUuid());
     }
   }
 
   /**
-   * Send a message to a display. If there is an error, remove the display.
+   * Queue a message for a display. If there is an error, remove the display.
    */
   private static void send(final String uuid,
                            final DisplaySocket socket,
-                           final Message message) {
+                           final Message message,
+                           final @Nullable String coalesceKey) {
     try {
-      if (!socket.sendMessage(message)) {
-        removeDisplay(uuid);
-      }
+      socket.sendMessage(message, coalesceKey, () -> removeDisplay(uuid));
+    } catch (final JsonProcessingException e) {
+      throw new FLLRuntimeException(String.format("Unable to serialize message as JSON: %s", message), e);
+    }
+  }
+
+  /**
+   * Queue a message that has already been converted to JSON for a display. If
+   * there is an error, remove the display.
+   */
+  private static void send(final String uuid,
+                           final DisplaySocket socket,
+                           final String msg,
+                           final @Nullable String coalesceKey) {
+    socket.sendText(msg, coalesceKey, () -> removeDisplay(uuid));
+  }
+
+  private static String toJson(final Message message) {
+    try {
+      return Utilities.getJsonMapper().writeValueAsString(message);
     } catch (final JsonProcessingException e) {
       throw new FLLRuntimeException(String.format("Unable to serialize message as JSON: %s", message), e);
     }
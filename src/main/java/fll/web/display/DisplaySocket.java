@@ -11,10 +11,9 @@ import java.io.IOException;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import fll.Utilities;
-import fll.web.WebUtils;
+import fll.web.WebsocketSender;
 import jakarta.websocket.Session;
 
 /**
@@ -24,8 +23,6 @@ public class DisplaySocket {
 
   private static final org.apache.logging.log4j.Logger LOGGER = org.apache.logging.log4j.LogManager.getLogger();
 
-  private final ObjectMapper jsonWriter = Utilities.createJsonMapper();
-
   private final @Nullable Session session;
 
   /**
@@ -43,21 +40,39 @@ public class DisplaySocket {
   }
 
   /**
-   * Send a message as JSON.
+   * Queue a message to be sent as JSON.
    * 
    * @param message the message to send
-   * @return true if the message was sent, false if not.
+   * @param coalesceKey see {@link WebsocketSender#send(Session, String, String, Runnable)}
+   * @param onError executed if the message cannot be sent
    * @throws JsonProcessingException if the message cannot be written as JSON
    */
-  public boolean sendMessage(final Message message) throws JsonProcessingException {
+  public void sendMessage(final Message message,
+                          final @Nullable String coalesceKey,
+                          final Runnable onError)
+      throws JsonProcessingException {
     if (null != session) {
-      final String msg = jsonWriter.writeValueAsString(message);
+      final String msg = Utilities.getJsonMapper().writeValueAsString(message);
+
+      sendText(msg, coalesceKey, onError);
+    }
+  }
 
-      return WebUtils.sendWebsocketTextMessage(session, msg);
-    } else {
-      // no session, consider this a successful send
-      return true;
+  /**
+   * Queue a message that has already been converted to JSON. This allows one
+   * message to be sent to many sockets without converting it each time.
+   * 
+   * @param msg the JSON message to send
+   * @param coalesceKey see {@link WebsocketSender#send(Session, String, String, Runnable)}
+   * @param onError executed if the message cannot be sent
+   */
+  public void sendText(final String msg,
+                       final @Nullable String coalesceKey,
+                       final Runnable onError) {
+    if (null != session) {
+      WebsocketSender.send(session, msg, coalesceKey, onError);
     }
+    // no session, nothing to send
   }
 
   /**
@@ -94,7 +94,7 @@ public final class AdminBrackets {
       pageContext.setAttribute("bracketInfo", bracketInfo);
 
       // expose all bracketInfo to the javascript
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
       final String bracketInfoJson = WebUtils.escapeStringForJsonParse(jsonMapper.writeValueAsString(bracketInfo));
       pageContext.setAttribute("bracketInfoJson", bracketInfoJson);
 
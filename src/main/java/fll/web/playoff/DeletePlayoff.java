@@ -17,6 +17,7 @@ import javax.sql.DataSource;
 
 import fll.Tournament;
 import fll.db.Queries;
+import fll.db.TournamentDataVersions;
 import fll.util.FLLRuntimeException;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
@@ -107,6 +108,7 @@ public class DeletePlayoff extends BaseFLLServlet {
           }
 
           connection.commit();
+          TournamentDataVersions.modified(connection, tournamentID);
 
           LOGGER.info("Deleted playoff bracket "
               + bracketName);
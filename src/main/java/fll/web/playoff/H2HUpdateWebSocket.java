@@ -8,8 +8,9 @@ package fll.web.playoff;
 
 import java.io.EOFException;
 import java.io.IOException;
-import java.io.StringWriter;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.HashMap;
@@ -19,8 +20,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import javax.sql.DataSource;
 
@@ -32,6 +31,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import fll.Team;
 import fll.Utilities;
@@ -40,7 +40,7 @@ import fll.util.FLLInternalException;
 import fll.util.FLLRuntimeException;
 import fll.web.ApplicationAttributes;
 import fll.web.GetHttpSessionConfigurator;
-import fll.web.WebUtils;
+import fll.web.WebsocketSender;
 import fll.web.display.DisplayHandler;
 import fll.web.display.DisplayInfo;
 import fll.web.display.UnknownDisplayException;
@@ -62,7 +62,25 @@ public class H2HUpdateWebSocket {
 
   private static final org.apache.logging.log4j.Logger LOGGER = org.apache.logging.log4j.LogManager.getLogger();
 
-  private static final ExecutorService THREAD_POOL = Executors.newCachedThreadPool();
+  /**
+   * May get passed a javascript object with extra fields, just ignore them.
+   * This happens when BracketInfo is subclassed and the subclass is passed in.
+   */
+  private static final ObjectMapper RECEIVE_MAPPER = Utilities.createJsonMapper()
+                                                              .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
+                                                                         false);
+
+  private static final ObjectWriter BRACKET_UPDATE_WRITER = Utilities.getJsonMapper()
+                                                                     .writerFor(BracketUpdateMessage.class);
+
+  private static final ObjectWriter DISPLAY_UPDATE_WRITER = Utilities.getJsonMapper()
+                                                                     .writerFor(DisplayUpdateMessage.class);
+
+  /**
+   * A newer list of brackets to display makes one that hasn't been sent yet
+   * obsolete.
+   */
+  private static final String DISPLAY_UPDATE_KEY = "displayUpdate";
 
   /*
    * Note about UUIDs and how they relate to DisplayInfo UUIDs.
@@ -125,11 +143,10 @@ public class H2HUpdateWebSocket {
         h2hUuid = displayUuid;
         try {
           final DisplayInfo displayInfo = DisplayHandler.resolveDisplay(displayUuid);
-          if (!updateDisplayedBracket(displayInfo, session)) {
+          updateDisplayedBracket(displayInfo, session, () -> {
             removeH2HDisplay(h2hUuid);
-            DisplayHandler.removeDisplay(displayUuid);
-            return h2hUuid;
-          }
+            DisplayHandler.removeDisplay(h2hUuid);
+          });
         } catch (final UnknownDisplayException e) {
           LOGGER.warn("Cannot find display {}, dropping from head to head", displayUuid);
           removeH2HDisplay(h2hUuid);
@@ -143,7 +160,6 @@ public class H2HUpdateWebSocket {
 
       ALL_SESSIONS.put(h2hUuid, session);
 
-      final ObjectMapper mapper = Utilities.createJsonMapper();
       for (final BracketInfo bracketInfo : allBracketInfo) {
 
         SESSIONS.computeIfAbsent(bracketInfo.getBracketName(), k -> new HashSet<>()).add(h2hUuid);
@@ -159,10 +175,8 @@ public class H2HUpdateWebSocket {
           final BracketUpdateMessage message = new BracketUpdateMessage(update);
 
           try {
-            final String messageText = mapper.writeValueAsString(message);
-            if (!WebUtils.sendWebsocketTextMessage(session, messageText)) {
-              removeH2HDisplay(h2hUuid);
-            }
+            final String messageText = BRACKET_UPDATE_WRITER.writeValueAsString(message);
+            WebsocketSender.send(session, messageText, getCoalesceKey(update), () -> removeH2HDisplay(h2hUuid));
           } catch (final JsonProcessingException e) {
             throw new FLLRuntimeException("Error converting bracket update to JSON", e);
           }
@@ -206,16 +220,9 @@ public class H2HUpdateWebSocket {
 
     LOGGER.trace("Received message '{}'", msg);
 
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
-
-    // may get passed a javascript object with extra fields, just ignore them
-    // this happens when BracketInfo is subclassed and the subclass is passed
-    // in
-    jsonMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-
     try {
-      final JsonNode raw = jsonMapper.readTree(msg);
-      final Message message = Message.parseMessage(jsonMapper, raw);
+      final JsonNode raw = RECEIVE_MAPPER.readTree(msg);
+      final Message message = Message.parseMessage(RECEIVE_MAPPER, raw);
 
       switch (message.getType()) {
       case REGISTER:
@@ -280,11 +287,7 @@ public class H2HUpdateWebSocket {
         synchronized (SESSIONS_LOCK) {
           final @Nullable Session session = ALL_SESSIONS.get(h2hUuid);
           if (null != session) {
-            THREAD_POOL.execute(() -> {
-              if (!updateDisplayedBracket(resolved, session)) {
-                removeH2HDisplay(h2hUuid);
-              }
-            });
+            updateDisplayedBracket(resolved, session, () -> removeH2HDisplay(h2hUuid));
           } else {
             LOGGER.warn("Found display info with uuid {} that is displaying head to head and doesn't have a head to head web socket",
                         h2hUuid);
@@ -300,10 +303,11 @@ public class H2HUpdateWebSocket {
   /**
    * Notify a head to head display what brackets it should be displaying.
    * 
-   * @return false if there was an error sending
+   * @param onError executed if there is an error sending
    */
-  private static boolean updateDisplayedBracket(final DisplayInfo displayInfo,
-                                                final Session session) {
+  private static void updateDisplayedBracket(final DisplayInfo displayInfo,
+                                             final Session session,
+                                             final Runnable onError) {
 
     final List<BracketInfo> allBracketInfo = new LinkedList<>();
 
@@ -319,11 +323,10 @@ public class H2HUpdateWebSocket {
     final DisplayUpdateMessage message = new DisplayUpdateMessage(allBracketInfo);
 
     // expose all bracketInfo to the javascript
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
     try {
-      final String allBracketInfoJson = jsonMapper.writeValueAsString(message);
+      final String allBracketInfoJson = DISPLAY_UPDATE_WRITER.writeValueAsString(message);
 
-      return WebUtils.sendWebsocketTextMessage(session, allBracketInfoJson);
+      WebsocketSender.send(session, allBracketInfoJson, DISPLAY_UPDATE_KEY, onError);
     } catch (final JsonProcessingException e) {
       throw new FLLInternalException("Error writing JSON for allBracketInfo", e);
     }
@@ -368,18 +371,13 @@ public class H2HUpdateWebSocket {
         return;
       }
 
-      final Set<String> toRemove = new HashSet<>();
-
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
-
-      final StringWriter writer = new StringWriter();
-
+      final String coalesceKey = getCoalesceKey(bracketUpdate);
+      final String messageText;
       try {
-        jsonMapper.writeValue(writer, message);
-      } catch (final IOException e) {
+        messageText = BRACKET_UPDATE_WRITER.writeValueAsString(message);
+      } catch (final JsonProcessingException e) {
         throw new FLLInternalException("Error writing JSON for brackets", e);
       }
-      final String messageText = writer.toString();
 
       final Set<String> uuids = SESSIONS.get(bracketName);
       for (final String uuid : uuids) {
@@ -389,20 +387,21 @@ public class H2HUpdateWebSocket {
           continue;
         }
 
-        if (!WebUtils.sendWebsocketTextMessage(session, messageText)) {
-          toRemove.add(uuid);
-        }
+        WebsocketSender.send(session, messageText, coalesceKey, () -> removeH2HDisplay(uuid));
       } // foreach session
 
-      // cleanup dead sessions
-      for (final String uuid : toRemove) {
-        removeH2HDisplay(uuid);
-      } // foreach session to remove
-
     } // end lock
 
   }
 
+  /**
+   * A newer update for the same cell in a bracket makes one that hasn't been
+   * sent yet obsolete.
+   */
+  private static String getCoalesceKey(final BracketUpdate update) {
+    return String.format("bracket:%s:%d:%d", update.bracketName, update.playoffRound, update.dbLine);
+  }
+
   @OnClose
   public void end() {
     if (null != h2hUuid) {
@@ -484,10 +483,59 @@ public class H2HUpdateWebSocket {
 
     final String table = Queries.getAssignedTable(connection, tournamentId, headToHeadBracket, playoffRound, dbLine);
 
-    THREAD_POOL.execute(() -> {
-      updateBracket(headToHeadBracket, dbLine, playoffRound, maxPlayoffRound, teamNumber, team.getTeamName(), score,
-                    performanceScoreType, noShow, verified, table);
-    });
+    updateBracket(headToHeadBracket, dbLine, playoffRound, maxPlayoffRound, teamNumber, team.getTeamName(), score,
+                  performanceScoreType, noShow, verified, table);
+  }
+
+  /**
+   * Same as
+   * {@link #updateBracket(Connection, ScoreType, String, Team, int, int)}, but
+   * gets the bracket information from {@code bracket} instead of the database.
+   * 
+   * @param connection the database connection
+   * @param performanceScoreType the type of scores for performance (used for
+   *          display)
+   * @param bracket the bracket
+   * @param team the team
+   * @param performanceRunNumber the run number
+   * @param dbLine the line in the playoff table to find the bracket entry at
+   * @throws SQLException on a database error
+   */
+  /* package */ static void updateBracket(final Connection connection,
+                                          final ScoreType performanceScoreType,
+                                          final PlayoffBracket bracket,
+                                          final Team team,
+                                          final int performanceRunNumber,
+                                          final int dbLine)
+      throws SQLException {
+    final int teamNumber = team.getTeamNumber();
+    final int playoffRound = bracket.getPlayoffRound(performanceRunNumber);
+    final int maxPlayoffRound = bracket.getMaxPlayoffRound();
+    final @Nullable String table = bracket.getAssignedTable(playoffRound, dbLine);
+
+    final @Nullable Double score;
+    final boolean noShow;
+    final boolean verified;
+    try (PreparedStatement prep = connection.prepareStatement("SELECT ComputedTotal, NoShow, Verified FROM Performance" //
+        + " WHERE Tournament = ? AND TeamNumber = ? AND RunNumber = ?")) {
+      prep.setInt(1, bracket.getTournament());
+      prep.setInt(2, teamNumber);
+      prep.setInt(3, performanceRunNumber);
+      try (ResultSet rs = prep.executeQuery()) {
+        if (rs.next()) {
+          score = rs.getDouble(1);
+          noShow = rs.getBoolean(2);
+          verified = rs.getBoolean(3);
+        } else {
+          score = null;
+          noShow = false;
+          verified = false;
+        }
+      }
+    }
+
+    updateBracket(bracket.getBracketName(), dbLine, playoffRound, maxPlayoffRound, teamNumber, team.getTeamName(),
+                  score, performanceScoreType, noShow, verified, table);
   }
 
 }
@@ -33,6 +33,7 @@ import com.diffplug.common.base.Errors;
 import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNull;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import fll.ScoreSummaryTracker;
 import fll.Team;
 import fll.Tournament;
 import fll.TournamentTeam;
@@ -41,6 +42,7 @@ import fll.db.Queries;
 import fll.db.RunMetadata;
 import fll.db.RunMetadataFactory;
 import fll.db.TableInformation;
+import fll.db.TournamentDataVersions;
 import fll.scores.DatabasePerformanceTeamScore;
 import fll.scores.DefaultPerformanceTeamScore;
 import fll.scores.PerformanceTeamScore;
@@ -53,6 +55,7 @@ import fll.xml.AbstractGoal;
 import fll.xml.BracketSortType;
 import fll.xml.ChallengeDescription;
 import fll.xml.ChallengeParser;
+import fll.xml.CompiledScoreCategory;
 import fll.xml.EnumeratedValue;
 import fll.xml.Goal;
 import fll.xml.PerformanceScoreCategory;
@@ -189,7 +192,7 @@ public final class Playoff {
       return null;
     }
 
-    final Team retval = pickWinner(performanceElement, tiebreakerElement, winnerCriteria, teamA, teamAScore, teamB,
+    final Team retval = pickWinner(performanceElement.getCompiled(), tiebreakerElement, winnerCriteria, teamA, teamAScore, teamB,
                                    teamBScore);
     return retval;
   }
@@ -199,7 +202,7 @@ public final class Playoff {
    *
    * @return the winner, null on a tie or a missing score
    */
-  private static @Nullable Team pickWinner(final PerformanceScoreCategory perf,
+  private static @Nullable Team pickWinner(final CompiledScoreCategory<PerformanceTeamScore> perf,
                                            final List<TiebreakerTest> tiebreakerElement,
                                            final WinnerType winnerCriteria,
                                            final Team teamA,
@@ -231,7 +234,7 @@ public final class Playoff {
         } else if (FP.lessThan(scoreB, scoreA, TIEBREAKER_TOLERANCE)) {
           return WinnerType.HIGH == winnerCriteria ? teamA : teamB;
         } else {
-          return evaluateTiebreaker(tiebreakerElement, teamA, teamAScore, teamB, teamBScore);
+          return evaluateTiebreaker(perf, tiebreakerElement, teamA, teamAScore, teamB, teamBScore);
         }
       }
     }
@@ -240,13 +243,16 @@ public final class Playoff {
   /**
    * Evaluate the tiebreaker to determine the winner.
    *
+   * @param perf the compiled performance category, used to evaluate the
+   *          tiebreaker tests
    * @param tiebreakerElement the element from the XML document specifying the
    *          tiebreaker
    * @param teamAScore team A's score information
    * @param teamBScore team B's score information
    * @return the winner, may be Team.TIE
    */
-  private static Team evaluateTiebreaker(final List<TiebreakerTest> tiebreakerElement,
+  private static Team evaluateTiebreaker(final CompiledScoreCategory<PerformanceTeamScore> perf,
+                                         final List<TiebreakerTest> tiebreakerElement,
                                          final Team teamA,
                                          final TeamScore teamAScore,
                                          final Team teamB,
@@ -254,8 +260,8 @@ public final class Playoff {
 
     // walk test elements in tiebreaker to decide who wins
     for (final TiebreakerTest testElement : tiebreakerElement) {
-      final double sumA = testElement.evaluate(teamAScore);
-      final double sumB = testElement.evaluate(teamBScore);
+      final double sumA = perf.evaluateTiebreaker(testElement, teamAScore);
+      final double sumB = perf.evaluateTiebreaker(testElement, teamBScore);
       final WinnerType highlow = testElement.getWinner();
       if (sumA > sumB) {
         return (WinnerType.HIGH == highlow ? teamA : teamB);
@@ -295,6 +301,7 @@ public final class Playoff {
       prep.setString(4, "BYE");
       prep.executeUpdate();
     }
+    ScoreSummaryTracker.teamModified(connection, tournament, team.getTeamNumber());
   }
 
   /**
@@ -516,11 +523,12 @@ public final class Playoff {
         ++lineNbr;
       }
       // initial table assignments
+      final PlayoffBracket bracket = PlayoffBracket.load(connection, tournament.getTournamentID(), division);
       for (int i = 1; i < lineNbr; ++i) {
         final int runNumber = baseRunNumber
             + roundNumber;
-        final int playoffRound = Playoff.getPlayoffRound(connection, tournament.getTournamentID(), division, runNumber);
-        assignPlayoffTable(connection, division, tournament.getTournamentID(), playoffRound, i);
+        final int playoffRound = bracket.getPlayoffRound(runNumber);
+        assignPlayoffTable(connection, bracket, playoffRound, i);
       }
       ++roundNumber;
 
@@ -1296,6 +1304,7 @@ public final class Playoff {
         prep.executeUpdate();
       }
     }
+    TournamentDataVersions.modified(connection, tournamentId);
   }
 
   /**
@@ -1749,16 +1758,16 @@ public final class Playoff {
 
     final Team team = Team.getTeamFromDatabase(connection, teamNumber);
 
-    final int ptLine = Queries.getPlayoffTableLineNumber(connection, currentTournament, teamNumber, runNumber);
-
     final String division = Playoff.getPlayoffDivision(connection, currentTournament, teamNumber, runNumber);
+    final PlayoffBracket bracket = PlayoffBracket.load(connection, currentTournament, division);
+    final int ptLine = bracket.getLineNumber(teamNumber, runNumber);
     if (ptLine > 0) {
       // this makes sure that scores get pushed through to the displays
-      H2HUpdateWebSocket.updateBracket(connection, performanceElement.getScoreType(), division, team, runNumber);
+      H2HUpdateWebSocket.updateBracket(connection, performanceElement.getScoreType(), bracket, team, runNumber,
+                                       ptLine);
 
       final int siblingDbLine = getSiblingDbLine(ptLine);
-      final int siblingTeam = Queries.getTeamNumberByPlayoffLine(connection, currentTournament, division, siblingDbLine,
-                                                                 runNumber);
+      final int siblingTeam = bracket.getTeamNumberByRun(siblingDbLine, runNumber);
 
       if (LOGGER.isTraceEnabled()) {
         LOGGER.trace("Sibling is: "
@@ -1779,16 +1788,21 @@ public final class Playoff {
             / 2;
         final int winnerRunNumber = runNumber
             + 1;
-        final int oldWinnerTeamNumber = Queries.getTeamNumberByPlayoffLine(connection, currentTournament, division,
-                                                                           winnerDbLine, winnerRunNumber);
+        final int oldWinnerTeamNumber = bracket.getTeamNumberByRun(winnerDbLine, winnerRunNumber);
 
         final Team teamB = Team.getTeamFromDatabase(connection, siblingTeam);
         if (teamB == null) {
           throw new FLLRuntimeException("Unable to find team number in the database: "
               + teamNumber);
         }
-        final Team newWinner = Playoff.pickWinner(connection, currentTournament, performanceElement, tiebreakerElement,
-                                                  winnerCriteria, teamB, team, teamScore, runNumber);
+        final @Nullable PerformanceTeamScore teamBScore = DatabasePerformanceTeamScore.fetchTeamScore(currentTournament,
+                                                                                                      siblingTeam,
+                                                                                                      runNumber,
+                                                                                                      connection);
+        final @Nullable Team newWinner = null == teamBScore
+            ? null
+            : Playoff.pickWinner(performanceElement.getCompiled(), tiebreakerElement, winnerCriteria, teamB,
+                                 teamBScore, team, teamScore);
         try (PreparedStatement prep = connection.prepareStatement("SELECT TeamNumber FROM Performance" //
             + " WHERE TeamNumber = ?" //
             + " AND RunNumber > ?" //
@@ -1797,7 +1811,7 @@ public final class Playoff {
               && oldWinnerTeamNumber != newWinner.getTeamNumber()) {
             // This score update changes the result of the match, so make sure
             // no other scores exist in later round for either of these 2 teams.
-            if (Queries.getPlayoffTableLineNumber(connection, currentTournament, teamNumber, runNumber
+            if (bracket.getLineNumber(teamNumber, runNumber
                 + 1) > 0) {
               prep.setInt(1, teamNumber);
               prep.setInt(2, runNumber);
@@ -1813,7 +1827,7 @@ public final class Playoff {
                 }
               }
             }
-            if (Queries.getPlayoffTableLineNumber(connection, currentTournament, siblingTeam, runNumber
+            if (bracket.getLineNumber(siblingTeam, runNumber
                 + 1) > 0) {
               prep.setInt(1, siblingTeam);
               prep.setInt(2, runNumber);
@@ -1838,9 +1852,9 @@ public final class Playoff {
         // If the second-check flag is NO or the opposing team is not
         // verified, we set the match "winner" (possibly back) to NULL.
         if (!teamScore.isVerified()
-            || !(Queries.performanceScoreExists(connection, currentTournament, teamB, runNumber)
-                && Queries.isVerified(connection, currentTournament, teamB, runNumber))) {
-          removePlayoffScore(connection, division, currentTournament, runNumber, ptLine);
+            || null == teamBScore
+            || !teamBScore.isVerified()) {
+          updatePlayoffData(connection, bracket, runNumber, ptLine, Team.NULL, Team.NULL);
         } else if (null != newWinner) {
           // have a winner to record
           final Team newLoser;
@@ -1849,7 +1863,7 @@ public final class Playoff {
           } else {
             newLoser = team;
           }
-          updatePlayoffData(connection, division, currentTournament, runNumber, ptLine, newWinner, newLoser);
+          updatePlayoffData(connection, bracket, runNumber, ptLine, newWinner, newLoser);
 
         } // verified score
       } // no sibling
@@ -1861,44 +1875,6 @@ public final class Playoff {
     }
   }
 
-  /**
-   * Update a row in the playoff table. Assign the specified team and printed
-   * flags for the row found by (event_division, Tournament, PlayoffRound,
-   * LineNumber).
-   */
-  private static void updatePlayoffTable(final Connection connection,
-                                         final Team team,
-                                         final String division,
-                                         final int currentTournament,
-                                         final int runNumber,
-                                         final int lineNumber)
-      throws SQLException {
-
-    final int playoffRound = Playoff.getPlayoffRound(connection, currentTournament, division, runNumber);
-
-    try (PreparedStatement prep = connection.prepareStatement("UPDATE PlayoffData" //
-        + " SET Team = ?" //
-        + ", Printed = ?" //
-        + " WHERE event_division = ?" //
-        + " AND Tournament = ?" //
-        + " AND PlayoffRound = ?" //
-        + " AND LineNumber = ?")) {
-      prep.setInt(1, team.getTeamNumber());
-      prep.setBoolean(2, false);
-      prep.setString(3, division);
-      prep.setInt(4, currentTournament);
-      prep.setInt(5, playoffRound);
-      prep.setInt(6, lineNumber);
-      prep.executeUpdate();
-    }
-
-    final ChallengeDescription description = GlobalParameters.getChallengeDescription(connection);
-    final PerformanceScoreCategory performance = description.getPerformance();
-    final ScoreType performanceScoreType = performance.getScoreType();
-
-    H2HUpdateWebSocket.updateBracket(connection, performanceScoreType, division, team, runNumber, lineNumber);
-  }
-
   /**
    * Remove the playoff score for the next run.
    * 
@@ -1914,13 +1890,18 @@ public final class Playoff {
                                         final int runNumber,
                                         final int ptLine)
       throws SQLException {
+    final PlayoffBracket bracket = PlayoffBracket.load(connection, currentTournament, division);
     // winner and loser are both null now
-    updatePlayoffData(connection, division, currentTournament, runNumber, ptLine, Team.NULL, Team.NULL);
+    updatePlayoffData(connection, bracket, runNumber, ptLine, Team.NULL, Team.NULL);
   }
 
+  /**
+   * Store the winner and loser of a match in the next round. The rows in the
+   * playoff table are updated in a single transaction and then the displays
+   * are notified.
+   */
   private static void updatePlayoffData(final Connection connection,
-                                        final String bracketName,
-                                        final int tournamentId,
+                                        final PlayoffBracket bracket,
                                         final int runNumber,
                                         final int dbLine,
                                         final Team winner,
@@ -1932,18 +1913,59 @@ public final class Playoff {
         + 1)
         / 2);
 
-    final int nextPlayoffRound = Playoff.getPlayoffRound(connection, tournamentId, bracketName, nextRunNumber);
-    assignPlayoffTable(connection, bracketName, tournamentId, nextPlayoffRound, nextDbLine);
+    final int nextPlayoffRound = bracket.getPlayoffRound(nextRunNumber);
+    assignPlayoffTable(connection, bracket, nextPlayoffRound, nextDbLine);
 
-    updatePlayoffTable(connection, winner, bracketName, tournamentId, nextRunNumber, nextDbLine);
-
-    final int semiFinalRound = Queries.getNumPlayoffRounds(connection, tournamentId, bracketName)
+    final int semiFinalRound = bracket.getNumRounds()
         - 1;
-    final int playoffRun = Playoff.getPlayoffRound(connection, tournamentId, bracketName, runNumber);
-    if (playoffRun == semiFinalRound
-        && Playoff.isThirdPlaceEnabled(connection, tournamentId, bracketName)) {
-      final int thirdPlaceDbLine = Playoff.computeThirdPlaceDbLine(dbLine);
-      updatePlayoffTable(connection, loser, bracketName, tournamentId, nextRunNumber, thirdPlaceDbLine);
+    final int playoffRun = bracket.getPlayoffRound(runNumber);
+    final boolean updateThirdPlace = playoffRun == semiFinalRound
+        && bracket.isThirdPlaceEnabled();
+    final int thirdPlaceDbLine = Playoff.computeThirdPlaceDbLine(dbLine);
+
+    final boolean oldAutoCommit = connection.getAutoCommit();
+    try (PreparedStatement prep = connection.prepareStatement("UPDATE PlayoffData" //
+        + " SET Team = ?" //
+        + ", Printed = ?" //
+        + " WHERE event_division = ?" //
+        + " AND Tournament = ?" //
+        + " AND PlayoffRound = ?" //
+        + " AND LineNumber = ?")) {
+      connection.setAutoCommit(false);
+
+      prep.setBoolean(2, false);
+      prep.setString(3, bracket.getBracketName());
+      prep.setInt(4, bracket.getTournament());
+      prep.setInt(5, nextPlayoffRound);
+
+      prep.setInt(1, winner.getTeamNumber());
+      prep.setInt(6, nextDbLine);
+      prep.executeUpdate();
+
+      if (updateThirdPlace) {
+        prep.setInt(1, loser.getTeamNumber());
+        prep.setInt(6, thirdPlaceDbLine);
+        prep.executeUpdate();
+      }
+
+      connection.commit();
+    } catch (final SQLException e) {
+      connection.rollback();
+      throw e;
+    } finally {
+      connection.setAutoCommit(oldAutoCommit);
+    }
+
+    final ChallengeDescription description = GlobalParameters.getChallengeDescription(connection);
+    final ScoreType performanceScoreType = description.getPerformance().getScoreType();
+
+    bracket.setTeamNumber(nextPlayoffRound, nextDbLine, winner.getTeamNumber());
+    H2HUpdateWebSocket.updateBracket(connection, performanceScoreType, bracket, winner, nextRunNumber, nextDbLine);
+
+    if (updateThirdPlace) {
+      bracket.setTeamNumber(nextPlayoffRound, thirdPlaceDbLine, loser.getTeamNumber());
+      H2HUpdateWebSocket.updateBracket(connection, performanceScoreType, bracket, loser, nextRunNumber,
+                                       thirdPlaceDbLine);
     }
   }
 
@@ -1957,22 +1979,42 @@ public final class Playoff {
                                          final int playoffRound,
                                          final int dbLine)
       throws SQLException {
-    final Tournament tournament = Tournament.findTournamentByID(connection, tournamentId);
+    assignPlayoffTable(connection, PlayoffBracket.load(connection, tournamentId, bracketName), playoffRound, dbLine);
+  }
+
+  /**
+   * Assign a table to the bracket defined by the team, if it's not already
+   * assigned.
+   */
+  private static void assignPlayoffTable(final Connection connection,
+                                         final PlayoffBracket bracket,
+                                         final int playoffRound,
+                                         final int dbLine)
+      throws SQLException {
+    final String bracketName = bracket.getBracketName();
+    final int tournamentId = bracket.getTournament();
 
     LOGGER.trace("Assigning table label for bracket: {} tournament: {} playoffRound: {} dbLine: {}", bracketName,
                  tournamentId, playoffRound, dbLine);
 
+    final int siblingDbLine = getSiblingDbLine(dbLine);
+
     // check for Bye and skip table assignment if this is a bye
     // get the 2 teams involved in the playoffRound
-    if (Team.BYE_TEAM_NUMBER == getPlayoffTeamNumber(connection, tournament, bracketName, playoffRound, dbLine)) {
+    if (Team.BYE_TEAM_NUMBER == bracket.getTeamNumber(playoffRound, dbLine)) {
       LOGGER.trace("Not assigning table to bye round (this team).");
       return;
-    } else if (Team.BYE_TEAM_NUMBER == getPlayoffTeamNumber(connection, tournament, bracketName, playoffRound,
-                                                            getSiblingDbLine(dbLine))) {
+    } else if (Team.BYE_TEAM_NUMBER == bracket.getTeamNumber(playoffRound, siblingDbLine)) {
       LOGGER.trace("Not assigning table to bye round (sibling team).");
       return;
+    } else if (null != bracket.getAssignedTable(playoffRound, dbLine)
+        && null != bracket.getAssignedTable(playoffRound, siblingDbLine)) {
+      LOGGER.trace("Tables are already assigned.");
+      return;
     }
 
+    final Tournament tournament = Tournament.findTournamentByID(connection, tournamentId);
+
     final boolean oldAutoCommit = connection.getAutoCommit();
 
     try (PreparedStatement prep = connection.prepareStatement("UPDATE PlayoffTableData" //
@@ -2000,17 +2042,23 @@ public final class Playoff {
 
       prep.setString(1, tableInfo.getSideA());
       prep.setInt(5, dbLine);
-      prep.executeUpdate();
+      final boolean assignedA = prep.executeUpdate() > 0;
 
       prep.setString(1, tableInfo.getSideB());
-      final int siblingDbLine = getSiblingDbLine(dbLine);
       prep.setInt(5, siblingDbLine);
-      prep.executeUpdate();
+      final boolean assignedB = prep.executeUpdate() > 0;
 
       // commit and if there is an error rollback the changes under the assumption
       // that another thread is updating the assigned table
       try {
         connection.commit();
+
+        if (assignedA) {
+          bracket.setAssignedTable(playoffRound, dbLine, tableInfo.getSideA());
+        }
+        if (assignedB) {
+          bracket.setAssignedTable(playoffRound, siblingDbLine, tableInfo.getSideB());
+        }
       } catch (final SQLException e) {
         LOGGER.debug("Got error writing assigned table information. Assuming this is due to someone else modifying the information at the same time",
                      e);
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web.playoff;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import fll.Team;
+
+/**
+ * In-memory copy of a head to head bracket from PlayoffData and
+ * PlayoffTableData. This is loaded with a single query so that entering a head
+ * to head score doesn't need a separate query for each line of the bracket
+ * that is looked at. Changes are written to the database by {@link Playoff}
+ * and then applied to this object.
+ */
+/* package */ final class PlayoffBracket {
+
+  private record Position(int round,
+                          int line) {
+  }
+
+  private record TeamRun(int teamNumber,
+                         int runNumber) {
+  }
+
+  private static final class Line {
+    private int teamNumber;
+
+    private final int runNumber;
+
+    private @Nullable String assignedTable;
+
+    Line(final int teamNumber,
+         final int runNumber,
+         final @Nullable String assignedTable) {
+      this.teamNumber = teamNumber;
+      this.runNumber = runNumber;
+      this.assignedTable = assignedTable;
+    }
+  }
+
+  private final int tournament;
+
+  private final String bracketName;
+
+  private final Map<Position, Line> lines = new HashMap<>();
+
+  private final Map<TeamRun, Position> teamPositions = new HashMap<>();
+
+  private final Map<Integer, Integer> runToRound = new HashMap<>();
+
+  private final Map<Integer, Integer> roundSizes = new HashMap<>();
+
+  private int maxRunNumber = -1;
+
+  private PlayoffBracket(final int tournament,
+                         final String bracketName) {
+    this.tournament = tournament;
+    this.bracketName = bracketName;
+  }
+
+  /**
+   * @param connection database connection
+   * @param tournament the tournament
+   * @param bracketName the head to head bracket
+   * @return the bracket, empty if the bracket doesn't exist
+   * @throws SQLException on a database error
+   */
+  public static PlayoffBracket load(final Connection connection,
+                                    final int tournament,
+                                    final String bracketName)
+      throws SQLException {
+    final PlayoffBracket bracket = new PlayoffBracket(tournament, bracketName);
+    try (PreparedStatement prep = connection.prepareStatement("SELECT PlayoffData.PlayoffRound" //
+        + ", PlayoffData.LineNumber" //
+        + ", PlayoffData.Team" //
+        + ", PlayoffData.run_number" //
+        + ", PlayoffTableData.AssignedTable" //
+        + " FROM PlayoffData LEFT JOIN PlayoffTableData" //
+        + "   ON PlayoffData.event_division = PlayoffTableData.event_division" //
+        + "   AND PlayoffData.Tournament = PlayoffTableData.Tournament" //
+        + "   AND PlayoffData.PlayoffRound = PlayoffTableData.PlayoffRound" //
+        + "   AND PlayoffData.LineNumber = PlayoffTableData.LineNumber" //
+        + " WHERE PlayoffData.Tournament = ?" //
+        + "   AND PlayoffData.event_division = ?")) {
+      prep.setInt(1, tournament);
+      prep.setString(2, bracketName);
+      try (ResultSet rs = prep.executeQuery()) {
+        while (rs.next()) {
+          final int round = rs.getInt(1);
+          final int lineNumber = rs.getInt(2);
+          int teamNumber = rs.getInt(3);
+          if (rs.wasNull()) {
+            teamNumber = Team.NULL_TEAM_NUMBER;
+          }
+          final int runNumber = rs.getInt(4);
+          final @Nullable String table = rs.getString(5);
+
+          final Position position = new Position(round, lineNumber);
+          bracket.lines.put(position, new Line(teamNumber, runNumber, table));
+          bracket.teamPositions.put(new TeamRun(teamNumber, runNumber), position);
+          bracket.runToRound.putIfAbsent(runNumber, round);
+          bracket.roundSizes.merge(round, 1, Integer::sum);
+          bracket.maxRunNumber = Math.max(bracket.maxRunNumber, runNumber);
+        }
+      }
+    }
+    return bracket;
+  }
+
+  /**
+   * @return the tournament that the bracket is in
+   */
+  public int getTournament() {
+    return tournament;
+  }
+
+  /**
+   * @return the name of the bracket
+   */
+  public String getBracketName() {
+    return bracketName;
+  }
+
+  /**
+   * @param runNumber performance run number
+   * @return the playoff round, -1 if the run isn't part of this bracket
+   * @see Playoff#getPlayoffRound(Connection, int, String, int)
+   */
+  public int getPlayoffRound(final int runNumber) {
+    return runToRound.getOrDefault(runNumber, -1);
+  }
+
+  /**
+   * @param teamNumber the team
+   * @param runNumber the performance run number
+   * @return the line number of the team, -1 if the team isn't in this bracket
+   *         for the run
+   * @see fll.db.Queries#getPlayoffTableLineNumber(Connection, int, int, int)
+   */
+  public int getLineNumber(final int teamNumber,
+                           final int runNumber) {
+    final @Nullable Position position = teamPositions.get(new TeamRun(teamNumber, runNumber));
+    return null == position ? -1 : position.line();
+  }
+
+  /**
+   * @param lineNumber the line in the bracket
+   * @param runNumber the performance run number
+   * @return the team number, {@link Team#NULL_TEAM_NUMBER} if not found
+   * @see fll.db.Queries#getTeamNumberByPlayoffLine(Connection, int, String, int,
+   *      int)
+   */
+  public int getTeamNumberByRun(final int lineNumber,
+                                final int runNumber) {
+    return getTeamNumber(getPlayoffRound(runNumber), lineNumber);
+  }
+
+  /**
+   * @param playoffRound round in the bracket
+   * @param lineNumber the line in the round
+   * @return the team number, {@link Team#NULL_TEAM_NUMBER} if not found
+   * @see Playoff#getPlayoffTeamNumber(Connection, fll.Tournament, String, int,
+   *      int)
+   */
+  public int getTeamNumber(final int playoffRound,
+                           final int lineNumber) {
+    final @Nullable Line line = lines.get(new Position(playoffRound, lineNumber));
+    return null == line ? Team.NULL_TEAM_NUMBER : line.teamNumber;
+  }
+
+  /**
+   * @param playoffRound round in the bracket
+   * @param lineNumber the line in the round
+   * @return the assigned table, null if not assigned
+   * @see fll.db.Queries#getAssignedTable(Connection, int, String, int, int)
+   */
+  public @Nullable String getAssignedTable(final int playoffRound,
+                                           final int lineNumber) {
+    final @Nullable Line line = lines.get(new Position(playoffRound, lineNumber));
+    return null == line ? null : line.assignedTable;
+  }
+
+  /**
+   * @return the number of rounds in the bracket, 0 if the bracket isn't
+   *         initialized
+   * @see fll.db.Queries#getNumPlayoffRounds(Connection, int, String)
+   */
+  public int getNumRounds() {
+    final int firstRoundSize = roundSizes.getOrDefault(1, 0);
+    if (firstRoundSize > 0) {
+      return (int) Math.round(Math.log(firstRoundSize)
+          / Math.log(2));
+    } else {
+      return 0;
+    }
+  }
+
+  /**
+   * @return the last playoff round, -1 if there are no rounds
+   * @see Playoff#getMaxPlayoffRound(Connection, int, String)
+   */
+  public int getMaxPlayoffRound() {
+    return maxRunNumber < 0 ? -1 : getPlayoffRound(maxRunNumber);
+  }
+
+  /**
+   * @return true if the bracket has a third place match
+   * @see Playoff#isThirdPlaceEnabled(Connection, int, String)
+   */
+  public boolean isThirdPlaceEnabled() {
+    return roundSizes.getOrDefault(getNumRounds(), 0) == 4;
+  }
+
+  /**
+   * Record that a team was stored on a line in the database.
+   *
+   * @param playoffRound round in the bracket
+   * @param lineNumber the line in the round
+   * @param teamNumber the new team number
+   */
+  public void setTeamNumber(final int playoffRound,
+                            final int lineNumber,
+                            final int teamNumber) {
+    final Position position = new Position(playoffRound, lineNumber);
+    final @Nullable Line line = lines.get(position);
+    if (null != line) {
+      teamPositions.remove(new TeamRun(line.teamNumber, line.runNumber), position);
+      line.teamNumber = teamNumber;
+      teamPositions.put(new TeamRun(teamNumber, line.runNumber), position);
+    }
+  }
+
+  /**
+   * Record that a table was assigned to a line in the database.
+   *
+   * @param playoffRound round in the bracket
+   * @param lineNumber the line in the round
+   * @param table the assigned table
+   */
+  public void setAssignedTable(final int playoffRound,
+                               final int lineNumber,
+                               final String table) {
+    final @Nullable Line line = lines.get(new Position(playoffRound, lineNumber));
+    if (null != line) {
+      line.assignedTable = table;
+    }
+  }
+
+}
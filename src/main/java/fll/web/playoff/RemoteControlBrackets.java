@@ -89,7 +89,7 @@ public final class RemoteControlBrackets {
       pageContext.setAttribute("allBracketData", allBracketData);
 
       // expose allBracketData to the javascript
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
       final String allBracketDataJson = WebUtils.escapeStringForJsonParse(jsonMapper.writeValueAsString(allBracketData));
       pageContext.setAttribute("allBracketDataJson", allBracketDataJson);
 
@@ -5,14 +5,21 @@
  */
 package fll.web.playoff;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.time.LocalTime;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -20,7 +27,9 @@ import javax.xml.transform.TransformerException;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
 import org.checkerframework.checker.initialization.qual.UnderInitialization;
 import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -37,6 +46,7 @@ import fll.util.FLLInternalException;
 import fll.util.FLLRuntimeException;
 import fll.util.FOPUtils;
 import fll.util.FP;
+import fll.util.PdfCache;
 import fll.web.WebUtils;
 import fll.web.report.FinalComputedScores;
 import fll.xml.AbstractGoal;
@@ -352,22 +362,78 @@ public class ScoresheetGenerator {
     isPractice = new boolean[numSheets];
   }
 
+  /**
+   * Large sets of sheets are split into parts of this many sheets that are
+   * rendered in parallel.
+   */
+  private static final int SHEETS_PER_PART = 40;
+
   /**
    * @param out where to write the PDF
    * @throws IOException if there is a problem writing to the output
    */
   public void writeFile(final OutputStream out) throws IOException {
+    if (numSheets > SHEETS_PER_PART) {
+      writeParts(out);
+      return;
+    }
 
     try {
-      final Document performanceDoc = createDocument();
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-      FOPUtils.renderPdf(fopFactory, performanceDoc, out);
+      final Document performanceDoc = createDocument(0, numSheets);
+      PdfCache.renderPdf(performanceDoc, out);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the performance schedule PDF", e);
     }
   }
 
-  private Document createDocument() {
+  /**
+   * Render the sheets in parts and then merge the parts. Each sheet starts on a
+   * new page and the footer doesn't reference other pages, so the merged
+   * document is the same as rendering all sheets at once.
+   */
+  private void writeParts(final OutputStream out) throws IOException {
+    final List<Callable<byte[]>> parts = new LinkedList<>();
+    for (int start = 0; start < numSheets; start += SHEETS_PER_PART) {
+      final int partStart = start;
+      final int partEnd = Math.min(numSheets, start
+          + SHEETS_PER_PART);
+      parts.add(() -> {
+        final ByteArrayOutputStream part = new ByteArrayOutputStream();
+        FOPUtils.renderPdf(createDocument(partStart, partEnd), part);
+        return part.toByteArray();
+      });
+    }
+
+    final ExecutorService pool = Executors.newFixedThreadPool(Math.min(parts.size(), Runtime.getRuntime()
+                                                                                            .availableProcessors()));
+    try {
+      final PDFMergerUtility merger = new PDFMergerUtility();
+      for (final Future<byte[]> part : pool.invokeAll(parts)) {
+        merger.addSource(new RandomAccessReadBuffer(part.get()));
+      }
+      merger.setDestinationStream(out);
+      merger.mergeDocuments(IOUtils.createMemoryOnlyStreamCache());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FLLRuntimeException("Interrupted creating the performance sheets", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof IOException ioe) {
+        throw ioe;
+      } else {
+        throw new FLLInternalException("Error creating the performance sheets PDF", cause);
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * @param startSheet index of the first sheet to include
+   * @param endSheet index after the last sheet to include
+   */
+  private Document createDocument(final int startSheet,
+                                  final int endSheet) {
     final Document document = XMLUtils.DOCUMENT_BUILDER.newDocument();
 
     final Element rootElement = FOPUtils.createRoot(document);
@@ -397,7 +463,7 @@ public class ScoresheetGenerator {
     final Element checkBlock = createCheckBlock(document);
     final Element practiceWatermark = FOPUtils.createWatermark(document, "PRACTICE", WATERMARK_OPACITY);
 
-    for (int sheetIndex = 0; sheetIndex < numSheets; sheetIndex++) {
+    for (int sheetIndex = startSheet; sheetIndex < endSheet; sheetIndex++) {
       final Element sheet = createScoreSheet(document, titleHeader, goalsTable, checkBlock, practiceWatermark,
                                              sheetIndex);
       documentBody.appendChild(sheet);
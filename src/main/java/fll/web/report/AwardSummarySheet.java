@@ -18,7 +18,6 @@ import javax.sql.DataSource;
 import javax.xml.transform.TransformerException;
 
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -30,9 +29,11 @@ import fll.TournamentTeam;
 import fll.db.AwardDeterminationOrder;
 import fll.db.CategoriesIgnored;
 import fll.db.Queries;
+import fll.db.TournamentDataVersions;
 import fll.util.FLLInternalException;
 import fll.util.FLLRuntimeException;
 import fll.util.FOPUtils;
+import fll.util.PdfCache;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
 import fll.web.BaseFLLServlet;
@@ -101,11 +102,15 @@ public class AwardSummarySheet extends BaseFLLServlet {
       response.setContentType("application/pdf");
       response.setHeader("Content-Disposition", "filename=awardSummarySheet.pdf");
 
+      // the report contains the time it was created, so the cache is keyed on
+      // the data version instead of the document
+      final String key = String.join("\n", AwardSummarySheet.class.getName(), groupName,
+                                     TournamentDataVersions.getVersion(connection,
+                                                                       tournamentData.getCurrentTournament()
+                                                                                     .getTournamentID()));
       try {
-        final Document document = generateReport(connection, challengeDescription, tournamentData, groupName);
-        final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-        FOPUtils.renderPdf(fopFactory, document, response.getOutputStream());
+        PdfCache.renderPdf(key, () -> generateReport(connection, challengeDescription, tournamentData, groupName),
+                           response.getOutputStream());
       } catch (FOPException | TransformerException e) {
         throw new FLLInternalException("Error creating the award summary sheet", e);
       }
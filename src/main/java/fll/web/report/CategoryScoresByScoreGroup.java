@@ -20,7 +20,6 @@ import javax.sql.DataSource;
 import javax.xml.transform.TransformerException;
 
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -31,6 +30,7 @@ import fll.Utilities;
 import fll.scheduler.TournamentSchedule;
 import fll.util.FLLInternalException;
 import fll.util.FOPUtils;
+import fll.util.PdfCache;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
 import fll.web.BaseFLLServlet;
@@ -264,9 +264,7 @@ public class CategoryScoresByScoreGroup extends BaseFLLServlet {
 
       final Document document = createDocument(connection, challengeDescription, tournament);
 
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-      FOPUtils.renderPdf(fopFactory, document, stream);
+      PdfCache.renderPdf(document, stream);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the performance schedule PDF", e);
     }
@@ -32,7 +32,6 @@ import javax.xml.transform.TransformerException;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -46,6 +45,7 @@ import fll.Tournament;
 import fll.Utilities;
 import fll.db.AwardDeterminationOrder;
 import fll.db.Queries;
+import fll.db.TournamentDataVersions;
 import fll.db.TournamentParameters;
 import fll.scores.DatabaseSubjectiveTeamScore;
 import fll.scores.SubjectiveTeamScore;
@@ -53,6 +53,7 @@ import fll.util.FLLInternalException;
 import fll.util.FLLRuntimeException;
 import fll.util.FOPUtils;
 import fll.util.FP;
+import fll.util.PdfCache;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
 import fll.web.BaseFLLServlet;
@@ -236,33 +237,36 @@ public final class FinalComputedScores extends BaseFLLServlet {
 
       final Tournament tournament = tournamentData.getCurrentTournament();
 
-      final int percentageHurdle = TournamentParameters.getPerformanceAdvancementPercentage(connection,
-                                                                                            tournament.getTournamentID());
-      final double performanceHurdle;
-      if (percentageHurdle > 0
-          && percentageHurdle < 100) {
-        // set to a realistic value
-        performanceHurdle = percentageHurdle
-            / 100.0;
-      } else {
-        performanceHurdle = 0;
-      }
-
-      final Set<Integer> bestTeams = determineTeamsMeetingPerformanceHurdle(performanceHurdle, connection,
-                                                                            tournament.getTournamentID(),
-                                                                            challengeDescription.getWinner());
-
       response.reset();
       response.setContentType("application/pdf");
       response.setHeader("Content-Disposition", "filename=finalComputedScores.pdf");
 
-      final String challengeTitle = challengeDescription.getTitle();
-
+      // the report contains the time it was created, so the cache is keyed on
+      // the data version instead of the document
+      final String key = String.join("\n", FinalComputedScores.class.getName(), groupName, selector.name(),
+                                     sortOrder.name(),
+                                     TournamentDataVersions.getVersion(connection, tournament.getTournamentID()));
       try {
-        final Document document = generateReport(connection, challengeDescription, challengeTitle, tournament,
-                                                 bestTeams, percentageHurdle, groupName, selector, sortOrder);
-        final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-        FOPUtils.renderPdf(fopFactory, document, response.getOutputStream());
+        PdfCache.renderPdf(key, () -> {
+          final int percentageHurdle = TournamentParameters.getPerformanceAdvancementPercentage(connection,
+                                                                                                tournament.getTournamentID());
+          final double performanceHurdle;
+          if (percentageHurdle > 0
+              && percentageHurdle < 100) {
+            // set to a realistic value
+            performanceHurdle = percentageHurdle
+                / 100.0;
+          } else {
+            performanceHurdle = 0;
+          }
+
+          final Set<Integer> bestTeams = determineTeamsMeetingPerformanceHurdle(performanceHurdle, connection,
+                                                                                tournament.getTournamentID(),
+                                                                                challengeDescription.getWinner());
+
+          return generateReport(connection, challengeDescription, challengeDescription.getTitle(), tournament,
+                                bestTeams, percentageHurdle, groupName, selector, sortOrder);
+        }, response.getOutputStream());
       } catch (FOPException | TransformerException e) {
         throw new FLLInternalException("Error creating the final scores PDF", e);
       }
@@ -510,7 +514,6 @@ public final class FinalComputedScores extends BaseFLLServlet {
     return gatherRankedPerformanceTeams(connection, winnerCriteria, tournament, awardGroup, ReportSelector.AWARD_GROUP);
   }
 
-  @SuppressFBWarnings(value = { "SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING" }, justification = "Winner criteria determines the sort, group column determines the column")
   public static Map<Integer, ImmutablePair<Integer, Double>> gatherRankedPerformanceTeams(final Connection connection,
                                                                                           final WinnerType winnerCriteria,
                                                                                           final Tournament tournament,
@@ -518,49 +521,11 @@ public final class FinalComputedScores extends BaseFLLServlet {
                                                                                           final ReportSelector selector)
       throws SQLException {
     final Map<Integer, ImmutablePair<Integer, Double>> rankedTeams = new HashMap<>();
-
-    // 1 - tournament
-    // 2 - award group
-    // 3 - category
-    // 4 - goal group
-    try (
-        PreparedStatement prep = connection.prepareStatement("SELECT final_scores.team_number, final_scores.final_score"
-            + " FROM final_scores, TournamentTeams" //
-            + " WHERE final_scores.Tournament = ?" //
-            + " AND TournamentTeams.Tournament = final_scores.tournament" //
-            + String.format(" AND TournamentTeams.%s = ?", selector.getColumn()) //
-            + " AND TournamentTeams.TeamNumber = final_scores.team_number"//
-            + " AND final_scores.category = ?" //
-            + String.format(" ORDER BY final_scores.final_score %s", winnerCriteria.getSortString()))) {
-      prep.setInt(1, tournament.getTournamentID());
-      prep.setString(2, groupName);
-      prep.setString(3, PerformanceScoreCategory.CATEGORY_NAME);
-
-      int numTied = 1;
-      int rank = 0;
-      double prevScore = Double.NaN;
-      try (ResultSet rs = prep.executeQuery()) {
-        while (rs.next()) {
-          final int teamNumber = rs.getInt(1);
-          double score = rs.getDouble(2);
-          if (rs.wasNull()) {
-            score = Double.NaN;
-          }
-
-          if (!FP.equals(score, prevScore, TIE_TOLERANCE)) {
-            rank += numTied;
-            numTied = 1;
-          } else {
-            ++numTied;
-          }
-
-          rankedTeams.put(teamNumber, ImmutablePair.of(rank, score));
-
-          prevScore = score;
-        } // foreach result
-      } // result set
-    } // prepared statement
-
+    RankingIndex.getRanking(connection, tournament, PerformanceScoreCategory.CATEGORY_NAME, winnerCriteria, selector,
+                            groupName)
+                .visit((teamNumber,
+                        score,
+                        rank) -> rankedTeams.put(teamNumber, ImmutablePair.of(rank, score)));
     return rankedTeams;
   }
 
@@ -591,7 +556,6 @@ public final class FinalComputedScores extends BaseFLLServlet {
    * @param visitor called with the data
    * @throws SQLException if a database error occurs
    */
-  @SuppressFBWarnings(value = { "SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING" }, justification = "winner criteria determines the sort")
   public static void iterateOverSubjectiveScores(final Connection connection,
                                                  final String categoryName,
                                                  final WinnerType winnerCriteria,
@@ -599,45 +563,9 @@ public final class FinalComputedScores extends BaseFLLServlet {
                                                  final String judgingStation,
                                                  final SubjectiveScoreVisitor visitor)
       throws SQLException {
-
-    try (
-        PreparedStatement prep = connection.prepareStatement("SELECT final_scores.team_number, final_scores.final_score"//
-            + " FROM final_scores, TournamentTeams" //
-            + " WHERE final_scores.tournament = ?" //
-            + " AND TournamentTeams.Tournament = final_scores.tournament" //
-            + " AND TournamentTeams.TeamNumber = final_scores.team_number"//
-            + " AND TournamentTeams.judging_station = ?" //
-            + " AND final_scores.category = ?" //
-            + String.format(" ORDER BY final_scores.final_score %s", winnerCriteria.getSortString()))) {
-      prep.setInt(1, tournament.getTournamentID());
-      prep.setString(2, judgingStation);
-      prep.setString(3, categoryName);
-
-      int numTied = 1;
-      int rank = 0;
-      double prevScore = Double.NaN;
-      try (ResultSet rs = prep.executeQuery()) {
-        while (rs.next()) {
-          final int teamNumber = rs.getInt(1);
-          double score = rs.getDouble(2);
-          if (rs.wasNull()) {
-            score = Double.NaN;
-          }
-
-          if (!FP.equals(score, prevScore, TIE_TOLERANCE)) {
-            rank += numTied;
-            numTied = 1;
-          } else {
-            ++numTied;
-          }
-
-          visitor.visit(teamNumber, score, rank);
-
-          prevScore = score;
-        }
-
-      } // try ResultSet
-    } // try PreparedStatment
+    RankingIndex.getRanking(connection, tournament, categoryName, winnerCriteria, ReportSelector.JUDGING_STATION,
+                            judgingStation)
+                .visit(visitor);
   }
 
   /**
@@ -21,7 +21,6 @@ import javax.sql.DataSource;
 import javax.xml.transform.TransformerException;
 
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -32,6 +31,7 @@ import fll.db.NonNumericNominees;
 import fll.db.NonNumericNominees.Nominee;
 import fll.util.FLLInternalException;
 import fll.util.FOPUtils;
+import fll.util.PdfCache;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
 import fll.web.BaseFLLServlet;
@@ -73,8 +73,6 @@ public class NonNumericNomineesReport extends BaseFLLServlet {
 
     try (Connection connection = datasource.getConnection()) {
       final Document doc = createReport(connection, description);
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
       if (LOGGER.isTraceEnabled()) {
         try (StringWriter writer = new StringWriter()) {
           XMLUtils.writeXML(doc, writer);
@@ -86,7 +84,7 @@ public class NonNumericNomineesReport extends BaseFLLServlet {
       response.setContentType("application/pdf");
       response.setHeader("Content-Disposition", "filename=nonNumericNomineesReport.pdf");
 
-      FOPUtils.renderPdf(fopFactory, doc, response.getOutputStream());
+      PdfCache.renderPdf(doc, response.getOutputStream());
     } catch (final SQLException e) {
       throw new RuntimeException(e);
     } catch (FOPException | TransformerException e) {
@@ -21,7 +21,6 @@ import javax.sql.DataSource;
 import javax.xml.transform.TransformerException;
 
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -34,6 +33,7 @@ import fll.Utilities;
 import fll.scheduler.TournamentSchedule;
 import fll.util.FLLInternalException;
 import fll.util.FOPUtils;
+import fll.util.PdfCache;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
 import fll.web.BaseFLLServlet;
@@ -88,9 +88,7 @@ public class PerformanceReport extends BaseFLLServlet {
 
         final Document document = createReport(connection, challengeDescription, tournament);
 
-        final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-        FOPUtils.renderPdf(fopFactory, document, response.getOutputStream());
+        PdfCache.renderPdf(document, response.getOutputStream());
       } catch (FOPException | TransformerException e) {
         throw new FLLInternalException("Error creating the performance schedule PDF", e);
       }
@@ -20,7 +20,6 @@ import javax.sql.DataSource;
 import javax.xml.transform.TransformerException;
 
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -35,6 +34,7 @@ import fll.scores.PerformanceTeamScore;
 import fll.util.FLLInternalException;
 import fll.util.FOPUtils;
 import fll.util.FP;
+import fll.util.PdfCache;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
 import fll.web.BaseFLLServlet;
@@ -108,9 +108,7 @@ public class PerformanceScoreReport extends BaseFLLServlet {
 
         final Document document = createDocument(tournamentData, connection, challengeDescription, teams.values());
 
-        final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-        FOPUtils.renderPdf(fopFactory, document, stream);
+        PdfCache.renderPdf(document, stream);
       } catch (FOPException | TransformerException e) {
         throw new FLLInternalException("Error creating the performance schedule PDF", e);
       }
@@ -19,7 +19,6 @@ import javax.sql.DataSource;
 import javax.xml.transform.TransformerException;
 
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -38,6 +37,7 @@ import fll.util.FLLInternalException;
 import fll.util.FLLRuntimeException;
 import fll.util.FOPUtils;
 import fll.util.FOPUtils.Margins;
+import fll.util.PdfCache;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
 import fll.web.BaseFLLServlet;
@@ -147,9 +147,7 @@ public class PitSigns extends BaseFLLServlet {
       }
 
       try {
-        final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-        FOPUtils.renderPdf(fopFactory, document, response.getOutputStream());
+        PdfCache.renderPdf(document, response.getOutputStream());
       } catch (FOPException | TransformerException e) {
         throw new FLLInternalException("Error creating the pit signs PDF", e);
       }
@@ -21,7 +21,6 @@ import javax.sql.DataSource;
 import javax.xml.transform.TransformerException;
 
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -31,6 +30,7 @@ import fll.Utilities;
 import fll.db.Queries;
 import fll.util.FLLInternalException;
 import fll.util.FOPUtils;
+import fll.util.PdfCache;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
 import fll.web.BaseFLLServlet;
@@ -76,8 +76,6 @@ public class PlayoffReport extends BaseFLLServlet {
       final Tournament tournament = Tournament.findTournamentByID(connection, Queries.getCurrentTournament(connection));
 
       final Document doc = createReport(connection, tournament, challengeDescription);
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
       if (LOGGER.isTraceEnabled()) {
         try (StringWriter writer = new StringWriter()) {
           XMLUtils.writeXML(doc, writer);
@@ -89,7 +87,7 @@ public class PlayoffReport extends BaseFLLServlet {
       response.setContentType("application/pdf");
       response.setHeader("Content-Disposition", "filename=playoffReport.pdf");
 
-      FOPUtils.renderPdf(fopFactory, doc, response.getOutputStream());
+      PdfCache.renderPdf(doc, response.getOutputStream());
     } catch (final SQLException e) {
       LOGGER.error(e, e);
       throw new RuntimeException(e);
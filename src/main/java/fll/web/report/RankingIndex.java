@@ -0,0 +1,529 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web.report;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import fll.Tournament;
+import fll.util.FP;
+import fll.web.report.FinalComputedScores.ReportSelector;
+import fll.web.report.FinalComputedScores.SubjectiveScoreVisitor;
+import fll.xml.WinnerType;
+
+/**
+ * In memory index of the ranks of the teams in each category, computed from
+ * final_scores. The rankings for a category and group of teams are computed
+ * once and reused until the summarized scores are recomputed.
+ * When the summarized scores are recomputed for only some teams, only the rows
+ * for those teams are read again and only the rankings for the groups of those
+ * teams are recomputed.
+ * The index is checked against the summary timestamp of the tournament, so
+ * scores summarized by another process cause a full rebuild.
+ */
+public final class RankingIndex {
+
+  private static final org.apache.logging.log4j.Logger LOGGER = org.apache.logging.log4j.LogManager.getLogger();
+
+  private RankingIndex() {
+  }
+
+  private record Key(String databaseUrl,
+                     int tournament) {
+  }
+
+  /**
+   * The final scores for a team and the groups that it's in.
+   */
+  private record TeamScores(String awardGroup,
+                            String judgingGroup,
+                            Map<String, Double> scores) {
+    String getGroup(final ReportSelector selector) {
+      return switch (selector) {
+      case AWARD_GROUP -> awardGroup;
+      case JUDGING_STATION -> judgingGroup;
+      };
+    }
+  }
+
+  private record RankingKey(String category,
+                            WinnerType winnerCriteria,
+                            ReportSelector selector,
+                            String group) {
+  }
+
+  /**
+   * The scores for all teams at the time of a summary computation. The
+   * rankings are computed as they are requested.
+   */
+  private static final class Snapshot {
+    private final @Nullable Timestamp summaryComputed;
+
+    private final Map<Integer, TeamScores> teams;
+
+    private final Map<RankingKey, Ranking> rankings = new ConcurrentHashMap<>();
+
+    Snapshot(final @Nullable Timestamp summaryComputed,
+             final Map<Integer, TeamScores> teams) {
+      this.summaryComputed = summaryComputed;
+      this.teams = teams;
+    }
+
+    Ranking getRanking(final RankingKey key) {
+      return rankings.computeIfAbsent(key, k -> {
+        final Map<Integer, Double> scores = new HashMap<>();
+        for (final Map.Entry<Integer, TeamScores> entry : teams.entrySet()) {
+          final TeamScores team = entry.getValue();
+          final @Nullable Double score = team.scores().get(k.category());
+          if (null != score
+              && k.group().equals(team.getGroup(k.selector()))) {
+            scores.put(entry.getKey(), score);
+          }
+        }
+        return Ranking.create(scores, k.winnerCriteria());
+      });
+    }
+  }
+
+  private static final class State {
+    private @Nullable Snapshot snapshot = null;
+
+    /**
+     * Teams whose scores or groups changed without a new summary timestamp.
+     */
+    private final Set<Integer> modifiedTeams = new HashSet<>();
+
+    /**
+     * Summary timestamp written by an incremental summary computation along
+     * with the teams that it recomputed.
+     */
+    private @Nullable Timestamp pendingSummary = null;
+
+    private final Set<Integer> pendingTeams = new HashSet<>();
+
+    /**
+     * Held while reading from the database so that only one thread updates the
+     * snapshot. The modification information is protected by {@link #LOCK}.
+     */
+    private final Object refreshLock = new Object();
+  }
+
+  private static final Map<Key, State> STATES = new HashMap<>();
+
+  private static final Object LOCK = new Object();
+
+  private static Key createKey(final Connection connection,
+                               final int tournament)
+      throws SQLException {
+    return new Key(String.valueOf(connection.getMetaData().getURL()), tournament);
+  }
+
+  /**
+   * Note that the final scores or the groups of a team changed.
+   *
+   * @param connection the database that was modified
+   * @param tournament the tournament that was modified
+   * @param teamNumber the team that was modified
+   * @throws SQLException on a database error
+   */
+  public static void teamModified(final Connection connection,
+                                  final int tournament,
+                                  final int teamNumber)
+      throws SQLException {
+    final Key key = createKey(connection, tournament);
+    synchronized (LOCK) {
+      STATES.computeIfAbsent(key, k -> new State()).modifiedTeams.add(teamNumber);
+    }
+  }
+
+  /**
+   * Note that the teams of a tournament changed in a way that requires the
+   * index to be rebuilt.
+   *
+   * @param connection the database that was modified
+   * @param tournament the tournament that was modified
+   * @throws SQLException on a database error
+   */
+  public static void tournamentModified(final Connection connection,
+                                        final int tournament)
+      throws SQLException {
+    final Key key = createKey(connection, tournament);
+    synchronized (LOCK) {
+      STATES.remove(key);
+    }
+  }
+
+  /**
+   * Note that teams were modified in all tournaments of a database or that the
+   * database was replaced.
+   *
+   * @param connection the database that was modified
+   * @throws SQLException on a database error
+   */
+  public static void databaseModified(final Connection connection) throws SQLException {
+    final String databaseUrl = String.valueOf(connection.getMetaData().getURL());
+    synchronized (LOCK) {
+      STATES.keySet().removeIf(k -> k.databaseUrl().equals(databaseUrl));
+    }
+  }
+
+  /**
+   * Note that the summarized scores were computed.
+   *
+   * @param connection the database
+   * @param tournament the tournament
+   * @param teams the teams whose final scores were recomputed, null if all
+   *          final scores were recomputed
+   * @param summaryComputed the summary timestamp that was written to the
+   *          database
+   * @throws SQLException on a database error
+   */
+  public static void summaryComputed(final Connection connection,
+                                     final int tournament,
+                                     final @Nullable Collection<Integer> teams,
+                                     final @Nullable Timestamp summaryComputed)
+      throws SQLException {
+    final Key key = createKey(connection, tournament);
+    synchronized (LOCK) {
+      if (null == teams
+          || null == summaryComputed) {
+        STATES.remove(key);
+      } else {
+        final State state = STATES.computeIfAbsent(key, k -> new State());
+        state.pendingSummary = summaryComputed;
+        state.pendingTeams.addAll(teams);
+      }
+    }
+  }
+
+  /**
+   * Get the ranking of the teams in a group for a category.
+   *
+   * @param connection the database
+   * @param tournament the tournament
+   * @param category the name of the category in final_scores
+   * @param winnerCriteria how to sort the scores
+   * @param selector how the teams are grouped
+   * @param group the group of teams to rank
+   * @return the ranking
+   * @throws SQLException on a database error
+   */
+  public static Ranking getRanking(final Connection connection,
+                                   final Tournament tournament,
+                                   final String category,
+                                   final WinnerType winnerCriteria,
+                                   final ReportSelector selector,
+                                   final String group)
+      throws SQLException {
+    final Snapshot snapshot = getSnapshot(connection, tournament);
+    return snapshot.getRanking(new RankingKey(category, winnerCriteria, selector, group));
+  }
+
+  private static Snapshot getSnapshot(final Connection connection,
+                                      final Tournament tournament)
+      throws SQLException {
+    final Key key = createKey(connection, tournament.getTournamentID());
+    final @Nullable Timestamp summaryComputed = tournament.getScoreSummariesUpdated(connection);
+
+    final State state;
+    synchronized (LOCK) {
+      state = STATES.computeIfAbsent(key, k -> new State());
+    }
+
+    synchronized (state.refreshLock) {
+      final @Nullable Snapshot current;
+      final Set<Integer> teams = new HashSet<>();
+      final boolean full;
+      synchronized (LOCK) {
+        current = state.snapshot;
+        if (null == current
+            || null == summaryComputed) {
+          full = true;
+        } else if (Objects.equals(current.summaryComputed, summaryComputed)) {
+          full = false;
+        } else if (summaryComputed.equals(state.pendingSummary)) {
+          full = false;
+          teams.addAll(state.pendingTeams);
+        } else {
+          full = true;
+        }
+        teams.addAll(state.modifiedTeams);
+
+        if (!full
+            && teams.isEmpty()) {
+          return castNonNullSnapshot(current);
+        }
+
+        state.modifiedTeams.clear();
+        if (summaryComputed != null
+            && summaryComputed.equals(state.pendingSummary)) {
+          state.pendingSummary = null;
+          state.pendingTeams.clear();
+        }
+      }
+
+      try {
+        final Snapshot updated;
+        if (full) {
+          LOGGER.debug("Building ranking index for tournament {}", tournament.getTournamentID());
+          updated = new Snapshot(summaryComputed, loadTeams(connection, tournament.getTournamentID(), null));
+        } else {
+          LOGGER.debug("Updating ranking index for tournament {} teams {}", tournament.getTournamentID(), teams);
+          updated = update(connection, tournament.getTournamentID(), castNonNullSnapshot(current), summaryComputed,
+                           teams);
+        }
+
+        synchronized (LOCK) {
+          state.snapshot = updated;
+        }
+        return updated;
+      } catch (final SQLException | RuntimeException e) {
+        synchronized (LOCK) {
+          state.snapshot = null;
+        }
+        throw e;
+      }
+    }
+  }
+
+  private static Snapshot castNonNullSnapshot(final @Nullable Snapshot snapshot) {
+    if (null == snapshot) {
+      throw new IllegalStateException("Snapshot must not be null here");
+    }
+    return snapshot;
+  }
+
+  /**
+   * Create a snapshot with the rows of the specified teams read again. Rankings
+   * for groups that don't contain any of the teams are kept.
+   */
+  private static Snapshot update(final Connection connection,
+                                 final int tournament,
+                                 final Snapshot current,
+                                 final @Nullable Timestamp summaryComputed,
+                                 final Set<Integer> modifiedTeams)
+      throws SQLException {
+    final Map<Integer, TeamScores> teams = new HashMap<>(current.teams);
+    final Map<Integer, TeamScores> changed = loadTeams(connection, tournament, modifiedTeams);
+
+    final Set<String> awardGroups = new HashSet<>();
+    final Set<String> judgingGroups = new HashSet<>();
+    for (final int teamNumber : modifiedTeams) {
+      final @Nullable TeamScores previous = teams.remove(teamNumber);
+      if (null != previous) {
+        awardGroups.add(previous.awardGroup());
+        judgingGroups.add(previous.judgingGroup());
+      }
+      final @Nullable TeamScores team = changed.get(teamNumber);
+      if (null != team) {
+        teams.put(teamNumber, team);
+        awardGroups.add(team.awardGroup());
+        judgingGroups.add(team.judgingGroup());
+      }
+    }
+
+    final Snapshot updated = new Snapshot(summaryComputed, teams);
+    for (final Map.Entry<RankingKey, Ranking> entry : current.rankings.entrySet()) {
+      final RankingKey key = entry.getKey();
+      final Set<String> groups = ReportSelector.AWARD_GROUP == key.selector() ? awardGroups : judgingGroups;
+      if (!groups.contains(key.group())) {
+        updated.rankings.put(key, entry.getValue());
+      }
+    }
+    return updated;
+  }
+
+  /**
+   * @param teamNumbers the teams to load, null to load all teams
+   */
+  private static Map<Integer, TeamScores> loadTeams(final Connection connection,
+                                                    final int tournament,
+                                                    final @Nullable Set<Integer> teamNumbers)
+      throws SQLException {
+    final Map<Integer, TeamScores> teams = new HashMap<>();
+    try (PreparedStatement prep = connection.prepareStatement("SELECT final_scores.team_number" //
+        + ", TournamentTeams.event_division" //
+        + ", TournamentTeams.judging_station" //
+        + ", final_scores.category" //
+        + ", final_scores.final_score" //
+        + " FROM final_scores, TournamentTeams" //
+        + " WHERE final_scores.tournament = ?" //
+        + " AND TournamentTeams.Tournament = final_scores.tournament" //
+        + " AND TournamentTeams.TeamNumber = final_scores.team_number" //
+        + (null == teamNumbers ? "" : " AND final_scores.team_number = ?"))) {
+      prep.setInt(1, tournament);
+      if (null == teamNumbers) {
+        loadTeams(prep, teams);
+      } else {
+        for (final int teamNumber : teamNumbers) {
+          prep.setInt(2, teamNumber);
+          loadTeams(prep, teams);
+        }
+      }
+    }
+    return teams;
+  }
+
+  private static void loadTeams(final PreparedStatement prep,
+                                final Map<Integer, TeamScores> teams)
+      throws SQLException {
+    try (ResultSet rs = prep.executeQuery()) {
+      while (rs.next()) {
+        final int teamNumber = rs.getInt(1);
+        final String awardGroup = emptyIfNull(rs.getString(2));
+        final String judgingGroup = emptyIfNull(rs.getString(3));
+        final String category = emptyIfNull(rs.getString(4));
+        double score = rs.getDouble(5);
+        if (rs.wasNull()) {
+          score = Double.NaN;
+        }
+
+        teams.computeIfAbsent(teamNumber, k -> new TeamScores(awardGroup, judgingGroup, new HashMap<>()))
+             .scores()
+             .put(category, score);
+      }
+    }
+  }
+
+  private static String emptyIfNull(final @Nullable String value) {
+    return null == value ? "" : value;
+  }
+
+  /**
+   * The teams in a group sorted by score with their ranks. Teams with scores
+   * within {@link FinalComputedScores#TIE_TOLERANCE} of each other have the
+   * same rank.
+   */
+  public static final class Ranking {
+    private final int[] teamNumbers;
+
+    private final double[] scores;
+
+    private final int[] ranks;
+
+    private final Map<Integer, Integer> positions;
+
+    private Ranking(final int[] teamNumbers,
+                    final double[] scores,
+                    final int[] ranks) {
+      this.teamNumbers = teamNumbers;
+      this.scores = scores;
+      this.ranks = ranks;
+      this.positions = new HashMap<>();
+      for (int i = 0; i < teamNumbers.length; ++i) {
+        positions.put(teamNumbers[i], i);
+      }
+    }
+
+    /**
+     * @param scores team number to score
+     * @param winnerCriteria how to sort the scores
+     * @return the ranking of the teams
+     */
+    /* package */ static Ranking create(final Map<Integer, Double> scores,
+                                        final WinnerType winnerCriteria) {
+      // missing scores sort below all other scores like NULL does in the
+      // database, so they are last when high scores win and first when low
+      // scores win
+      final Comparator<Map.Entry<Integer, Double>> hasScore = Comparator.comparing(e -> !e.getValue().isNaN());
+      final Comparator<Map.Entry<Integer, Double>> lowToHigh = hasScore.thenComparing(Map.Entry::getValue);
+      final Comparator<Map.Entry<Integer, Double>> scoreOrder = WinnerType.HIGH == winnerCriteria ? lowToHigh.reversed()
+          : lowToHigh;
+      final List<Map.Entry<Integer, Double>> sorted = new ArrayList<>(scores.entrySet());
+      // ties are ordered by team number so that the order is stable
+      sorted.sort(scoreOrder.thenComparing(Map.Entry::getKey));
+
+      final int[] teamNumbers = new int[sorted.size()];
+      final double[] sortedScores = new double[sorted.size()];
+      final int[] ranks = new int[sorted.size()];
+      int numTied = 1;
+      int rank = 0;
+      double prevScore = Double.NaN;
+      for (int i = 0; i < teamNumbers.length; ++i) {
+        final Map.Entry<Integer, Double> entry = sorted.get(i);
+        final double score = entry.getValue();
+        if (!FP.equals(score, prevScore, FinalComputedScores.TIE_TOLERANCE)) {
+          rank += numTied;
+          numTied = 1;
+        } else {
+          ++numTied;
+        }
+
+        teamNumbers[i] = entry.getKey();
+        sortedScores[i] = score;
+        ranks[i] = rank;
+        prevScore = score;
+      }
+      return new Ranking(teamNumbers, sortedScores, ranks);
+    }
+
+    /**
+     * @return the number of teams in the ranking
+     */
+    public int size() {
+      return teamNumbers.length;
+    }
+
+    /**
+     * @param teamNumber the team to find
+     * @return the rank of the team, 0 if the team isn't in the ranking
+     */
+    public int getRank(final int teamNumber) {
+      final @Nullable Integer position = positions.get(teamNumber);
+      return null == position ? 0 : ranks[position];
+    }
+
+    /**
+     * @param teamNumber the team to find
+     * @return the score of the team, NaN if the team isn't in the ranking
+     */
+    public double getScore(final int teamNumber) {
+      final @Nullable Integer position = positions.get(teamNumber);
+      return null == position ? Double.NaN : scores[position];
+    }
+
+    /**
+     * Visit all teams from best to worst.
+     *
+     * @param visitor called for each team
+     */
+    public void visit(final SubjectiveScoreVisitor visitor) {
+      visitTop(Integer.MAX_VALUE, visitor);
+    }
+
+    /**
+     * Visit the teams with a rank less than or equal to {@code maxRank} from
+     * best to worst. Teams tied at {@code maxRank} are all visited.
+     *
+     * @param maxRank the worst rank to visit
+     * @param visitor called for each team
+     */
+    public void visitTop(final int maxRank,
+                         final SubjectiveScoreVisitor visitor) {
+      for (int i = 0; i < teamNumbers.length
+          && ranks[i] <= maxRank; ++i) {
+        visitor.visit(teamNumbers[i], scores[i], ranks[i]);
+      }
+    }
+  }
+
+}
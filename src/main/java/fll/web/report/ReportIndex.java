@@ -73,7 +73,7 @@ public final class ReportIndex {
         categoryJudges.put(category.getName(), judgesInCategory);
       }
 
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
       // assume that the string is going to be put inside single quotes in the
       // javascript code
       final String categoryJudgesJson = WebUtils.escapeStringForJsonParse(jsonMapper.writeValueAsString(categoryJudges));
@@ -68,7 +68,7 @@ public class StoreNonNumericNominees extends BaseFLLServlet {
       }
 
       // decode JSON
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
       LOGGER.debug("Storing nominees: {}", nomineesStr);
 
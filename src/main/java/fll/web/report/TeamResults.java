@@ -21,7 +21,6 @@ import javax.sql.DataSource;
 import javax.xml.transform.TransformerException;
 
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.w3c.dom.Document;
 
 import fll.Team;
@@ -33,6 +32,7 @@ import fll.scores.DatabaseSubjectiveTeamScore;
 import fll.scores.SubjectiveTeamScore;
 import fll.util.FLLInternalException;
 import fll.util.FOPUtils;
+import fll.util.PdfCache;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
 import fll.web.BaseFLLServlet;
@@ -137,13 +137,11 @@ public class TeamResults extends BaseFLLServlet {
       final Document document = PerformanceScoreReport.createDocument(tournamentData, connection, description,
                                                                       Collections.singleton(team));
 
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
       final String filename = String.format("%s/%s_Performance.pdf", directory, directory);
 
       zipOut.putNextEntry(new ZipEntry(filename));
 
-      FOPUtils.renderPdf(fopFactory, document, zipOut);
+      PdfCache.renderPdf(document, zipOut);
 
       zipOut.closeEntry();
 
@@ -15,7 +15,6 @@ import java.util.Map;
 import javax.xml.transform.TransformerException;
 
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -23,6 +22,7 @@ import fll.Tournament;
 import fll.scheduler.TournamentSchedule;
 import fll.util.FLLInternalException;
 import fll.util.FOPUtils;
+import fll.util.PdfCache;
 import fll.web.BaseFLLServlet;
 import fll.web.scoreboard.Top10;
 import fll.xml.ChallengeDescription;
@@ -55,9 +55,7 @@ import net.mtu.eggplant.xml.XMLUtils;
 
       final Document document = createDocument(challengeDescription, tournament, groupIdentifier, scores);
 
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-      FOPUtils.renderPdf(fopFactory, document, stream);
+      PdfCache.renderPdf(document, stream);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the PDF", e);
     }
@@ -25,7 +25,6 @@ import javax.sql.DataSource;
 import javax.xml.transform.TransformerException;
 
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -39,6 +38,7 @@ import fll.scores.SubjectiveTeamScore;
 import fll.util.FLLInternalException;
 import fll.util.FLLRuntimeException;
 import fll.util.FOPUtils;
+import fll.util.PdfCache;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
 import fll.web.BaseFLLServlet;
@@ -101,8 +101,7 @@ public class VirtualSubjectiveCategoryReport extends BaseFLLServlet {
 
       try {
         final Document document = generateReport(connection, tournament, category);
-        final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-        FOPUtils.renderPdf(fopFactory, document, response.getOutputStream());
+        PdfCache.renderPdf(document, response.getOutputStream());
       } catch (FOPException | TransformerException e) {
         throw new FLLInternalException(e);
       }
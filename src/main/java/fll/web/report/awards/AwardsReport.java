@@ -28,7 +28,6 @@ import javax.sql.DataSource;
 import javax.xml.transform.TransformerException;
 
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -48,6 +47,7 @@ import fll.db.OverallAwardWinner;
 import fll.db.TournamentParameters;
 import fll.util.FLLInternalException;
 import fll.util.FOPUtils;
+import fll.util.PdfCache;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
 import fll.web.BaseFLLServlet;
@@ -103,8 +103,6 @@ public class AwardsReport extends BaseFLLServlet {
                                                            tournamentData.getCurrentTournament());
 
       final Document doc = createReport(connection, description);
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
       if (LOGGER.isTraceEnabled()) {
         try (StringWriter writer = new StringWriter()) {
           XMLUtils.writeXML(doc, writer);
@@ -116,7 +114,7 @@ public class AwardsReport extends BaseFLLServlet {
       response.setContentType("application/pdf");
       response.setHeader("Content-Disposition", "filename=awardsReport.pdf");
 
-      FOPUtils.renderPdf(fopFactory, doc, response.getOutputStream());
+      PdfCache.renderPdf(doc, response.getOutputStream());
     } catch (final SQLException e) {
       throw new RuntimeException(e);
     } catch (FOPException | TransformerException e) {
@@ -32,6 +32,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNull;
 
 import fll.Tournament;
+import fll.db.TournamentDataVersions;
 
 /**
  * The schedule for finalist judging.
@@ -226,6 +227,7 @@ public class FinalistSchedule implements Serializable {
       } // foreach row
     }
 
+    TournamentDataVersions.modified(connection, tournament);
   }
 
   /**
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNull;
 
 import fll.Tournament;
+import fll.db.TournamentDataVersions;
 
 /**
  * Parameters used to create a {@link FinalistSchedule} for an award group.
@@ -118,6 +119,8 @@ public class FinalistScheduleParameters implements Serializable {
         prep.executeUpdate();
       }
     }
+
+    TournamentDataVersions.modified(connection, tournament.getTournamentID());
   }
 
 }
@@ -21,7 +21,6 @@ import javax.sql.DataSource;
 import javax.xml.transform.TransformerException;
 
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -35,6 +34,7 @@ import fll.util.FLLInternalException;
 import fll.util.FLLRuntimeException;
 import fll.util.FOPUtils;
 import fll.util.FOPUtils.Margins;
+import fll.util.PdfCache;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
 import fll.web.BaseFLLServlet;
@@ -176,9 +176,7 @@ public class PdfFinalistSchedule extends BaseFLLServlet {
 
       final Document document = createDocument(connection, challengeDescription, schedule, awardGroup);
 
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-      FOPUtils.renderPdf(fopFactory, document, stream);
+      PdfCache.renderPdf(document, stream);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the performance schedule PDF", e);
     }
@@ -87,7 +87,7 @@ public class StoreFinalistSchedule extends BaseFLLServlet {
       }
 
       // decode JSON
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+      final ObjectMapper jsonMapper = Utilities.getJsonMapper();
 
       final Collection<FinalistDBRow> rows = jsonMapper.readValue(schedDataStr,
                                                                   FinalistScheduleTypeInformation.INSTANCE);
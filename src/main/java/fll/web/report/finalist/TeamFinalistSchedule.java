@@ -23,7 +23,6 @@ import javax.sql.DataSource;
 import javax.xml.transform.TransformerException;
 
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FopFactory;
 import org.checkerframework.checker.nullness.qual.KeyFor;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.w3c.dom.Document;
@@ -34,6 +33,7 @@ import fll.TournamentTeam;
 import fll.db.Queries;
 import fll.util.FLLInternalException;
 import fll.util.FOPUtils;
+import fll.util.PdfCache;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
 import fll.web.BaseFLLServlet;
@@ -178,9 +178,7 @@ public class TeamFinalistSchedule extends BaseFLLServlet {
 
       final Document document = createDocument(connection, challengeDescription, schedules);
 
-      final FopFactory fopFactory = FOPUtils.createSimpleFopFactory();
-
-      FOPUtils.renderPdf(fopFactory, document, stream);
+      PdfCache.renderPdf(document, stream);
     } catch (FOPException | TransformerException e) {
       throw new FLLInternalException("Error creating the performance schedule PDF", e);
     }
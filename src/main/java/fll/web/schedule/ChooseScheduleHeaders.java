@@ -43,6 +43,7 @@ import fll.web.BaseFLLServlet;
 import fll.web.SessionAttributes;
 import fll.web.StoreColumnNames;
 import fll.web.TournamentData;
+import fll.web.UploadSpreadsheet;
 import fll.web.UserRole;
 import fll.web.WebUtils;
 import fll.xml.ChallengeDescription;
@@ -121,7 +122,7 @@ public final class ChooseScheduleHeaders extends BaseFLLServlet {
       final Collection<String> numberColumns = new LinkedList<>();
       final Collection<String> timeColumns = new LinkedList<>();
       final Collection<String> tableColumns = new LinkedList<>();
-      checkHeaders(headerNames, uploadScheduleData.getHeaderRowIndex(), uploadScheduleData.getScheduleFile(),
+      checkHeaders(session, headerNames, uploadScheduleData.getHeaderRowIndex(), uploadScheduleData.getScheduleFile(),
                    uploadScheduleData.getSelectedSheet(), numberColumns, timeColumns, tableColumns);
       pageContext.setAttribute("numberColumns", numberColumns);
       pageContext.setAttribute("timeColumns", timeColumns);
@@ -132,6 +133,7 @@ public final class ChooseScheduleHeaders extends BaseFLLServlet {
   }
 
   /**
+   * @param session used to read the parsed schedule file
    * @param allHeaders can be an immutable collection
    * @param returnNumberColumns pass in an empty mutable collect, upon return will
    *          contain the number columns (possibly empty)
@@ -140,7 +142,8 @@ public final class ChooseScheduleHeaders extends BaseFLLServlet {
    * @param returnTableColumns pass in an empty mutable collect, upon return will
    *          contain the table columns (possibly empty)
    */
-  private static void checkHeaders(final Collection<String> allHeaders,
+  private static void checkHeaders(final HttpSession session,
+                                   final Collection<String> allHeaders,
                                    final int headerRowIndex,
                                    final File scheduleFile,
                                    final @Nullable String sheetName,
@@ -148,7 +151,7 @@ public final class ChooseScheduleHeaders extends BaseFLLServlet {
                                    final Collection<String> returnTimeColumns,
                                    final Collection<String> returnTableColumns) {
 
-    try (CellFileReader reader = CellFileReader.createCellReader(scheduleFile, sheetName)) {
+    try (CellFileReader reader = UploadSpreadsheet.createCellReader(session, scheduleFile.toPath(), sheetName)) {
       reader.skipRows(headerRowIndex);
       final @Nullable String @Nullable [] headerRow = reader.readNext();
       if (null == headerRow) {
@@ -360,7 +363,7 @@ public final class ChooseScheduleHeaders extends BaseFLLServlet {
     try (Connection connection = datasource.getConnection()) {
       final ChallengeDescription challenge = ApplicationAttributes.getChallengeDescription(application);
 
-      final @Nullable String[] headerLine = getHeaderLine(uploadScheduleData);
+      final @Nullable String[] headerLine = getHeaderLine(session, uploadScheduleData);
 
       final String teamNumber = WebUtils.getNonNullRequestParameter(request, "teamNumber");
       final String teamName = WebUtils.getNonNullRequestParameter(request, "teamName");
@@ -424,9 +427,11 @@ public final class ChooseScheduleHeaders extends BaseFLLServlet {
     }
   }
 
-  private @Nullable String[] getHeaderLine(final UploadScheduleData uploadScheduleData) {
-    try (CellFileReader reader = CellFileReader.createCellReader(uploadScheduleData.getScheduleFile(),
-                                                                 uploadScheduleData.getSelectedSheet())) {
+  private @Nullable String[] getHeaderLine(final HttpSession session,
+                                           final UploadScheduleData uploadScheduleData) {
+    try (CellFileReader reader = UploadSpreadsheet.createCellReader(session,
+                                                                    uploadScheduleData.getScheduleFile().toPath(),
+                                                                    uploadScheduleData.getSelectedSheet())) {
       reader.skipRows(uploadScheduleData.getHeaderRowIndex());
       final @Nullable String @Nullable [] headerRow = reader.readNext();
       if (null == headerRow) {
@@ -19,12 +19,12 @@ import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 
 import fll.scheduler.ScheduleParseException;
 import fll.scheduler.TournamentSchedule;
-import fll.util.CellFileReader;
 import fll.util.FLLRuntimeException;
 import fll.web.ApplicationAttributes;
 import fll.web.AuthenticationContext;
 import fll.web.BaseFLLServlet;
 import fll.web.SessionAttributes;
+import fll.web.UploadSpreadsheet;
 import fll.web.UserRole;
 import fll.web.WebUtils;
 import jakarta.servlet.ServletContext;
@@ -59,7 +59,7 @@ public class LoadSchedule extends BaseFLLServlet {
 
     try {
       final DataSource datasource = ApplicationAttributes.getDataSource(application);
-      loadSchedule(uploadScheduleData, datasource);
+      loadSchedule(session, uploadScheduleData, datasource);
 
       WebUtils.sendRedirect(application, response, "specifyTimes.jsp");
     } finally {
@@ -67,7 +67,8 @@ public class LoadSchedule extends BaseFLLServlet {
     }
   }
 
-  private void loadSchedule(final UploadScheduleData uploadScheduleData,
+  private void loadSchedule(final HttpSession session,
+                            final UploadScheduleData uploadScheduleData,
                             final DataSource datasource) {
 
     final File scheduleFile = uploadScheduleData.getScheduleFile();
@@ -85,14 +86,16 @@ public class LoadSchedule extends BaseFLLServlet {
       }
 
       final TournamentSchedule schedule = new TournamentSchedule(name,
-                                                                 CellFileReader.createCellReader(scheduleFile,
-                                                                                                 sheetName),
+                                                                 UploadSpreadsheet.createCellReader(session,
+                                                                                                    scheduleFile.toPath(),
+                                                                                                    sheetName),
                                                                  uploadScheduleData.getColumnInformation());
       uploadScheduleData.setSchedule(schedule);
 
       if (!scheduleFile.delete()) {
         scheduleFile.deleteOnExit();
       }
+      session.removeAttribute(UploadSpreadsheet.PARSED_SPREADSHEET_KEY);
 
     } catch (final SQLException e) {
       final String message = "Error talking to the database";
@@ -15,15 +15,11 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
@@ -34,7 +30,7 @@ import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNull;
 
@@ -51,7 +47,7 @@ import fll.util.FLLInternalException;
 import fll.util.FLLRuntimeException;
 import fll.web.ApplicationAttributes;
 import fll.web.GetHttpSessionConfigurator;
-import fll.web.WebUtils;
+import fll.web.WebsocketSender;
 import fll.web.playoff.Playoff;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpSession;
@@ -72,7 +68,13 @@ public class PerformanceRunsEndpoint {
 
   private static final ConcurrentHashMap<String, Session> ALL_SESSIONS = new ConcurrentHashMap<>();
 
-  private static final ExecutorService THREAD_POOL = Executors.newCachedThreadPool();
+  private static final ObjectWriter RUN_DATA_WRITER = Utilities.getJsonMapper().writerFor(PerformanceRunData.class);
+
+  /**
+   * Each message contains all of the run data, so a newer one makes a message
+   * that hasn't been sent yet obsolete.
+   */
+  private static final String RUN_DATA_KEY = "runData";
 
   private @MonotonicNonNull String uuid;
 
@@ -88,12 +90,11 @@ public class PerformanceRunsEndpoint {
       final Collection<UnverifiedRunData> unverifiedData = getUnverifiedRunData(connection);
       final List<SelectTeamData> teamSelectData = getTeamSelectData(connection);
       final PerformanceRunData runData = new PerformanceRunData(teamSelectData, unverifiedData);
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
-      final String msg = jsonMapper.writeValueAsString(runData);
-      if (WebUtils.sendWebsocketTextMessage(session, msg)) {
-        this.uuid = UUID.randomUUID().toString();
-        ALL_SESSIONS.put(uuid, session);
-      }
+      final String msg = RUN_DATA_WRITER.writeValueAsString(runData);
+      final String sessionUuid = UUID.randomUUID().toString();
+      this.uuid = sessionUuid;
+      ALL_SESSIONS.put(sessionUuid, session);
+      WebsocketSender.send(session, msg, RUN_DATA_KEY, () -> internalRemoveSession(sessionUuid));
     } catch (final SQLException e) {
       throw new FLLRuntimeException("Error getting performance run data to send to client", e);
     } catch (final JsonProcessingException e) {
@@ -153,29 +154,17 @@ public class PerformanceRunsEndpoint {
 
   private static void sendData(final List<SelectTeamData> teamSelectData,
                                final Collection<UnverifiedRunData> unverifiedData) {
-    THREAD_POOL.execute(() -> {
-      try {
-        final PerformanceRunData runData = new PerformanceRunData(teamSelectData, unverifiedData);
-        final ObjectMapper jsonMapper = Utilities.createJsonMapper();
-        final String msg = jsonMapper.writeValueAsString(runData);
-
-        final Set<String> toRemove = new HashSet<>();
-
-        for (final Map.Entry<String, Session> entry : ALL_SESSIONS.entrySet()) {
-          final Session session = entry.getValue();
-          if (!WebUtils.sendWebsocketTextMessage(session, msg)) {
-            toRemove.add(entry.getKey());
-          }
-        } // foreach session
-
-        // cleanup dead sessions
-        for (final String uuid : toRemove) {
-          internalRemoveSession(uuid);
-        }
-      } catch (final JsonProcessingException e) {
-        throw new FLLInternalException("Error converting message to JSON", e);
-      }
-    });
+    try {
+      final PerformanceRunData runData = new PerformanceRunData(teamSelectData, unverifiedData);
+      final String msg = RUN_DATA_WRITER.writeValueAsString(runData);
+
+      for (final Map.Entry<String, Session> entry : ALL_SESSIONS.entrySet()) {
+        final String uuid = entry.getKey();
+        WebsocketSender.send(entry.getValue(), msg, RUN_DATA_KEY, () -> internalRemoveSession(uuid));
+      } // foreach session
+    } catch (final JsonProcessingException e) {
+      throw new FLLInternalException("Error converting message to JSON", e);
+    }
   }
 
   private static List<SelectTeamData> getTeamSelectData(final Connection connection) throws SQLException {
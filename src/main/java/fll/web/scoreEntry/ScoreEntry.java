@@ -6,13 +6,18 @@
 package fll.web.scoreEntry;
 
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.ParseException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Formatter;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 
@@ -151,12 +156,15 @@ public final class ScoreEntry {
     final boolean showScores = !tabletEntry
         || Boolean.parseBoolean(request.getParameter("showScores"));
     pageContext.setAttribute("showScores", showScores);
+    pageContext.setAttribute("showVerificationWarning", !edit
+        && !tabletEntry);
 
     final boolean practiceParameter = Boolean.parseBoolean(request.getParameter("practice"));
 
     final ChallengeDescription challengeDescription = ApplicationAttributes.getChallengeDescription(application);
     final double minimumAllowedScore = challengeDescription.getPerformance().getMinimumScore();
     pageContext.setAttribute("minimumAllowedScore", minimumAllowedScore);
+    pageContext.setAttribute("challengeScript", getChallengeScriptPath(challengeDescription));
 
     final TournamentData tournamentData = ApplicationAttributes.getTournamentData(application);
     final int tournamentId = tournamentData.getCurrentTournament().getTournamentID();
@@ -325,7 +333,8 @@ public final class ScoreEntry {
   }
 
   /**
-   * Calls either {@link #generateInitForNewScore(JspWriter, ServletContext)} or
+   * Outputs the calls to the challenge script functions that set up the range
+   * sliders and initialize a new score, or
    * {@link #generateInitForScoreEdit(JspWriter, ServletContext, PageContext)}
    * based on the value of the EditFlag.
    *
@@ -344,20 +353,131 @@ public final class ScoreEntry {
       return;
     }
 
-    setupRangeSliders(writer, application);
+    writer.println("  setupRangeSliders();");
 
     final boolean editFlag = (Boolean) pageContext.getAttribute("EditFlag");
     if (editFlag) {
       generateInitForScoreEdit(writer, application, pageContext);
     } else {
-      generateInitForNewScore(writer, application);
+      writer.println("  initForNewScore();");
     }
   }
 
-  private static void setupRangeSliders(final JspWriter writer,
-                                        final ServletContext application)
-      throws IOException {
-    final ChallengeDescription description = ApplicationAttributes.getChallengeDescription(application);
+  /**
+   * The code generated from the challenge description. This is the same for
+   * every team and run, so it's generated once per challenge description.
+   *
+   * @param description the challenge description the code was generated from
+   * @param script the functions that compute the score and check the
+   *          restrictions, see {@link #generateChallengeScript(PrintWriter,
+   *          ChallengeDescription)}
+   * @param hash hash of {@code script}, used in the URL of the script
+   * @param scoreEntryForm the rows of the score entry form
+   */
+  /* package */ record ChallengeCode(ChallengeDescription description,
+                                     String script,
+                                     String hash,
+                                     String scoreEntryForm) {
+  }
+
+  private static final Object CHALLENGE_CODE_LOCK = new Object();
+
+  private static @Nullable ChallengeCode challengeCode = null;
+
+  /**
+   * @param description the challenge description
+   * @return the code for the challenge description
+   */
+  /* package */ static ChallengeCode getChallengeCode(final ChallengeDescription description) {
+    synchronized (CHALLENGE_CODE_LOCK) {
+      final @Nullable ChallengeCode code = challengeCode;
+      if (null != code
+          && code.description() == description) {
+        return code;
+      }
+    }
+
+    final StringWriter script = new StringWriter();
+    generateChallengeScript(new PrintWriter(script), description);
+    final String scriptText = script.toString();
+
+    final StringWriter form = new StringWriter();
+    generateScoreEntry(new PrintWriter(form), description);
+
+    final ChallengeCode code = new ChallengeCode(description, scriptText, computeHash(scriptText), form.toString());
+    synchronized (CHALLENGE_CODE_LOCK) {
+      challengeCode = code;
+    }
+    return code;
+  }
+
+  private static String computeHash(final String text) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      final byte[] hash = digest.digest(text.getBytes(Utilities.DEFAULT_CHARSET));
+      return HexFormat.of().formatHex(hash, 0, 16);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new FLLInternalException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * @param description the challenge description
+   * @return path of the challenge script relative to the score entry page, the
+   *         path changes when the script changes
+   * @see ScoreEntryScript
+   */
+  public static String getChallengeScriptPath(final ChallengeDescription description) {
+    return String.format("%s/%s.js", ScoreEntryScript.PATH, getChallengeCode(description).hash());
+  }
+
+  /**
+   * Generate the functions used by the score entry page that only depend on
+   * the challenge description. The page defines refresh() and the variables
+   * with the information about the team and run.
+   *
+   * @param writer where to write the script
+   * @param description the challenge description
+   */
+  /* package */ static void generateChallengeScript(final PrintWriter writer,
+                                                    final ChallengeDescription description) {
+    writer.println(String.format("// Generated from challenge '%s' revision '%s'", description.getTitle(),
+                                 description.getRevision()));
+    writer.println();
+
+    writer.println("function setupRangeSliders() {");
+    setupRangeSliders(writer, description);
+    writer.println("}");
+    writer.println();
+
+    writer.println("function initForNewScore() {");
+    generateInitForNewScore(writer, description);
+    writer.println("}");
+    writer.println();
+
+    writer.println("function computeGoalScores() {");
+    writer.println("  var score = 0;");
+    generateRefreshBody(writer, description);
+    writer.println("  return score;");
+    writer.println("}");
+    writer.println();
+
+    writer.println("function checkGoalRestrictions() {");
+    writer.println("  var error_found = false;");
+    generateCheckRestrictionsBody(writer, description);
+    writer.println("  return error_found;");
+    writer.println("}");
+    writer.println();
+
+    generateIsConsistent(writer, description);
+    writer.println();
+
+    generateIncrementMethods(writer, description);
+    writer.flush();
+  }
+
+  private static void setupRangeSliders(final PrintWriter writer,
+                                        final ChallengeDescription description) {
     final PerformanceScoreCategory performanceElement = description.getPerformance();
 
     for (final AbstractGoal element : performanceElement.getAllGoals()) {
@@ -387,15 +507,12 @@ public final class ScoreEntry {
    * Generate the isConsistent method for the goals in the performance element
    * of document.
    * 
-   * @param writer where to write the HTML
-   * @param application used to get the challenge description
-   * @throws IOException if there is an error writing to {@code writer}
+   * @param writer where to write the script
+   * @param description the challenge description
    */
-  public static void generateIsConsistent(final JspWriter writer,
-                                          final ServletContext application)
-      throws IOException {
-    final ChallengeDescription descriptor = ApplicationAttributes.getChallengeDescription(application);
-    final PerformanceScoreCategory performanceElement = descriptor.getPerformance();
+  private static void generateIsConsistent(final PrintWriter writer,
+                                           final ChallengeDescription description) {
+    final PerformanceScoreCategory performanceElement = description.getPerformance();
 
     writer.println("function isConsistent() {");
 
@@ -437,26 +554,14 @@ public final class ScoreEntry {
   /**
    * Genrate the increment methods and variable declarations for the goals in
    * the performance element of document. Generate the methods to compute goals
-   * as well.
+   * as well. The verification warning is shown when the page sets
+   * showVerificationWarning.
    *
    * @param writer where to write the text
-   * @param application application context
-   * @param request used to get information about tablet entry
-   * @param pageContext used to get the edit flag state
-   * @param session used to determine when running on a tablet
-   * @throws IOException if there is an error writing to {@code writer}
+   * @param description the challenge description
    */
-  public static void generateIncrementMethods(final Writer writer,
-                                              final ServletContext application,
-                                              final HttpServletRequest request,
-                                              final HttpSession session,
-                                              final PageContext pageContext)
-      throws IOException {
-    final boolean tabletEntry = isTabletEntry(request, session);
-
-    final boolean editFlag = (Boolean) pageContext.getAttribute("EditFlag");
-
-    final ChallengeDescription description = ApplicationAttributes.getChallengeDescription(application);
+  private static void generateIncrementMethods(final Writer writer,
+                                               final ChallengeDescription description) {
     final PerformanceScoreCategory performanceElement = description.getPerformance();
     final Formatter formatter = new Formatter(writer);
 
@@ -529,40 +634,31 @@ public final class ScoreEntry {
     formatter.format("function %s(newValue) {%n", getSetMethodName("Verified"));
     formatter.format("  Verified = newValue;%n");
 
-    if (!editFlag
-        && !tabletEntry) {
-      formatter.format("  if (newValue == 1) {%n");
-      formatter.format("    document.getElementById('verification-warning').classList.remove('fll-sw-ui-inactive');%n");
-      formatter.format("  } else if (newValue == 0) {%n");
-      formatter.format("    document.getElementById('verification-warning').classList.add('fll-sw-ui-inactive');%n");
-      formatter.format("  }%n");
-    }
+    formatter.format("  if (showVerificationWarning) {%n");
+    formatter.format("    if (newValue == 1) {%n");
+    formatter.format("      document.getElementById('verification-warning').classList.remove('fll-sw-ui-inactive');%n");
+    formatter.format("    } else if (newValue == 0) {%n");
+    formatter.format("      document.getElementById('verification-warning').classList.add('fll-sw-ui-inactive');%n");
+    formatter.format("    }%n");
+    formatter.format("  }%n");
 
     formatter.format("  refresh();%n");
     formatter.format("}%n%n%n");
   }
 
   /**
-   * Generate the body of the refresh function.
+   * Generate the body of the function that computes the goal scores, adds them
+   * to the variable score and updates the form.
    * 
-   * @param writer where to write the HTML
-   * @param application used to get the challenge descrption
-   * @param pageContext used to check if this is a bye run
-   * @throws IOException if there is an error writing to {@code writer}
+   * @param writer where to write the script
+   * @param description the challenge description
    */
-  public static void generateRefreshBody(final Writer writer,
-                                         final ServletContext application,
-                                         final PageContext pageContext)
-      throws IOException {
+  private static void generateRefreshBody(final Writer writer,
+                                          final ChallengeDescription description) {
     if (LOG.isTraceEnabled()) {
       LOG.trace("Entering generateRefreshBody");
     }
-    if (Boolean.valueOf(String.valueOf(pageContext.getAttribute("isBye")))) {
-      // nothing to do and the init methods will fail
-      return;
-    }
 
-    final ChallengeDescription description = ApplicationAttributes.getChallengeDescription(application);
     final Formatter formatter = new Formatter(writer);
 
     final PerformanceScoreCategory performanceElement = description.getPerformance();
@@ -678,23 +774,14 @@ public final class ScoreEntry {
   }
 
   /**
-   * Output the body for the check_restrictions method.
+   * Output the body of the function that checks the restrictions, sets the
+   * variable error_found when a restriction is violated.
    *
    * @param writer where to write
-   * @param application used to get the challenge description
-   * @param pageContext used to check if this is a bye run
-   * @throws IOException on an error writing to {@code writer}
+   * @param description the challenge description
    */
-  public static void generateCheckRestrictionsBody(final Writer writer,
-                                                   final ServletContext application,
-                                                   final PageContext pageContext)
-      throws IOException {
-    if (Boolean.valueOf(String.valueOf(pageContext.getAttribute("isBye")))) {
-      // nothing to do and the init methods will fail
-      return;
-    }
-
-    final ChallengeDescription description = ApplicationAttributes.getChallengeDescription(application);
+  /* package */ static void generateCheckRestrictionsBody(final Writer writer,
+                                                          final ChallengeDescription description) {
     final Formatter formatter = new Formatter(writer);
 
     final PerformanceScoreCategory performanceElement = description.getPerformance();
@@ -757,14 +844,11 @@ public final class ScoreEntry {
    * Generate init for new scores, initializes all variables to their default
    * values.
    * 
-   * @param writer where to write the HTML
-   * @param application used to get the challenge description
-   * @throws IOException if there is an error writing to {@code writer}
+   * @param writer where to write the script
+   * @param description the challenge description
    */
-  public static void generateInitForNewScore(final JspWriter writer,
-                                             final ServletContext application)
-      throws IOException {
-    final ChallengeDescription description = ApplicationAttributes.getChallengeDescription(application);
+  private static void generateInitForNewScore(final PrintWriter writer,
+                                              final ChallengeDescription description) {
     final PerformanceScoreCategory performanceElement = description.getPerformance();
 
     for (final AbstractGoal element : performanceElement.getAllGoals()) {
@@ -837,12 +921,14 @@ public final class ScoreEntry {
     writer.println("</span>");
 
     writer.println("      <span class='verify-score-buttonbox'>");
-    generateYesNoButtons("Verified", writer);
+    final StringWriter buttons = new StringWriter();
+    generateYesNoButtons("Verified", new PrintWriter(buttons));
+    writer.print(buttons.toString());
     writer.println("      </span>");
   }
 
   /**
-   * Generate the score entry form.
+   * Output the score entry form.
    * 
    * @param writer where to write the HTML
    * @param application used to get the challenge description
@@ -852,7 +938,11 @@ public final class ScoreEntry {
                                         final ServletContext application)
       throws IOException {
     final ChallengeDescription description = ApplicationAttributes.getChallengeDescription(application);
+    writer.print(getChallengeCode(description).scoreEntryForm());
+  }
 
+  private static void generateScoreEntry(final PrintWriter writer,
+                                         final ChallengeDescription description) {
     final PerformanceScoreCategory performanceElement = description.getPerformance();
     for (final GoalElement goalEle : performanceElement.getGoalElements()) {
       if (goalEle.isGoalGroup()) {
@@ -864,11 +954,11 @@ public final class ScoreEntry {
             + goalEle.getClass());
       }
     }
+    writer.flush();
   }
 
-  private static void generateGoalGroup(final JspWriter writer,
-                                        final GoalGroup group)
-      throws IOException {
+  private static void generateGoalGroup(final PrintWriter writer,
+                                        final GoalGroup group) {
     final String category = group.getTitleAndDescription();
 
     writer.println("<tr><td colspan='4' class='goal-group-spacer'>&nbsp;</td></tr>");
@@ -886,9 +976,8 @@ public final class ScoreEntry {
 
   }
 
-  private static void generateGoalEntry(final JspWriter writer,
-                                        final AbstractGoal goal)
-      throws IOException {
+  private static void generateGoalEntry(final PrintWriter writer,
+                                        final AbstractGoal goal) {
     final String name = goal.getName();
     final String title = goal.getTitle();
 
@@ -926,16 +1015,15 @@ public final class ScoreEntry {
     writer.println("<!-- end "
         + name
         + " -->");
-    writer.newLine();
+    writer.println();
   }
 
   private static final int TICK_WIDTH = 2;
 
   private static final int TICK_HEIGHT = 15;
 
-  private static void outputTickMark(final JspWriter writer,
-                                     final double xPosition)
-      throws IOException {
+  private static void outputTickMark(final PrintWriter writer,
+                                     final double xPosition) {
     writer.println(String.format("<rect x=\"%.2f%%\" y=\"0\" width=\"%d\" height=\"100%%\"></rect>", xPosition,
                                  TICK_WIDTH));
   }
@@ -945,8 +1033,7 @@ public final class ScoreEntry {
    */
   private static void generateSimpleGoalButtons(final AbstractGoal goalEle,
                                                 final String name,
-                                                final JspWriter writer)
-      throws IOException {
+                                                final PrintWriter writer) {
 
     // edit cell
     writer.println("  <td>");
@@ -1042,8 +1129,7 @@ public final class ScoreEntry {
    */
   private static void generateIncDecButton(final String name,
                                            final int increment,
-                                           final JspWriter writer)
-      throws IOException {
+                                           final PrintWriter writer) {
     // generate buttons with calls to increment<name>
     final String buttonName = (increment < 0 ? "" : "+")
         + String.valueOf(increment);
@@ -1082,8 +1168,7 @@ public final class ScoreEntry {
    * Generate yes and no buttons for goal name.
    */
   private static void generateYesNoButtons(final String name,
-                                           final JspWriter writer)
-      throws IOException {
+                                           final PrintWriter writer) {
     // generate radio buttons with calls to set<name>
 
     // order of yes/no buttons needs to match order in generateRefreshBody
@@ -1185,8 +1270,7 @@ public final class ScoreEntry {
 
   private static void generateEnumeratedGoalButtons(final AbstractGoal goal,
                                                     final String goalName,
-                                                    final JspWriter writer)
-      throws IOException {
+                                                    final PrintWriter writer) {
 
     writer.println("  <td>");
     for (final EnumeratedValue valueEle : goal.getSortedValues()) {
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web.scoreEntry;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Set;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import fll.Utilities;
+import fll.web.ApplicationAttributes;
+import fll.web.AuthenticationContext;
+import fll.web.BaseFLLServlet;
+import fll.web.SessionAttributes;
+import fll.web.UserRole;
+import fll.xml.ChallengeDescription;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Serves the score entry functions generated from the challenge description.
+ * The file name is the hash of the script, so the browser can keep the script
+ * until the challenge description changes.
+ *
+ * @see ScoreEntry#getChallengeScriptPath(ChallengeDescription)
+ */
+@WebServlet(ScoreEntryScript.SERVLET_PATH
+    + "/*")
+public class ScoreEntryScript extends BaseFLLServlet {
+
+  /**
+   * Path of the script relative to the score entry page.
+   */
+  /* package */ static final String PATH = "challenge-script";
+
+  /* package */ static final String SERVLET_PATH = "/scoreEntry/"
+      + PATH;
+
+  /**
+   * The script doesn't change for a hash, so it can be kept for a year.
+   */
+  private static final String IMMUTABLE_CACHE_CONTROL = "private, max-age=31536000, immutable";
+
+  @Override
+  protected void processRequest(final HttpServletRequest request,
+                                final HttpServletResponse response,
+                                final ServletContext application,
+                                final HttpSession session)
+      throws IOException, ServletException {
+    final AuthenticationContext auth = SessionAttributes.getAuthentication(session);
+
+    if (!auth.requireRoles(request, response, session, Set.of(UserRole.REF), false)) {
+      return;
+    }
+
+    final ChallengeDescription description = ApplicationAttributes.getChallengeDescription(application);
+    final ScoreEntry.ChallengeCode code = ScoreEntry.getChallengeCode(description);
+
+    final String etag = String.format("\"%s\"", code.hash());
+    final @Nullable String pathInfo = request.getPathInfo();
+    if (String.format("/%s.js", code.hash()).equals(pathInfo)) {
+      response.setHeader("Cache-Control", IMMUTABLE_CACHE_CONTROL);
+      response.setDateHeader("Expires", System.currentTimeMillis()
+          + 365L
+              * 24
+              * 60
+              * 60
+              * 1000);
+    } else {
+      // an old page asking for a script that has changed, always check
+      response.setHeader("Cache-Control", "no-cache");
+    }
+    response.setHeader("ETag", etag);
+
+    if (etag.equals(request.getHeader("If-None-Match"))) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+
+    response.setContentType("text/javascript");
+    response.setCharacterEncoding(Utilities.DEFAULT_CHARSET.name());
+    final PrintWriter writer = response.getWriter();
+    writer.print(code.script());
+  }
+
+}
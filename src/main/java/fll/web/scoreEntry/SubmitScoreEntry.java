@@ -74,7 +74,7 @@ public class SubmitScoreEntry extends HttpServlet {
 
     final TournamentData tournamentData = ApplicationAttributes.getTournamentData(application);
 
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+    final ObjectMapper jsonMapper = Utilities.getJsonMapper();
     response.reset();
     response.setContentType("application/json");
     final PrintWriter writer = response.getWriter();
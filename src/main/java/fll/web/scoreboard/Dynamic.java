@@ -111,7 +111,7 @@ public final class Dynamic {
         }
       }
 
-      final ObjectMapper mapper = Utilities.createJsonMapper();
+      final ObjectMapper mapper = Utilities.getJsonMapper();
       page.setAttribute("awardGroupColors", mapper.writeValueAsString(awardGroupColors));
 
       final List<TournamentTeam> allTeams = new LinkedList<>();
@@ -154,6 +154,7 @@ public final class Dynamic {
 
       page.setAttribute("REGISTER_MESSAGE_TYPE", Message.MessageType.REGISTER.toString());
       page.setAttribute("UPDATE_MESSAGE_TYPE", Message.MessageType.UPDATE.toString());
+      page.setAttribute("UPDATE_BATCH_MESSAGE_TYPE", Message.MessageType.UPDATE_BATCH.toString());
       page.setAttribute("DELETE_MESSAGE_TYPE", Message.MessageType.DELETE.toString());
       page.setAttribute("RELOAD_MESSAGE_TYPE", Message.MessageType.RELOAD.toString());
       page.setAttribute("SCORE_TEXT_MESSAGE_TYPE", Message.MessageType.SCORE_TEXT.toString());
@@ -38,7 +38,7 @@ public class ScoreboardEndpoint {
   private final ObjectMapper mapper;
 
   public ScoreboardEndpoint() {
-    mapper = Utilities.createJsonMapper();
+    mapper = Utilities.getJsonMapper();
   }
 
   @OnOpen
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web.scoreboard;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The score update messages that a scoreboard receives when it connects, kept
+ * in the order that the scores were last modified. The messages are stored
+ * already serialized so that a display connecting only needs to join the
+ * messages for the award groups that it shows.
+ * The snapshot is tied to a {@link Stamp} of the verified performance scores
+ * so that changes made without notifying the scoreboard cause the snapshot to
+ * be rebuilt.
+ */
+/* package */ final class ScoreboardSnapshot {
+
+  /**
+   * Summary of the verified performance scores for a tournament.
+   */
+  /* package */ record Stamp(String databaseUrl,
+                             int tournament,
+                             int numScores,
+                             @Nullable Timestamp lastModified) {
+
+    /**
+     * @param connection database connection
+     * @param tournament the tournament
+     * @return the current stamp for the tournament
+     * @throws SQLException on a database error
+     */
+    /* package */ static Stamp load(final Connection connection,
+                                    final int tournament)
+        throws SQLException {
+      try (PreparedStatement prep = connection.prepareStatement("SELECT COUNT(*), MAX(TimeStamp) FROM Performance" //
+          + " WHERE Tournament = ? AND Verified = TRUE")) {
+        prep.setInt(1, tournament);
+        try (ResultSet rs = prep.executeQuery()) {
+          rs.next();
+          return new Stamp(String.valueOf(connection.getMetaData().getURL()), tournament, rs.getInt(1),
+                           rs.getTimestamp(2));
+        }
+      }
+    }
+  }
+
+  private record TeamRun(int teamNumber,
+                         int runNumber) {
+  }
+
+  private record Entry(String awardGroup,
+                       String json) {
+  }
+
+  private Stamp stamp;
+
+  private final Map<TeamRun, Entry> entries = new LinkedHashMap<>();
+
+  // award groups -> JSON array of the updates
+  private final Map<List<String>, String> updatesCache = new HashMap<>();
+
+  /**
+   * @param stamp {@link #getStamp()}
+   */
+  /* package */ ScoreboardSnapshot(final Stamp stamp) {
+    this.stamp = stamp;
+  }
+
+  /**
+   * @return the state of the database that this snapshot matches
+   */
+  /* package */ Stamp getStamp() {
+    return stamp;
+  }
+
+  /**
+   * @param stamp {@link #getStamp()}
+   */
+  /* package */ void setStamp(final Stamp stamp) {
+    this.stamp = stamp;
+  }
+
+  /**
+   * Add a score to the end of the snapshot, replacing any previous message for
+   * the same team and run.
+   *
+   * @param update the score update
+   * @param json {@code update} serialized as JSON
+   */
+  /* package */ void add(final ScoreUpdateMessage update,
+                         final String json) {
+    final TeamRun key = new TeamRun(update.getTeam().getTeamNumber(), update.getRunNumber());
+    // remove first so that the entry moves to the end
+    entries.remove(key);
+    entries.put(key, new Entry(update.getTeam().getAwardGroup(), json));
+    updatesCache.clear();
+  }
+
+  /**
+   * @param awardGroupsToDisplay the award groups shown on the display
+   * @return JSON array of the score updates for the award groups, null if there
+   *         are none
+   */
+  /* package */ @Nullable String getUpdates(final Collection<String> awardGroupsToDisplay) {
+    final String updates = updatesCache.computeIfAbsent(new ArrayList<>(awardGroupsToDisplay), awardGroups -> {
+      final StringJoiner joiner = new StringJoiner(",", "[", "]");
+      joiner.setEmptyValue("");
+      for (final Entry entry : entries.values()) {
+        if (awardGroups.contains(entry.awardGroup())) {
+          joiner.add(entry.json());
+        }
+      }
+      return joiner.toString();
+    });
+    return updates.isEmpty() ? null : updates;
+  }
+
+}
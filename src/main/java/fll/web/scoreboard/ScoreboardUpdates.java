@@ -8,15 +8,11 @@ package fll.web.scoreboard;
 
 import java.io.IOException;
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -27,7 +23,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import fll.Tournament;
 import fll.TournamentTeam;
@@ -36,17 +32,18 @@ import fll.db.Queries;
 import fll.db.RunMetadata;
 import fll.db.RunMetadataFactory;
 import fll.scores.DatabasePerformanceTeamScore;
+import fll.scores.DatabasePerformanceTeamScore.ScoreFilter;
 import fll.scores.PerformanceTeamScore;
 import fll.util.FLLInternalException;
 import fll.util.FLLRuntimeException;
 import fll.web.ApplicationAttributes;
 import fll.web.TournamentData;
-import fll.web.WebUtils;
+import fll.web.WebsocketSender;
 import fll.web.display.DisplayHandler;
 import fll.web.display.DisplayInfo;
 import fll.web.display.UnknownDisplayException;
 import fll.xml.ChallengeDescription;
-import fll.xml.PerformanceScoreCategory;
+import fll.xml.CompiledScoreCategory;
 import fll.xml.ScoreType;
 import jakarta.servlet.ServletContext;
 import jakarta.websocket.Session;
@@ -61,11 +58,59 @@ public final class ScoreboardUpdates {
 
   private static final org.apache.logging.log4j.Logger LOGGER = org.apache.logging.log4j.LogManager.getLogger();
 
-  private static final ExecutorService THREAD_POOL = Executors.newCachedThreadPool();
-
   // uuid -> session
   private static final Map<String, Session> ALL_CLIENTS = new ConcurrentHashMap<>();
 
+  private static final ObjectWriter SCORE_UPDATE_WRITER = Utilities.getJsonMapper()
+                                                                   .writerFor(ScoreUpdateMessage.class);
+
+  private static final ObjectWriter SCORE_TEXT_WRITER = Utilities.getJsonMapper().writerFor(ScoreTextMessage.class);
+
+  private static final ObjectWriter UPDATE_BATCH_WRITER = Utilities.getJsonMapper()
+                                                                   .writerFor(UpdateBatchMessage.class);
+
+  private static final ObjectWriter CLOCK_ENABLED_WRITER = Utilities.getJsonMapper()
+                                                                    .writerFor(ClockEnabledMessage.class);
+
+  // these messages have no content, so they are only serialized once
+  private static final String DELETE_MESSAGE = toJson(new DeleteMessage());
+
+  private static final String RELOAD_MESSAGE = toJson(new ReloadMessage());
+
+  // a newer message of these types makes a waiting one obsolete
+  private static final String DELETE_KEY = "delete";
+
+  private static final String RELOAD_KEY = "reload";
+
+  private static final String SCORE_TEXT_KEY = "scoreText";
+
+  private static final String CLOCK_ENABLED_KEY = "clockEnabled";
+
+  /**
+   * Runs the score fan-out off of the request thread. A single thread keeps the
+   * scores in the order they were entered.
+   */
+  private static final ExecutorService SCORE_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+    final Thread thread = new Thread(r, "scoreboard-updates");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private static final Object SNAPSHOT_LOCK = new Object();
+
+  /**
+   * Scores sent to newly connected displays, null if it needs to be built.
+   */
+  private static @Nullable ScoreboardSnapshot snapshot = null;
+
+  private static String toJson(final Message message) {
+    try {
+      return Utilities.getJsonMapper().writeValueAsString(message);
+    } catch (final JsonProcessingException e) {
+      throw new FLLInternalException(String.format("Error converting %s to JSON", message.getType()), e);
+    }
+  }
+
   /**
    * Add the client to the list of clients to receive score updates.
    * 
@@ -103,73 +148,97 @@ public final class ScoreboardUpdates {
                                     final String displayUuid,
                                     final Session client)
       throws UnknownDisplayException {
-    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
-
-    final ScoreType performanceScoreType = challengeDescription.getPerformance().getScoreType();
-    final PerformanceScoreCategory performanceElement = challengeDescription.getPerformance();
-
     try (Connection connection = datasource.getConnection()) {
       final Tournament currentTournament = Tournament.getCurrentTournament(connection);
       final DisplayInfo displayInfo = DisplayHandler.resolveDisplay(displayUuid);
       final List<String> allAwardGroups = Queries.getAwardGroups(connection, currentTournament.getTournamentID());
       final List<String> awardGroupsToDisplay = displayInfo.determineScoreboardAwardGroups(allAwardGroups);
 
-      final Map<Integer, TournamentTeam> teams = Queries.getTournamentTeams(connection,
-                                                                            currentTournament.getTournamentID());
-
-      // get all scores in ascending order by time. This ensures that the most recent
-      // scores display sees the newest scores last
-      try (PreparedStatement prep = connection.prepareStatement("SELECT TeamNumber, RunNumber from Performance" //
-          + " WHERE tournament = ?" //
-          + " ORDER BY TimeStamp ASC, TeamNumber ASC" //
-      )) {
-        prep.setInt(1, currentTournament.getTournamentID());
-        try (ResultSet rs = prep.executeQuery()) {
-          while (rs.next()) {
-            final int teamNumber = rs.getInt(1);
-            final int runNumber = rs.getInt(2);
-            final RunMetadata runMetadata = runMetadataFactory.getRunMetadata(runNumber);
-            if (!runMetadata.isScoreboardDisplay()) {
-              continue;
-            }
-
-            final @Nullable TournamentTeam team = teams.get(teamNumber);
-            if (null == team) {
-              LOGGER.error("Unable to find team {} in the list of teams while getting all scores to display, skipping",
-                           teamNumber);
-              continue;
-            }
-
-            final PerformanceTeamScore teamScore = DatabasePerformanceTeamScore.fetchTeamScore(currentTournament.getTournamentID(),
-                                                                                               teamNumber, runNumber,
-                                                                                               connection);
-            if (null == teamScore) {
-              throw new FLLInternalException(String.format("Unable to find score for tournament %d team %d run %d",
-                                                           currentTournament.getTournamentID(), teamNumber, runNumber));
-            }
-
-            final double score = performanceElement.evaluate(teamScore);
-            final String formattedScore = Utilities.getFormatForScoreType(performanceScoreType).format(score);
-            final ScoreUpdateMessage update = new ScoreUpdateMessage(team, score, formattedScore, teamScore,
-                                                                     runMetadata);
-
-            try {
-              final String updateStr = jsonMapper.writeValueAsString(update);
-
-              if (!newScore(client, awardGroupsToDisplay, team, updateStr)) {
-                removeClient(displayUuid);
-              }
-            } catch (final JsonProcessingException e) {
-              throw new FLLInternalException("Unable to format score update as JSON", e);
-            }
-          }
-        }
+      final @Nullable String updates;
+      synchronized (SNAPSHOT_LOCK) {
+        final ScoreboardSnapshot current = getSnapshot(runMetadataFactory, connection, challengeDescription,
+                                                       currentTournament);
+        updates = current.getUpdates(awardGroupsToDisplay);
       }
 
+      if (null != updates) {
+        final String msg = UPDATE_BATCH_WRITER.writeValueAsString(new UpdateBatchMessage(updates));
+        sendToOne(client, displayUuid, msg, null);
+      }
     } catch (final SQLException e) {
       throw new FLLRuntimeException("Error getting initial scores for display", e);
+    } catch (final JsonProcessingException e) {
+      throw new FLLInternalException("Unable to format score updates as JSON", e);
+    }
+
+  }
+
+  /**
+   * Get the snapshot for the tournament, building it if it doesn't match the
+   * database. Must be called while holding {@link #SNAPSHOT_LOCK}.
+   */
+  private static ScoreboardSnapshot getSnapshot(final RunMetadataFactory runMetadataFactory,
+                                                final Connection connection,
+                                                final ChallengeDescription challengeDescription,
+                                                final Tournament currentTournament)
+      throws SQLException, JsonProcessingException {
+    final ScoreboardSnapshot.Stamp stamp = ScoreboardSnapshot.Stamp.load(connection,
+                                                                          currentTournament.getTournamentID());
+    final @Nullable ScoreboardSnapshot existing = snapshot;
+    if (null != existing
+        && existing.getStamp().equals(stamp)) {
+      return existing;
+    }
+
+    LOGGER.debug("Building scoreboard snapshot for tournament {}", currentTournament.getName());
+
+    final ScoreType performanceScoreType = challengeDescription.getPerformance().getScoreType();
+    final CompiledScoreCategory<PerformanceTeamScore> compiledPerformance = challengeDescription.getPerformance()
+                                                                                  .getCompiled();
+    final Map<Integer, TournamentTeam> teams = Queries.getTournamentTeams(connection,
+                                                                          currentTournament.getTournamentID());
+
+    final ScoreboardSnapshot created = new ScoreboardSnapshot(stamp);
+
+    // get all scores in ascending order by time. This ensures that the most recent
+    // scores display sees the newest scores last
+    for (final PerformanceTeamScore teamScore : DatabasePerformanceTeamScore.fetchAllScores(currentTournament.getTournamentID(),
+                                                                                            ScoreFilter.VERIFIED,
+                                                                                            connection)) {
+      final int teamNumber = teamScore.getTeamNumber();
+      final RunMetadata runMetadata = runMetadataFactory.getRunMetadata(teamScore.getRunNumber());
+      if (!runMetadata.isScoreboardDisplay()) {
+        continue;
+      }
+
+      final @Nullable TournamentTeam team = teams.get(teamNumber);
+      if (null == team) {
+        LOGGER.error("Unable to find team {} in the list of teams while getting all scores to display, skipping",
+                     teamNumber);
+        continue;
+      }
+
+      final double score = compiledPerformance.evaluate(teamScore);
+      final String formattedScore = Utilities.getFormatForScoreType(performanceScoreType).format(score);
+      final ScoreUpdateMessage update = new ScoreUpdateMessage(team, score, formattedScore, teamScore, runMetadata);
+      created.add(update, SCORE_UPDATE_WRITER.writeValueAsString(update));
     }
 
+    snapshot = created;
+    return created;
+  }
+
+  /**
+   * Discard the scores kept for newly connected displays. This needs to be
+   * called when something that the scoreboard shows changes without
+   * {@link #newScore(RunMetadataFactory, DataSource, TournamentTeam, double, String, PerformanceTeamScore)}
+   * being called. Changes to the verified performance scores are detected
+   * automatically.
+   */
+  public static void invalidateSnapshot() {
+    synchronized (SNAPSHOT_LOCK) {
+      snapshot = null;
+    }
   }
 
   /**
@@ -192,16 +261,8 @@ public final class ScoreboardUpdates {
    * asynchronously.
    */
   public static void deleteScore() {
-    THREAD_POOL.execute(() -> {
-      final DeleteMessage message = new DeleteMessage();
-      try {
-        final String msg = Utilities.createJsonMapper().writeValueAsString(message);
-
-        sendToAll(msg);
-      } catch (final JsonProcessingException e) {
-        throw new FLLInternalException("Error converting DeleteMessage to JSON", e);
-      }
-    });
+    invalidateSnapshot();
+    sendToAll(DELETE_MESSAGE, DELETE_KEY);
   }
 
   /**
@@ -209,14 +270,8 @@ public final class ScoreboardUpdates {
    * handled by incremental score updates.
    */
   public static void reload() {
-    final ReloadMessage message = new ReloadMessage();
-    try {
-      final String msg = Utilities.createJsonMapper().writeValueAsString(message);
-
-      sendToAll(msg);
-    } catch (final JsonProcessingException e) {
-      throw new FLLInternalException("Error converting ReloadMessage to JSON", e);
-    }
+    invalidateSnapshot();
+    sendToAll(RELOAD_MESSAGE, RELOAD_KEY);
   }
 
   /**
@@ -227,37 +282,33 @@ public final class ScoreboardUpdates {
   public static void updateScoreText(final String text) {
     final ScoreTextMessage message = new ScoreTextMessage(text);
     try {
-      final String msg = Utilities.createJsonMapper().writeValueAsString(message);
+      final String msg = SCORE_TEXT_WRITER.writeValueAsString(message);
 
-      sendToAll(msg);
+      sendToAll(msg, SCORE_TEXT_KEY);
     } catch (final JsonProcessingException e) {
       throw new FLLInternalException("Error converting ScoreTextMessage to JSON", e);
     }
   }
 
-  private static void sendToAll(final String msg) {
+  private static void sendToAll(final String msg,
+                                final @Nullable String coalesceKey) {
     // create a copy to avoid errors from the client being removed while this is
     // running
     final Map<String, Session> copy = new HashMap<>(ALL_CLIENTS);
     for (final Map.Entry<String, Session> entry : copy.entrySet()) {
-      THREAD_POOL.execute(() -> {
-        sendToOne(entry.getValue(), entry.getKey(), msg);
-      });
+      sendToOne(entry.getValue(), entry.getKey(), msg, coalesceKey);
     }
   }
 
   /**
-   * Send a message to the specified session and remove it if there is an error
-   * sending.
+   * Queue a message for the specified session and remove it if there is an
+   * error sending.
    */
   private static void sendToOne(final Session client,
                                 final String uuid,
-                                final String msg) {
-    THREAD_POOL.execute(() -> {
-      if (!WebUtils.sendWebsocketTextMessage(client, msg)) {
-        removeClient(uuid);
-      }
-    });
+                                final String msg,
+                                final @Nullable String coalesceKey) {
+    WebsocketSender.send(client, msg, coalesceKey, () -> removeClient(uuid));
   }
 
   /**
@@ -292,69 +343,84 @@ public final class ScoreboardUpdates {
     }
   }
 
+  /**
+   * Queue the score to be sent. The score has already been stored, so errors
+   * are logged and not passed back to the caller.
+   */
   private static void newScore(final DataSource datasource,
                                final ScoreUpdateMessage update) {
-    THREAD_POOL.execute(() -> {
-      final ObjectMapper jsonMapper = Utilities.createJsonMapper();
-      try (Connection connection = datasource.getConnection()) {
+    SCORE_EXECUTOR.execute(() -> {
+      try {
+        sendNewScore(datasource, update);
+      } catch (final SQLException e) {
+        LOGGER.error("Error talking to the database while sending scores to the scoreboards", e);
+      } catch (final JsonProcessingException e) {
+        LOGGER.error("Unable to format scoreboard message as JSON", e);
+      } catch (final RuntimeException e) {
+        LOGGER.error("Error sending score to the scoreboards", e);
+      }
+    });
+  }
+
+  private static void sendNewScore(final DataSource datasource,
+                                   final ScoreUpdateMessage update)
+      throws SQLException, JsonProcessingException {
+    try (Connection connection = datasource.getConnection()) {
 
-        final Tournament currentTournament = Tournament.getCurrentTournament(connection);
-        final List<String> allAwardGroups = Queries.getAwardGroups(connection, currentTournament.getTournamentID());
+      final Tournament currentTournament = Tournament.getCurrentTournament(connection);
+      final List<String> allAwardGroups = Queries.getAwardGroups(connection, currentTournament.getTournamentID());
 
+      final String updateStr = SCORE_UPDATE_WRITER.writeValueAsString(update);
+
+      final ScoreboardSnapshot.Stamp stamp = ScoreboardSnapshot.Stamp.load(connection,
+                                                                            currentTournament.getTournamentID());
+      synchronized (SNAPSHOT_LOCK) {
+        final @Nullable ScoreboardSnapshot current = snapshot;
+        if (null != current
+            && current.getStamp().databaseUrl().equals(stamp.databaseUrl())
+            && current.getStamp().tournament() == stamp.tournament()) {
+          current.add(update, updateStr);
+          current.setStamp(stamp);
+        }
+      }
+
+      // create a copy to avoid errors from the client being removed while this
+      // is running
+      final Map<String, Session> copy = new HashMap<>(ALL_CLIENTS);
+      for (final Map.Entry<String, Session> entry : copy.entrySet()) {
         try {
-          final String updateStr = jsonMapper.writeValueAsString(update);
-
-          final Set<String> toRemove = new HashSet<>();
-          for (final Map.Entry<String, Session> entry : ALL_CLIENTS.entrySet()) {
-            try {
-              if (!newScore(allAwardGroups, entry.getKey(), entry.getValue(), update.getTeam(), updateStr)) {
-                toRemove.add(entry.getKey());
-              }
-            } catch (final UnknownDisplayException e) {
-              LOGGER.warn("Display {} is unknown", entry.getKey(), e);
-              toRemove.add(entry.getKey());
-            }
-          }
-
-          // remove clients that had issues
-          for (final String uuid : toRemove) {
-            removeClient(uuid);
-          }
-
-        } catch (final JsonProcessingException e) {
-          throw new FLLInternalException("Unable to format scoreboard message as JSON", e);
+          newScore(allAwardGroups, entry.getKey(), entry.getValue(), update.getTeam(), updateStr);
+        } catch (final UnknownDisplayException e) {
+          LOGGER.warn("Display {} is unknown", entry.getKey(), e);
+          removeClient(entry.getKey());
         }
-      } catch (final SQLException e) {
-        throw new FLLInternalException("Error talking to the database while sending scores to the scoreboards", e);
       }
-    });
+    }
   }
 
-  private static boolean newScore(final List<String> allAwardGroups,
-                                  final String displayUuid,
-                                  final Session client,
-                                  final TournamentTeam team,
-                                  final String data)
+  private static void newScore(final List<String> allAwardGroups,
+                               final String displayUuid,
+                               final Session client,
+                               final TournamentTeam team,
+                               final String data)
       throws UnknownDisplayException {
     final DisplayInfo displayInfo = DisplayHandler.resolveDisplay(displayUuid);
     final List<String> awardGroupsToDisplay = displayInfo.determineScoreboardAwardGroups(allAwardGroups);
 
-    return newScore(client, awardGroupsToDisplay, team, data);
+    newScore(client, displayUuid, awardGroupsToDisplay, team, data);
   }
 
   /**
-   * Send a score to the specified display if the display should receive it.
-   * 
-   * @return false on an error sending data
+   * Queue a score for the specified display if the display should receive it.
    */
-  private static boolean newScore(final Session client,
-                                  final Collection<String> awardGroupsToDisplay,
-                                  final TournamentTeam team,
-                                  final String data) {
+  private static void newScore(final Session client,
+                               final String displayUuid,
+                               final Collection<String> awardGroupsToDisplay,
+                               final TournamentTeam team,
+                               final String data) {
     if (awardGroupsToDisplay.contains(team.getAwardGroup())) {
-      return WebUtils.sendWebsocketTextMessage(client, data);
-    } else {
-      return true;
+      // every score is needed by the display, so these are not coalesced
+      sendToOne(client, displayUuid, data, null);
     }
   }
 
@@ -366,14 +432,14 @@ public final class ScoreboardUpdates {
                                              final boolean scoreBoardClockEnabled) {
     final ClockEnabledMessage message = new ClockEnabledMessage(scoreBoardClockEnabled);
     try {
-      final String msg = Utilities.createJsonMapper().writeValueAsString(message);
+      final String msg = CLOCK_ENABLED_WRITER.writeValueAsString(message);
 
       final Session session = ALL_CLIENTS.get(display.getUuid());
       if (null == session) {
         return;
       }
 
-      sendToOne(session, display.getUuid(), msg);
+      sendToOne(session, display.getUuid(), msg, CLOCK_ENABLED_KEY);
     } catch (final JsonProcessingException e) {
       throw new FLLInternalException("Error converting ScoreTextMessage to JSON", e);
     }
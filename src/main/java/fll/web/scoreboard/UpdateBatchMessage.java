@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web.scoreboard;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+/**
+ * Sent to the client with all of the scores when it connects. The client
+ * handles each element of {@link #getUpdates()} like an
+ * {@link ScoreUpdateMessage}.
+ */
+final class UpdateBatchMessage extends Message {
+
+  /**
+   * @param updates {@link #getUpdates()}
+   */
+  UpdateBatchMessage(final String updates) {
+    super(Message.MessageType.UPDATE_BATCH);
+    this.updates = updates;
+  }
+
+  private final String updates;
+
+  /**
+   * @return JSON array of {@link ScoreUpdateMessage} objects that have already
+   *         been serialized
+   */
+  @JsonRawValue
+  public String getUpdates() {
+    return updates;
+  }
+
+}
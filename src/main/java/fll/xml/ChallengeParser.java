@@ -35,6 +35,7 @@ import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -87,6 +88,29 @@ public final class ChallengeParser {
     // no instances
   }
 
+  private static @MonotonicNonNull Schema schema = null;
+
+  /**
+   * The schema is immutable and safe to share between threads, so it's only
+   * loaded once.
+   */
+  private static synchronized Schema getSchema() throws SAXException, IOException {
+    if (null == schema) {
+      final ClassLoader classLoader = Utilities.getClassLoader();
+
+      final SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+      try (InputStream schemaStream = classLoader.getResourceAsStream("fll/resources/fll.xsd")) {
+        if (null == schemaStream) {
+          throw new FLLInternalException("Unable to find fll.xsd");
+        }
+
+        final Source schemaFile = new StreamSource(schemaStream);
+        schema = factory.newSchema(schemaFile);
+      } // schema stream
+    }
+    return schema;
+  }
+
   /**
    * Parse the challenge document from the given stream. The document will be
    * validated and must be in the fll namespace. Does not close the stream after
@@ -131,28 +155,16 @@ public final class ChallengeParser {
             + schemaVersion);
       }
 
-      final ClassLoader classLoader = Utilities.getClassLoader();
+      final Document document = XMLUtils.parse(new StringReader(content), getSchema());
 
-      final SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-      try (InputStream schemaStream = classLoader.getResourceAsStream("fll/resources/fll.xsd")) {
-        if (null == schemaStream) {
-          throw new FLLInternalException("Unable to find fll.xsd");
-        }
-
-        final Source schemaFile = new StreamSource(schemaStream);
-        final Schema schema = factory.newSchema(schemaFile);
+      // challenge descriptor specific checks
+      validateDocument(document);
 
-        final Document document = XMLUtils.parse(new StringReader(content), schema);
+      final ChallengeDescription description = new ChallengeDescription(document.getDocumentElement());
 
-        // challenge descriptor specific checks
-        validateDocument(document);
+      validateDescription(description);
 
-        final ChallengeDescription description = new ChallengeDescription(document.getDocumentElement());
-
-        validateDescription(description);
-
-        return description;
-      } // schema stream
+      return description;
     } catch (final SAXParseException spe) {
       throw new ChallengeXMLException(String.format("Error parsing file line: %d column: %d%n Message: %s%n This may be caused by using the wrong version of the software or an improperly formatted challenge descriptor or attempting to parse a file that is not a challenge descriptor.",
                                                     spe.getLineNumber(), spe.getColumnNumber(), spe.getMessage()),
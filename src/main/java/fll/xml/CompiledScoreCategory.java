@@ -0,0 +1,538 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.xml;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNull;
+
+import fll.scores.PerformanceTeamScore;
+import fll.scores.TeamScore;
+import fll.util.FLLInternalException;
+import fll.util.FP;
+
+/**
+ * A {@link ScoreCategory} compiled into a form that is fast to evaluate.
+ * Goal references are resolved to array slots once, enumerated values are put
+ * in a map and the computed goals are evaluated in dependency order so that
+ * each goal is only computed once per evaluation.
+ * The result of {@link #evaluate(TeamScore)} is the same as
+ * {@link ScoreCategory#evaluate(TeamScore)} at the time the category was
+ * compiled. Changes to the category after compiling are not seen.
+ *
+ * @param <T> type of score object supported
+ * @see PerformanceScoreCategory#getCompiled()
+ * @see SubjectiveScoreCategory#getCompiled()
+ */
+public final class CompiledScoreCategory<T extends TeamScore> implements Evaluatable<T> {
+
+  /**
+   * @param category the category to compile
+   * @return the compiled category, including the tiebreakers
+   * @throws CircularComputedGoalException if computed goals reference each other
+   */
+  public static CompiledScoreCategory<PerformanceTeamScore> compile(final PerformanceScoreCategory category) {
+    return new CompiledScoreCategory<>(category, category.getTiebreaker(), category.getMinimumScore(), true);
+  }
+
+  /**
+   * @param category the category to compile
+   * @return the compiled category
+   * @throws CircularComputedGoalException if computed goals reference each other
+   */
+  public static CompiledScoreCategory<TeamScore> compile(final SubjectiveScoreCategory category) {
+    return new CompiledScoreCategory<>(category, List.of(), Double.NaN, false);
+  }
+
+  /**
+   * Number of value slots, 2 per goal. The even slot holds the raw score and
+   * the odd slot holds the computed score.
+   */
+  private final int numSlots;
+
+  /**
+   * Goals to compute for {@link #evaluate(TeamScore)}, in dependency order.
+   */
+  private final GoalStep[] steps;
+
+  /**
+   * Indices of the goals for each goal element of the category, in order.
+   */
+  private final int[][] elements;
+
+  private final boolean performance;
+
+  private final double minimumScore;
+
+  private final Map<TiebreakerTest, CompiledTiebreaker> tiebreakers = new IdentityHashMap<>();
+
+  private CompiledScoreCategory(final ScoreCategory<?> category,
+                                final List<TiebreakerTest> tiebreakerTests,
+                                final double minimumScore,
+                                final boolean performance) {
+    this.performance = performance;
+    this.minimumScore = minimumScore;
+
+    final Compiler compiler = new Compiler(category.getAllGoals());
+    numSlots = compiler.goals.size()
+        * 2;
+
+    final List<int[]> elementGoals = new ArrayList<>();
+    for (final GoalElement ge : category.getGoalElements()) {
+      if (ge.isGoal()) {
+        elementGoals.add(new int[] { compiler.getIndex((AbstractGoal) ge) });
+      } else if (ge.isGoalGroup()) {
+        elementGoals.add(((GoalGroup) ge).getGoals().stream().mapToInt(compiler::getIndex).toArray());
+      } else {
+        throw new FLLInternalException("Unexpected goal element type: "
+            + ge.getClass());
+      }
+    }
+    elements = elementGoals.toArray(new int[0][]);
+
+    final Set<Integer> allGoals = new LinkedHashSet<>();
+    for (int i = 0; i < compiler.goals.size(); ++i) {
+      allGoals.add(i);
+    }
+    steps = compiler.createSteps(allGoals);
+
+    for (final TiebreakerTest test : tiebreakerTests) {
+      final Set<Integer> dependencies = new LinkedHashSet<>();
+      final Polynomial poly = compiler.compilePolynomial(test, dependencies);
+      tiebreakers.put(test, new CompiledTiebreaker(compiler.createSteps(dependencies), poly));
+    }
+  }
+
+  @Override
+  public double evaluate(final T teamScore) {
+    if (performance
+        && ((PerformanceTeamScore) teamScore).isBye()) {
+      return 0D;
+    }
+    if (teamScore.isNoShow()) {
+      return 0D;
+    }
+
+    final double[] values = computeGoals(steps, teamScore);
+    double score = 0;
+    for (final int[] element : elements) {
+      double elementScore = 0;
+      for (final int goal : element) {
+        elementScore += values[computedSlot(goal)];
+      }
+      score += elementScore;
+    }
+
+    if (performance
+        && score < minimumScore) {
+      return minimumScore;
+    } else {
+      return score;
+    }
+  }
+
+  /**
+   * Evaluate a tiebreaker test against a score. The result is the same as
+   * {@link TiebreakerTest#evaluate(TeamScore)}.
+   *
+   * @param test the test to evaluate, tests that were not part of the category
+   *          when it was compiled are evaluated directly
+   * @param teamScore the score to evaluate
+   * @return the value of the test
+   */
+  public double evaluateTiebreaker(final TiebreakerTest test,
+                                   final TeamScore teamScore) {
+    final @Nullable CompiledTiebreaker compiled = tiebreakers.get(test);
+    if (null == compiled) {
+      return test.evaluate(teamScore);
+    }
+
+    final double[] values = computeGoals(compiled.steps, teamScore);
+    return compiled.polynomial.evaluate(teamScore, values);
+  }
+
+  private double[] computeGoals(final GoalStep[] goalSteps,
+                                final TeamScore teamScore) {
+    final double[] values = new double[numSlots];
+    for (final GoalStep step : goalSteps) {
+      step.compute(teamScore, values);
+    }
+    return values;
+  }
+
+  private static int rawSlot(final int goal) {
+    return goal
+        * 2;
+  }
+
+  private static int computedSlot(final int goal) {
+    return goal
+        * 2
+        + 1;
+  }
+
+  private static double applyScoreType(final ScoreType scoreType,
+                                       final double score) {
+    switch (scoreType) {
+    case FLOAT:
+      return score;
+    case INTEGER:
+      return ((long) score);
+    default:
+      throw new FLLInternalException("Unknown score type: "
+          + scoreType);
+    }
+  }
+
+  private record CompiledTiebreaker(GoalStep[] steps,
+                                    Polynomial polynomial) {
+  }
+
+  /**
+   * Resolves goals to indices and compiles the expressions.
+   */
+  private static final class Compiler {
+    private final List<AbstractGoal> goals;
+
+    private final Map<AbstractGoal, Integer> goalIndex = new IdentityHashMap<>();
+
+    private final Map<Variable, Polynomial> variables = new IdentityHashMap<>();
+
+    private final Map<Variable, Set<Integer>> variableDependencies = new IdentityHashMap<>();
+
+    /**
+     * Computed goal index to the goals that it references.
+     */
+    private final Map<Integer, Set<Integer>> goalDependencies = new HashMap<>();
+
+    private final Map<Integer, GoalStep> goalSteps = new HashMap<>();
+
+    Compiler(final List<AbstractGoal> goals) {
+      this.goals = new ArrayList<>(goals);
+      for (int i = 0; i < goals.size(); ++i) {
+        goalIndex.put(goals.get(i), i);
+      }
+
+      for (int i = 0; i < goals.size(); ++i) {
+        final AbstractGoal goal = goals.get(i);
+        if (goal.isComputed()) {
+          final ComputedGoal computed = (ComputedGoal) goal;
+          final Set<Integer> dependencies = new LinkedHashSet<>();
+          final Expression sw = compileSwitch(computed.getSwitch(), dependencies);
+          goalSteps.put(i, new ComputedGoalStep(i, sw, computed.getScoreType()));
+          goalDependencies.put(i, dependencies);
+        } else if (goal.isEnumerated()) {
+          final Map<String, Double> enumScores = new HashMap<>();
+          for (final EnumeratedValue ev : goal.getValues()) {
+            enumScores.putIfAbsent(ev.getValue(), ev.getScore());
+          }
+          goalSteps.put(i, new EnumGoalStep(i, goal.getName(), enumScores, goal.getScoreType(),
+                                            ((Goal) goal).getMultiplier()));
+        } else {
+          goalSteps.put(i, new GoalStepImpl(i, goal.getName(), goal.getScoreType(), ((Goal) goal).getMultiplier()));
+        }
+      }
+    }
+
+    int getIndex(final AbstractGoal goal) {
+      final @Nullable Integer index = goalIndex.get(goal);
+      if (null == index) {
+        throw new FLLInternalException("Goal '"
+            + goal.getName()
+            + "' is not part of the category being compiled");
+      }
+      return index;
+    }
+
+    /**
+     * @param roots the goals that need to be computed
+     * @return steps to compute the roots and everything they depend on, each goal
+     *         after the goals it depends on
+     */
+    GoalStep[] createSteps(final Collection<Integer> roots) {
+      final List<GoalStep> ordered = new ArrayList<>();
+      final Set<Integer> visited = new LinkedHashSet<>();
+      final Set<Integer> visiting = new LinkedHashSet<>();
+      for (final int root : roots) {
+        visit(root, visited, visiting, ordered);
+      }
+      return ordered.toArray(new GoalStep[0]);
+    }
+
+    private void visit(final int goal,
+                       final Set<Integer> visited,
+                       final Set<Integer> visiting,
+                       final List<GoalStep> ordered) {
+      if (visited.contains(goal)) {
+        return;
+      }
+      if (!visiting.add(goal)) {
+        throw new CircularComputedGoalException("Computed goal '"
+            + goals.get(goal).getName()
+            + "' references itself");
+      }
+      for (final int dependency : goalDependencies.getOrDefault(goal, Set.of())) {
+        visit(dependency, visited, visiting, ordered);
+      }
+      visiting.remove(goal);
+      visited.add(goal);
+      ordered.add(castNonNull(goalSteps.get(goal)));
+    }
+
+    private Expression compileSwitch(final SwitchStatement sw,
+                                     final Set<Integer> dependencies) {
+      final List<Case> cases = new ArrayList<>();
+      for (final CaseStatement cs : sw.getCases()) {
+        final Condition condition = compileCondition(cs.getCondition(), dependencies);
+        final CaseStatementResult result = cs.getResult();
+        final Expression resultExpr;
+        if (result instanceof SwitchStatement) {
+          resultExpr = compileSwitch((SwitchStatement) result, dependencies);
+        } else if (result instanceof BasicPolynomial) {
+          resultExpr = compilePolynomial((BasicPolynomial) result, dependencies);
+        } else {
+          throw new FLLInternalException("Unexpected case statement result type: "
+              + result.getClass());
+        }
+        cases.add(new Case(condition, resultExpr));
+      }
+      return new Switch(cases.toArray(new Case[0]), compilePolynomial(sw.getDefaultCase(), dependencies));
+    }
+
+    private Condition compileCondition(final AbstractConditionStatement condition,
+                                       final Set<Integer> dependencies) {
+      if (condition instanceof ConditionStatement) {
+        final ConditionStatement cond = (ConditionStatement) condition;
+        return new NumericCondition(compilePolynomial(cond.getLeft(), dependencies),
+                                    compilePolynomial(cond.getRight(), dependencies), cond.getComparison());
+      } else if (condition instanceof EnumConditionStatement) {
+        final EnumConditionStatement cond = (EnumConditionStatement) condition;
+        // enum conditions read the enumerated value from the score directly
+        return new EnumCondition(cond.getLeft(), cond.getRight(), cond.getComparison());
+      } else {
+        throw new FLLInternalException("Unexpected condition type: "
+            + condition.getClass());
+      }
+    }
+
+    Polynomial compilePolynomial(final BasicPolynomial poly,
+                                 final Set<Integer> dependencies) {
+      final List<Term> terms = poly.getTerms();
+      final CompiledTerm[] compiledTerms = new CompiledTerm[terms.size()];
+      int termIndex = 0;
+      for (final Term term : terms) {
+        final int[] slots = new int[term.getGoals().size()];
+        int slotIndex = 0;
+        for (final GoalRef ref : term.getGoals()) {
+          final int goal = getIndex(ref.getGoal());
+          dependencies.add(goal);
+          slots[slotIndex++] = GoalScoreType.RAW == ref.getScoreType() ? rawSlot(goal) : computedSlot(goal);
+        }
+
+        final Polynomial[] vars = new Polynomial[term.getVariables().size()];
+        int varIndex = 0;
+        for (final VariableRef ref : term.getVariables()) {
+          final Variable variable = ref.getVariable();
+          @Nullable
+          Polynomial compiled = variables.get(variable);
+          if (null == compiled) {
+            final Set<Integer> variableDeps = new LinkedHashSet<>();
+            compiled = compilePolynomial(variable, variableDeps);
+            variables.put(variable, compiled);
+            variableDependencies.put(variable, variableDeps);
+          }
+          dependencies.addAll(variableDependencies.getOrDefault(variable, Set.of()));
+          vars[varIndex++] = compiled;
+        }
+
+        compiledTerms[termIndex++] = new CompiledTerm(term.getCoefficient(), slots, vars);
+      }
+      return new Polynomial(compiledTerms, poly.getFloatingPoint());
+    }
+  }
+
+  /**
+   * Computes the value of a goal and stores it in the value slots.
+   */
+  private interface GoalStep {
+    void compute(TeamScore teamScore,
+                 double[] values);
+  }
+
+  private record GoalStepImpl(int goal,
+                              String name,
+                              ScoreType scoreType,
+                              double multiplier)
+      implements GoalStep {
+    @Override
+    public void compute(final TeamScore teamScore,
+                        final double[] values) {
+      final double raw = applyScoreType(scoreType, teamScore.getRawScore(name));
+      values[rawSlot(goal)] = raw;
+      values[computedSlot(goal)] = raw
+          * multiplier;
+    }
+  }
+
+  private record EnumGoalStep(int goal,
+                              String name,
+                              Map<String, Double> enumScores,
+                              ScoreType scoreType,
+                              double multiplier)
+      implements GoalStep {
+    @Override
+    public void compute(final TeamScore teamScore,
+                        final double[] values) {
+      final @Nullable String value = teamScore.getEnumRawScore(name);
+      final @Nullable Double score = null == value ? null : enumScores.get(value);
+      final double raw = applyScoreType(scoreType, null == score ? Double.NaN : score);
+      values[rawSlot(goal)] = raw;
+      values[computedSlot(goal)] = raw
+          * multiplier;
+    }
+  }
+
+  private record ComputedGoalStep(int goal,
+                                  Expression expression,
+                                  ScoreType scoreType)
+      implements GoalStep {
+    @Override
+    public void compute(final TeamScore teamScore,
+                        final double[] values) {
+      final double score = applyScoreType(scoreType, expression.evaluate(teamScore, values));
+      values[rawSlot(goal)] = score;
+      values[computedSlot(goal)] = score;
+    }
+  }
+
+  private interface Expression {
+    double evaluate(TeamScore teamScore,
+                    double[] values);
+  }
+
+  private record CompiledTerm(double coefficient,
+                              int[] slots,
+                              Polynomial[] variables) {
+  }
+
+  private record Polynomial(CompiledTerm[] terms,
+                            FloatingPointType floatingPoint)
+      implements Expression {
+    @Override
+    public double evaluate(final TeamScore teamScore,
+                           final double[] values) {
+      double score = 0;
+      for (final CompiledTerm term : terms) {
+        double value = term.coefficient();
+        for (final int slot : term.slots()) {
+          value = value
+              * values[slot];
+        }
+        for (final Polynomial variable : term.variables()) {
+          value = value
+              * variable.evaluate(teamScore, values);
+        }
+        score += value;
+      }
+
+      switch (floatingPoint) {
+      case DECIMAL:
+        return score;
+      case ROUND:
+        return Math.round(score);
+      case TRUNCATE:
+        return ((long) score);
+      default:
+        throw new FLLInternalException("Unknown floating point type: "
+            + floatingPoint);
+      }
+    }
+  }
+
+  private record Case(Condition condition,
+                      Expression result) {
+  }
+
+  private record Switch(Case[] cases,
+                        Polynomial defaultCase)
+      implements Expression {
+    @Override
+    public double evaluate(final TeamScore teamScore,
+                           final double[] values) {
+      for (final Case c : cases) {
+        if (c.condition().isTrue(teamScore, values)) {
+          return c.result().evaluate(teamScore, values);
+        }
+      }
+      return defaultCase.evaluate(teamScore, values);
+    }
+  }
+
+  private interface Condition {
+    boolean isTrue(TeamScore teamScore,
+                   double[] values);
+  }
+
+  private record NumericCondition(Polynomial left,
+                                  Polynomial right,
+                                  InequalityComparison comparison)
+      implements Condition {
+    @Override
+    public boolean isTrue(final TeamScore teamScore,
+                          final double[] values) {
+      final double leftValue = left.evaluate(teamScore, values);
+      final double rightValue = right.evaluate(teamScore, values);
+      switch (comparison) {
+      case GREATER_THAN:
+        return FP.greaterThan(leftValue, rightValue, ChallengeParser.INITIAL_VALUE_TOLERANCE);
+      case GREATER_THAN_OR_EQUAL:
+        return FP.greaterThanOrEqual(leftValue, rightValue, ChallengeParser.INITIAL_VALUE_TOLERANCE);
+      case LESS_THAN:
+        return FP.lessThan(leftValue, rightValue, ChallengeParser.INITIAL_VALUE_TOLERANCE);
+      case LESS_THAN_OR_EQUAL:
+        return FP.lessThanOrEqual(leftValue, rightValue, ChallengeParser.INITIAL_VALUE_TOLERANCE);
+      case EQUAL_TO:
+        return FP.equals(leftValue, rightValue, ChallengeParser.INITIAL_VALUE_TOLERANCE);
+      case NOT_EQUAL_TO:
+        return !FP.equals(leftValue, rightValue, ChallengeParser.INITIAL_VALUE_TOLERANCE);
+      default:
+        throw new FLLInternalException("Unknown comparison: "
+            + comparison);
+      }
+    }
+  }
+
+  private record EnumCondition(StringValue left,
+                               StringValue right,
+                               InequalityComparison comparison)
+      implements Condition {
+    @Override
+    public boolean isTrue(final TeamScore teamScore,
+                          final double[] values) {
+      final boolean result = left.getStringValue(teamScore).equalsIgnoreCase(right.getStringValue(teamScore));
+      switch (comparison) {
+      case EQUAL_TO:
+        return result;
+      case NOT_EQUAL_TO:
+        return !result;
+      default:
+        throw new FLLInternalException("Unknown comparison: "
+            + comparison);
+      }
+    }
+  }
+
+}
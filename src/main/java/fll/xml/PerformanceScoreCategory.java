@@ -16,6 +16,8 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNull;
 
 import fll.Utilities;
@@ -250,6 +252,26 @@ public class PerformanceScoreCategory extends ScoreCategory<PerformanceTeamScore
     }
   }
 
+  private transient volatile @Nullable CompiledScoreCategory<PerformanceTeamScore> compiled = null;
+
+  /**
+   * The compiled form of this category, created on first use. Changes made to
+   * this category afterwards are not reflected, so this should only be used
+   * once the challenge description is no longer being edited.
+   *
+   * @return the compiled category, including the tiebreakers
+   */
+  @JsonIgnore
+  public CompiledScoreCategory<PerformanceTeamScore> getCompiled() {
+    @Nullable
+    CompiledScoreCategory<PerformanceTeamScore> result = compiled;
+    if (null == result) {
+      result = CompiledScoreCategory.compile(this);
+      compiled = result;
+    }
+    return result;
+  }
+
   /**
    * @param doc used to create elements
    * @return XML representation of this object
@@ -17,6 +17,8 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import fll.scores.TeamScore;
 import fll.web.report.awards.AwardCategory;
 import net.mtu.eggplant.xml.NodelistElementCollectionAdapter;
@@ -166,6 +168,26 @@ public class SubjectiveScoreCategory extends ScoreCategory<TeamScore> implements
     return this.nominates.remove(v);
   }
 
+  private transient volatile @Nullable CompiledScoreCategory<TeamScore> compiled = null;
+
+  /**
+   * The compiled form of this category, created on first use. Changes made to
+   * this category afterwards are not reflected, so this should only be used
+   * once the challenge description is no longer being edited.
+   *
+   * @return the compiled category
+   */
+  @JsonIgnore
+  public CompiledScoreCategory<TeamScore> getCompiled() {
+    @Nullable
+    CompiledScoreCategory<TeamScore> result = compiled;
+    if (null == result) {
+      result = CompiledScoreCategory.compile(this);
+      compiled = result;
+    }
+    return result;
+  }
+
   /**
    * @param doc used to create elements
    * @return an XML element representing this subjective category
@@ -23,6 +23,12 @@ fll.web.admin.DatabaseBackupsIndex.populateContext(pageContext);
                 <a href="<c:url value='/${BASE_URL}/${backup}' />">${backup}</a>
             </li>
         </c:forEach>
+        <c:forEach items="${incrementalBackups}" var="backup">
+            <li>
+                <a
+                    href="<c:url value='/admin/DownloadDatabaseBackup'><c:param name='backup' value='${backup}' /></c:url>">${backup}</a>
+            </li>
+        </c:forEach>
     </ul>
 
 </body>
@@ -87,6 +87,43 @@ fll.web.developer.DeveloperIndex.populateContext(pageContext);
             </ul>
         </li>
 
+        <li>
+            Websocket Queues
+            <ul>
+                <li>Sessions with pending messages:
+                    ${websocketBusySessions}</li>
+                <li>Pending messages: ${websocketPendingMessages}</li>
+                <li>Most pending messages for a session:
+                    ${websocketMaxPendingMessages}</li>
+                <li>Messages replaced before sending:
+                    ${websocketCoalescedMessages}</li>
+                <li>Sessions dropped for falling behind:
+                    ${websocketDroppedSessions}</li>
+            </ul>
+        </li>
+
+        <c:if test="${not empty poolMaxConnections}">
+            <li>
+                Database Connection Pool
+                <ul>
+                    <li>Connections in use: ${poolActiveConnections} of
+                        ${poolMaxConnections}</li>
+                    <li>Idle connections: ${poolIdleConnections}</li>
+                    <li>Threads waiting for a connection:
+                        ${poolWaitingThreads}</li>
+                    <li>Connections created: ${poolConnectionsCreated}</li>
+                    <li>Connections handed out: ${poolAcquisitions}</li>
+                    <li>Timeouts waiting for a connection: ${poolTimeouts}</li>
+                    <li>Average wait: ${poolAverageWaitMillis} ms</li>
+                    <li>Longest wait: ${poolMaxWaitMillis} ms</li>
+                    <li>Prepared statements from the cache:
+                        ${poolStatementCacheHits}</li>
+                    <li>Prepared statements created:
+                        ${poolStatementCacheMisses}</li>
+                </ul>
+            </li>
+        </c:if>
+
     </ul>
 
 </body>
@@ -1371,29 +1371,36 @@ const finalist_module = {}
         return category.scheduled;
     };
 
+    /**
+     * Store the data from FinalistNonNumericNominees.
+     *
+     * @param data the parsed response
+     */
+    function _applyNonNumericNominees(data) {
+        for (const nonNumericNominee of data) {
+            let category = finalist_module.getCategoryByName(nonNumericNominee.categoryName);
+            if (null == category) {
+                // 8/22/2020 JPS - this isn't needed other than support for old databases where
+                // the non-numeric categories are not in the challenge description. All of these
+                // categories are per award group.
+                category = finalist_module.addCategory(nonNumericNominee.categoryName, false, false);
+
+                // eventually throw new Error("Cannot find non-numeric category '" + nonNumericNominee.categoryName + "'");
+            }
+
+            for (const nominee of nonNumericNominee.nominees) {
+                finalist_module.addTeamToCategory(category, nominee);
+            } // category scores
+        } // categories
+    }
+
     /**
       * Load the non-numeric nominees from the server.
       * 
       * @return promise to execute
       */
     finalist_module.loadNonNumericNominees = function() {
-        return fetch("../../api/FinalistNonNumericNominees").then(checkJsonResponse).then(function(data) {
-            for (const nonNumericNominee of data) {
-                let category = finalist_module.getCategoryByName(nonNumericNominee.categoryName);
-                if (null == category) {
-                    // 8/22/2020 JPS - this isn't needed other than support for old databases where
-                    // the non-numeric categories are not in the challenge description. All of these
-                    // categories are per award group.
-                    category = finalist_module.addCategory(nonNumericNominee.categoryName, false, false);
-
-                    // eventually throw new Error("Cannot find non-numeric category '" + nonNumericNominee.categoryName + "'");
-                }
-
-                for (const nominee of nonNumericNominee.nominees) {
-                    finalist_module.addTeamToCategory(category, nominee);
-                } // category scores
-            } // categories
-        });
+        return fetch("../../api/FinalistNonNumericNominees").then(checkJsonResponse).then(_applyNonNumericNominees);
     };
 
     /**
@@ -1426,18 +1433,25 @@ const finalist_module = {}
             });
     };
 
+    /**
+     * Store the data from PlayoffSchedules.
+     *
+     * @param data the parsed response
+     */
+    function _applyPlayoffSchedules(data) {
+        for (const [bracketName, playoffSchedule] of Object.entries(data)) {
+            _fixPlayoffSchedule(playoffSchedule);
+            _playoffSchedules[bracketName] = playoffSchedule;
+        }
+    }
+
     /**
      * Load the playoff schedules from the server.
      * 
      * @return promise to execute
      */
     finalist_module.loadPlayoffSchedules = function() {
-        return fetch("../../api/PlayoffSchedules").then(checkJsonResponse).then(function(data) {
-            for (const [bracketName, playoffSchedule] of Object.entries(data)) {
-                _fixPlayoffSchedule(playoffSchedule);
-                _playoffSchedules[bracketName] = playoffSchedule;
-            }
-        });
+        return fetch("../../api/PlayoffSchedules").then(checkJsonResponse).then(_applyPlayoffSchedules);
     };
 
     /**
@@ -1467,18 +1481,25 @@ const finalist_module = {}
             });
     };
 
+    /**
+     * Store the data from FinalistGroups.
+     *
+     * @param data the parsed response
+     */
+    function _applyFinalistGroups(data) {
+        for (const [name, group] of Object.entries(data)) {
+            _fixFinalistGroup(group);
+            _finalistGroups[name] = group;
+        }
+    }
+
     /**
      * Load the finalist groups from the server.
      * 
      * @return promise to execute
      */
     finalist_module.loadFinalistGroups = function() {
-        return fetch("../../api/FinalistGroups").then(checkJsonResponse).then(function(data) {
-            for (const [name, group] of Object.entries(data)) {
-                _fixFinalistGroup(group);
-                _finalistGroups[name] = group;
-            }
-        });
+        return fetch("../../api/FinalistGroups").then(checkJsonResponse).then(_applyFinalistGroups);
     };
 
     /**
@@ -1508,18 +1529,25 @@ const finalist_module = {}
             });
     };
 
+    /**
+     * Store the data from FinalistScheduleParameters.
+     *
+     * @param data the parsed response
+     */
+    function _applyFinalistScheduleParameters(data) {
+        for (const [awardGroup, parameters] of Object.entries(data)) {
+            _fixScheduleParameters(parameters);
+            _scheduleParameters[awardGroup] = parameters;
+        }
+    }
+
     /**
       * Load the finalist schedule parameters from the server.
       * 
       * @return promise to execute
       */
     finalist_module.loadFinalistScheduleParameters = function() {
-        return fetch("../../api/FinalistScheduleParameters").then(checkJsonResponse).then(function(data) {
-            for (const [awardGroup, parameters] of Object.entries(data)) {
-                _fixScheduleParameters(parameters);
-                _scheduleParameters[awardGroup] = parameters;
-            }
-        });
+        return fetch("../../api/FinalistScheduleParameters").then(checkJsonResponse).then(_applyFinalistScheduleParameters);
     };
 
     /**
@@ -1550,44 +1578,51 @@ const finalist_module = {}
     };
 
     /**
-     * Load the finalist schedules from the server.
-     * 
-     * @return promise to execute
+     * Store the data from FinalistSchedule.
+     *
+     * @param data the parsed response
      */
-    finalist_module.loadFinalistSchedules = function() {
-        return fetch("../../api/FinalistSchedule").then(checkJsonResponse).then(function(data) {
-            for (const [awardGroup, schedule] of Object.entries(data)) {
-                for (const finalistCategory of schedule.categories) {
-                    const category = finalist_module.getCategoryByName(finalistCategory.categoryName);
-                    if (null == category) {
-                        alert("Unable to find category with name '" + finalistCategory.categoryName + "' referenced in the schedule categories'");
-                    } else {
-                        finalist_module.setRoom(category, awardGroup, finalistCategory.room);
+    function _applyFinalistSchedules(data) {
+        for (const [awardGroup, schedule] of Object.entries(data)) {
+            for (const finalistCategory of schedule.categories) {
+                const category = finalist_module.getCategoryByName(finalistCategory.categoryName);
+                if (null == category) {
+                    alert("Unable to find category with name '" + finalistCategory.categoryName + "' referenced in the schedule categories'");
+                } else {
+                    finalist_module.setRoom(category, awardGroup, finalistCategory.room);
 
-                        // if the category is in a schedule, then it's scheduled
-                        finalist_module.setCategoryScheduled(category, true);
-                    }
+                    // if the category is in a schedule, then it's scheduled
+                    finalist_module.setCategoryScheduled(category, true);
                 }
+            }
 
-                for (const scheduleRow of schedule.schedule) {
-                    _fixFinalistDBRow(scheduleRow);
-
-                    for (const [categoryName, teamNumber] of Object.entries(scheduleRow.categories)) {
-                        const category = finalist_module.getCategoryByName(categoryName);
-                        if (null == category) {
-                            alert("Unable to find category with name '" + categoryName + "' referenced in the schedule rows'");
-                        } else {
-                            finalist_module.addTeamToCategory(category, teamNumber);
-                            // mark category visited so that the numeric nominees don't get reset   
-                            finalist_module.setCategoryVisited(category, awardGroup);
-                        }
+            for (const scheduleRow of schedule.schedule) {
+                _fixFinalistDBRow(scheduleRow);
+
+                for (const [categoryName, teamNumber] of Object.entries(scheduleRow.categories)) {
+                    const category = finalist_module.getCategoryByName(categoryName);
+                    if (null == category) {
+                        alert("Unable to find category with name '" + categoryName + "' referenced in the schedule rows'");
+                    } else {
+                        finalist_module.addTeamToCategory(category, teamNumber);
+                        // mark category visited so that the numeric nominees don't get reset   
+                        finalist_module.setCategoryVisited(category, awardGroup);
                     }
                 }
-
-                // _schedules is the array of FinalistDBRow objects
-                _schedules[awardGroup] = schedule.schedule;
             }
-        });
+
+            // _schedules is the array of FinalistDBRow objects
+            _schedules[awardGroup] = schedule.schedule;
+        }
+    }
+
+    /**
+     * Load the finalist schedules from the server.
+     * 
+     * @return promise to execute
+     */
+    finalist_module.loadFinalistSchedules = function() {
+        return fetch("../../api/FinalistSchedule").then(checkJsonResponse).then(_applyFinalistSchedules);
     };
 
     /**
@@ -1625,69 +1660,113 @@ const finalist_module = {}
             });
     };
 
+    /**
+     * Store the data from AwardGroups.
+     *
+     * @param data the parsed response
+     */
+    function _applyAwardGroups(data) {
+        for (const awardGroup of data) {
+            finalist_module.addDivision(awardGroup);
+        }
+    }
+
     /**
       * Load the award groups from the server.
       * 
       * @return promise to execute
       */
     finalist_module.loadAwardGroups = function() {
-        return fetch("../../api/AwardGroups").then(checkJsonResponse).then(function(data) {
-            for (const awardGroup of data) {
-                finalist_module.addDivision(awardGroup);
-            }
-        });
+        return fetch("../../api/AwardGroups").then(checkJsonResponse).then(_applyAwardGroups);
     };
 
+    /**
+     * Store the data from PlayoffBrackets.
+     *
+     * @param data the parsed response
+     */
+    function _applyPlayoffBrackets(data) {
+        for (const bracket of data) {
+            finalist_module.addPlayoffDivision(bracket);
+        }
+    }
+
     /**
       * Load the playoff brackets from the server.
       * 
       * @return promise to execute
       */
     finalist_module.loadPlayoffBrackets = function() {
-        return fetch("../../api/PlayoffBrackets").then(checkJsonResponse).then(function(data) {
-            for (const bracket of data) {
-                finalist_module.addPlayoffDivision(bracket);
-            }
-        });
+        return fetch("../../api/PlayoffBrackets").then(checkJsonResponse).then(_applyPlayoffBrackets);
     };
 
+    /**
+     * Store the data from TournamentParameters.
+     *
+     * @param data the parsed response
+     */
+    function _applyTournamentParameters(data) {
+        finalist_module.setRunningHead2Head(data.runningHead2Head);
+    }
+
     /**
       * Load the tournament parameters from the server.
       * 
       * @return promise to execute
       */
     finalist_module.loadTournamentParameters = function() {
-        return fetch("../../api/TournamentParameters").then(checkJsonResponse).then(function(data) {
-            finalist_module.setRunningHead2Head(data.runningHead2Head);
-        });
+        return fetch("../../api/TournamentParameters").then(checkJsonResponse).then(_applyTournamentParameters);
     };
 
 
+    /**
+     * Store the data from ChallengeDescription/SubjectiveCategories.
+     *
+     * @param subjectiveCategories the parsed response
+     */
+    function _applyNumericCategories(subjectiveCategories) {
+        for (const categoryDescription of subjectiveCategories) {
+            const category = finalist_module.getCategoryByName(categoryDescription.title);
+            if (null == category) {
+                const newCategory = finalist_module.addCategory(categoryDescription.title, true, false);
+                // all subjective categories are scheduled
+                finalist_module.setCategoryScheduled(newCategory, true);
+            }
+        }
+
+        let championship = finalist_module
+            .getCategoryByName(finalist_module.CHAMPIONSHIP_NAME);
+        if (null == championship) {
+            championship = finalist_module.addCategory(finalist_module.CHAMPIONSHIP_NAME, true,
+                false);
+        }
+        finalist_module.setCategoryScheduled(championship, true);
+    }
+
     /**
       * Load the subjective categories in the challenge description from the server.
       * 
       * @return promise to execute
       */
     finalist_module.loadNumericCategories = function() {
-        return fetch("../../api/ChallengeDescription/SubjectiveCategories").then(checkJsonResponse).then(function(subjectiveCategories) {
-            for (const categoryDescription of subjectiveCategories) {
-                const category = finalist_module.getCategoryByName(categoryDescription.title);
-                if (null == category) {
-                    const newCategory = finalist_module.addCategory(categoryDescription.title, true, false);
-                    // all subjective categories are scheduled
-                    finalist_module.setCategoryScheduled(newCategory, true);
-                }
-            }
+        return fetch("../../api/ChallengeDescription/SubjectiveCategories").then(checkJsonResponse).then(_applyNumericCategories);
+    };
 
-            let championship = finalist_module
-                .getCategoryByName(finalist_module.CHAMPIONSHIP_NAME);
-            if (null == championship) {
-                championship = finalist_module.addCategory(finalist_module.CHAMPIONSHIP_NAME, true,
-                    false);
+    /**
+     * Store the data from ChallengeDescription/VirtualSubjectiveCategories.
+     *
+     * @param subjectiveCategories the parsed response
+     */
+    function _applyVirtualSubjectiveCategories(subjectiveCategories) {
+        for (const categoryDescription of subjectiveCategories) {
+            const category = finalist_module.getCategoryByName(categoryDescription.title);
+            if (null == category) {
+                const newCategory = finalist_module.addCategory(categoryDescription.title, true, false);
+                // all subjective categories are scheduled
+                finalist_module.setCategoryScheduled(newCategory, true);
             }
-            finalist_module.setCategoryScheduled(championship, true);
-        });
-    };
+        }
+    }
 
     /**
       * Load the virtual subjective categories in the challenge description from the server.
@@ -1695,50 +1774,72 @@ const finalist_module = {}
       * @return promise to execute
       */
     finalist_module.loadVirtualSubjectiveCategories = function() {
-        return fetch("../../api/ChallengeDescription/VirtualSubjectiveCategories").then(checkJsonResponse).then(function(subjectiveCategories) {
-            for (const categoryDescription of subjectiveCategories) {
-                const category = finalist_module.getCategoryByName(categoryDescription.title);
-                if (null == category) {
-                    const newCategory = finalist_module.addCategory(categoryDescription.title, true, false);
-                    // all subjective categories are scheduled
-                    finalist_module.setCategoryScheduled(newCategory, true);
-                }
-            }
-        });
+        return fetch("../../api/ChallengeDescription/VirtualSubjectiveCategories").then(checkJsonResponse).then(_applyVirtualSubjectiveCategories);
     };
 
 
+    /**
+     * Store the data from ChallengeDescription/NonNumericCategories.
+     *
+     * @param nonNumericCategories the parsed response
+     */
+    function _applyNonNumericCategories(nonNumericCategories) {
+        for (const categoryDescription of nonNumericCategories) {
+            const category = finalist_module.getCategoryByName(categoryDescription.title);
+            if (null == category) {
+                finalist_module.addCategory(categoryDescription.title, false, !categoryDescription.perAwardGroup);
+            }
+        }
+    }
+
     /**
       * Load the non-numeric categories in the challenge description from the server.
       * 
       * @return promise to execute
       */
     finalist_module.loadNonNumericCategories = function() {
-        return fetch("../../api/ChallengeDescription/NonNumericCategories").then(checkJsonResponse).then(function(nonNumericCategories) {
-            for (const categoryDescription of nonNumericCategories) {
-                const category = finalist_module.getCategoryByName(categoryDescription.title);
-                if (null == category) {
-                    finalist_module.addCategory(categoryDescription.title, false, !categoryDescription.perAwardGroup);
-                }
-            }
-        });
+        return fetch("../../api/ChallengeDescription/NonNumericCategories").then(checkJsonResponse).then(_applyNonNumericCategories);
     };
 
+    /**
+     * Store the data from TournamentTeams.
+     *
+     * @param data the parsed response
+     */
+    function _applyTournamentTeams(data) {
+        for (const tournamentTeam of data) {
+            let team = finalist_module.lookupTeam(tournamentTeam.teamNumber);
+            if (null == team) {
+                team = finalist_module.addTeam(tournamentTeam.teamNumber, tournamentTeam.teamName, tournamentTeam.organization, tournamentTeam.judgingGroup, tournamentTeam.awardGroup);
+            }
+        } // teams
+    }
+
     /**
     * Load the teams from the server.
     * 
     * @return promise to execute
     */
     finalist_module.loadTournamentTeams = function() {
-        return fetch("../../api/TournamentTeams").then(checkJsonResponse).then(function(data) {
-            for (const tournamentTeam of data) {
-                let team = finalist_module.lookupTeam(tournamentTeam.teamNumber);
+        return fetch("../../api/TournamentTeams").then(checkJsonResponse).then(_applyTournamentTeams);
+    };
+
+    /**
+     * Store the data from PlayoffBracketTeams.
+     *
+     * @param data the parsed response
+     */
+    function _applyPlayoffBracketTeams(data) {
+        for (const [playoffBracket, teams] of Object.entries(data)) {
+            for (const teamNumber of teams) {
+                const team = finalist_module.lookupTeam(teamNumber);
                 if (null == team) {
-                    team = finalist_module.addTeam(tournamentTeam.teamNumber, tournamentTeam.teamName, tournamentTeam.organization, tournamentTeam.judgingGroup, tournamentTeam.awardGroup);
+                    alert("Cannot find team with number " + teamNumber + " that is specified in the playoff bracket " + playoffBracket);
                 }
+                finalist_module.addTeamToPlayoffDivision(team, playoffBracket);
             } // teams
-        });
-    };
+        } // brackets
+    }
 
     /**
     * Load the teams in each playoff bracket from the server.
@@ -1746,42 +1847,62 @@ const finalist_module = {}
     * @return promise to execute
     */
     finalist_module.loadPlayoffBracketTeams = function() {
-        return fetch("../../api/PlayoffBracketTeams").then(checkJsonResponse).then(function(data) {
-            for (const [playoffBracket, teams] of Object.entries(data)) {
-                for (const teamNumber of teams) {
-                    const team = finalist_module.lookupTeam(teamNumber);
-                    if (null == team) {
-                        alert("Cannot find team with number " + teamNumber + " that is specified in the playoff bracket " + playoffBracket);
-                    }
-                    finalist_module.addTeamToPlayoffDivision(team, playoffBracket);
-                } // teams
-            } // brackets
-        });
+        return fetch("../../api/PlayoffBracketTeams").then(checkJsonResponse).then(_applyPlayoffBracketTeams);
     };
 
+    /**
+     * Store the data from OverallScores.
+     *
+     * @param data the parsed response
+     */
+    function _applyOverallScores(data) {
+        const championship = finalist_module
+            .getCategoryByName(finalist_module.CHAMPIONSHIP_NAME);
+        if (null == championship) {
+            throw new Error("Missing championship category");
+        }
+
+        for (const [teamNumber, scoreData] of Object.entries(data)) {
+            const team = finalist_module.lookupTeam(teamNumber);
+            if (null == team) {
+                throw new Error("Cannot find team with " + teamNumber + " found in overall scores");
+            }
+
+            finalist_module.setRank(team, championship, scoreData.weightedRank);
+        } // scores
+    }
+
     /**
      * Load the overall scores and ranks from the server and store them with the championship category.
      * 
      * @return promise to execute
      */
     finalist_module.loadOverallScores = function() {
-        return fetch("../../api/OverallScores").then(checkJsonResponse).then(function(data) {
-            const championship = finalist_module
-                .getCategoryByName(finalist_module.CHAMPIONSHIP_NAME);
-            if (null == championship) {
-                throw new Error("Missing championship category");
+        return fetch("../../api/OverallScores").then(checkJsonResponse).then(_applyOverallScores);
+    };
+
+    /**
+     * Store the data from NumericCategoryRanks.
+     *
+     * @param data the parsed response
+     */
+    function _applyCategoryRanks(data) {
+        for (const [categoryName, categoryRanks] of Object.entries(data)) {
+            const category = finalist_module.getCategoryByName(categoryName);
+            if (null == category) {
+                throw new Error("Cannot find category '" + categoryName + "'");
             }
 
-            for (const [teamNumber, scoreData] of Object.entries(data)) {
+            for (const [teamNumber, rank] of Object.entries(categoryRanks)) {
                 const team = finalist_module.lookupTeam(teamNumber);
                 if (null == team) {
-                    throw new Error("Cannot find team with " + teamNumber + " found in overall scores");
+                    throw new Error("Cannot find team with " + teamNumber + " found in ranks for category '" + categoryName + "'");
                 }
 
-                finalist_module.setRank(team, championship, scoreData.weightedRank);
-            } // scores
-        });
-    };
+                finalist_module.setRank(team, category, rank);
+            } // category scores
+        } // categories
+    }
 
     /**
      * Load the ranks for the numeric categories from the server.
@@ -1789,33 +1910,24 @@ const finalist_module = {}
      * @return promise to execute
      */
     finalist_module.loadCategoryRanks = function() {
-        return fetch("../../api/NumericCategoryRanks").then(checkJsonResponse).then(function(data) {
-            for (const [categoryName, categoryRanks] of Object.entries(data)) {
-                const category = finalist_module.getCategoryByName(categoryName);
-                if (null == category) {
-                    throw new Error("Cannot find category '" + categoryName + "'");
-                }
-
-                for (const [teamNumber, rank] of Object.entries(categoryRanks)) {
-                    const team = finalist_module.lookupTeam(teamNumber);
-                    if (null == team) {
-                        throw new Error("Cannot find team with " + teamNumber + " found in ranks for category '" + categoryName + "'");
-                    }
-
-                    finalist_module.setRank(team, category, rank);
-                } // category scores
-            } // categories
-        });
+        return fetch("../../api/NumericCategoryRanks").then(checkJsonResponse).then(_applyCategoryRanks);
     };
 
+    /**
+     * Store the data from Tournaments/current.
+     *
+     * @param tournament the parsed response
+     */
+    function _applyCurrentTournament(tournament) {
+        finalist_module.log(`Loaded tournament ${tournament.name}`);
+        finalist_module.setTournament(tournament.name);
+    }
+
     /**
      * Load the current tournament name.
      */
     finalist_module.loadCurrentTournament = function() {
-        return fetch("../../api/Tournaments/current").then(checkJsonResponse).then(function(tournament) {
-            finalist_module.log(`Loaded tournament ${tournament.name}`);
-            finalist_module.setTournament(tournament.name);
-        });
+        return fetch("../../api/Tournaments/current").then(checkJsonResponse).then(_applyCurrentTournament);
     };
 
     /**
@@ -1835,82 +1947,48 @@ const finalist_module = {}
         });
     };
 
-    finalist_module.loadCategoriesAndScores = function(doneCallback, failCallback) {
-
-        // Some things need to be loaded first
-        const waitList1 = [];
-
-        const teamsPromise = finalist_module.loadTournamentTeams();
-        teamsPromise.catch(function() {
-            failCallback("Teams");
-        });
-        waitList1.push(teamsPromise);
-
-        const numericCategoriesPromise = finalist_module.loadNumericCategories();
-        numericCategoriesPromise.catch(function() {
-            failCallback("Numeric categories");
-        });
-        waitList1.push(numericCategoriesPromise);
-
-        const virtualSubjectiveCategoriesPromise = finalist_module.loadVirtualSubjectiveCategories();
-        virtualSubjectiveCategoriesPromise.catch(function() {
-            failCallback("Virtual subjective categories");
-        });
-        waitList1.push(virtualSubjectiveCategoriesPromise);
-
-        const nonNumericCategoriesPromise = finalist_module.loadNonNumericCategories();
-        nonNumericCategoriesPromise.catch(function() {
-            failCallback("Non-Numeric categories");
-        });
-        waitList1.push(nonNumericCategoriesPromise);
-
-        const awardGroupsPromise = finalist_module.loadAwardGroups();
-        awardGroupsPromise.catch(function() {
-            failCallback("Award Groups");
-        })
-        waitList1.push(awardGroupsPromise);
-
-        const playoffBracketsPromise = finalist_module.loadPlayoffBrackets();
-        playoffBracketsPromise.catch(function() {
-            failCallback("Playoff Brackets");
-        })
-        waitList1.push(playoffBracketsPromise);
+    /**
+     * Load everything for the current tournament from the server in a single
+     * request. The server returns 304 when the data hasn't changed and the
+     * browser then uses its cached copy.
+     *
+     * @return promise that resolves to the FinalistBootstrap data
+     */
+    function _loadBootstrap() {
+        return fetch("../../api/FinalistBootstrap").then(checkJsonResponse);
+    }
 
+    /**
+     * Store the teams, categories and scores from the FinalistBootstrap data.
+     * Teams and categories are stored before the scores that reference them.
+     */
+    function _applyCategoriesAndScores(data) {
+        _applyTournamentTeams(data.tournamentTeams);
+        _applyNumericCategories(data.subjectiveCategories);
+        _applyVirtualSubjectiveCategories(data.virtualSubjectiveCategories);
+        _applyNonNumericCategories(data.nonNumericCategories);
+        _applyAwardGroups(data.awardGroups);
+        _applyPlayoffBrackets(data.playoffBrackets);
+        _applyTournamentParameters(data.tournamentParameters);
 
-        const tournamentParametersPromise = finalist_module.loadTournamentParameters();
-        tournamentParametersPromise.catch(function() {
-            failCallback("Tournament Parameters");
-        })
-        waitList1.push(tournamentParametersPromise);
-
-        Promise.all(waitList1).then(function(_) {
-            // everything else can be loaded in parallel
-            const waitList = [];
-
-            const overallScoresPromise = finalist_module.loadOverallScores();
-            overallScoresPromise.catch(function() {
-                failCallback("Overall scores");
-            })
-            waitList.push(overallScoresPromise);
-
-            const numericCategoryRanksPromise = finalist_module.loadCategoryRanks();
-            numericCategoryRanksPromise.catch(function() {
-                failCallback("Numeric category scores");
-            })
-            waitList.push(numericCategoryRanksPromise);
-
-            const playoffBracketTeamsPromise = finalist_module.loadPlayoffBracketTeams();
-            playoffBracketTeamsPromise.catch(function() {
-                failCallback("Playoff bracket teams");
-            })
-            waitList.push(playoffBracketTeamsPromise);
-
-            Promise.all(waitList).then(function(_) {
-                doneCallback();
-            });
+        _applyOverallScores(data.overallScores);
+        _applyCategoryRanks(data.numericCategoryRanks);
+        _applyPlayoffBracketTeams(data.playoffBracketTeams);
+    }
 
-        });
-    };
+    /**
+     * Store the nominees and schedules from the FinalistBootstrap data.
+     */
+    function _applyNomineesAndSchedules(data) {
+        _applyPlayoffSchedules(data.playoffSchedules);
+        _applyFinalistGroups(data.finalistGroups);
+        // only sent to head judges
+        if (data.finalistScheduleParameters) {
+            _applyFinalistScheduleParameters(data.finalistScheduleParameters);
+        }
+        _applyFinalistSchedules(data.finalistSchedules);
+        _applyNonNumericNominees(data.finalistNonNumericNominees);
+    }
 
     /**
      * @param doneCallback
@@ -1918,41 +1996,12 @@ const finalist_module = {}
      * @param failCallback
      *          called with message on failure
      */
-    finalist_module.loadNominieesAndSchedules = function(doneCallback, failCallback) {
-        const waitList = [];
-
-        const playoffSchedulesPromise = finalist_module.loadPlayoffSchedules();
-        playoffSchedulesPromise.catch(function() {
-            failCallback("Playoff Schedules");
-        })
-        waitList.push(playoffSchedulesPromise);
-
-        const finalistGroupsPromise = finalist_module.loadFinalistGroups();
-        finalistGroupsPromise.catch(function() {
-            failCallback("Finalist groups");
-        })
-        waitList.push(finalistGroupsPromise);
-
-        const finalistParamsPromise = finalist_module.loadFinalistScheduleParameters();
-        finalistParamsPromise.catch(function() {
-            failCallback("Finalist Schedule Parameters");
-        })
-        waitList.push(finalistParamsPromise);
-
-        const finalistSchedulesPromise = finalist_module.loadFinalistSchedules();
-        finalistSchedulesPromise.catch(function() {
-            failCallback("Finalist Schedules");
-        })
-        waitList.push(finalistSchedulesPromise);
-
-        const nonNumericNomineesPromise = finalist_module.loadNonNumericNominees();
-        nonNumericNomineesPromise.catch(function() {
-            failCallback("Non-numeric nominees");
-        })
-        waitList.push(nonNumericNomineesPromise);
-
-        Promise.all(waitList).then(function(_) {
-            doneCallback();
+    finalist_module.loadCategoriesAndScores = function(doneCallback, failCallback) {
+        _loadBootstrap().then(function(data) {
+            _applyCategoriesAndScores(data);
+        }).then(doneCallback, function(e) {
+            finalist_module.log("Error loading categories and scores: " + e);
+            failCallback("Categories and scores");
         });
     };
 
@@ -1977,18 +2026,17 @@ const finalist_module = {}
         finalist_module.clearAllData();
 
         // need to load the tournament again since everything was just cleared
-        finalist_module.loadTournament(function() {
-            // success            
-
-            finalist_module.loadCategoriesAndScores(function() {
-                // success
-                finalist_module.loadNominieesAndSchedules(function() {
-                    // success
-                    finalist_module.saveToLocalStorage();
-                    doneCallback();
-                }, failCallback);
-            }, failCallback);
-        }, failCallback);
+        _loadBootstrap().then(function(data) {
+            _applyCurrentTournament(data.tournament);
+            _applyCategoriesAndScores(data);
+            _applyNomineesAndSchedules(data);
+        }).then(function() {
+            finalist_module.saveToLocalStorage();
+            doneCallback();
+        }, function(e) {
+            finalist_module.log("Error loading finalist data: " + e);
+            failCallback("Finalist data");
+        });
     };
 
     /**
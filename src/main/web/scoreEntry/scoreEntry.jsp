@@ -50,6 +50,7 @@ if (!fll.web.scoreEntry.ScoreEntry.populateContext(application, request, respons
 <script type='text/javascript' src="<c:url value='/js/fll-objects.js'/>"></script>
 <script type='text/javascript' src="<c:url value='/js/fll-storage.js'/>"></script>
 <script type='text/javascript' src="scoreEntryModule.js"></script>
+<script type='text/javascript' src="${challengeScript}"></script>
 
 
 
@@ -62,6 +63,8 @@ const roundText = "${roundText}";
 const teamNumber = "${team.teamNumber}";
 const runNumber = "${lRunNumber}";
 const redirect = "${redirect}";
+const isBye = ${isBye};
+const showVerificationWarning = ${showVerificationWarning};
 
 var EditFlag = false;
 <c:if test="${EditFlag}">
@@ -81,8 +84,9 @@ function init() {
 
 function refresh() { 
   var score = 0;
-
-  <%ScoreEntry.generateRefreshBody(out, application, pageContext);%>
+  if (!isBye) {
+    score = computeGoalScores();
+  }
 
   //check for minimum total score
   if(score < ${minimumAllowedScore}) {
@@ -99,8 +103,9 @@ function refresh() {
 function check_restrictions() {
   var error_found = false;
   removeChildren(document.getElementById("score-errors"));
-  
-<%ScoreEntry.generateCheckRestrictionsBody(out, application, pageContext);%>
+  if (!isBye) {
+    error_found = checkGoalRestrictions();
+  }
 
   const submitScoreButton = document.getElementById("submit_score")
   if(error_found) {
@@ -116,10 +121,6 @@ function check_restrictions() {
   }
 }
 
-<%ScoreEntry.generateIsConsistent(out, application);%>
-
-<%ScoreEntry.generateIncrementMethods(out, application, request, session, pageContext);%>
-
 document.addEventListener('DOMContentLoaded', function() {
   const resetButton = document.getElementById("reset_score");
   if(resetButton) {
@@ -401,17 +401,25 @@ function openSocket() {
     socket.onclose = socketClosed;
 }
 
+function scoreUpdateReceived(scoreUpdate) {
+    if (!scoreUpdate.bye && !scoreUpdate.noShow) {
+        const mostRecentTableBody = document.getElementById("most_recent_table_body");
+        addToMostRecent(mostRecentTableBody, scoreUpdate);
+        addToAllTeams(scoreUpdate);
+
+        if (scoreUpdate.runMetadata.regularMatchPlay) {
+            topScoresAddScore(scoreUpdate);
+        }
+    }
+}
+
 function messageReceived(event) {
     const message = JSON.parse(event.data);
     if (message.type == UPDATE_MESSAGE_TYPE) {
-        if (!message.bye && !message.noShow) {
-            const mostRecentTableBody = document.getElementById("most_recent_table_body");
-            addToMostRecent(mostRecentTableBody, message);
-            addToAllTeams(message);
-
-            if (message.runMetadata.regularMatchPlay) {
-                topScoresAddScore(message);
-            }
+        scoreUpdateReceived(message);
+    } else if (message.type == UPDATE_BATCH_MESSAGE_TYPE) {
+        for (const scoreUpdate of message.updates) {
+            scoreUpdateReceived(scoreUpdate);
         }
     } else if (message.type == DELETE_MESSAGE_TYPE) {
         location.reload();
@@ -40,6 +40,7 @@ const layout = "${layout}"
 const displayUuid = "${param.display_uuid}";
 const REGISTER_MESSAGE_TYPE = "${REGISTER_MESSAGE_TYPE}";
 const UPDATE_MESSAGE_TYPE = "${UPDATE_MESSAGE_TYPE}";
+const UPDATE_BATCH_MESSAGE_TYPE = "${UPDATE_BATCH_MESSAGE_TYPE}";
 const DELETE_MESSAGE_TYPE = "${DELETE_MESSAGE_TYPE}";
 const RELOAD_MESSAGE_TYPE = "${RELOAD_MESSAGE_TYPE}";
 const SCORE_TEXT_MESSAGE_TYPE = "${SCORE_TEXT_MESSAGE_TYPE}";
@@ -30,6 +30,8 @@ const subjective_module = {}
     let _currentJudgeId;
     // category name -> judge -> teamNumber -> score object
     let _allScores;
+    // version of _allScores from the server, empty if not loaded
+    let _scoresVersion;
     let _teamTimeCache;
     let _currentTeam;
     let _scoreEntryBackPage;
@@ -49,6 +51,7 @@ const subjective_module = {}
         _judges = [];
         _currentJudgeId = null;
         _allScores = {};
+        _scoresVersion = "";
         _teamTimeCache = {};
         _currentTeam = null;
         _scoreEntryBackPage = null;
@@ -117,6 +120,11 @@ const subjective_module = {}
             _allScores = value;
         }
 
+        value = fllStorage.get(STORAGE_PREFIX, "_scoresVersion");
+        if (null != value) {
+            _scoresVersion = value;
+        }
+
         value = fllStorage.get(STORAGE_PREFIX, "_teamTimeCache");
         if (null != value) {
             _teamTimeCache = value;
@@ -155,6 +163,7 @@ const subjective_module = {}
         fllStorage.set(STORAGE_PREFIX, "_judges", _judges);
         fllStorage.set(STORAGE_PREFIX, "_currentJudgeId", _currentJudgeId);
         fllStorage.set(STORAGE_PREFIX, "_allScores", _allScores);
+        fllStorage.set(STORAGE_PREFIX, "_scoresVersion", _scoresVersion);
         fllStorage.set(STORAGE_PREFIX, "_teamTimeCache", _teamTimeCache);
         fllStorage.set(STORAGE_PREFIX, "_currentTeam", _currentTeam);
         fllStorage.set(STORAGE_PREFIX, "_scoreEntryBackPage", _scoreEntryBackPage);
@@ -214,12 +223,62 @@ const subjective_module = {}
         });
     }
 
+    /**
+     * Load the scores that have changed on the server since _scoresVersion.
+     * The server sends all scores if it cannot determine what changed.
+     */
     function _loadAllScores() {
-        _allScores = {};
+        return fetch("../api/SubjectiveScores?since=" + encodeURIComponent(_scoresVersion))
+            .then(checkJsonResponse).then(function(data) {
+                if (data.full) {
+                    _allScores = data.scores;
+                } else {
+                    for (const [category, categoryScores] of Object.entries(data.scores)) {
+                        for (const [judge, judgeScores] of Object.entries(categoryScores)) {
+                            for (const [teamNumber, score] of Object.entries(judgeScores)) {
+                                if (score.deleted) {
+                                    if (category in _allScores && judge in _allScores[category]) {
+                                        delete _allScores[category][judge][teamNumber];
+                                    }
+                                } else {
+                                    if (!(category in _allScores)) {
+                                        _allScores[category] = {};
+                                    }
+                                    if (!(judge in _allScores[category])) {
+                                        _allScores[category][judge] = {};
+                                    }
+                                    _allScores[category][judge][teamNumber] = score;
+                                }
+                            }
+                        }
+                    }
+                }
+                _scoresVersion = data.version;
+            });
+    }
 
-        return fetch("../api/SubjectiveScores").then(checkJsonResponse).then(function(data) {
-            _allScores = data;
-        });
+    /**
+     * @return the scores that have been modified locally, in the same structure
+     *         as _allScores
+     */
+    function _getModifiedScores() {
+        const modifiedScores = {};
+        for (const [category, categoryScores] of Object.entries(_allScores)) {
+            for (const [judge, judgeScores] of Object.entries(categoryScores)) {
+                for (const [teamNumber, score] of Object.entries(judgeScores)) {
+                    if (score.modified) {
+                        if (!(category in modifiedScores)) {
+                            modifiedScores[category] = {};
+                        }
+                        if (!(judge in modifiedScores[category])) {
+                            modifiedScores[category][judge] = {};
+                        }
+                        modifiedScores[category][judge][teamNumber] = score;
+                    }
+                }
+            }
+        }
+        return modifiedScores;
     }
 
     /**
@@ -868,7 +927,7 @@ const subjective_module = {}
          * @return the promise from the AJAX function
          */
         subjective_module.uploadScores = function(doneCallback, failCallback) {
-            return uploadJsonData("../api/SubjectiveScores", "POST", _allScores)
+            return uploadJsonData("../api/SubjectiveScores", "POST", _getModifiedScores())
                 .then(checkJsonResponse).then(function(result) {
                     if (result.success) {
                         doneCallback(result);
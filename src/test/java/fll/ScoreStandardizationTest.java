@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import fll.db.GlobalParameters;
+import fll.db.ImportDB;
+import fll.db.Queries;
+import fll.xml.ChallengeDescription;
+
+/**
+ * Tests for {@link ScoreStandardization}.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class ScoreStandardizationTest {
+
+  /**
+   * Check that recomputing only the modified teams gives the same result as
+   * recomputing the whole tournament.
+   *
+   * @throws SQLException test error
+   * @throws IOException test error
+   * @throws InterruptedException test error
+   */
+  @Test
+  public void testIncrementalMatchesFull() throws SQLException, IOException, InterruptedException {
+    final File tempFile = File.createTempFile("flltest", null);
+    final String database = tempFile.getAbsolutePath();
+    try (InputStream dumpFileIS = TestUtils.class.getResourceAsStream("data/testdb.flldb")) {
+      assertNotNull(dumpFileIS, "Cannot find test data");
+
+      try (Connection connection = Utilities.createFileDataSource(database).getConnection()) {
+        final ImportDB.ImportResult importResult = ImportDB.loadFromDumpIntoNewDB(new ZipInputStream(dumpFileIS),
+                                                                                  connection);
+        TestUtils.deleteImportData(importResult);
+
+        final ChallengeDescription description = GlobalParameters.getChallengeDescription(connection);
+        final Tournament tournament = Tournament.getCurrentTournament(connection);
+        final int tournamentId = tournament.getTournamentID();
+
+        ScoreSummaryTracker.allModified(connection, tournamentId);
+        ScoreStandardization.computeSummarizedScoresIfNeeded(connection, description, tournament);
+
+        final List<Integer> teams = new ArrayList<>(Queries.getTournamentTeams(connection, tournamentId).keySet());
+        assertFalse(teams.isEmpty(), "Test data has no teams");
+        final int modifiedTeam = teams.get(0);
+        try (PreparedStatement prep = connection.prepareStatement("UPDATE subjective_goals SET goal_value = goal_value + 1" //
+            + " WHERE tournament_id = ? AND team_number = ?")) {
+          prep.setInt(1, tournamentId);
+          prep.setInt(2, modifiedTeam);
+          prep.executeUpdate();
+        }
+
+        // make sure the modification time is after the summary time
+        Thread.sleep(50);
+        ScoreSummaryTracker.teamModified(connection, tournamentId, modifiedTeam);
+        tournament.recordSubjectiveModified(connection);
+
+        ScoreStandardization.computeSummarizedScoresIfNeeded(connection, description, tournament);
+        final Map<String, Double> incremental = getSummary(connection, tournamentId);
+
+        ScoreSummaryTracker.allModified(connection, tournamentId);
+        Thread.sleep(50);
+        tournament.recordSubjectiveModified(connection);
+        ScoreStandardization.computeSummarizedScoresIfNeeded(connection, description, tournament);
+        final Map<String, Double> full = getSummary(connection, tournamentId);
+
+        assertEquals(full, incremental);
+      }
+    } finally {
+      if (!tempFile.delete()) {
+        tempFile.deleteOnExit();
+      }
+      TestUtils.deleteDatabase(database);
+    }
+  }
+
+  private static Map<String, Double> getSummary(final Connection connection,
+                                                final int tournamentId)
+      throws SQLException {
+    final Map<String, Double> summary = new HashMap<>();
+    try (PreparedStatement prep = connection.prepareStatement("SELECT category, team_number, final_score FROM final_scores WHERE tournament = ?")) {
+      prep.setInt(1, tournamentId);
+      try (ResultSet rs = prep.executeQuery()) {
+        while (rs.next()) {
+          summary.put("final "
+              + rs.getString(1)
+              + " "
+              + rs.getInt(2), rs.getDouble(3));
+        }
+      }
+    }
+    try (PreparedStatement prep = connection.prepareStatement("SELECT team_number, overall_score FROM overall_scores WHERE tournament = ?")) {
+      prep.setInt(1, tournamentId);
+      try (ResultSet rs = prep.executeQuery()) {
+        while (rs.next()) {
+          summary.put("overall "
+              + rs.getInt(1), rs.getDouble(2));
+        }
+      }
+    }
+    return summary;
+  }
+
+}
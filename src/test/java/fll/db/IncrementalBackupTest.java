@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import fll.TestUtils;
+import fll.Tournament;
+import fll.Utilities;
+
+/**
+ * Tests for {@link IncrementalBackup}.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class IncrementalBackupTest {
+
+  /**
+   * Work directories left by a backup that was interrupted are deleted, the
+   * backups are kept.
+   *
+   * @param backupDirectory where backups are stored
+   * @throws IOException test error
+   */
+  @Test
+  public void testDeleteStaleWorkDirectories(@TempDir final Path backupDirectory) throws IOException {
+    final Path stale = Files.createTempDirectory(backupDirectory, "tmp-");
+    Files.writeString(stale.resolve("database.zip"), "partial");
+    final Path blobs = Files.createDirectories(backupDirectory.resolve("blobs"));
+    final Path manifest = Files.writeString(backupDirectory.resolve("first"
+        + IncrementalBackup.MANIFEST_SUFFIX), "{}");
+
+    IncrementalBackup.deleteStaleWorkDirectories(backupDirectory);
+
+    assertFalse(Files.exists(stale));
+    assertTrue(Files.isDirectory(blobs));
+    assertTrue(Files.exists(manifest));
+  }
+
+  /**
+   * A second backup of an unchanged database doesn't store any new blobs and
+   * each backup can be loaded as a database dump.
+   *
+   * @throws SQLException test error
+   * @throws IOException test error
+   * @throws InterruptedException test error
+   */
+  @Test
+  public void testBackupAndRestore() throws SQLException, IOException, InterruptedException {
+    final File tempFile = File.createTempFile("flltest", null);
+    final String database = tempFile.getAbsolutePath();
+    final File restoreTempFile = File.createTempFile("flltest", null);
+    final String restoreDatabase = restoreTempFile.getAbsolutePath();
+    final Path backupDirectory = Files.createTempDirectory("fll-backups");
+    try (InputStream dumpFileIS = TestUtils.class.getResourceAsStream("data/testdb.flldb")) {
+      assertNotNull(dumpFileIS, "Cannot find test data");
+
+      try (Connection connection = Utilities.createFileDataSource(database).getConnection()) {
+        final ImportDB.ImportResult importResult = ImportDB.loadFromDumpIntoNewDB(new ZipInputStream(dumpFileIS),
+                                                                                  connection);
+        TestUtils.deleteImportData(importResult);
+
+        IncrementalBackup.create(backupDirectory, connection, "first", "first");
+        assertTrue(IncrementalBackup.waitForBackups(1, TimeUnit.MINUTES));
+        final long blobsAfterFirst = countBlobs(backupDirectory);
+
+        IncrementalBackup.create(backupDirectory, connection, "second", "second");
+        assertTrue(IncrementalBackup.waitForBackups(1, TimeUnit.MINUTES));
+        assertEquals(blobsAfterFirst, countBlobs(backupDirectory));
+
+        try (Stream<Path> files = Files.list(backupDirectory)) {
+          assertTrue(files.noneMatch(p -> String.valueOf(p.getFileName()).startsWith("tmp-")),
+                     "Work directories should be removed");
+        }
+
+        final ByteArrayOutputStream dump = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(dump)) {
+          IncrementalBackup.writeDump(backupDirectory.resolve("second"
+              + IncrementalBackup.MANIFEST_SUFFIX), zipOut);
+        }
+
+        try (Connection restoreConnection = Utilities.createFileDataSource(restoreDatabase).getConnection()) {
+          final ImportDB.ImportResult restoreResult = ImportDB.loadFromDumpIntoNewDB(new ZipInputStream(new ByteArrayInputStream(dump.toByteArray())),
+                                                                                     restoreConnection);
+          TestUtils.deleteImportData(restoreResult);
+
+          final List<String> expected = Tournament.getTournaments(connection).stream().map(Tournament::getName)
+                                                  .toList();
+          final List<String> actual = Tournament.getTournaments(restoreConnection).stream()
+                                                .map(Tournament::getName).toList();
+          assertEquals(expected, actual);
+        }
+      }
+    } finally {
+      if (!tempFile.delete()) {
+        tempFile.deleteOnExit();
+      }
+      if (!restoreTempFile.delete()) {
+        restoreTempFile.deleteOnExit();
+      }
+      TestUtils.deleteDatabase(database);
+      TestUtils.deleteDatabase(restoreDatabase);
+      FileUtils.deleteDirectory(backupDirectory.toFile());
+    }
+  }
+
+  private static long countBlobs(final Path backupDirectory) throws IOException {
+    try (Stream<Path> files = Files.walk(backupDirectory.resolve("blobs"))) {
+      return files.filter(Files::isRegularFile).count();
+    }
+  }
+
+}
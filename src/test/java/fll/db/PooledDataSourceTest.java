@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import fll.TestUtils;
+import fll.Utilities;
+
+/**
+ * Tests for {@link PooledDataSource}.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class PooledDataSourceTest {
+
+  /**
+   * Connections and prepared statements are reused and uncommitted changes are
+   * rolled back when a connection is returned.
+   *
+   * @throws SQLException test error
+   */
+  @Test
+  public void testReuse() throws SQLException {
+    try (PooledDataSource pool = new PooledDataSource(Utilities.createMemoryDataSource("ut_pool_reuse"), 1,
+                                                      Duration.ofSeconds(5), Duration.ZERO, 10)) {
+      try (Connection connection = pool.getConnection(); Statement stmt = connection.createStatement()) {
+        stmt.executeUpdate("CREATE TABLE test (value INTEGER)");
+      }
+
+      try (Connection connection = pool.getConnection()) {
+        connection.setAutoCommit(false);
+        try (PreparedStatement prep = connection.prepareStatement("INSERT INTO test (value) VALUES(?)")) {
+          prep.setInt(1, 1);
+          prep.executeUpdate();
+        }
+        // no commit
+      }
+
+      try (Connection connection = pool.getConnection()) {
+        assertTrue(connection.getAutoCommit(), "Auto commit should be reset");
+        try (PreparedStatement prep = connection.prepareStatement("INSERT INTO test (value) VALUES(?)")) {
+          assertEquals(connection, prep.getConnection());
+          prep.setInt(1, 2);
+          prep.executeUpdate();
+        }
+
+        try (Statement stmt = connection.createStatement();
+            ResultSet rs = stmt.executeQuery("SELECT value FROM test")) {
+          assertTrue(rs.next());
+          assertEquals(2, rs.getInt(1));
+          assertFalse(rs.next());
+        }
+      }
+
+      final PooledDataSource.Metrics metrics = pool.getMetrics();
+      assertEquals(1, metrics.connectionsCreated());
+      assertEquals(3, metrics.acquisitions());
+      assertEquals(1, metrics.statementCacheHits());
+      assertEquals(1, metrics.statementCacheMisses());
+      assertEquals(0, metrics.activeConnections());
+      assertEquals(1, metrics.idleConnections());
+    }
+  }
+
+  /**
+   * Waiting for a connection times out when the pool is exhausted and closed
+   * handles can't be used.
+   *
+   * @throws Exception test error
+   */
+  @Test
+  public void testExhausted() throws Exception {
+    try (PooledDataSource pool = new PooledDataSource(Utilities.createMemoryDataSource("ut_pool_exhausted"), 1,
+                                                      Duration.ofMillis(100), Duration.ZERO, 10)) {
+      final Connection connection = pool.getConnection();
+      final PreparedStatement prep = connection.prepareStatement("VALUES(1)");
+
+      final ExecutionException e = assertThrows(ExecutionException.class, getConnectionOnOtherThread(pool)::get);
+      assertInstanceOf(SQLTransientConnectionException.class, e.getCause());
+      assertEquals(1, pool.getMetrics().timeouts());
+
+      connection.close();
+      assertTrue(connection.isClosed());
+      assertTrue(prep.isClosed(), "Closing the connection should close its statements");
+      assertThrows(SQLException.class, connection::createStatement);
+      assertThrows(SQLException.class, prep::executeQuery);
+
+      try (Connection second = pool.getConnection()) {
+        assertFalse(second.isClosed());
+      }
+    }
+  }
+
+  /**
+   * A thread that holds a connection can get another one when the pool is at
+   * its limit, other threads still have to wait.
+   *
+   * @throws Exception test error
+   */
+  @Test
+  public void testNested() throws Exception {
+    try (PooledDataSource pool = new PooledDataSource(Utilities.createMemoryDataSource("ut_pool_nested"), 1,
+                                                      Duration.ofMillis(100), Duration.ZERO, 10)) {
+      try (Connection outer = pool.getConnection()) {
+        try (Connection nested = pool.getConnection(); Connection nested2 = pool.getConnection()) {
+          assertEquals(3, pool.getMetrics().activeConnections());
+          assertFalse(nested.isClosed());
+          assertFalse(nested2.isClosed());
+        }
+
+        final ExecutionException e = assertThrows(ExecutionException.class, getConnectionOnOtherThread(pool)::get);
+        assertInstanceOf(SQLTransientConnectionException.class, e.getCause());
+        assertEquals(1, pool.getMetrics().timeouts());
+      }
+
+      final PooledDataSource.Metrics metrics = pool.getMetrics();
+      assertEquals(0, metrics.activeConnections());
+      assertEquals(1, metrics.idleConnections(), "Connections above the limit should not be kept");
+
+      // the permit was returned
+      try (Connection connection = getConnectionOnOtherThread(pool).get()) {
+        assertFalse(connection.isClosed());
+      }
+    }
+  }
+
+  /**
+   * Closing a cached prepared statement closes its result sets and the next
+   * user gets the default settings.
+   *
+   * @throws SQLException test error
+   */
+  @Test
+  public void testCachedStatementReset() throws SQLException {
+    try (PooledDataSource pool = new PooledDataSource(Utilities.createMemoryDataSource("ut_pool_statement_reset"), 1,
+                                                      Duration.ofSeconds(5), Duration.ZERO, 10)) {
+      try (Connection connection = pool.getConnection()) {
+        final ResultSet rs;
+        try (PreparedStatement prep = connection.prepareStatement("VALUES(1)")) {
+          prep.setMaxRows(5);
+          prep.setFetchSize(10);
+          prep.setQueryTimeout(3);
+          rs = prep.executeQuery();
+          assertFalse(rs.isClosed());
+        }
+        assertTrue(rs.isClosed(), "Closing the statement should close its result set");
+
+        try (PreparedStatement prep = connection.prepareStatement("VALUES(1)")) {
+          assertEquals(1, pool.getMetrics().statementCacheHits());
+          assertEquals(0, prep.getMaxRows());
+          assertEquals(0, prep.getFetchSize());
+          assertEquals(0, prep.getQueryTimeout());
+        }
+      }
+    }
+  }
+
+  private static CompletableFuture<Connection> getConnectionOnOtherThread(final PooledDataSource pool) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return pool.getConnection();
+      } catch (final SQLException e) {
+        throw new CompletionException(e);
+      }
+    });
+  }
+
+}
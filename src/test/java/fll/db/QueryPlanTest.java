@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.db;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import fll.ScoreStandardization;
+import fll.TestUtils;
+import fll.Tournament;
+import fll.Utilities;
+import fll.scores.DatabasePerformanceTeamScore;
+import fll.web.report.FinalComputedScores;
+import fll.xml.ChallengeDescription;
+import fll.xml.SubjectiveScoreCategory;
+import fll.xml.WinnerType;
+
+/**
+ * Check that the queries that are run for each score entry and report use an
+ * index. The queries are captured from the connection while running the
+ * methods in {@link Queries}, {@link fll.ScoreStandardization},
+ * {@link fll.web.report.FinalComputedScores} and
+ * {@link fll.scores.DatabasePerformanceTeamScore}, so the test checks the SQL
+ * that is actually executed.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class QueryPlanTest {
+
+  /**
+   * Code that runs queries against the database.
+   */
+  @FunctionalInterface
+  private interface DatabaseOperation {
+    void run(Connection connection) throws SQLException;
+  }
+
+  /**
+   * None of the queries scan a whole table.
+   *
+   * @throws SQLException test error
+   * @throws IOException test error
+   */
+  @Test
+  public void testNoFullScans() throws SQLException, IOException {
+    final File tempFile = File.createTempFile("flltest", null);
+    final String database = tempFile.getAbsolutePath();
+    try (InputStream dumpFileIS = TestUtils.class.getResourceAsStream("data/testdb.flldb")) {
+      assertNotNull(dumpFileIS, "Cannot find test data");
+
+      try (Connection connection = Utilities.createFileDataSource(database).getConnection()) {
+        final ImportDB.ImportResult importResult = ImportDB.loadFromDumpIntoNewDB(new ZipInputStream(dumpFileIS),
+                                                                                  connection);
+        TestUtils.deleteImportData(importResult);
+
+        // upgrading a database that already has the indexes is fine
+        GenerateDB.createIndexes(connection);
+
+        final ChallengeDescription description = GlobalParameters.getChallengeDescription(connection);
+        final Tournament tournament = Tournament.getCurrentTournament(connection);
+        final int tournamentID = tournament.getTournamentID();
+        final String awardGroup = Queries.getAwardGroups(connection, tournamentID).get(0);
+        final String judgingGroup = Queries.getJudgingStations(connection, tournamentID).get(0);
+        final int teamNumber = Queries.getTeamNumbersInEventDivision(connection, tournamentID, awardGroup).iterator()
+                                      .next();
+        final WinnerType winnerCriteria = description.getWinner();
+
+        final Map<String, DatabaseOperation> operations = new LinkedHashMap<>();
+        operations.put("Queries.getAwardGroups", c -> Queries.getAwardGroups(c, tournamentID));
+        operations.put("Queries.getJudgingStations", c -> Queries.getJudgingStations(c, tournamentID));
+        operations.put("Queries.getTeamNumbersInEventDivision",
+                       c -> Queries.getTeamNumbersInEventDivision(c, tournamentID, awardGroup));
+        operations.put("Queries.getMaxRunNumberForTournament",
+                       c -> Queries.getMaxRunNumberForTournament(c, tournament));
+        operations.put("Queries.isVerified", c -> Queries.isVerified(c, tournamentID, teamNumber, 1));
+        operations.put("Queries.getPlayoffTableLineNumber",
+                       c -> Queries.getPlayoffTableLineNumber(c, tournamentID, teamNumber, 1));
+        operations.put("Queries.getTeamNumberByPlayoffLine",
+                       c -> Queries.getTeamNumberByPlayoffLine(c, tournamentID, awardGroup, 1, 1));
+        operations.put("Queries.isPlayoffDataInitialized",
+                       c -> Queries.isPlayoffDataInitialized(c, tournamentID, awardGroup));
+        operations.put("ScoreStandardization.summarizeScores",
+                       c -> ScoreStandardization.summarizeScores(c, description, tournamentID));
+        operations.put("ScoreStandardization.updateScoreTotals",
+                       c -> ScoreStandardization.updateScoreTotals(description, c, tournament));
+        operations.put("FinalComputedScores.gatherReportData",
+                       c -> FinalComputedScores.gatherReportData(c, AwardDeterminationOrder.get(c, description),
+                                                                 description, judgingGroup,
+                                                                 FinalComputedScores.ReportSelector.JUDGING_STATION,
+                                                                 tournament));
+        operations.put("FinalComputedScores.iterateOverSubjectiveScores", c -> {
+          for (final SubjectiveScoreCategory category : description.getSubjectiveCategories()) {
+            FinalComputedScores.iterateOverSubjectiveScores(c, category.getName(), winnerCriteria, tournament,
+                                                            judgingGroup, (team,
+                                                                           score,
+                                                                           rank) -> {
+                                                            });
+          }
+        });
+        operations.put("DatabasePerformanceTeamScore.fetchAllScores",
+                       c -> DatabasePerformanceTeamScore.fetchAllScores(tournamentID,
+                                                                        DatabasePerformanceTeamScore.ScoreFilter.ALL,
+                                                                        c));
+
+        final List<String> fullScans = new LinkedList<>();
+        for (final Map.Entry<String, DatabaseOperation> entry : operations.entrySet()) {
+          final Set<String> queries = new LinkedHashSet<>();
+          entry.getValue().run(recordQueries(connection, queries));
+          assertFalse(queries.isEmpty(), entry.getKey()
+              + " didn't run any queries");
+
+          for (final String query : queries) {
+            final String plan = explain(connection, query);
+            if (plan.contains("access=FULL SCAN")) {
+              fullScans.add(entry.getKey()
+                  + ": "
+                  + query
+                  + System.lineSeparator()
+                  + plan);
+            }
+          }
+        }
+        assertTrue(fullScans.isEmpty(), () -> "Queries with a full table scan: "
+            + String.join(System.lineSeparator(), fullScans));
+      }
+    } finally {
+      if (!tempFile.delete()) {
+        tempFile.deleteOnExit();
+      }
+      TestUtils.deleteDatabase(database);
+    }
+  }
+
+  /**
+   * @param connection the connection to use
+   * @param queries the SQL of each SELECT statement that is prepared on the
+   *          returned connection is added here
+   * @return a connection that records the queries
+   */
+  private static Connection recordQueries(final Connection connection,
+                                          final Set<String> queries) {
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                                               (proxy,
+                                                method,
+                                                args) -> {
+                                                 if ("prepareStatement".equals(method.getName())
+                                                     && args[0] instanceof String sql
+                                                     && sql.trim().toUpperCase(Locale.ROOT).startsWith("SELECT")) {
+                                                   queries.add(sql);
+                                                 }
+                                                 try {
+                                                   return method.invoke(connection, args);
+                                                 } catch (final InvocationTargetException e) {
+                                                   throw e.getCause();
+                                                 }
+                                               });
+  }
+
+  private static String explain(final Connection connection,
+                                final String query)
+      throws SQLException {
+    final StringBuilder plan = new StringBuilder();
+    try (PreparedStatement prep = connection.prepareStatement("EXPLAIN PLAN FOR "
+        + query);
+        ResultSet rs = prep.executeQuery()) {
+      while (rs.next()) {
+        plan.append(rs.getString(1));
+        plan.append(System.lineSeparator());
+      }
+    }
+    return plan.toString();
+  }
+
+}
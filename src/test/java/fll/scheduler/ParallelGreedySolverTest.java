@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import fll.TestUtils;
+import fll.Utilities;
+import fll.scheduler.GreedySolver.SearchVariant;
+import fll.scheduler.GreedySolver.TeamOrdering;
+import fll.scheduler.SchedParams.InvalidParametersException;
+
+/**
+ * Tests for {@link ParallelGreedySolver}.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class ParallelGreedySolverTest {
+
+  private static final String SMALL_SCHEDULE = String.join("\n", //
+                                                           "TInc = 1", //
+                                                           "TMax_hours = 4", //
+                                                           "TMax_minutes = 0", //
+                                                           "NSubjective = 2", //
+                                                           "subj_minutes = [20, 20]", //
+                                                           "NRounds = 1", //
+                                                           "NTables = 1", //
+                                                           "NGroups = 1", //
+                                                           "group_counts = [4]", //
+                                                           "alpha_perf_minutes = 5", //
+                                                           "alternate_tables = 0", //
+                                                           "perf_attempt_offset_minutes = 5", //
+                                                           "subjective_attempt_offset_minutes = 5", //
+                                                           "start_time = 8:30", //
+                                                           "num_subjective_breaks = 0", //
+                                                           "num_performance_breaks = 0", //
+                                                           "ct_minutes = 20", //
+                                                           "pct_minutes = 45");
+
+  /**
+   * Each solver explores the search space in a different order.
+   */
+  @Test
+  public void testVariantsDiffer() {
+    final Set<SearchVariant> variants = new HashSet<>();
+    for (int i = 0; i < 32; ++i) {
+      final SearchVariant variant = ParallelGreedySolver.createVariant(i);
+      // the seed doesn't change the search when ordering by team index
+      final SearchVariant effective = TeamOrdering.LOWEST_TEAM_INDEX == variant.ordering()
+          ? new SearchVariant(variant.ordering(), variant.subjectiveAttemptOffsetAdjustment(), 0)
+          : variant;
+      assertTrue(variants.add(effective), "Variant "
+          + i
+          + " repeats an earlier variant: "
+          + variant);
+    }
+    assertEquals(SearchVariant.DEFAULT, ParallelGreedySolver.createVariant(0));
+  }
+
+  /**
+   * When optimizing, the parallel solver finds a solution as good as the
+   * single solver.
+   *
+   * @param tempDir where to write the schedules
+   * @throws IOException test error
+   * @throws ParseException test error
+   * @throws InvalidParametersException test error
+   */
+  @Test
+  public void testSameAsGreedySolver(@TempDir final Path tempDir)
+      throws IOException, ParseException, InvalidParametersException {
+    final File single = writeParameters(tempDir.resolve("single.properties"));
+    final GreedySolver greedy = new GreedySolver(single, true);
+    greedy.search(null);
+    final ObjectiveValue expected = greedy.getBestObjective();
+    assertNotNull(expected, "Greedy solver didn't find a solution");
+
+    final File parallel = writeParameters(tempDir.resolve("parallel.properties"));
+    final ParallelGreedySolver parallelSolver = new ParallelGreedySolver(parallel, true, 4);
+    parallelSolver.solve(null);
+    final ObjectiveValue actual = parallelSolver.getBestObjective();
+    assertNotNull(actual, "Parallel solver didn't find a solution");
+    assertEquals(0, expected.compareTo(actual), "Expected: "
+        + expected
+        + " actual: "
+        + actual);
+    assertNotNull(parallelSolver.getBestSchedule());
+  }
+
+  private static File writeParameters(final Path path) throws IOException {
+    Files.writeString(path, SMALL_SCHEDULE, Utilities.DEFAULT_CHARSET);
+    return path.toFile();
+  }
+
+}
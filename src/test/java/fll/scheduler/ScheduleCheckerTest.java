@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.text.ParseException;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import fll.TestUtils;
+import fll.db.CategoryColumnMapping;
+import fll.util.CellFileReader;
+import fll.util.ExcelCellReader;
+
+/**
+ * Tests for {@link ScheduleChecker}.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class ScheduleCheckerTest {
+
+  /**
+   * Move teams around the tables and make sure that the incremental check
+   * finds the same violations as the full check.
+   *
+   * @throws IOException test error
+   * @throws InvalidFormatException test error
+   * @throws ParseException test error
+   * @throws ScheduleParseException test error
+   */
+  @Test
+  public void testIncrementalMatchesFull()
+      throws IOException, InvalidFormatException, ParseException, ScheduleParseException {
+    final TournamentSchedule schedule = load1616Schedule();
+
+    final SchedParams params = new SchedParams();
+    final List<SubjectiveStation> stations = new LinkedList<>();
+    stations.add(new SubjectiveStation("Presentation", SchedParams.DEFAULT_SUBJECTIVE_MINUTES));
+    stations.add(new SubjectiveStation("Technical", SchedParams.DEFAULT_SUBJECTIVE_MINUTES));
+    params.setSubjectiveStations(stations);
+
+    final ScheduleChecker checker = new ScheduleChecker(params, schedule);
+    assertEquals(summarize(checker.verifySchedule()), summarize(checker.verifyScheduleIncremental()));
+
+    final List<String> tables = new ArrayList<>(schedule.getTableColors());
+    final List<LocalTime> times = new ArrayList<>(schedule.getMatches().keySet());
+    final Random random = new Random(42);
+    boolean sawViolations = false;
+    for (int i = 0; i < 200; ++i) {
+      final LocalTime time = times.get(random.nextInt(times.size()));
+      final Map<String, List<TeamScheduleInfo>> tableMatches = schedule.getMatches().get(time);
+      assertNotNull(tableMatches);
+      final List<TeamScheduleInfo> teams = new ArrayList<>();
+      tableMatches.values().forEach(teams::addAll);
+      if (teams.isEmpty()) {
+        continue;
+      }
+
+      final TeamScheduleInfo team = teams.get(random.nextInt(teams.size()));
+      final PerformanceTime perfTime = new PerformanceTime(time, tables.get(random.nextInt(tables.size())),
+                                                           1
+                                                               + random.nextInt(2));
+      checker.reassignTable(team, time, perfTime);
+
+      final List<ConstraintViolation> full = checker.verifySchedule();
+      sawViolations |= !full.isEmpty();
+      assertEquals(summarize(full), summarize(checker.verifyScheduleIncremental()));
+      assertEquals(full.size(), checker.countViolations());
+    }
+    assertTrue(sawViolations, "Expected the random moves to create some violations");
+  }
+
+  /**
+   * Convert the violations to something that can be compared regardless of
+   * order.
+   */
+  private static Map<String, Integer> summarize(final Collection<ConstraintViolation> violations) {
+    final Map<String, Integer> counts = new TreeMap<>();
+    for (final ConstraintViolation v : violations) {
+      final String key = String.format("%s %d %s %s %s", v.getType(), v.getTeam(), v.getPerformance(),
+                                       v.getSubjectiveTimes(), v.getMessage());
+      counts.merge(key, 1, Integer::sum);
+    }
+    return counts;
+  }
+
+  private static TournamentSchedule load1616Schedule()
+      throws IOException, InvalidFormatException, ParseException, ScheduleParseException {
+    final URL scheduleResource = ScheduleCheckerTest.class.getResource("data/16-16-test.xls");
+    assertNotNull(scheduleResource);
+
+    final String sheetName;
+    try (InputStream scheduleStream = scheduleResource.openStream()) {
+      sheetName = ExcelCellReader.getAllSheetNames(scheduleStream).get(0);
+    }
+
+    final int headerRowIndex = 2;
+    final @Nullable String @Nullable [] headerRow;
+    try (InputStream scheduleStream = scheduleResource.openStream();
+        CellFileReader reader = new ExcelCellReader(scheduleStream, sheetName)) {
+      reader.skipRows(headerRowIndex);
+      headerRow = reader.readNext();
+    }
+    assertNotNull(headerRow);
+
+    final int numRounds = 3;
+    final String[] perfColumn = new String[numRounds];
+    final String[] perfTableColumn = new String[numRounds];
+    for (int round = 0; round < numRounds; ++round) {
+      perfColumn[round] = String.format(TournamentSchedule.PERF_HEADER_FORMAT, round
+          + 1);
+      perfTableColumn[round] = String.format(TournamentSchedule.TABLE_HEADER_FORMAT, round
+          + 1);
+    }
+
+    final Collection<CategoryColumnMapping> subjectiveColumnMappings = new LinkedList<>();
+    subjectiveColumnMappings.add(new CategoryColumnMapping("teamwork", "Presentation"));
+    subjectiveColumnMappings.add(new CategoryColumnMapping("robustdesign", "Technical"));
+
+    final TournamentSchedule.ColumnInformation columnInfo = new TournamentSchedule.ColumnInformation(headerRowIndex,
+                                                                                                     headerRow,
+                                                                                                     TournamentSchedule.TEAM_NUMBER_HEADER,
+                                                                                                     TournamentSchedule.ORGANIZATION_HEADER,
+                                                                                                     TournamentSchedule.TEAM_NAME_HEADER,
+                                                                                                     "Div",
+                                                                                                     TournamentSchedule.JUDGE_GROUP_HEADER,
+                                                                                                     null,
+                                                                                                     subjectiveColumnMappings,
+                                                                                                     perfColumn,
+                                                                                                     perfTableColumn);
+
+    try (InputStream scheduleStream = scheduleResource.openStream()) {
+      return new TournamentSchedule("Test Tournament", new ExcelCellReader(scheduleStream, sheetName), columnInfo);
+    }
+  }
+
+}
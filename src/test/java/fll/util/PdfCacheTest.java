@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.transform.TransformerException;
+
+import org.apache.fop.apps.FOPException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import fll.TestUtils;
+import net.mtu.eggplant.xml.XMLUtils;
+
+/**
+ * Tests for {@link PdfCache}.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class PdfCacheTest {
+
+  /**
+   * Concurrent requests for the same document get the same PDF and a different
+   * document gets a different PDF.
+   *
+   * @throws InterruptedException test error
+   * @throws ExecutionException test error
+   * @throws IOException test error
+   * @throws FOPException test error
+   * @throws TransformerException test error
+   */
+  @Test
+  public void testConcurrentRenders()
+      throws InterruptedException, ExecutionException, IOException, FOPException, TransformerException {
+    PdfCache.clear();
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<byte[]>> renders = new LinkedList<>();
+      for (int i = 0; i < 6; ++i) {
+        renders.add(executor.submit(() -> render("Report")));
+      }
+
+      final byte[] expected = renders.get(0).get();
+      assertEquals("%PDF", new String(Arrays.copyOf(expected, 4), StandardCharsets.US_ASCII));
+      for (final Future<byte[]> render : renders) {
+        assertArrayEquals(expected, render.get());
+      }
+
+      assertFalse(Arrays.equals(expected, render("Other report")));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * A report that is cached by key is only built once for the same key.
+   *
+   * @throws SQLException test error
+   * @throws IOException test error
+   * @throws FOPException test error
+   * @throws TransformerException test error
+   */
+  @Test
+  public void testKeyedRender() throws SQLException, IOException, FOPException, TransformerException {
+    PdfCache.clear();
+
+    final AtomicInteger builds = new AtomicInteger();
+    final PdfCache.DocumentBuilder builder = () -> {
+      builds.incrementAndGet();
+      return createDocument("Keyed report");
+    };
+
+    final ByteArrayOutputStream first = new ByteArrayOutputStream();
+    PdfCache.renderPdf("report\nversion 1", builder, first);
+    final ByteArrayOutputStream second = new ByteArrayOutputStream();
+    PdfCache.renderPdf("report\nversion 1", builder, second);
+    assertEquals(1, builds.get());
+    assertArrayEquals(first.toByteArray(), second.toByteArray());
+
+    PdfCache.renderPdf("report\nversion 2", builder, new ByteArrayOutputStream());
+    assertEquals(2, builds.get());
+  }
+
+  private static byte[] render(final String text) throws IOException, FOPException, TransformerException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PdfCache.renderPdf(createDocument(text), out);
+    return out.toByteArray();
+  }
+
+  private static Document createDocument(final String text) {
+    final Document document = XMLUtils.DOCUMENT_BUILDER.newDocument();
+
+    final Element rootElement = FOPUtils.createRoot(document);
+    document.appendChild(rootElement);
+
+    final Element layoutMasterSet = FOPUtils.createXslFoElement(document, "layout-master-set");
+    rootElement.appendChild(layoutMasterSet);
+
+    final String pageMasterName = "simple";
+    final Element pageMaster = FOPUtils.createSimplePageMaster(document, pageMasterName);
+    layoutMasterSet.appendChild(pageMaster);
+
+    final Element pageSequence = FOPUtils.createPageSequence(document, pageMasterName);
+    rootElement.appendChild(pageSequence);
+
+    final Element documentBody = FOPUtils.createBody(document);
+    pageSequence.appendChild(documentBody);
+
+    final Element block = FOPUtils.createXslFoElement(document, FOPUtils.BLOCK_TAG);
+    block.appendChild(document.createTextNode(text));
+    documentBody.appendChild(block);
+
+    return document;
+  }
+
+}
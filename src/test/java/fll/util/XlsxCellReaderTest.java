@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import fll.TestUtils;
+
+/**
+ * Tests for {@link XlsxCellReader} and {@link ParsedCellFile}.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class XlsxCellReaderTest {
+
+  /**
+   * The streaming reader returns the same values as {@link ExcelCellReader}
+   * and the parsed file returns the same values again.
+   *
+   * @param tempDir where to write the workbook
+   * @throws IOException test error
+   * @throws InvalidFormatException test error
+   */
+  @Test
+  public void testSameAsExcelCellReader(@TempDir final Path tempDir) throws IOException, InvalidFormatException {
+    final Path file = tempDir.resolve("teams.xlsx");
+    try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+      workbook.createSheet("other").createRow(0).createCell(0).setCellValue("ignored");
+
+      final Sheet sheet = workbook.createSheet("teams");
+      final Row header = sheet.createRow(0);
+      header.createCell(0).setCellValue("Number");
+      header.createCell(1).setCellValue("Name");
+      header.createCell(2).setCellValue("Time");
+      header.createCell(3).setCellValue("Score");
+
+      final CellStyle timeStyle = workbook.createCellStyle();
+      timeStyle.setDataFormat(workbook.createDataFormat().getFormat("h:mm"));
+
+      final Row team = sheet.createRow(1);
+      team.createCell(0).setCellValue(1234);
+      team.createCell(1).setCellValue("Robots");
+      team.createCell(2).setCellValue(LocalDateTime.of(2026, 1, 10, 13, 5));
+      team.getCell(2).setCellStyle(timeStyle);
+      team.createCell(3).setCellValue(12.5);
+
+      // row 2 is missing and the team name is missing
+      final Row other = sheet.createRow(3);
+      other.createCell(0).setCellValue(42);
+      other.createCell(2).setCellValue("Robots");
+      workbook.write(out);
+    }
+
+    assertTrue(XlsxCellReader.isXlsxFile(file));
+    assertEquals(List.of("other", "teams"), XlsxCellReader.getAllSheetNames(file));
+
+    final ExcelCellReader expected;
+    try (InputStream stream = Files.newInputStream(file)) {
+      expected = new ExcelCellReader(stream, "teams");
+    }
+    final ParsedCellFile parsed = ParsedCellFile.parse(file, "teams");
+    try (CellFileReader actual = CellFileReader.createCellReader(file, "teams")) {
+      assertTrue(actual instanceof XlsxCellReader);
+      compare(expected, actual, parsed.createReader());
+    }
+
+    assertTrue(parsed.isContentsOf(file, "teams"));
+    assertFalse(parsed.isContentsOf(file, "other"));
+
+    try (CellFileReader reader = parsed.createReader()) {
+      reader.skipRows(3);
+      final @Nullable String @Nullable [] row = reader.readNext();
+      assertArrayEquals(new String[] { "42", null, "Robots" }, row);
+      assertNull(reader.readNext());
+    }
+  }
+
+  private static void compare(final CellFileReader expected,
+                              final CellFileReader actual,
+                              final CellFileReader parsed)
+      throws IOException {
+    @Nullable
+    String @Nullable [] row;
+    do {
+      row = expected.readNext();
+      assertArrayEquals(row, actual.readNext());
+      assertArrayEquals(row, parsed.readNext());
+      assertEquals(expected.getLineNumber(), actual.getLineNumber());
+      assertEquals(expected.getLineNumber(), parsed.getLineNumber());
+    } while (null != row);
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import fll.TestUtils;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Tests for {@link DecoratingResponseWrapper}.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class DecoratingResponseWrapperTest {
+
+  private static final DecoratingResponseWrapper.Decorator DECORATOR = new DecoratingResponseWrapper.Decorator() {
+    @Override
+    public void afterBodyStart(final Writer writer) throws IOException {
+      writer.write("[navbar]");
+    }
+
+    @Override
+    public void beforeBodyEnd(final Writer writer) throws IOException {
+      writer.write("[footer]");
+    }
+  };
+
+  /**
+   * Tags split across writes are found and partial tags are passed through.
+   *
+   * @throws IOException test error
+   */
+  @Test
+  public void testSplitTags() throws IOException {
+    final String output = write("text/html;charset=UTF-8", "<html><bo", "dy><b>x<", "/b> <</b", "ody></html>");
+    assertEquals("<html><body>[navbar]<b>x</b> <[footer]</body></html>", output);
+  }
+
+  /**
+   * Content that isn't HTML is not modified.
+   *
+   * @throws IOException test error
+   */
+  @Test
+  public void testNotHtml() throws IOException {
+    final String output = write("text/plain", "<body>", "</body>");
+    assertEquals("<body></body>", output);
+  }
+
+  private static String write(final String contentType,
+                              final String... parts)
+      throws IOException {
+    final StringWriter result = new StringWriter();
+    final PrintWriter resultWriter = new PrintWriter(result);
+    final InvocationHandler handler = (proxy,
+                                       method,
+                                       args) -> switch (method.getName()) {
+                                       case "getWriter" -> resultWriter;
+                                       case "getContentType" -> contentType;
+                                       default -> throw new UnsupportedOperationException(method.getName());
+                                       };
+    final HttpServletResponse response = (HttpServletResponse) Proxy.newProxyInstance(HttpServletResponse.class.getClassLoader(),
+                                                                                      new Class<?>[] { HttpServletResponse.class },
+                                                                                      handler);
+
+    final DecoratingResponseWrapper wrapper = new DecoratingResponseWrapper(response, DECORATOR);
+    try (PrintWriter writer = wrapper.getWriter()) {
+      for (final String part : parts) {
+        writer.write(part);
+      }
+    }
+    return result.toString();
+  }
+
+}
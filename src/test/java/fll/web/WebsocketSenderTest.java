@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import fll.TestUtils;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.Session;
+
+/**
+ * Tests for {@link WebsocketSender}.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class WebsocketSenderTest {
+
+  private static final long TIMEOUT_SECONDS = 10;
+
+  private static final ClassLoader CLASS_LOADER = WebsocketSenderTest.class.getClassLoader();
+
+  /**
+   * Messages with the same key that are waiting to be sent are replaced by the
+   * newest one and the order of the other messages is kept.
+   *
+   * @throws InterruptedException test error
+   */
+  @Test
+  public void testCoalesce() throws InterruptedException {
+    final CountDownLatch release = new CountDownLatch(1);
+    final List<String> received = new CopyOnWriteArrayList<>();
+    final CountDownLatch done = new CountDownLatch(4);
+    final Session session = createSession(release, received, done);
+
+    final Runnable onError = () -> {
+      throw new AssertionError("Unexpected error sending");
+    };
+    WebsocketSender.send(session, "first", null, onError);
+    WebsocketSender.send(session, "reload 1", "reload", onError);
+    WebsocketSender.send(session, "score", null, onError);
+    WebsocketSender.send(session, "reload 2", "reload", onError);
+    WebsocketSender.send(session, "last", null, onError);
+    release.countDown();
+
+    assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Timeout waiting for messages");
+    assertEquals(List.of("first", "score", "reload 2", "last"), received);
+  }
+
+  /**
+   * A session that falls too far behind is dropped.
+   *
+   * @throws InterruptedException test error
+   */
+  @Test
+  public void testDropSlowSession() throws InterruptedException {
+    final CountDownLatch release = new CountDownLatch(1);
+    final List<String> received = new CopyOnWriteArrayList<>();
+    final Session session = createSession(release, received, new CountDownLatch(1));
+
+    final CountDownLatch dropped = new CountDownLatch(1);
+    try {
+      // one message is being sent, the rest are waiting
+      for (int i = 0; i <= WebsocketSender.MAX_PENDING_MESSAGES
+          + 1; ++i) {
+        WebsocketSender.send(session, String.valueOf(i), null, dropped::countDown);
+      }
+
+      assertTrue(dropped.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Session was not dropped");
+    } finally {
+      release.countDown();
+    }
+  }
+
+  /**
+   * Create a session that waits for {@code release} before sending any
+   * messages.
+   */
+  private static Session createSession(final CountDownLatch release,
+                                       final List<String> received,
+                                       final CountDownLatch sent) {
+    final InvocationHandler remoteHandler = (proxy,
+                                             method,
+                                             args) -> {
+      if ("sendText".equals(method.getName())) {
+        release.await();
+        received.add((String) args[0]);
+        sent.countDown();
+        return null;
+      }
+      throw new UnsupportedOperationException(method.getName());
+    };
+    final RemoteEndpoint.Basic remote = (RemoteEndpoint.Basic) Proxy.newProxyInstance(CLASS_LOADER,
+                                                                                      new Class<?>[] { RemoteEndpoint.Basic.class },
+                                                                                      remoteHandler);
+
+    final InvocationHandler sessionHandler = (proxy,
+                                              method,
+                                              args) -> {
+      switch (method.getName()) {
+      case "isOpen":
+        return true;
+      case "getBasicRemote":
+        return remote;
+      case "getId":
+        return "test";
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "equals":
+        return proxy == args[0];
+      default:
+        throw new UnsupportedOperationException(method.getName());
+      }
+    };
+    return (Session) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[] { Session.class }, sessionHandler);
+  }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web.api;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import fll.TestUtils;
+import fll.Tournament;
+import fll.Utilities;
+import fll.db.FinalistGroup;
+import fll.db.GlobalParameters;
+import fll.db.ImportDB;
+import fll.db.Queries;
+import fll.xml.ChallengeDescription;
+
+/**
+ * Tests for {@link FinalistBootstrapServlet}.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class FinalistBootstrapServletTest {
+
+  /**
+   * The snapshot contains the data from the individual servlets and is the
+   * same each time it's written when nothing has changed.
+   *
+   * @throws SQLException test error
+   * @throws IOException test error
+   */
+  @Test
+  public void testSnapshot() throws SQLException, IOException {
+    final File tempFile = File.createTempFile("flltest", null);
+    final String database = tempFile.getAbsolutePath();
+    try (InputStream dumpFileIS = TestUtils.class.getResourceAsStream("data/testdb.flldb")) {
+      assertNotNull(dumpFileIS, "Cannot find test data");
+
+      try (Connection connection = Utilities.createFileDataSource(database).getConnection()) {
+        final ImportDB.ImportResult importResult = ImportDB.loadFromDumpIntoNewDB(new ZipInputStream(dumpFileIS),
+                                                                                  connection);
+        TestUtils.deleteImportData(importResult);
+
+        final ChallengeDescription description = GlobalParameters.getChallengeDescription(connection);
+        final Tournament tournament = Tournament.getCurrentTournament(connection);
+
+        final ByteArrayOutputStream first = new ByteArrayOutputStream();
+        FinalistBootstrapServlet.writeSnapshot(connection, description, true, first);
+        assertTrue(connection.getAutoCommit());
+
+        final ByteArrayOutputStream second = new ByteArrayOutputStream();
+        FinalistBootstrapServlet.writeSnapshot(connection, description, true, second);
+        assertArrayEquals(first.toByteArray(), second.toByteArray());
+
+        final JsonNode snapshot = Utilities.getJsonMapper().readTree(first.toByteArray());
+        assertEquals(tournament.getName(), snapshot.get("tournament").get("name").asText());
+        assertEquals(Queries.getTournamentTeams(connection, tournament.getTournamentID()).size(),
+                     snapshot.get("tournamentTeams").size());
+        assertEquals(description.getSubjectiveCategories().size(), snapshot.get("subjectiveCategories").size());
+        assertTrue(snapshot.has("numericCategoryRanks"));
+        assertTrue(snapshot.has("finalistScheduleParameters"));
+
+        final ByteArrayOutputStream judge = new ByteArrayOutputStream();
+        FinalistBootstrapServlet.writeSnapshot(connection, description, false, judge);
+        assertFalse(Utilities.getJsonMapper().readTree(judge.toByteArray()).has("finalistScheduleParameters"));
+      }
+    } finally {
+      if (!tempFile.delete()) {
+        tempFile.deleteOnExit();
+      }
+      TestUtils.deleteDatabase(database);
+    }
+  }
+
+  /**
+   * The ETag changes when the data changes and is the same otherwise.
+   *
+   * @throws SQLException test error
+   * @throws IOException test error
+   */
+  @Test
+  public void testETag() throws SQLException, IOException {
+    final File tempFile = File.createTempFile("flltest", null);
+    final String database = tempFile.getAbsolutePath();
+    try (InputStream dumpFileIS = TestUtils.class.getResourceAsStream("data/testdb.flldb")) {
+      assertNotNull(dumpFileIS, "Cannot find test data");
+
+      try (Connection connection = Utilities.createFileDataSource(database).getConnection()) {
+        final ImportDB.ImportResult importResult = ImportDB.loadFromDumpIntoNewDB(new ZipInputStream(dumpFileIS),
+                                                                                  connection);
+        TestUtils.deleteImportData(importResult);
+
+        final Tournament tournament = Tournament.getCurrentTournament(connection);
+
+        final String initial = FinalistBootstrapServlet.computeETag(connection, true);
+        assertEquals(initial, FinalistBootstrapServlet.computeETag(connection, true));
+        assertNotEquals(initial, FinalistBootstrapServlet.computeETag(connection, false));
+
+        FinalistGroup.storeFinalistGroups(connection, tournament,
+                                          FinalistGroup.loadFinalistGroups(connection, tournament));
+        final String afterFinalist = FinalistBootstrapServlet.computeETag(connection, true);
+        assertNotEquals(initial, afterFinalist);
+
+        final int teamNumber = Queries.getTournamentTeams(connection, tournament.getTournamentID()).keySet()
+                                      .iterator().next();
+        Queries.updateTeamName(connection, teamNumber, "Renamed");
+        final String afterTeam = FinalistBootstrapServlet.computeETag(connection, true);
+        assertNotEquals(afterFinalist, afterTeam);
+
+        tournament.recordSubjectiveModified(connection);
+        assertNotEquals(afterTeam, FinalistBootstrapServlet.computeETag(connection, true));
+      }
+    } finally {
+      if (!tempFile.delete()) {
+        tempFile.deleteOnExit();
+      }
+      TestUtils.deleteDatabase(database);
+    }
+  }
+
+  /**
+   * If-None-Match may contain a list of weak or strong tags.
+   */
+  @Test
+  public void testMatches() {
+    final String etag = "\"abc\"";
+    assertTrue(FinalistBootstrapServlet.matches(etag, etag));
+    assertTrue(FinalistBootstrapServlet.matches("\"other\", W/\"abc\"", etag));
+    assertTrue(FinalistBootstrapServlet.matches("*", etag));
+    assertFalse(FinalistBootstrapServlet.matches("\"other\"", etag));
+    assertFalse(FinalistBootstrapServlet.matches(null, etag));
+  }
+
+}
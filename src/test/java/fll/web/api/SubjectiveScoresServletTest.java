@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web.api;
+
+import static org.checkerframework.checker.nullness.util.NullnessUtil.castNonNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import fll.SubjectiveScoreVersions;
+import fll.SubjectiveScoreVersions.JudgeTeam;
+import fll.TestUtils;
+import fll.Tournament;
+import fll.Utilities;
+import fll.db.GlobalParameters;
+import fll.db.ImportDB;
+import fll.xml.AbstractGoal;
+import fll.xml.ChallengeDescription;
+import fll.xml.SubjectiveScoreCategory;
+
+/**
+ * Tests for {@link SubjectiveScoresServlet}.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class SubjectiveScoresServletTest {
+
+  /**
+   * Uploading scores that match the database doesn't change anything, a
+   * modified score is stored and reported as changed since the previous
+   * version.
+   *
+   * @throws SQLException test error
+   * @throws IOException test error
+   */
+  @Test
+  public void testConditionalUpload() throws SQLException, IOException {
+    final File tempFile = File.createTempFile("flltest", null);
+    final String database = tempFile.getAbsolutePath();
+    try (InputStream dumpFileIS = TestUtils.class.getResourceAsStream("data/testdb.flldb")) {
+      assertNotNull(dumpFileIS, "Cannot find test data");
+
+      try (Connection connection = Utilities.createFileDataSource(database).getConnection()) {
+        final ImportDB.ImportResult importResult = ImportDB.loadFromDumpIntoNewDB(new ZipInputStream(dumpFileIS),
+                                                                                  connection);
+        TestUtils.deleteImportData(importResult);
+
+        final ChallengeDescription description = GlobalParameters.getChallengeDescription(connection);
+        final int tournamentId;
+        final String categoryName;
+        try (Statement stmt = connection.createStatement();
+            ResultSet rs = stmt.executeQuery("SELECT tournament_id, category_name FROM subjective WHERE NoShow = FALSE")) {
+          assertTrue(rs.next(), "Test data has no subjective scores");
+          tournamentId = rs.getInt(1);
+          categoryName = castNonNull(rs.getString(2));
+        }
+        final Tournament tournament = Tournament.findTournamentByID(connection, tournamentId);
+        final SubjectiveScoreCategory category = castNonNull(description.getSubjectiveCategoryByName(categoryName));
+
+        final SubjectiveScore score = SubjectiveScore.getCategoryScores(connection, category, tournament).stream()
+                                                     .filter(s -> !s.getNoShow()).findFirst().orElseThrow();
+
+        final String version = SubjectiveScoreVersions.getChanges(connection, tournamentId, null).version();
+
+        score.setModified(true);
+        final Map<String, Map<String, Map<Integer, SubjectiveScore>>> upload = Map.of(category.getName(),
+                                                                                      Map.of(score.getJudge(),
+                                                                                             Map.of(score.getTeamNumber(),
+                                                                                                    score)));
+        assertEquals(0, SubjectiveScoresServlet.processScores(connection, description, tournament, upload));
+
+        final String goalName = category.getAllGoals().stream().filter(g -> !g.isComputed()
+            && !g.isEnumerated()).map(AbstractGoal::getName).findFirst().orElseThrow();
+        final Map<String, Double> subScores = new HashMap<>(score.getStandardSubScores());
+        final double newValue = subScores.get(goalName)
+            + 1;
+        subScores.put(goalName, newValue);
+        score.setStandardSubScores(subScores);
+        assertEquals(1, SubjectiveScoresServlet.processScores(connection, description, tournament, upload));
+
+        final SubjectiveScore stored = SubjectiveScore.getCategoryScores(connection, category, tournament).stream()
+                                                      .filter(s -> s.getJudge().equals(score.getJudge())
+                                                          && s.getTeamNumber() == score.getTeamNumber())
+                                                      .findFirst().orElseThrow();
+        assertEquals(newValue, stored.getStandardSubScores().get(goalName));
+        assertEquals(score.getNonNumericNominations(), stored.getNonNumericNominations());
+
+        final SubjectiveScoreVersions.Changes changes = SubjectiveScoreVersions.getChanges(connection, tournamentId,
+                                                                                           version);
+        assertEquals(Set.of(new JudgeTeam(score.getJudge(), score.getTeamNumber())), changes.modified());
+
+        final SubjectiveScoreVersions.Changes noChanges = SubjectiveScoreVersions.getChanges(connection,
+                                                                                             tournamentId,
+                                                                                             changes.version());
+        final Set<JudgeTeam> noneModified = noChanges.modified();
+        assertNotNull(noneModified);
+        assertTrue(noneModified.isEmpty());
+
+        SubjectiveScoreVersions.allModified(connection, tournamentId);
+        assertNull(SubjectiveScoreVersions.getChanges(connection, tournamentId, changes.version()).modified());
+      }
+    } finally {
+      if (!tempFile.delete()) {
+        tempFile.deleteOnExit();
+      }
+      TestUtils.deleteDatabase(database);
+    }
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web.playoff;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import fll.TestUtils;
+import fll.Utilities;
+import fll.xml.ChallengeDescription;
+import fll.xml.ChallengeParser;
+
+/**
+ * Tests for {@link ScoresheetGenerator}.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class ScoresheetGeneratorTest {
+
+  /**
+   * Sheets that are rendered in parts and merged have the same number of pages
+   * as the sheets rendered individually.
+   *
+   * @throws IOException test error
+   */
+  @Test
+  public void testMergedParts() throws IOException {
+    final ChallengeDescription description;
+    try (InputStream stream = ScoresheetGeneratorTest.class.getResourceAsStream("/fll/resources/challenge-descriptors/fll-2025-Unearthed.xml")) {
+      assertNotNull(stream);
+      description = ChallengeParser.parse(new InputStreamReader(stream, Utilities.DEFAULT_CHARSET));
+    }
+
+    final int pagesPerSheet = countPages(description, 1);
+
+    final int numSheets = 95;
+    assertEquals(numSheets
+        * pagesPerSheet, countPages(description, numSheets));
+  }
+
+  private static int countPages(final ChallengeDescription description,
+                                final int numSheets)
+      throws IOException {
+    final ScoresheetGenerator generator = new ScoresheetGenerator(numSheets, description, "Test");
+    for (int i = 0; i < numSheets; ++i) {
+      generator.setNumber(i, i
+          + 1);
+      generator.setName(i, "Team "
+          + (i
+              + 1));
+    }
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    generator.writeFile(out);
+    try (PDDocument pdf = Loader.loadPDF(out.toByteArray())) {
+      return pdf.getNumberOfPages();
+    }
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import fll.TestUtils;
+import fll.xml.WinnerType;
+
+/**
+ * Tests for {@link RankingIndex.Ranking}.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class RankingIndexTest {
+
+  /**
+   * Tied teams share a rank, the next team skips the tied ranks and teams
+   * without a score are last.
+   */
+  @Test
+  public void testTies() {
+    final RankingIndex.Ranking ranking = RankingIndex.Ranking.create(Map.of(1, 10.0, //
+                                                                            2, 30.0, //
+                                                                            3, 20.0, //
+                                                                            4, 20.0 + 1E-9, //
+                                                                            5, Double.NaN),
+                                                                     WinnerType.HIGH);
+    assertEquals(5, ranking.size());
+    assertEquals(1, ranking.getRank(2));
+    assertEquals(2, ranking.getRank(3));
+    assertEquals(2, ranking.getRank(4));
+    assertEquals(4, ranking.getRank(1));
+    assertEquals(5, ranking.getRank(5));
+    assertEquals(0, ranking.getRank(6));
+    assertEquals(10.0, ranking.getScore(1));
+    assertTrue(Double.isNaN(ranking.getScore(6)));
+
+    final List<Integer> top = new ArrayList<>();
+    ranking.visitTop(2, (teamNumber,
+                         score,
+                         rank) -> top.add(teamNumber));
+    assertEquals(List.of(2, 4, 3), top);
+
+    final RankingIndex.Ranking low = RankingIndex.Ranking.create(Map.of(1, 10.0, //
+                                                                        2, 30.0),
+                                                                 WinnerType.LOW);
+    assertEquals(1, low.getRank(1));
+    assertEquals(2, low.getRank(2));
+  }
+
+  /**
+   * Teams without a score sort below all other scores, so they are first when
+   * low scores win. This is the order that the database used.
+   */
+  @Test
+  public void testMissingScoreLowWins() {
+    final RankingIndex.Ranking ranking = RankingIndex.Ranking.create(Map.of(1, 10.0, //
+                                                                            2, Double.NaN, //
+                                                                            3, 5.0),
+                                                                     WinnerType.LOW);
+    assertEquals(1, ranking.getRank(2));
+    assertEquals(2, ranking.getRank(3));
+    assertEquals(3, ranking.getRank(1));
+    assertTrue(Double.isNaN(ranking.getScore(2)));
+
+    final List<Integer> top = new ArrayList<>();
+    ranking.visitTop(2, (teamNumber,
+                         score,
+                         rank) -> top.add(teamNumber));
+    assertEquals(List.of(2, 3), top);
+  }
+
+}
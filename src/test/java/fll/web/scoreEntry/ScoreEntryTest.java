@@ -5,7 +5,10 @@
  */
 package fll.web.scoreEntry;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
@@ -19,7 +22,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import fll.TestUtils;
 import fll.Utilities;
 import fll.web.ApplicationAttributes;
-import fll.web.DummyPageContext;
 import fll.web.DummyServletContext;
 import fll.xml.ChallengeDescription;
 import fll.xml.ChallengeParser;
@@ -58,7 +60,7 @@ public class ScoreEntryTest {
 
   /**
    * Test method for
-   * {@link fll.web.scoreEntry.ScoreEntry#generateCheckRestrictionsBody(java.io.Writer, org.w3c.dom.Document)}
+   * {@link fll.web.scoreEntry.ScoreEntry#generateCheckRestrictionsBody(java.io.Writer, ChallengeDescription)}
    * .
    * <p>
    * Load all-elements.xml (from {@link ChallengeParserTest}) and make sure
@@ -71,8 +73,26 @@ public class ScoreEntryTest {
   public void testGenerateCheckRestrictionsBody() throws IOException {
     final StringWriter writer = new StringWriter();
 
-    ScoreEntry.generateCheckRestrictionsBody(writer, new TestServletContext(), new DummyPageContext());
+    ScoreEntry.generateCheckRestrictionsBody(writer,
+                                             ApplicationAttributes.getChallengeDescription(new TestServletContext()));
     assertTrue(writer.toString().length() > 0);
   }
 
+  /**
+   * The challenge script is generated once per challenge description and the
+   * path changes with the script.
+   */
+  @Test
+  public void testChallengeScript() {
+    final ChallengeDescription description = ApplicationAttributes.getChallengeDescription(new TestServletContext());
+    final ScoreEntry.ChallengeCode code = ScoreEntry.getChallengeCode(description);
+    assertSame(code, ScoreEntry.getChallengeCode(description));
+    assertTrue(code.script().contains("function computeGoalScores()"));
+    assertEquals(String.format("challenge-script/%s.js", code.hash()), ScoreEntry.getChallengeScriptPath(description));
+
+    final ScoreEntry.ChallengeCode other = ScoreEntry.getChallengeCode(ApplicationAttributes.getChallengeDescription(new TestServletContext()));
+    assertNotSame(code, other);
+    assertEquals(code.hash(), other.hash());
+  }
+
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.web.scoreboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import fll.TestUtils;
+import fll.TournamentTeam;
+import fll.db.RunMetadata;
+import fll.scores.DefaultPerformanceTeamScore;
+import fll.scores.PerformanceTeamScore;
+
+/**
+ * Tests for {@link ScoreboardSnapshot}.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class ScoreboardSnapshotTest {
+
+  /**
+   * Updates are filtered by award group and a new score for the same team and
+   * run moves to the end.
+   */
+  @Test
+  public void testUpdates() {
+    final ScoreboardSnapshot snapshot = new ScoreboardSnapshot(new ScoreboardSnapshot.Stamp("db", 1, 0, null));
+    assertNull(snapshot.getUpdates(List.of("A")));
+
+    snapshot.add(createUpdate(1, "A", 1), "{\"id\":\"1-1\"}");
+    snapshot.add(createUpdate(2, "B", 1), "{\"id\":\"2-1\"}");
+    snapshot.add(createUpdate(3, "A", 1), "{\"id\":\"3-1\"}");
+    assertEquals("[{\"id\":\"1-1\"},{\"id\":\"3-1\"}]", snapshot.getUpdates(List.of("A")));
+    assertEquals("[{\"id\":\"1-1\"},{\"id\":\"2-1\"},{\"id\":\"3-1\"}]", snapshot.getUpdates(List.of("A", "B")));
+    assertNull(snapshot.getUpdates(List.of("C")));
+
+    snapshot.add(createUpdate(1, "A", 1), "{\"id\":\"1-1 changed\"}");
+    assertEquals("[{\"id\":\"3-1\"},{\"id\":\"1-1 changed\"}]", snapshot.getUpdates(List.of("A")));
+  }
+
+  private static ScoreUpdateMessage createUpdate(final int teamNumber,
+                                                 final String awardGroup,
+                                                 final int runNumber) {
+    final TournamentTeam team = new TournamentTeam(teamNumber, null, "Team "
+        + teamNumber, awardGroup, awardGroup, "");
+    final PerformanceTeamScore teamScore = new DefaultPerformanceTeamScore(teamNumber, runNumber,
+                                                                           Collections.emptyMap(),
+                                                                           Collections.emptyMap(),
+                                                                           PerformanceTeamScore.ALL_TABLE, false, false,
+                                                                           true, LocalDateTime.now());
+    final RunMetadata runMetadata = new RunMetadata(runNumber, "Run", true, RunMetadata.RunType.REGULAR_MATCH_PLAY);
+    return new ScoreUpdateMessage(team, 0, "0", teamScore, runMetadata);
+  }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 High Tech Kids.  All rights reserved
+ * HighTechKids is on the web at: http://www.hightechkids.org
+ * This code is released under GPL; see LICENSE.txt for details.
+ */
+
+package fll.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import fll.TestUtils;
+import fll.Utilities;
+import fll.scores.DefaultPerformanceTeamScore;
+import fll.scores.PerformanceTeamScore;
+import fll.scores.TeamScore;
+
+/**
+ * Check that {@link CompiledScoreCategory} computes the same scores as the
+ * challenge description objects.
+ */
+@ExtendWith(TestUtils.InitializeLogging.class)
+public class CompiledScoreCategoryTest {
+
+  private static final int NUM_SCORES = 200;
+
+  private static final double TOLERANCE = 1E-9;
+
+  /**
+   * Evaluate random scores against all known challenge descriptions.
+   *
+   * @param url the challenge description to test
+   * @throws IOException on test error
+   */
+  @ParameterizedTest
+  @MethodSource("fll.xml.ChallengeParserTest#knownChallengeDescriptors")
+  public void testKnownDescriptors(final URL url) throws IOException {
+    try (InputStream stream = url.openStream();
+        Reader reader = new InputStreamReader(stream, Utilities.DEFAULT_CHARSET)) {
+      checkDescription(ChallengeParser.parse(reader));
+    }
+  }
+
+  /**
+   * Computed goals that reference other computed goals.
+   *
+   * @throws IOException on test error
+   */
+  @Test
+  public void testComputedGoalReference() throws IOException {
+    try (InputStream stream = ChallengeParserTest.class.getResourceAsStream("data/computed-goal-reference.xml")) {
+      assertNotNull(stream);
+      checkDescription(ChallengeParser.parse(new InputStreamReader(stream, Utilities.DEFAULT_CHARSET)));
+    }
+  }
+
+  /**
+   * The compiled form is not part of the JSON for the categories.
+   *
+   * @throws IOException on test error
+   */
+  @Test
+  public void testSerialization() throws IOException {
+    final ObjectMapper jsonMapper = Utilities.createJsonMapper();
+
+    // goals and tiebreakers of the performance category reference the category,
+    // so it can't be written as JSON, only check the properties
+    assertFalse(jsonMapper.getSerializationConfig()
+                          .introspect(jsonMapper.constructType(PerformanceScoreCategory.class))
+                          .findProperties()
+                          .stream()
+                          .anyMatch(p -> "compiled".equals(p.getName())));
+
+    try (InputStream stream = TestUtils.class.getResourceAsStream("db/data/challenge-test.xml")) {
+      assertNotNull(stream);
+      final ChallengeDescription description = ChallengeParser.parse(new InputStreamReader(stream,
+                                                                                           Utilities.DEFAULT_CHARSET));
+      for (final SubjectiveScoreCategory category : description.getSubjectiveCategories()) {
+        category.getCompiled();
+        final JsonNode categoryJson = jsonMapper.readTree(jsonMapper.writeValueAsString(category));
+        assertFalse(categoryJson.has("compiled"));
+        assertEquals(category.getName(), categoryJson.get("name").asText());
+      }
+    }
+  }
+
+  private static void checkDescription(final ChallengeDescription description) {
+    final Random random = new Random(42);
+
+    final PerformanceScoreCategory performance = description.getPerformance();
+    final CompiledScoreCategory<PerformanceTeamScore> compiledPerformance = CompiledScoreCategory.compile(performance);
+    for (int i = 0; i < NUM_SCORES; ++i) {
+      final PerformanceTeamScore score = createRandomScore(random, performance, i);
+      assertEquals(performance.evaluate(score), compiledPerformance.evaluate(score), TOLERANCE, "Performance score "
+          + i);
+      if (!score.isNoShow()
+          && !score.isBye()) {
+        // no show and bye scores have no goal values to break ties with
+        for (final TiebreakerTest test : performance.getTiebreaker()) {
+          assertEquals(test.evaluate(score), compiledPerformance.evaluateTiebreaker(test, score), TOLERANCE,
+                       "Tiebreaker score "
+                           + i);
+        }
+      }
+    }
+
+    for (final SubjectiveScoreCategory category : description.getSubjectiveCategories()) {
+      final CompiledScoreCategory<TeamScore> compiled = CompiledScoreCategory.compile(category);
+      for (int i = 0; i < NUM_SCORES; ++i) {
+        final PerformanceTeamScore score = createRandomScore(random, category, i);
+        assertEquals(category.evaluate(score), compiled.evaluate(score), TOLERANCE, category.getName()
+            + " score "
+            + i);
+      }
+    }
+  }
+
+  private static PerformanceTeamScore createRandomScore(final Random random,
+                                                        final ScoreCategory<?> category,
+                                                        final int teamNumber) {
+    final Map<String, Double> simpleGoals = new HashMap<>();
+    final Map<String, String> enumGoals = new HashMap<>();
+    for (final AbstractGoal goal : category.getAllGoals()) {
+      if (goal.isComputed()) {
+        continue;
+      } else if (goal.isEnumerated()) {
+        final List<EnumeratedValue> values = new ArrayList<>(goal.getValues());
+        enumGoals.put(goal.getName(), values.get(random.nextInt(values.size())).getValue());
+      } else {
+        final int min = (int) goal.getMin();
+        final int max = (int) goal.getMax();
+        simpleGoals.put(goal.getName(), (double) (min
+            + random.nextInt(max
+                - min
+                + 1)));
+      }
+    }
+
+    final boolean noShow = random.nextInt(20) == 0;
+    final boolean bye = random.nextInt(20) == 0;
+    return new DefaultPerformanceTeamScore(teamNumber, 1, simpleGoals, enumGoals, PerformanceTeamScore.ALL_TABLE,
+                                           noShow, bye, true, LocalDateTime.now());
+  }
+
+}